@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.codec;
+
+/**
+ * Receives measurements of the work done by codecs and keyed digests, for monitoring.
+ * <p>
+ * Implementations are found with {@link java.util.ServiceLoader}: list the implementation class names in a
+ * {@code META-INF/services/org.apache.commons.codec.CodecMetrics} resource. Providers are loaded once, when {@link CodecMetricsRegistry} is initialized;
+ * when there are none, codecs skip taking measurements altogether.
+ * </p>
+ * <p>
+ * Methods are called on the thread doing the work, right after it completes, so implementations must be thread-safe, fast, and must not throw. Every call
+ * stands for one operation, so call counts are the number of calls. All methods do nothing by default.
+ * </p>
+ *
+ * @see CodecMetricsRegistry
+ * @since 1.23.0
+ */
+public interface CodecMetrics {
+
+    /**
+     * Called after a codec decoded data.
+     *
+     * @param codec        The codec class, for example {@code org.apache.commons.codec.binary.Base64}.
+     * @param inputLength  The number of bytes or chars decoded.
+     * @param outputLength The number of bytes or chars produced.
+     * @param nanos        The elapsed time in nanoseconds.
+     */
+    default void decoded(final Class<?> codec, final long inputLength, final long outputLength, final long nanos) {
+        // noop
+    }
+
+    /**
+     * Called after a keyed digest, such as an HMAC, was computed.
+     *
+     * @param algorithm   The algorithm name, for example {@code HmacSHA256}.
+     * @param inputLength The number of bytes digested.
+     * @param nanos       The elapsed time in nanoseconds.
+     */
+    default void digested(final String algorithm, final long inputLength, final long nanos) {
+        // noop
+    }
+
+    /**
+     * Called after a codec encoded data.
+     *
+     * @param codec        The codec class, for example {@code org.apache.commons.codec.binary.Base64}.
+     * @param inputLength  The number of bytes or chars encoded.
+     * @param outputLength The number of bytes or chars produced.
+     * @param nanos        The elapsed time in nanoseconds.
+     */
+    default void encoded(final Class<?> codec, final long inputLength, final long outputLength, final long nanos) {
+        // noop
+    }
+
+    /**
+     * Called when a codec rejects input because of its {@link CodecPolicy#STRICT} decoding policy, before the exception is thrown.
+     *
+     * @param codec The codec class.
+     */
+    default void rejected(final Class<?> codec) {
+        // noop
+    }
+}
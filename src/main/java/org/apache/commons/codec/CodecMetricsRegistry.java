@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.codec;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * Forwards the measurements of codecs and keyed digests to the {@link CodecMetrics} providers found with {@link ServiceLoader}.
+ * <p>
+ * The providers are looked up once, with the class loader of this class. Whether there are any is kept in a {@code static final} field, so when there are
+ * none, the methods of this class do nothing and the JIT compiler removes the measurements from the calling code.
+ * </p>
+ * <p>
+ * A codec measures an operation like this:
+ * </p>
+ *
+ * <pre>
+ * final long start = CodecMetricsRegistry.start();
+ * final byte[] result = ...;
+ * CodecMetricsRegistry.encoded(getClass(), input.length, result.length, start);
+ * </pre>
+ * <p>
+ * This class is thread-safe.
+ * </p>
+ *
+ * @since 1.23.0
+ */
+public final class CodecMetricsRegistry {
+
+    private static final CodecMetrics[] PROVIDERS = load();
+
+    private static final boolean ENABLED = PROVIDERS.length > 0;
+
+    /**
+     * Called after a codec decoded data.
+     *
+     * @param codec        The codec class.
+     * @param inputLength  The number of bytes or chars decoded.
+     * @param outputLength The number of bytes or chars produced.
+     * @param start        The value {@link #start()} returned before decoding.
+     */
+    public static void decoded(final Class<?> codec, final long inputLength, final long outputLength, final long start) {
+        if (ENABLED) {
+            final long nanos = System.nanoTime() - start;
+            for (final CodecMetrics provider : PROVIDERS) {
+                provider.decoded(codec, inputLength, outputLength, nanos);
+            }
+        }
+    }
+
+    /**
+     * Called after a keyed digest was computed.
+     *
+     * @param algorithm   The algorithm name.
+     * @param inputLength The number of bytes digested.
+     * @param start       The value {@link #start()} returned before digesting.
+     */
+    public static void digested(final String algorithm, final long inputLength, final long start) {
+        if (ENABLED) {
+            final long nanos = System.nanoTime() - start;
+            for (final CodecMetrics provider : PROVIDERS) {
+                provider.digested(algorithm, inputLength, nanos);
+            }
+        }
+    }
+
+    /**
+     * Called after a codec encoded data.
+     *
+     * @param codec        The codec class.
+     * @param inputLength  The number of bytes or chars encoded.
+     * @param outputLength The number of bytes or chars produced.
+     * @param start        The value {@link #start()} returned before encoding.
+     */
+    public static void encoded(final Class<?> codec, final long inputLength, final long outputLength, final long start) {
+        if (ENABLED) {
+            final long nanos = System.nanoTime() - start;
+            for (final CodecMetrics provider : PROVIDERS) {
+                provider.encoded(codec, inputLength, outputLength, nanos);
+            }
+        }
+    }
+
+    /**
+     * Gets the providers.
+     *
+     * @return The unmodifiable list of providers, empty if measuring is disabled.
+     */
+    public static List<CodecMetrics> getProviders() {
+        return Collections.unmodifiableList(Arrays.asList(PROVIDERS));
+    }
+
+    /**
+     * Tests whether any provider was found, that is, whether measurements are taken.
+     *
+     * @return whether measurements are taken.
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    private static CodecMetrics[] load() {
+        final List<CodecMetrics> providers = new ArrayList<>();
+        try {
+            for (final CodecMetrics provider : ServiceLoader.load(CodecMetrics.class, CodecMetricsRegistry.class.getClassLoader())) {
+                providers.add(provider);
+            }
+        } catch (final ServiceConfigurationError e) {
+            // A broken provider must not break the codecs, measure nothing
+            return new CodecMetrics[0];
+        }
+        return providers.toArray(new CodecMetrics[0]);
+    }
+
+    /**
+     * Called when a codec rejects input because of its {@link CodecPolicy#STRICT} decoding policy.
+     *
+     * @param codec The codec class.
+     */
+    public static void rejected(final Class<?> codec) {
+        if (ENABLED) {
+            for (final CodecMetrics provider : PROVIDERS) {
+                provider.rejected(codec);
+            }
+        }
+    }
+
+    /**
+     * Starts measuring an operation.
+     *
+     * @return The start time to pass to the method called when the operation completes, 0 if measuring is disabled.
+     */
+    public static long start() {
+        return ENABLED ? System.nanoTime() : 0;
+    }
+
+    private CodecMetricsRegistry() {
+        // empty
+    }
+}
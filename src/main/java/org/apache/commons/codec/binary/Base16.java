@@ -17,8 +17,11 @@
 
 package org.apache.commons.codec.binary;
 
+import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.function.IntUnaryOperator;
 
+import org.apache.commons.codec.CodecMetricsRegistry;
 import org.apache.commons.codec.CodecPolicy;
 
 /**
@@ -325,6 +328,61 @@ public class Base16 extends BaseNCodec {
         return b < decodeTable.length && decodeTable[b] != -1;
     }
 
+    /**
+     * Validates the remaining bytes of a buffer without decoding them.
+     * <p>
+     * Validation applies the rules of {@link CodecPolicy#STRICT} decoding whatever the policy of this codec: the input must only contain alphabet characters in
+     * pairs, with no whitespace or padding; with a lower case alphabet only lower case characters are valid, and with the default upper case alphabet only
+     * upper case ones.
+     * </p>
+     * <p>
+     * The buffer's position, limit and mark are not changed.
+     * </p>
+     *
+     * @param buffer The buffer to validate.
+     * @return The validation result, offsets are relative to the buffer's position.
+     * @since 1.23.0
+     */
+    @Override
+    public ValidationResult validate(final ByteBuffer buffer) {
+        return super.validate(buffer);
+    }
+
+    /**
+     * Validates characters without decoding them.
+     * <p>
+     * This method applies the same rules as {@link #validate(ByteBuffer)}. Characters above {@code 0xFF} are never valid.
+     * </p>
+     *
+     * @param chars The characters to validate.
+     * @return The validation result.
+     * @since 1.23.0
+     */
+    @Override
+    public ValidationResult validate(final CharSequence chars) {
+        return super.validate(chars);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Base16 decoding does not skip whitespace or padding, so every character must be in the alphabet and the number of characters must be even.
+     * </p>
+     */
+    @Override
+    ValidationResult validate(final IntUnaryOperator input, final int length) {
+        for (int i = 0; i < length; i++) {
+            final int value = input.applyAsInt(i);
+            if (value >= decodeTable.length || decodeTable[value] == -1) {
+                return ValidationResult.invalid(i);
+            }
+        }
+        if (length % BYTES_PER_ENCODED_BLOCK != 0) {
+            return ValidationResult.invalid(length - 1);
+        }
+        return ValidationResult.valid(length / BYTES_PER_ENCODED_BLOCK, true);
+    }
+
     /**
      * Validates whether decoding allows an entire final trailing character that cannot be used for a complete byte.
      *
@@ -332,6 +390,7 @@ public class Base16 extends BaseNCodec {
      */
     private void validateTrailingCharacter() {
         if (isStrictDecoding()) {
+            CodecMetricsRegistry.rejected(getClass());
             throw new IllegalArgumentException("Strict decoding: Last encoded character is a valid Base 16 alphabet character but not a possible encoding. " +
                     "Decoding requires at least two characters to create one byte.");
         }
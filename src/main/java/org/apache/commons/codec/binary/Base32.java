@@ -17,8 +17,10 @@
 
 package org.apache.commons.codec.binary;
 
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
+import org.apache.commons.codec.CodecMetricsRegistry;
 import org.apache.commons.codec.CodecPolicy;
 
 /**
@@ -240,6 +242,15 @@ public class Base32 extends BaseNCodec {
     /** Mask used to extract 1 bits, used when decoding final trailing character. */
     private static final long MASK_1_BITS = 0x01L;
 
+    /** The number of bytes decoded from 0 to 7 trailing characters, see {@link #decodeTrailingCharacters(long, int, byte[], int)}. */
+    private static final int[] TRAILING_CHARACTERS_DECODED_LENGTH = { 0, 1, 1, 1, 2, 3, 3, 4 };
+
+    /** The {@link #DECODE_TABLE} widened to 256 entries, used to decode whole 8 character blocks. */
+    private static final byte[] BULK_DECODE_TABLE = toBulkDecodeTable(DECODE_TABLE);
+
+    /** The {@link #HEX_DECODE_TABLE} widened to 256 entries, used to decode whole 8 character blocks. */
+    private static final byte[] BULK_HEX_DECODE_TABLE = toBulkDecodeTable(HEX_DECODE_TABLE);
+
     // The static final fields above are used for the original static byte[] methods on Base32.
     // The private member fields below are used with the new streaming approach, which requires
     // some state be preserved between calls of encode() and decode().
@@ -291,6 +302,28 @@ public class Base32 extends BaseNCodec {
         return decodeTable;
     }
 
+    /**
+     * Creates the bulk decode table for a decode table.
+     *
+     * @param decodeTable The decode table.
+     * @return The bulk decode table or null if the bulk decoder cannot be used.
+     */
+    private static byte[] createBulkDecodeTable(final byte[] decodeTable) {
+        if (decodeTable == DECODE_TABLE) {
+            return BULK_DECODE_TABLE;
+        }
+        if (decodeTable == HEX_DECODE_TABLE) {
+            return BULK_HEX_DECODE_TABLE;
+        }
+        for (final byte value : decodeTable) {
+            if (value < -1 || value > MASK_5_BITS) {
+                // Only 5-bit values can be combined into a block with bitwise operations
+                return null;
+            }
+        }
+        return toBulkDecodeTable(decodeTable);
+    }
+
     private static byte[] decodeTable(final boolean useHex) {
         return useHex ? HEX_DECODE_TABLE : DECODE_TABLE;
     }
@@ -311,6 +344,13 @@ public class Base32 extends BaseNCodec {
         return useHex ? HEX_ENCODE_TABLE : ENCODE_TABLE;
     }
 
+    private static byte[] toBulkDecodeTable(final byte[] decodeTable) {
+        final byte[] table = new byte[DECODING_TABLE_LENGTH];
+        Arrays.fill(table, (byte) -1);
+        System.arraycopy(decodeTable, 0, table, 0, Math.min(decodeTable.length, DECODING_TABLE_LENGTH));
+        return table;
+    }
+
     /**
      * Gets the decode table that matches the given encode table.
      *
@@ -339,6 +379,11 @@ public class Base32 extends BaseNCodec {
      */
     private final byte[] lineSeparator;
 
+    /**
+     * The decode table widened to 256 entries, used to decode whole 8 character blocks. Null when the decode table maps values that do not fit in 5 bits.
+     */
+    private final byte[] bulkDecodeTable;
+
     /**
      * Constructs a Base32 codec used for decoding and encoding.
      * <p>
@@ -408,6 +453,7 @@ public class Base32 extends BaseNCodec {
         if (isInAlphabet(builder.getPadding()) || Character.isWhitespace(builder.getPadding())) {
             throw new IllegalArgumentException("pad must not be in alphabet or whitespace");
         }
+        this.bulkDecodeTable = createBulkDecodeTable(decodeTable);
     }
 
     /**
@@ -552,6 +598,81 @@ public class Base32 extends BaseNCodec {
         // @formatter:on
     }
 
+    /**
+     * Decodes a byte[] containing characters in the Base32 alphabet.
+     * <p>
+     * Whole 8 character blocks are decoded 5 bytes at a time directly into the result, which is exactly sized unless the input contains characters outside of
+     * the alphabet.
+     * </p>
+     *
+     * @param array A byte array containing Base32 character data.
+     * @return A byte array containing binary data.
+     * @throws IllegalArgumentException Thrown when a problem is detected processing data.
+     */
+    @Override
+    public byte[] decode(final byte[] array) {
+        if (BinaryCodec.isEmpty(array)) {
+            return array;
+        }
+        final long start = CodecMetricsRegistry.start();
+        // Bytes after the last alphabet byte decode to nothing
+        int end = array.length;
+        while (end > 0 && !isInAlphabet(array[end - 1])) {
+            end--;
+        }
+        final byte[] buffer = new byte[end / BYTES_PER_ENCODED_BLOCK * BYTES_PER_UNENCODED_BLOCK
+                + TRAILING_CHARACTERS_DECODED_LENGTH[end % BYTES_PER_ENCODED_BLOCK]];
+        final byte[] table = decodeTable;
+        final byte[] bulkTable = bulkDecodeTable;
+        final int padByte = pad & 0xff;
+        long bitWorkArea = 0;
+        int modulus = 0;
+        int pos = 0;
+        int i = 0;
+        while (i < array.length) {
+            if (bulkTable != null && modulus == 0 && i <= array.length - BYTES_PER_ENCODED_BLOCK) {
+                final long block = (long) bulkTable[array[i] & 0xff] << 35 | (long) bulkTable[array[i + 1] & 0xff] << 30
+                        | (long) bulkTable[array[i + 2] & 0xff] << 25 | (long) bulkTable[array[i + 3] & 0xff] << 20
+                        | (long) bulkTable[array[i + 4] & 0xff] << 15 | (long) bulkTable[array[i + 5] & 0xff] << 10
+                        | (long) bulkTable[array[i + 6] & 0xff] << 5 | bulkTable[array[i + 7] & 0xff];
+                if (block >= 0) {
+                    buffer[pos++] = (byte) (block >> 32);
+                    buffer[pos++] = (byte) (block >> 24);
+                    buffer[pos++] = (byte) (block >> 16);
+                    buffer[pos++] = (byte) (block >> 8);
+                    buffer[pos++] = (byte) block;
+                    // A single trailing character is decoded with bits from the previous block
+                    bitWorkArea = block;
+                    i += BYTES_PER_ENCODED_BLOCK;
+                    continue;
+                }
+            }
+            final int b = array[i++] & 0xff;
+            if (b == padByte) {
+                break;
+            }
+            if (b < table.length) {
+                final int result = table[b];
+                if (result >= 0) {
+                    bitWorkArea = (bitWorkArea << BITS_PER_ENCODED_BYTE) + result;
+                    if (++modulus == BYTES_PER_ENCODED_BLOCK) {
+                        buffer[pos++] = (byte) (bitWorkArea >> 32 & MASK_8BITS);
+                        buffer[pos++] = (byte) (bitWorkArea >> 24 & MASK_8BITS);
+                        buffer[pos++] = (byte) (bitWorkArea >> 16 & MASK_8BITS);
+                        buffer[pos++] = (byte) (bitWorkArea >> 8 & MASK_8BITS);
+                        buffer[pos++] = (byte) (bitWorkArea & MASK_8BITS);
+                        modulus = 0;
+                    }
+                }
+            }
+        }
+        if (modulus > 0) {
+            pos = decodeTrailingCharacters(bitWorkArea, modulus, buffer, pos);
+        }
+        CodecMetricsRegistry.decoded(getClass(), array.length, pos, start);
+        return pos == buffer.length ? buffer : Arrays.copyOf(buffer, pos);
+    }
+
     /**
      * <p>
      * Decodes all of the provided data, starting at inPos, for inAvail bytes. Should be called at least twice: once with the data to decode, and once with
@@ -611,60 +732,140 @@ public class Base32 extends BaseNCodec {
         // This approach makes the '=' padding characters completely optional.
         if (context.eof && context.modulus > 0) { // if modulus == 0, nothing to do
             final byte[] buffer = ensureBufferSize(decodeSize, context);
-            // We ignore partial bytes, i.e. only multiples of 8 count.
-            // Any combination not part of a valid encoding is either partially decoded
-            // or will raise an exception. Possible trailing characters are 2, 4, 5, 7.
-            // It is not possible to encode with 1, 3, 6 trailing characters.
-            // For backwards compatibility 3 & 6 chars are decoded anyway rather than discarded.
-            // See the encode(byte[]) method EOF section.
-            switch (context.modulus) {
-//              case 0 : // impossible, as excluded above
-            case 1: // 5 bits - either ignore entirely, or raise an exception
-                validateTrailingCharacters();
-                // falls-through
-            case 2: // 10 bits, drop 2 and output one byte
-                validateCharacter(MASK_2_BITS, context);
-                buffer[context.pos++] = (byte) (context.lbitWorkArea >> 2 & MASK_8BITS);
-                break;
-            case 3: // 15 bits, drop 7 and output 1 byte, or raise an exception
-                validateTrailingCharacters();
-                // Not possible from a valid encoding but decode anyway
-                buffer[context.pos++] = (byte) (context.lbitWorkArea >> 7 & MASK_8BITS);
-                break;
-            case 4: // 20 bits = 2*8 + 4
-                validateCharacter(MASK_4_BITS, context);
-                context.lbitWorkArea = context.lbitWorkArea >> 4; // drop 4 bits
-                buffer[context.pos++] = (byte) (context.lbitWorkArea >> 8 & MASK_8BITS);
-                buffer[context.pos++] = (byte) (context.lbitWorkArea & MASK_8BITS);
-                break;
-            case 5: // 25 bits = 3*8 + 1
-                validateCharacter(MASK_1_BITS, context);
-                context.lbitWorkArea = context.lbitWorkArea >> 1;
-                buffer[context.pos++] = (byte) (context.lbitWorkArea >> 16 & MASK_8BITS);
-                buffer[context.pos++] = (byte) (context.lbitWorkArea >> 8 & MASK_8BITS);
-                buffer[context.pos++] = (byte) (context.lbitWorkArea & MASK_8BITS);
-                break;
-            case 6: // 30 bits = 3*8 + 6, or raise an exception
-                validateTrailingCharacters();
-                // Not possible from a valid encoding but decode anyway
-                context.lbitWorkArea = context.lbitWorkArea >> 6;
-                buffer[context.pos++] = (byte) (context.lbitWorkArea >> 16 & MASK_8BITS);
-                buffer[context.pos++] = (byte) (context.lbitWorkArea >> 8 & MASK_8BITS);
-                buffer[context.pos++] = (byte) (context.lbitWorkArea & MASK_8BITS);
-                break;
-            case 7: // 35 bits = 4*8 +3
-                validateCharacter(MASK_3_BITS, context);
-                context.lbitWorkArea = context.lbitWorkArea >> 3;
-                buffer[context.pos++] = (byte) (context.lbitWorkArea >> 24 & MASK_8BITS);
-                buffer[context.pos++] = (byte) (context.lbitWorkArea >> 16 & MASK_8BITS);
-                buffer[context.pos++] = (byte) (context.lbitWorkArea >> 8 & MASK_8BITS);
-                buffer[context.pos++] = (byte) (context.lbitWorkArea & MASK_8BITS);
-                break;
-            default:
-                // modulus can be 0-7, and we excluded 0,1 already
-                throw new IllegalStateException("Impossible modulus " + context.modulus);
+            context.pos = decodeTrailingCharacters(context.lbitWorkArea, context.modulus, buffer, context.pos);
+        }
+    }
+
+    /**
+     * Decodes the characters left over after the last whole block, at EOF.
+     *
+     * @param bitWorkArea The bits of the trailing characters.
+     * @param modulus     The number of trailing characters, 1 to 7.
+     * @param buffer      The output buffer.
+     * @param pos         The output position.
+     * @return The new output position.
+     * @throws IllegalArgumentException if strict decoding rejects the trailing characters.
+     */
+    private int decodeTrailingCharacters(long bitWorkArea, final int modulus, final byte[] buffer, int pos) {
+        // We ignore partial bytes, i.e. only multiples of 8 count.
+        // Any combination not part of a valid encoding is either partially decoded
+        // or will raise an exception. Possible trailing characters are 2, 4, 5, 7.
+        // It is not possible to encode with 1, 3, 6 trailing characters.
+        // For backwards compatibility 3 & 6 chars are decoded anyway rather than discarded.
+        // See the encode(byte[]) method EOF section.
+        switch (modulus) {
+//      case 0 : // impossible, as excluded by the callers
+        case 1: // 5 bits - either ignore entirely, or raise an exception
+            validateTrailingCharacters();
+            // falls-through
+        case 2: // 10 bits, drop 2 and output one byte
+            validateCharacter(MASK_2_BITS, bitWorkArea);
+            buffer[pos++] = (byte) (bitWorkArea >> 2 & MASK_8BITS);
+            break;
+        case 3: // 15 bits, drop 7 and output 1 byte, or raise an exception
+            validateTrailingCharacters();
+            // Not possible from a valid encoding but decode anyway
+            buffer[pos++] = (byte) (bitWorkArea >> 7 & MASK_8BITS);
+            break;
+        case 4: // 20 bits = 2*8 + 4
+            validateCharacter(MASK_4_BITS, bitWorkArea);
+            bitWorkArea = bitWorkArea >> 4; // drop 4 bits
+            buffer[pos++] = (byte) (bitWorkArea >> 8 & MASK_8BITS);
+            buffer[pos++] = (byte) (bitWorkArea & MASK_8BITS);
+            break;
+        case 5: // 25 bits = 3*8 + 1
+            validateCharacter(MASK_1_BITS, bitWorkArea);
+            bitWorkArea = bitWorkArea >> 1;
+            buffer[pos++] = (byte) (bitWorkArea >> 16 & MASK_8BITS);
+            buffer[pos++] = (byte) (bitWorkArea >> 8 & MASK_8BITS);
+            buffer[pos++] = (byte) (bitWorkArea & MASK_8BITS);
+            break;
+        case 6: // 30 bits = 3*8 + 6, or raise an exception
+            validateTrailingCharacters();
+            // Not possible from a valid encoding but decode anyway
+            bitWorkArea = bitWorkArea >> 6;
+            buffer[pos++] = (byte) (bitWorkArea >> 16 & MASK_8BITS);
+            buffer[pos++] = (byte) (bitWorkArea >> 8 & MASK_8BITS);
+            buffer[pos++] = (byte) (bitWorkArea & MASK_8BITS);
+            break;
+        case 7: // 35 bits = 4*8 +3
+            validateCharacter(MASK_3_BITS, bitWorkArea);
+            bitWorkArea = bitWorkArea >> 3;
+            buffer[pos++] = (byte) (bitWorkArea >> 24 & MASK_8BITS);
+            buffer[pos++] = (byte) (bitWorkArea >> 16 & MASK_8BITS);
+            buffer[pos++] = (byte) (bitWorkArea >> 8 & MASK_8BITS);
+            buffer[pos++] = (byte) (bitWorkArea & MASK_8BITS);
+            break;
+        default:
+            // modulus can be 0-7, and we excluded 0,1 already
+            throw new IllegalStateException("Impossible modulus " + modulus);
+        }
+        return pos;
+    }
+
+    /**
+     * Encodes a byte[] containing binary data, into a byte[] containing characters in the Base32 alphabet.
+     * <p>
+     * Whole 5 byte blocks are encoded 8 characters at a time directly into an exactly sized result.
+     * </p>
+     *
+     * @param array  A byte array containing binary data.
+     * @param offset initial offset of the subarray.
+     * @param length length of the subarray.
+     * @return A byte array containing only the Base32 alphabetic character data.
+     * @throws IllegalArgumentException Thrown when a problem is detected processing data.
+     */
+    @Override
+    public byte[] encode(final byte[] array, final int offset, final int length) {
+        if (BinaryCodec.isEmpty(array)) {
+            return array;
+        }
+        long encodedLength = (length + BYTES_PER_UNENCODED_BLOCK - 1L) / BYTES_PER_UNENCODED_BLOCK * BYTES_PER_ENCODED_BLOCK;
+        if (lineLength > 0) {
+            encodedLength += (encodedLength + lineLength - 1) / lineLength * lineSeparator.length;
+        }
+        if (length < 0 || encodedLength > Integer.MAX_VALUE) {
+            // Let the streaming encoder deal with it
+            return super.encode(array, offset, length);
+        }
+        final long start = CodecMetricsRegistry.start();
+        final byte[] buffer = new byte[(int) encodedLength];
+        final byte[] table = encodeTable;
+        final int end = offset + length;
+        final int modulus = length % BYTES_PER_UNENCODED_BLOCK;
+        final int blocksEnd = end - modulus;
+        int pos = 0;
+        int linePos = 0;
+        for (int i = offset; i < blocksEnd; i += BYTES_PER_UNENCODED_BLOCK) {
+            final long block = (array[i] & 0xffL) << 32 | (array[i + 1] & 0xffL) << 24 | (array[i + 2] & 0xff) << 16 | (array[i + 3] & 0xff) << 8
+                    | array[i + 4] & 0xff;
+            buffer[pos++] = table[(int) (block >> 35) & MASK_5_BITS];
+            buffer[pos++] = table[(int) (block >> 30) & MASK_5_BITS];
+            buffer[pos++] = table[(int) (block >> 25) & MASK_5_BITS];
+            buffer[pos++] = table[(int) (block >> 20) & MASK_5_BITS];
+            buffer[pos++] = table[(int) (block >> 15) & MASK_5_BITS];
+            buffer[pos++] = table[(int) (block >> 10) & MASK_5_BITS];
+            buffer[pos++] = table[(int) (block >> 5) & MASK_5_BITS];
+            buffer[pos++] = table[(int) block & MASK_5_BITS];
+            linePos += BYTES_PER_ENCODED_BLOCK;
+            if (lineLength > 0 && lineLength <= linePos) {
+                System.arraycopy(lineSeparator, 0, buffer, pos, lineSeparator.length);
+                pos += lineSeparator.length;
+                linePos = 0;
             }
         }
+        long bitWorkArea = 0;
+        for (int i = blocksEnd; i < end; i++) {
+            bitWorkArea = bitWorkArea << 8 | array[i] & 0xff;
+        }
+        final int savedPos = pos;
+        pos = encodeTrailingBytes(bitWorkArea, modulus, buffer, pos);
+        linePos += pos - savedPos;
+        if (lineLength > 0 && linePos > 0) {
+            System.arraycopy(lineSeparator, 0, buffer, pos, lineSeparator.length);
+        }
+        CodecMetricsRegistry.encoded(getClass(), length, buffer.length, start);
+        return buffer;
     }
 
     /**
@@ -694,52 +895,7 @@ public class Base32 extends BaseNCodec {
             }
             final byte[] buffer = ensureBufferSize(encodeSize, context);
             final int savedPos = context.pos;
-            switch (context.modulus) { // % 5
-            case 0:
-                break;
-            case 1: // Only 1 octet; take top 5 bits then remainder
-                buffer[context.pos++] = encodeTable[(int) (context.lbitWorkArea >> 3) & MASK_5_BITS]; // 8-1*5 = 3
-                buffer[context.pos++] = encodeTable[(int) (context.lbitWorkArea << 2) & MASK_5_BITS]; // 5-3=2
-                buffer[context.pos++] = pad;
-                buffer[context.pos++] = pad;
-                buffer[context.pos++] = pad;
-                buffer[context.pos++] = pad;
-                buffer[context.pos++] = pad;
-                buffer[context.pos++] = pad;
-                break;
-            case 2: // 2 octets = 16 bits to use
-                buffer[context.pos++] = encodeTable[(int) (context.lbitWorkArea >> 11) & MASK_5_BITS]; // 16-1*5 = 11
-                buffer[context.pos++] = encodeTable[(int) (context.lbitWorkArea >> 6) & MASK_5_BITS]; // 16-2*5 = 6
-                buffer[context.pos++] = encodeTable[(int) (context.lbitWorkArea >> 1) & MASK_5_BITS]; // 16-3*5 = 1
-                buffer[context.pos++] = encodeTable[(int) (context.lbitWorkArea << 4) & MASK_5_BITS]; // 5-1 = 4
-                buffer[context.pos++] = pad;
-                buffer[context.pos++] = pad;
-                buffer[context.pos++] = pad;
-                buffer[context.pos++] = pad;
-                break;
-            case 3: // 3 octets = 24 bits to use
-                buffer[context.pos++] = encodeTable[(int) (context.lbitWorkArea >> 19) & MASK_5_BITS]; // 24-1*5 = 19
-                buffer[context.pos++] = encodeTable[(int) (context.lbitWorkArea >> 14) & MASK_5_BITS]; // 24-2*5 = 14
-                buffer[context.pos++] = encodeTable[(int) (context.lbitWorkArea >> 9) & MASK_5_BITS]; // 24-3*5 = 9
-                buffer[context.pos++] = encodeTable[(int) (context.lbitWorkArea >> 4) & MASK_5_BITS]; // 24-4*5 = 4
-                buffer[context.pos++] = encodeTable[(int) (context.lbitWorkArea << 1) & MASK_5_BITS]; // 5-4 = 1
-                buffer[context.pos++] = pad;
-                buffer[context.pos++] = pad;
-                buffer[context.pos++] = pad;
-                break;
-            case 4: // 4 octets = 32 bits to use
-                buffer[context.pos++] = encodeTable[(int) (context.lbitWorkArea >> 27) & MASK_5_BITS]; // 32-1*5 = 27
-                buffer[context.pos++] = encodeTable[(int) (context.lbitWorkArea >> 22) & MASK_5_BITS]; // 32-2*5 = 22
-                buffer[context.pos++] = encodeTable[(int) (context.lbitWorkArea >> 17) & MASK_5_BITS]; // 32-3*5 = 17
-                buffer[context.pos++] = encodeTable[(int) (context.lbitWorkArea >> 12) & MASK_5_BITS]; // 32-4*5 = 12
-                buffer[context.pos++] = encodeTable[(int) (context.lbitWorkArea >> 7) & MASK_5_BITS]; // 32-5*5 = 7
-                buffer[context.pos++] = encodeTable[(int) (context.lbitWorkArea >> 2) & MASK_5_BITS]; // 32-6*5 = 2
-                buffer[context.pos++] = encodeTable[(int) (context.lbitWorkArea << 3) & MASK_5_BITS]; // 5-2 = 3
-                buffer[context.pos++] = pad;
-                break;
-            default:
-                throw new IllegalStateException("Impossible modulus " + context.modulus);
-            }
+            context.pos = encodeTrailingBytes(context.lbitWorkArea, context.modulus, buffer, context.pos);
             context.currentLinePos += context.pos - savedPos; // keep track of current line position
             // if currentPos == 0 we are at the start of a line, so don't add CRLF
             if (lineLength > 0 && context.currentLinePos > 0) { // add chunk separator if required
@@ -775,6 +931,65 @@ public class Base32 extends BaseNCodec {
         }
     }
 
+    /**
+     * Encodes the bytes left over after the last whole block, at EOF, including padding.
+     *
+     * @param bitWorkArea The bits of the trailing bytes.
+     * @param modulus     The number of trailing bytes, 0 to 4.
+     * @param buffer      The output buffer.
+     * @param pos         The output position.
+     * @return The new output position.
+     */
+    private int encodeTrailingBytes(final long bitWorkArea, final int modulus, final byte[] buffer, int pos) {
+        switch (modulus) { // % 5
+        case 0:
+            break;
+        case 1: // Only 1 octet; take top 5 bits then remainder
+            buffer[pos++] = encodeTable[(int) (bitWorkArea >> 3) & MASK_5_BITS]; // 8-1*5 = 3
+            buffer[pos++] = encodeTable[(int) (bitWorkArea << 2) & MASK_5_BITS]; // 5-3=2
+            buffer[pos++] = pad;
+            buffer[pos++] = pad;
+            buffer[pos++] = pad;
+            buffer[pos++] = pad;
+            buffer[pos++] = pad;
+            buffer[pos++] = pad;
+            break;
+        case 2: // 2 octets = 16 bits to use
+            buffer[pos++] = encodeTable[(int) (bitWorkArea >> 11) & MASK_5_BITS]; // 16-1*5 = 11
+            buffer[pos++] = encodeTable[(int) (bitWorkArea >> 6) & MASK_5_BITS]; // 16-2*5 = 6
+            buffer[pos++] = encodeTable[(int) (bitWorkArea >> 1) & MASK_5_BITS]; // 16-3*5 = 1
+            buffer[pos++] = encodeTable[(int) (bitWorkArea << 4) & MASK_5_BITS]; // 5-1 = 4
+            buffer[pos++] = pad;
+            buffer[pos++] = pad;
+            buffer[pos++] = pad;
+            buffer[pos++] = pad;
+            break;
+        case 3: // 3 octets = 24 bits to use
+            buffer[pos++] = encodeTable[(int) (bitWorkArea >> 19) & MASK_5_BITS]; // 24-1*5 = 19
+            buffer[pos++] = encodeTable[(int) (bitWorkArea >> 14) & MASK_5_BITS]; // 24-2*5 = 14
+            buffer[pos++] = encodeTable[(int) (bitWorkArea >> 9) & MASK_5_BITS]; // 24-3*5 = 9
+            buffer[pos++] = encodeTable[(int) (bitWorkArea >> 4) & MASK_5_BITS]; // 24-4*5 = 4
+            buffer[pos++] = encodeTable[(int) (bitWorkArea << 1) & MASK_5_BITS]; // 5-4 = 1
+            buffer[pos++] = pad;
+            buffer[pos++] = pad;
+            buffer[pos++] = pad;
+            break;
+        case 4: // 4 octets = 32 bits to use
+            buffer[pos++] = encodeTable[(int) (bitWorkArea >> 27) & MASK_5_BITS]; // 32-1*5 = 27
+            buffer[pos++] = encodeTable[(int) (bitWorkArea >> 22) & MASK_5_BITS]; // 32-2*5 = 22
+            buffer[pos++] = encodeTable[(int) (bitWorkArea >> 17) & MASK_5_BITS]; // 32-3*5 = 17
+            buffer[pos++] = encodeTable[(int) (bitWorkArea >> 12) & MASK_5_BITS]; // 32-4*5 = 12
+            buffer[pos++] = encodeTable[(int) (bitWorkArea >> 7) & MASK_5_BITS]; // 32-5*5 = 7
+            buffer[pos++] = encodeTable[(int) (bitWorkArea >> 2) & MASK_5_BITS]; // 32-6*5 = 2
+            buffer[pos++] = encodeTable[(int) (bitWorkArea << 3) & MASK_5_BITS]; // 5-2 = 3
+            buffer[pos++] = pad;
+            break;
+        default:
+            throw new IllegalStateException("Impossible modulus " + modulus);
+        }
+        return pos;
+    }
+
     /**
      * Gets the line separator (for testing only).
      *
@@ -796,6 +1011,41 @@ public class Base32 extends BaseNCodec {
         return value < decodeTable.length && decodeTable[value] != -1;
     }
 
+    /**
+     * Validates the remaining bytes of a buffer without decoding them.
+     * <p>
+     * Validation applies the rules of {@link CodecPolicy#STRICT} decoding whatever the policy of this codec: the input must only contain alphabet characters,
+     * followed by optional padding, optionally interleaved with whitespace such as line separators; the final character must not carry bits that decoding would
+     * discard, and there must not be a final character that cannot form a byte.
+     * </p>
+     * <p>
+     * The buffer's position, limit and mark are not changed.
+     * </p>
+     *
+     * @param buffer The buffer to validate.
+     * @return The validation result, offsets are relative to the buffer's position.
+     * @since 1.23.0
+     */
+    @Override
+    public ValidationResult validate(final ByteBuffer buffer) {
+        return super.validate(buffer);
+    }
+
+    /**
+     * Validates characters without decoding them.
+     * <p>
+     * This method applies the same rules as {@link #validate(ByteBuffer)}. Characters above {@code 0xFF} are never valid.
+     * </p>
+     *
+     * @param chars The characters to validate.
+     * @return The validation result.
+     * @since 1.23.0
+     */
+    @Override
+    public ValidationResult validate(final CharSequence chars) {
+        return super.validate(chars);
+    }
+
     /**
      * Validates whether decoding the final trailing character is possible in the context of the set of possible Base32 values.
      * <p>
@@ -804,12 +1054,12 @@ public class Base32 extends BaseNCodec {
      * </p>
      *
      * @param emptyBitsMask The mask of the lower bits that should be empty.
-     * @param context       The context to be used.
+     * @param bitWorkArea   The long bit work area.
      * @throws IllegalArgumentException if the bits being checked contain any non-zero value.
      */
-    private void validateCharacter(final long emptyBitsMask, final Context context) {
-        // Use the long bit work area
-        if (isStrictDecoding() && (context.lbitWorkArea & emptyBitsMask) != 0) {
+    private void validateCharacter(final long emptyBitsMask, final long bitWorkArea) {
+        if (isStrictDecoding() && (bitWorkArea & emptyBitsMask) != 0) {
+            CodecMetricsRegistry.rejected(getClass());
             throw new IllegalArgumentException("Strict decoding: Last encoded character (before the paddings if any) is a valid " +
                     "Base32 alphabet but not a possible encoding. Expected the discarded bits from the character to be zero.");
         }
@@ -822,6 +1072,7 @@ public class Base32 extends BaseNCodec {
      */
     private void validateTrailingCharacters() {
         if (isStrictDecoding()) {
+            CodecMetricsRegistry.rejected(getClass());
             throw new IllegalArgumentException("Strict decoding: Last encoded character(s) (before the paddings if any) are valid " +
                     "Base32 alphabet but not a possible encoding. Decoding requires either 2, 4, 5, or 7 trailing 5-bit characters to create bytes.");
         }
@@ -18,8 +18,10 @@
 package org.apache.commons.codec.binary;
 
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.function.BiConsumer;
+import java.util.function.IntUnaryOperator;
 
 /**
  * Provides Base58 encoding and decoding as commonly used in cryptocurrency and blockchain applications.
@@ -216,19 +218,27 @@ public class Base58 extends BaseNCodec {
         context.buffer = newAccumulated;
     }
 
+    /**
+     * Counts the leading characters that match the first Base58 alphabet entry; each represents a leading zero byte in the decoded output.
+     *
+     * @param input  Gets the unsigned byte or char value at an index.
+     * @param length The input length.
+     * @return The number of leading zero characters.
+     */
+    private int countLeadingZeros(final IntUnaryOperator input, final int length) {
+        final int zero = encodeTable[0] & 0xff;
+        int leadingZeros = 0;
+        while (leadingZeros < length && input.applyAsInt(leadingZeros) == zero) {
+            leadingZeros++;
+        }
+        return leadingZeros;
+    }
+
     /**
      * Converts Base58 encoded data to binary.
      * <p>
-     * Uses 32-bit word arithmetic ({@code int[]} with {@code long} carry) to convert the Base58 string to binary data, avoiding {@link BigInteger} and its
-     * per-digit object allocation. Each Base58 digit is processed left-to-right using Horner's scheme: {@code value = value * 58 + digit}. An
-     * {@code wordsStart} cursor tracks the leftmost word that contains data, so the inner loop only touches the active portion of the work buffer — the active
-     * range grows by at most one word per four digits (since log(58)/log(256) &lt; 1), keeping total work well below {@code inputLength²}.
-     * </p>
-     * <p>
-     * At each word position the carry satisfies {@code carry &le; 57 + 58 &times; (2³²&minus;1) &lt; 2⁴⁰}, which fits in a Java {@code long}.
-     * </p>
-     * <p>
-     * Leading characters that match the first Base58 alphabet entry each represent a leading zero byte in the output.
+     * The digits are converted with {@link #toWords(IntUnaryOperator, int, int)}. Leading characters that match the first Base58 alphabet entry each
+     * represent a leading zero byte in the output.
      * </p>
      *
      * @param base58  The Base58 encoded data.
@@ -236,43 +246,14 @@ public class Base58 extends BaseNCodec {
      * @throws IllegalArgumentException if the Base58 data contains invalid characters.
      */
     private void convertFromBase58(final byte[] base58, final Context context) {
-        final int zero = encodeTable[0] & 0xff;
-        // Count leading Base58 "zero" characters; each represents a leading zero byte in the output.
-        int leadingZeros = 0;
-        for (final byte b : base58) {
-            if ((b & 0xff) != zero) {
-                break;
-            }
-            leadingZeros++;
-        }
-        // Instead of using BigInteger instances, we use a 32-bit word array.
-        // This provides ~4x speedup and avoids per-digit object allocation.
-        //
-        // Work buffer of 32-bit words, big-endian, right-aligned.
-        // Upper bound on decoded bytes is base58.length, so (base58.length+3)/4 words suffice.
-        final int numWords = base58.length + 3 >>> 2;
-        final int[] words = new int[numWords];
-        int wordsStart = numWords; // grows leftward as the value increases
-        for (int i = leadingZeros; i < base58.length; i++) {
-            final int b = base58[i] & 0xff;
-            final int digit = b < decodeTable.length ? decodeTable[b] : -1;
-            if (digit < 0) {
-                throw new IllegalArgumentException(String.format("Invalid character in Base58 string: 0x%02x", b));
-            }
-            // value = value * 58 + digit (Horner's scheme over 32-bit words)
-            long carry = digit;
-            for (int j = numWords - 1; j >= wordsStart; j--) {
-                carry += 58L * (words[j] & 0xFFFFFFFFL);
-                words[j] = (int) carry;
-                carry >>>= 32;
-            }
-            while (carry != 0) {
-                words[--wordsStart] = (int) carry;
-                carry >>>= 32;
-            }
+        final int leadingZeros = countLeadingZeros(i -> base58[i] & 0xff, base58.length);
+        final int[] words = toWords(i -> base58[i] & 0xff, leadingZeros, base58.length);
+        int wordsStart = 0;
+        while (wordsStart < words.length && words[wordsStart] == 0) {
+            wordsStart++;
         }
         // Expand active words to bytes (big-endian), then skip leading zero bytes.
-        final int activeWords = numWords - wordsStart;
+        final int activeWords = words.length - wordsStart;
         final byte[] raw = new byte[activeWords * 4];
         for (int i = 0; i < activeWords; i++) {
             final int w = words[wordsStart + i];
@@ -382,6 +363,109 @@ public class Base58 extends BaseNCodec {
         return base58;
     }
 
+    /**
+     * Converts Base58 digits to a big-endian array of 32-bit words.
+     * <p>
+     * Uses 32-bit word arithmetic ({@code int[]} with {@code long} carry) to convert the Base58 digits, avoiding {@link BigInteger} and its per-digit object
+     * allocation. Each Base58 digit is processed left-to-right using Horner's scheme: {@code value = value * 58 + digit}. A {@code wordsStart} cursor tracks
+     * the leftmost word that contains data, so the inner loop only touches the active portion of the work buffer — the active range grows by at most one word
+     * per four digits (since log(58)/log(256) &lt; 1), keeping total work well below {@code inputLength²}.
+     * </p>
+     * <p>
+     * At each word position the carry satisfies {@code carry &le; 57 + 58 &times; (2³²&minus;1) &lt; 2⁴⁰}, which fits in a Java {@code long}.
+     * </p>
+     *
+     * @param input Gets the unsigned byte or char value at an index.
+     * @param from  The index of the first digit, after any leading zero characters.
+     * @param to    The index after the last digit.
+     * @return The words, right-aligned, with leading zero words.
+     * @throws IllegalArgumentException if the Base58 data contains invalid characters.
+     */
+    private int[] toWords(final IntUnaryOperator input, final int from, final int to) {
+        // Work buffer of 32-bit words, big-endian, right-aligned.
+        // Upper bound on decoded bytes is the input length, so (length+3)/4 words suffice.
+        final int numWords = to + 3 >>> 2;
+        final int[] words = new int[numWords];
+        int wordsStart = numWords; // grows leftward as the value increases
+        for (int i = from; i < to; i++) {
+            final int b = input.applyAsInt(i);
+            final int digit = b < decodeTable.length ? decodeTable[b] : -1;
+            if (digit < 0) {
+                throw new IllegalArgumentException(String.format("Invalid character in Base58 string: 0x%02x", b));
+            }
+            // value = value * 58 + digit (Horner's scheme over 32-bit words)
+            long carry = digit;
+            for (int j = numWords - 1; j >= wordsStart; j--) {
+                carry += 58L * (words[j] & 0xFFFFFFFFL);
+                words[j] = (int) carry;
+                carry >>>= 32;
+            }
+            while (carry != 0) {
+                words[--wordsStart] = (int) carry;
+                carry >>>= 32;
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Validates the remaining bytes of a buffer without decoding them.
+     * <p>
+     * The input must only contain alphabet characters, with no whitespace or padding.
+     * </p>
+     * <p>
+     * The buffer's position, limit and mark are not changed.
+     * </p>
+     *
+     * @param buffer The buffer to validate.
+     * @return The validation result, offsets are relative to the buffer's position.
+     * @since 1.23.0
+     */
+    @Override
+    public ValidationResult validate(final ByteBuffer buffer) {
+        return super.validate(buffer);
+    }
+
+    /**
+     * Validates characters without decoding them.
+     * <p>
+     * This method applies the same rules as {@link #validate(ByteBuffer)}. Characters above {@code 0xFF} are never valid.
+     * </p>
+     *
+     * @param chars The characters to validate.
+     * @return The validation result.
+     * @since 1.23.0
+     */
+    @Override
+    public ValidationResult validate(final CharSequence chars) {
+        return super.validate(chars);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Base58 decoding does not skip whitespace and has no padding, so every character must be in the alphabet. The decoded length is computed with the same
+     * word arithmetic as decoding, without allocating the decoded bytes.
+     * </p>
+     */
+    @Override
+    ValidationResult validate(final IntUnaryOperator input, final int length) {
+        for (int i = 0; i < length; i++) {
+            final int value = input.applyAsInt(i);
+            if (value >= decodeTable.length || decodeTable[value] == -1) {
+                return ValidationResult.invalid(i);
+            }
+        }
+        final int leadingZeros = countLeadingZeros(input, length);
+        final int[] words = toWords(input, leadingZeros, length);
+        int wordsStart = 0;
+        while (wordsStart < words.length && words[wordsStart] == 0) {
+            wordsStart++;
+        }
+        final int valueBytes = wordsStart < words.length ? (words.length - wordsStart) * 4 - Integer.numberOfLeadingZeros(words[wordsStart]) / Byte.SIZE : 0;
+        return ValidationResult.valid(leadingZeros + valueBytes, true);
+    }
+
     /**
      * Returns whether or not the {@code octet} is in the Base58 alphabet.
      *
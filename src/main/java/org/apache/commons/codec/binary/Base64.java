@@ -18,9 +18,11 @@
 package org.apache.commons.codec.binary;
 
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Objects;
 
+import org.apache.commons.codec.CodecMetricsRegistry;
 import org.apache.commons.codec.CodecPolicy;
 
 /**
@@ -324,6 +326,21 @@ public class Base64 extends BaseNCodec {
     /** Mask used to extract 2 bits, used when decoding final trailing character. */
     private static final int MASK_2_BITS = 0x3;
 
+    /** Carriage return, the first byte of a MIME or PEM line separator. */
+    private static final byte CR = '\r';
+
+    /** Line feed, the last byte of a MIME or PEM line separator. */
+    private static final byte LF = '\n';
+
+    /** {@link #DECODE_TABLE} widened to 256 entries for the bulk decoder. */
+    private static final byte[] BULK_DECODE_TABLE = toBulkDecodeTable(DECODE_TABLE);
+
+    /** {@link #STANDARD_DECODE_TABLE} widened to 256 entries for the bulk decoder. */
+    private static final byte[] BULK_STANDARD_DECODE_TABLE = toBulkDecodeTable(STANDARD_DECODE_TABLE);
+
+    /** {@link #URL_SAFE_DECODE_TABLE} widened to 256 entries for the bulk decoder. */
+    private static final byte[] BULK_URL_SAFE_DECODE_TABLE = toBulkDecodeTable(URL_SAFE_DECODE_TABLE);
+
     /**
      * Creates a new Builder.
      *
@@ -380,6 +397,35 @@ public class Base64 extends BaseNCodec {
         return false;
     }
 
+    /**
+     * Creates the bulk decode table for a decode table and padding byte.
+     *
+     * @param decodeTable The decode table, may be null.
+     * @param pad         The padding byte.
+     * @return The bulk decode table or null if the bulk decoder cannot be used.
+     */
+    private static byte[] createBulkDecodeTable(final byte[] decodeTable, final byte pad) {
+        if (decodeTable == null || pad == CR || pad == LF || (pad & 0xff) < decodeTable.length && decodeTable[pad & 0xff] >= 0) {
+            return null;
+        }
+        if (decodeTable == DECODE_TABLE) {
+            return BULK_DECODE_TABLE;
+        }
+        if (decodeTable == STANDARD_DECODE_TABLE) {
+            return BULK_STANDARD_DECODE_TABLE;
+        }
+        if (decodeTable == URL_SAFE_DECODE_TABLE) {
+            return BULK_URL_SAFE_DECODE_TABLE;
+        }
+        for (final byte value : decodeTable) {
+            if (value < -1 || value > MASK_6_BITS) {
+                // Only 6-bit values can be combined into a block with bitwise operations
+                return null;
+            }
+        }
+        return toBulkDecodeTable(decodeTable);
+    }
+
     /**
      * Decodes Base64 data into octets.
      * <p>
@@ -576,7 +622,7 @@ public class Base64 extends BaseNCodec {
      * @since 1.4 (NOTE: 1.4 chunked the output, whereas 1.5 does not).
      */
     public static String encodeBase64String(final byte[] binaryData) {
-        return StringUtils.newStringUsAscii(encodeBase64(binaryData, false));
+        return StringUtils.newStringIso8859_1(encodeBase64(binaryData, false));
     }
 
     /**
@@ -600,7 +646,7 @@ public class Base64 extends BaseNCodec {
      * @since 1.4
      */
     public static String encodeBase64URLSafeString(final byte[] binaryData) {
-        return StringUtils.newStringUsAscii(encodeBase64(binaryData, false, true));
+        return StringUtils.newStringIso8859_1(encodeBase64(binaryData, false, true));
     }
 
     /**
@@ -628,6 +674,15 @@ public class Base64 extends BaseNCodec {
         return isBase64(arrayOctet);
     }
 
+    private static boolean isAscii(final byte[] bytes) {
+        for (final byte element : bytes) {
+            if (element < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Tests whether or not the {@code octet} is in the Base64 alphabet.
      * <p>
@@ -786,6 +841,21 @@ public class Base64 extends BaseNCodec {
         return isBase64Url(StringUtils.getBytesUtf8(base64));
     }
 
+    /**
+     * Widens a decode table to 256 entries so that the bulk decoder can index it with any unsigned byte.
+     *
+     * @param decodeTable The decode table.
+     * @return A decode table with at least 256 entries, unmapped entries are -1.
+     */
+    private static byte[] toBulkDecodeTable(final byte[] decodeTable) {
+        if (decodeTable.length >= DECODING_TABLE_LENGTH) {
+            return decodeTable;
+        }
+        final byte[] table = Arrays.copyOf(decodeTable, DECODING_TABLE_LENGTH);
+        Arrays.fill(table, decodeTable.length, table.length, (byte) -1);
+        return table;
+    }
+
     private static byte[] toDecodeTable(final byte[] encodeTable) {
         final byte[] table = encodeTable != null ? encodeTable : STANDARD_ENCODE_TABLE;
         if (Arrays.equals(table, STANDARD_ENCODE_TABLE) || Arrays.equals(table, URL_SAFE_ENCODE_TABLE)) {
@@ -810,6 +880,18 @@ public class Base64 extends BaseNCodec {
     private final boolean isUrlSafe;
     private final boolean isStandardEncodeTable;
 
+    /**
+     * The decode table widened to 256 entries, used to decode whole 4 character blocks and MIME or PEM lines in bulk. Null when the bulk decoder cannot be
+     * used, for example when the padding byte is a CR or LF, or when the decode table maps the padding byte.
+     */
+    private final byte[] bulkDecodeTable;
+
+    /**
+     * Whether the encoding table, padding, and line separator are all ASCII, in which case encoded data maps one byte to one character in any ASCII
+     * compatible charset.
+     */
+    private final boolean isAsciiOutput;
+
     /**
      * Constructs a Base64 codec used for decoding (all modes) and encoding in URL-unsafe mode.
      * <p>
@@ -871,6 +953,8 @@ public class Base64 extends BaseNCodec {
             this.encodeSize = BYTES_PER_ENCODED_BLOCK;
             this.lineSeparator = null;
         }
+        this.bulkDecodeTable = createBulkDecodeTable(decodeTable, pad);
+        this.isAsciiOutput = pad >= 0 && isAscii(encTable) && (lineSeparator == null || isAscii(lineSeparator));
     }
 
     /**
@@ -974,6 +1058,96 @@ public class Base64 extends BaseNCodec {
                 .setDecodingPolicy(decodingPolicy));
     }
 
+    /**
+     * Decodes Base64 characters directly into a byte array, without first converting them to bytes.
+     * <p>
+     * This method applies the same rules as {@link #decode(byte[])}: characters outside of the alphabet are ignored, decoding stops at the first padding
+     * character, and the trailing character is checked according to the decoding policy. Use {@link #validate(CharSequence)} to compute the exact number of
+     * bytes decoding produces.
+     * </p>
+     *
+     * @param src       The Base64 characters.
+     * @param srcOffset The offset of the first character to decode.
+     * @param srcLength The number of characters to decode.
+     * @param dst       The destination array.
+     * @param dstOffset The offset in the destination array of the first decoded byte.
+     * @return The number of bytes written to the destination array.
+     * @throws IndexOutOfBoundsException if an offset or length is out of bounds.
+     * @throws IllegalArgumentException  if the destination array is too small, or if strict decoding rejects the trailing character.
+     * @since 1.23.0
+     */
+    public int decode(final CharSequence src, final int srcOffset, final int srcLength, final byte[] dst, final int dstOffset) {
+        BinaryCodec.checkFromIndexSize(srcOffset, srcLength, src.length());
+        BinaryCodec.checkFromIndexSize(dstOffset, 0, dst.length);
+        final long start = CodecMetricsRegistry.start();
+        final byte[] table = decodeTable;
+        final byte[] bulkTable = bulkDecodeTable;
+        final int padChar = pad & 0xff;
+        final int srcEnd = srcOffset + srcLength;
+        final int blockLimit = dst.length - BYTES_PER_UNENCODED_BLOCK;
+        int bitWorkArea = 0;
+        int modulus = 0;
+        int pos = dstOffset;
+        int i = srcOffset;
+        while (i < srcEnd) {
+            if (bulkTable != null && modulus == 0 && i <= srcEnd - BYTES_PER_ENCODED_BLOCK) {
+                final char c0 = src.charAt(i);
+                final char c1 = src.charAt(i + 1);
+                final char c2 = src.charAt(i + 2);
+                final char c3 = src.charAt(i + 3);
+                if ((c0 | c1 | c2 | c3) <= MASK_8BITS) {
+                    final int block = bulkTable[c0] << 18 | bulkTable[c1] << 12 | bulkTable[c2] << 6 | bulkTable[c3];
+                    if (block >= 0) {
+                        if (pos > blockLimit) {
+                            throw new IllegalArgumentException("Destination array is too small.");
+                        }
+                        dst[pos++] = (byte) (block >> 16);
+                        dst[pos++] = (byte) (block >> 8);
+                        dst[pos++] = (byte) block;
+                        i += BYTES_PER_ENCODED_BLOCK;
+                        continue;
+                    }
+                }
+            }
+            final char c = src.charAt(i++);
+            if (c == padChar) {
+                break;
+            }
+            if (c < table.length) {
+                final int result = table[c];
+                if (result >= 0) {
+                    bitWorkArea = (bitWorkArea << BITS_PER_ENCODED_BYTE) + result;
+                    if (++modulus == BYTES_PER_ENCODED_BLOCK) {
+                        if (pos > blockLimit) {
+                            throw new IllegalArgumentException("Destination array is too small.");
+                        }
+                        dst[pos++] = (byte) (bitWorkArea >> 16);
+                        dst[pos++] = (byte) (bitWorkArea >> 8);
+                        dst[pos++] = (byte) bitWorkArea;
+                        modulus = 0;
+                    }
+                }
+            }
+        }
+        final int trailing = modulus == 0 ? 0 : modulus - 1;
+        if (modulus == 1) {
+            validateTrailingCharacter();
+        } else if (modulus > 1) {
+            validateCharacter(modulus == 2 ? MASK_4_BITS : MASK_2_BITS, bitWorkArea);
+            if (pos > dst.length - trailing) {
+                throw new IllegalArgumentException("Destination array is too small.");
+            }
+            if (modulus == 2) { // 12 bits = 8 + 4
+                dst[pos++] = (byte) (bitWorkArea >> 4);
+            } else { // 18 bits = 8 + 8 + 2
+                dst[pos++] = (byte) (bitWorkArea >> 10);
+                dst[pos++] = (byte) (bitWorkArea >> 2);
+            }
+        }
+        CodecMetricsRegistry.decoded(getClass(), srcLength, pos - dstOffset, start);
+        return pos - dstOffset;
+    }
+
     /**
      * <p>
      * Decodes all of the provided data, starting at inPos, for inAvail bytes. Should be called at least twice: once with the data to decode, and once with
@@ -1003,7 +1177,14 @@ public class Base64 extends BaseNCodec {
             context.eof = true;
         }
         final int decodeSize = this.encodeSize - 1;
-        for (int i = 0; i < inAvail; i++) {
+        int i = 0;
+        if (bulkDecodeTable != null && context.modulus == 0 && inAvail >= BYTES_PER_ENCODED_BLOCK) {
+            ensureBufferSize(inAvail / BYTES_PER_ENCODED_BLOCK * BYTES_PER_UNENCODED_BLOCK, context);
+            final int bulkPos = decodeLines(input, inPos, inPos + inAvail, context);
+            i = bulkPos - inPos;
+            inPos = bulkPos;
+        }
+        for (; i < inAvail; i++) {
             final int b = input[inPos++] & 0xff;
             if (b == (pad & 0xff)) {
                 // We're done.
@@ -1055,6 +1236,121 @@ public class Base64 extends BaseNCodec {
         }
     }
 
+    /**
+     * Decodes a String containing characters in the Base-N alphabet.
+     * <p>
+     * The characters are decoded directly, without first converting the String to UTF-8 bytes.
+     * </p>
+     *
+     * @param array A String containing Base-N character data.
+     * @return a byte array containing binary data.
+     */
+    @Override
+    public byte[] decode(final String array) {
+        if (array == null) {
+            return null;
+        }
+        // Characters after the last alphabet character decode to nothing
+        int end = array.length();
+        while (end > 0 && !isInAlphabet(array.charAt(end - 1))) {
+            end--;
+        }
+        final byte[] result = new byte[(int) (end * (long) BITS_PER_ENCODED_BYTE / Byte.SIZE)];
+        final int length = decode(array, 0, array.length(), result, 0);
+        return length == result.length ? result : Arrays.copyOf(result, length);
+    }
+
+    /**
+     * Decodes whole 4 character blocks until a block contains a byte outside of the alphabet.
+     * <p>
+     * The caller must ensure that the context buffer can hold the decoded bytes.
+     * </p>
+     *
+     * @param input   byte[] array of ASCII data to base64 decode.
+     * @param inPos   Position to start reading data from.
+     * @param inEnd   Position to stop reading data at (exclusive).
+     * @param context The context to be used.
+     * @return The position of the first block that was not decoded.
+     */
+    private int decodeBlocks(final byte[] input, int inPos, final int inEnd, final Context context) {
+        final byte[] table = bulkDecodeTable;
+        final byte[] buffer = context.buffer;
+        int pos = context.pos;
+        while (inEnd - inPos >= BYTES_PER_ENCODED_BLOCK) {
+            // A -1 (not in the alphabet) in any position makes the whole block negative
+            final int bits = table[input[inPos] & 0xff] << 18 | table[input[inPos + 1] & 0xff] << 12 | table[input[inPos + 2] & 0xff] << 6
+                    | table[input[inPos + 3] & 0xff];
+            if (bits < 0) {
+                break;
+            }
+            buffer[pos++] = (byte) (bits >> 16);
+            buffer[pos++] = (byte) (bits >> 8);
+            buffer[pos++] = (byte) bits;
+            inPos += BYTES_PER_ENCODED_BLOCK;
+        }
+        context.pos = pos;
+        return inPos;
+    }
+
+    /**
+     * Decodes MIME or PEM style input in bulk.
+     * <p>
+     * The first line determines the line structure: a whole number of 4 character blocks followed by a CRLF or LF separator. Each following line with the
+     * same structure is decoded with a tight block loop that checks the alphabet once per line, and its separator is stepped over without examining each byte.
+     * Decoding stops at the first line that does not match the structure, leaving that line, the final short line, any padding and anything else to the
+     * general decoder, which produces the same result byte for byte.
+     * </p>
+     * <p>
+     * The caller must ensure that {@code context.modulus} is zero and that the context buffer can hold the decoded bytes.
+     * </p>
+     *
+     * @param input   byte[] array of ASCII data to base64 decode.
+     * @param inPos   Position to start reading data from.
+     * @param inEnd   Position to stop reading data at (exclusive).
+     * @param context The context to be used.
+     * @return The position of the first byte left for the general decoder.
+     */
+    private int decodeLines(final byte[] input, final int inPos, final int inEnd, final Context context) {
+        final int lineEnd = decodeBlocks(input, inPos, inEnd, context);
+        final int lineLength = lineEnd - inPos;
+        final int separatorLength;
+        if (lineEnd < inEnd && input[lineEnd] == LF) {
+            separatorLength = 1;
+        } else if (inEnd - lineEnd >= 2 && input[lineEnd] == CR && input[lineEnd + 1] == LF) {
+            separatorLength = 2;
+        } else {
+            return lineEnd;
+        }
+        if (lineLength == 0) {
+            return lineEnd;
+        }
+        final byte[] table = bulkDecodeTable;
+        final byte[] buffer = context.buffer;
+        final int lineStride = lineLength + separatorLength;
+        int pos = lineEnd + separatorLength;
+        // Each full line is followed by its separator, a shorter last line is left for decodeBlocks()
+        while (inEnd - pos >= lineStride && input[pos + lineStride - 1] == LF && (separatorLength == 1 || input[pos + lineLength] == CR)) {
+            final int linePos = context.pos;
+            int outPos = linePos;
+            int alphabet = 0;
+            for (int i = pos; i < pos + lineLength; i += BYTES_PER_ENCODED_BLOCK) {
+                final int bits = table[input[i] & 0xff] << 18 | table[input[i + 1] & 0xff] << 12 | table[input[i + 2] & 0xff] << 6
+                        | table[input[i + 3] & 0xff];
+                alphabet |= bits;
+                buffer[outPos++] = (byte) (bits >> 16);
+                buffer[outPos++] = (byte) (bits >> 8);
+                buffer[outPos++] = (byte) bits;
+            }
+            if (alphabet < 0) {
+                // The line contains padding or other bytes outside the alphabet, discard it and let the general decoder handle it
+                break;
+            }
+            context.pos = outPos;
+            pos += lineStride;
+        }
+        return decodeBlocks(input, pos, inEnd, context);
+    }
+
     /**
      * <p>
      * Encodes all of the provided data, starting at inPos, for inAvail bytes. Must be called at least twice: once with the data to encode, and once with
@@ -1146,6 +1442,111 @@ public class Base64 extends BaseNCodec {
         }
     }
 
+    /**
+     * Encodes a byte[] containing binary data, into a String containing characters in the Base64 alphabet.
+     * <p>
+     * When the alphabet, padding, and line separator are ASCII, the String is created from the encoded bytes as ISO-8859-1, which avoids UTF-8 decoding.
+     * </p>
+     *
+     * @param array a byte array containing binary data.
+     * @return A String containing only Base64 character data.
+     */
+    @Override
+    public String encodeAsString(final byte[] array) {
+        return encodeToString(array);
+    }
+
+    /**
+     * Encodes binary data directly into a char array, without an intermediate byte array.
+     * <p>
+     * The characters written are the same as those of {@link #encodeToString(byte[])} for the same input range, including padding and line separators.
+     * </p>
+     *
+     * @param src       The binary data.
+     * @param srcOffset The offset of the first byte to encode.
+     * @param srcLength The number of bytes to encode.
+     * @param dst       The destination array.
+     * @param dstOffset The offset in the destination array of the first encoded character.
+     * @return The number of characters written to the destination array.
+     * @throws IndexOutOfBoundsException if an offset or length is out of bounds.
+     * @throws IllegalArgumentException  if the destination array is too small.
+     * @since 1.23.0
+     */
+    public int encodeToChars(final byte[] src, final int srcOffset, final int srcLength, final char[] dst, final int dstOffset) {
+        BinaryCodec.checkFromIndexSize(srcOffset, srcLength, src.length);
+        BinaryCodec.checkFromIndexSize(dstOffset, 0, dst.length);
+        final int remainder = srcLength % BYTES_PER_UNENCODED_BLOCK;
+        long encodedLength = (long) (srcLength / BYTES_PER_UNENCODED_BLOCK) * BYTES_PER_ENCODED_BLOCK;
+        if (remainder != 0) {
+            // URL-SAFE skips the padding to further reduce size.
+            encodedLength += isStandardEncodeTable ? BYTES_PER_ENCODED_BLOCK : remainder + 1;
+        }
+        if (lineLength > 0) {
+            encodedLength += (encodedLength + lineLength - 1) / lineLength * lineSeparator.length;
+        }
+        if (encodedLength > dst.length - dstOffset) {
+            throw new IllegalArgumentException("Destination array is too small, " + encodedLength + " characters are required.");
+        }
+        final long start = CodecMetricsRegistry.start();
+        final byte[] table = encodeTable;
+        final int blocksEnd = srcOffset + srcLength - remainder;
+        int pos = dstOffset;
+        int linePos = 0;
+        for (int i = srcOffset; i < blocksEnd; i += BYTES_PER_UNENCODED_BLOCK) {
+            final int bitWorkArea = (src[i] & MASK_8BITS) << 16 | (src[i + 1] & MASK_8BITS) << 8 | src[i + 2] & MASK_8BITS;
+            dst[pos++] = (char) (table[bitWorkArea >> 18 & MASK_6_BITS] & MASK_8BITS);
+            dst[pos++] = (char) (table[bitWorkArea >> 12 & MASK_6_BITS] & MASK_8BITS);
+            dst[pos++] = (char) (table[bitWorkArea >> 6 & MASK_6_BITS] & MASK_8BITS);
+            dst[pos++] = (char) (table[bitWorkArea & MASK_6_BITS] & MASK_8BITS);
+            linePos += BYTES_PER_ENCODED_BLOCK;
+            if (lineLength > 0 && lineLength <= linePos) {
+                pos = putLineSeparator(dst, pos);
+                linePos = 0;
+            }
+        }
+        if (remainder != 0) {
+            final int savedPos = pos;
+            final char padChar = (char) (pad & MASK_8BITS);
+            if (remainder == 1) { // 8 bits = 6 + 2
+                final int bitWorkArea = src[blocksEnd] & MASK_8BITS;
+                dst[pos++] = (char) (table[bitWorkArea >> 2 & MASK_6_BITS] & MASK_8BITS);
+                dst[pos++] = (char) (table[bitWorkArea << 4 & MASK_6_BITS] & MASK_8BITS);
+                if (isStandardEncodeTable) {
+                    dst[pos++] = padChar;
+                    dst[pos++] = padChar;
+                }
+            } else { // 16 bits = 6 + 6 + 4
+                final int bitWorkArea = (src[blocksEnd] & MASK_8BITS) << 8 | src[blocksEnd + 1] & MASK_8BITS;
+                dst[pos++] = (char) (table[bitWorkArea >> 10 & MASK_6_BITS] & MASK_8BITS);
+                dst[pos++] = (char) (table[bitWorkArea >> 4 & MASK_6_BITS] & MASK_8BITS);
+                dst[pos++] = (char) (table[bitWorkArea << 2 & MASK_6_BITS] & MASK_8BITS);
+                if (isStandardEncodeTable) {
+                    dst[pos++] = padChar;
+                }
+            }
+            linePos += pos - savedPos;
+        }
+        if (lineLength > 0 && linePos > 0) {
+            pos = putLineSeparator(dst, pos);
+        }
+        CodecMetricsRegistry.encoded(getClass(), srcLength, pos - dstOffset, start);
+        return pos - dstOffset;
+    }
+
+    /**
+     * Encodes a byte[] containing binary data, into a String containing characters in the Base64 alphabet.
+     * <p>
+     * When the alphabet, padding, and line separator are ASCII, the String is created from the encoded bytes as ISO-8859-1, which avoids UTF-8 decoding.
+     * </p>
+     *
+     * @param array a byte array containing binary data.
+     * @return String containing only character data in the appropriate alphabet.
+     */
+    @Override
+    public String encodeToString(final byte[] array) {
+        return isAsciiOutput ? StringUtils.newStringIso8859_1(encode(array)) : super.encodeToString(array);
+    }
+
     /**
      * Gets the line separator (for testing only).
      *
@@ -1167,6 +1568,10 @@ public class Base64 extends BaseNCodec {
         return value < decodeTable.length && decodeTable[value] != -1;
     }
 
+    private boolean isInAlphabet(final char c) {
+        return c < decodeTable.length && decodeTable[c] != -1;
+    }
+
     /**
      * Returns our current encode mode. True if we're URL-safe, false otherwise.
      *
@@ -1177,6 +1582,48 @@ public class Base64 extends BaseNCodec {
         return isUrlSafe;
     }
 
+    private int putLineSeparator(final char[] dst, int pos) {
+        for (final byte element : lineSeparator) {
+            dst[pos++] = (char) (element & MASK_8BITS);
+        }
+        return pos;
+    }
+
+    /**
+     * Validates the remaining bytes of a buffer without decoding them.
+     * <p>
+     * Validation applies the rules of {@link CodecPolicy#STRICT} decoding whatever the policy of this codec: the input must only contain alphabet characters,
+     * followed by optional padding, optionally interleaved with whitespace such as line separators; the final character must not carry bits that decoding would
+     * discard, and there must not be a final character that cannot form a byte.
+     * </p>
+     * <p>
+     * The buffer's position, limit and mark are not changed.
+     * </p>
+     *
+     * @param buffer The buffer to validate.
+     * @return The validation result, offsets are relative to the buffer's position.
+     * @since 1.23.0
+     */
+    @Override
+    public ValidationResult validate(final ByteBuffer buffer) {
+        return super.validate(buffer);
+    }
+
+    /**
+     * Validates characters without decoding them.
+     * <p>
+     * This method applies the same rules as {@link #validate(ByteBuffer)}. Characters above {@code 0xFF} are never valid.
+     * </p>
+     *
+     * @param chars The characters to validate.
+     * @return The validation result.
+     * @since 1.23.0
+     */
+    @Override
+    public ValidationResult validate(final CharSequence chars) {
+        return super.validate(chars);
+    }
+
     /**
      * Validates whether decoding the final trailing character is possible in the context of the set of possible Base64 values.
      * <p>
@@ -1189,7 +1636,19 @@ public class Base64 extends BaseNCodec {
      * @throws IllegalArgumentException if the bits being checked contain any non-zero value.
      */
     private void validateCharacter(final int emptyBitsMask, final Context context) {
-        if (isStrictDecoding() && (context.ibitWorkArea & emptyBitsMask) != 0) {
+        validateCharacter(emptyBitsMask, context.ibitWorkArea);
+    }
+
+    /**
+     * Validates whether decoding the final trailing character is possible in the context of the set of possible Base64 values.
+     *
+     * @param emptyBitsMask The mask of the lower bits that should be empty.
+     * @param bitWorkArea   The bits decoded so far.
+     * @throws IllegalArgumentException if the bits being checked contain any non-zero value.
+     */
+    private void validateCharacter(final int emptyBitsMask, final int bitWorkArea) {
+        if (isStrictDecoding() && (bitWorkArea & emptyBitsMask) != 0) {
+            CodecMetricsRegistry.rejected(getClass());
             throw new IllegalArgumentException("Strict decoding: Last encoded character (before the paddings if any) is a valid " +
                     "Base64 alphabet but not a possible encoding. Expected the discarded bits from the character to be zero.");
         }
@@ -1202,6 +1661,7 @@ public class Base64 extends BaseNCodec {
      */
     private void validateTrailingCharacter() {
         if (isStrictDecoding()) {
+            CodecMetricsRegistry.rejected(getClass());
             throw new IllegalArgumentException("Strict decoding: Last encoded character (before the paddings if any) is a valid " +
                     "Base64 alphabet but not a possible encoding. Decoding requires at least two trailing 6-bit characters to create bytes.");
         }
@@ -19,13 +19,16 @@ package org.apache.commons.codec.binary;
 
 import java.io.IOException;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Objects;
+import java.util.function.IntUnaryOperator;
 import java.util.function.Supplier;
 
 import org.apache.commons.codec.BinaryDecoder;
 import org.apache.commons.codec.BinaryEncoder;
+import org.apache.commons.codec.CodecMetricsRegistry;
 import org.apache.commons.codec.CodecPolicy;
 import org.apache.commons.codec.DecoderException;
 import org.apache.commons.codec.EncoderException;
@@ -675,11 +678,13 @@ public abstract class BaseNCodec implements BinaryEncoder, BinaryDecoder {
         if (BinaryCodec.isEmpty(array)) {
             return array;
         }
+        final long start = CodecMetricsRegistry.start();
         final Context context = new Context();
         decode(array, 0, array.length, context);
         decode(array, 0, EOF, context); // Notify decoder of EOF.
         final byte[] result = new byte[context.pos];
         readResults(result, 0, result.length, context);
+        CodecMetricsRegistry.decoded(getClass(), array.length, result.length, start);
         return result;
     }
 
@@ -756,11 +761,13 @@ public abstract class BaseNCodec implements BinaryEncoder, BinaryDecoder {
         if (BinaryCodec.isEmpty(array)) {
             return array;
         }
+        final long start = CodecMetricsRegistry.start();
         final Context context = new Context();
         encode(array, offset, length, context);
         encode(array, offset, EOF, context); // Notify encoder of EOF.
         final byte[] buf = new byte[context.pos - context.readPos];
         readResults(buf, 0, buf.length, context);
+        CodecMetricsRegistry.encoded(getClass(), length, buf.length, start);
         return buf;
     }
 
@@ -966,4 +973,87 @@ public abstract class BaseNCodec implements BinaryEncoder, BinaryDecoder {
         }
         return context.eof ? EOF : 0;
     }
+
+    /**
+     * Validates the remaining bytes of a buffer without decoding them, for the subclasses that publish validation.
+     *
+     * @param buffer The buffer to validate.
+     * @return The validation result, offsets are relative to the buffer's position.
+     */
+    ValidationResult validate(final ByteBuffer buffer) {
+        Objects.requireNonNull(buffer, "buffer");
+        final int position = buffer.position();
+        if (buffer.hasArray()) {
+            final byte[] array = buffer.array();
+            final int offset = buffer.arrayOffset() + position;
+            return validate(i -> array[offset + i] & MASK_8BITS, buffer.remaining());
+        }
+        return validate(i -> buffer.get(position + i) & MASK_8BITS, buffer.remaining());
+    }
+
+    /**
+     * Validates characters without decoding them, for the subclasses that publish validation.
+     *
+     * @param chars The characters to validate.
+     * @return The validation result.
+     */
+    ValidationResult validate(final CharSequence chars) {
+        Objects.requireNonNull(chars, "chars");
+        return validate(chars::charAt, chars.length());
+    }
+
+    /**
+     * Validates input in one pass over the decode table.
+     * <p>
+     * This implementation is for codecs where each character carries the same number of bits, that is, an encoded block of {@code n} characters decodes to
+     * {@code n * bits / 8} bytes, as in Base32 and Base64. Subclasses override this method for other schemes.
+     * </p>
+     *
+     * @param input  Gets the unsigned byte or char value at an index.
+     * @param length The input length.
+     * @return The validation result.
+     */
+    ValidationResult validate(final IntUnaryOperator input, final int length) {
+        final int bitsPerChar = unencodedBlockSize * Byte.SIZE / encodedBlockSize;
+        final int padValue = pad & MASK_8BITS;
+        long chars = 0;
+        long pads = 0;
+        int lastValue = 0;
+        int lastOffset = -1;
+        for (int i = 0; i < length; i++) {
+            final int value = input.applyAsInt(i);
+            final int decoded = decodeValue(value);
+            if (decoded >= 0 && pads == 0) {
+                chars++;
+                lastValue = decoded;
+                lastOffset = i;
+            } else if (value == padValue) {
+                pads++;
+            } else if (!Character.isWhitespace(value)) {
+                // Not in the alphabet, or data after padding
+                return ValidationResult.invalid(i);
+            }
+        }
+        final long bits = chars * bitsPerChar;
+        final int discardedBits = (int) (bits % Byte.SIZE);
+        // A final character must contribute to a byte and must not carry bits that decoding would discard
+        if (discardedBits >= bitsPerChar || (lastValue & (1 << discardedBits) - 1) != 0) {
+            return ValidationResult.invalid(lastOffset);
+        }
+        final long partial = chars % encodedBlockSize;
+        return ValidationResult.valid(bits / Byte.SIZE, pads == (partial == 0 ? 0 : encodedBlockSize - partial));
+    }
+
+    /**
+     * Decodes one byte or char value through the decode table.
+     *
+     * @param value The unsigned byte or char value.
+     * @return The decoded value or -1 if the value is not in the alphabet.
+     */
+    private int decodeValue(final int value) {
+        if (decodeTable != null) {
+            return value < decodeTable.length ? decodeTable[value] : -1;
+        }
+        return value <= MASK_8BITS && isInAlphabet((byte) value) ? 0 : -1;
+    }
 }
@@ -17,6 +17,8 @@
 
 package org.apache.commons.codec.binary;
 
+import java.nio.ByteBuffer;
+
 import org.apache.commons.codec.BinaryDecoder;
 import org.apache.commons.codec.BinaryEncoder;
 import org.apache.commons.codec.DecoderException;
@@ -45,31 +47,46 @@ public class BinaryCodec implements BinaryDecoder, BinaryEncoder {
     /** Empty byte array. */
     private static final byte[] EMPTY_BYTE_ARRAY = {};
 
-    /** Mask for bit 0 of a byte. */
-    private static final int BIT_0 = 1;
-
-    /** Mask for bit 1 of a byte. */
-    private static final int BIT_1 = 0x02;
-
-    /** Mask for bit 2 of a byte. */
-    private static final int BIT_2 = 0x04;
+    /** Eight ASCII '1' bytes packed in a long. */
+    private static final long ASCII_ONES = 0x3131313131313131L;
 
-    /** Mask for bit 3 of a byte. */
-    private static final int BIT_3 = 0x08;
+    /** Masks the low 7 bits of each byte of a long. */
+    private static final long LOW_7_BITS = 0x7F7F7F7F7F7F7F7FL;
 
-    /** Mask for bit 4 of a byte. */
-    private static final int BIT_4 = 0x10;
+    /** Multiplier that gathers the low bit of each byte of a long into the top byte, first byte first. */
+    private static final long GATHER_BITS = 0x0102040810204080L;
 
-    /** Mask for bit 5 of a byte. */
-    private static final int BIT_5 = 0x20;
+    /** The eight ASCII '0' and '1' bytes of each byte value, most significant bit first, packed big-endian in a long. */
+    private static final long[] ASCII_LONGS = new long[256];
 
-    /** Mask for bit 6 of a byte. */
-    private static final int BIT_6 = 0x40;
+    /** The eight '0' and '1' characters of each byte value, most significant bit first, in consecutive runs of eight. */
+    private static final char[] ASCII_CHARS = new char[256 * Byte.SIZE];
 
-    /** Mask for bit 7 of a byte. */
-    private static final int BIT_7 = 0x80;
+    static {
+        for (int value = 0; value < ASCII_LONGS.length; value++) {
+            long ascii = 0;
+            for (int bit = Byte.SIZE - 1; bit >= 0; bit--) {
+                final char c = (value >> bit & 1) == 0 ? '0' : '1';
+                ascii = ascii << Byte.SIZE | c;
+                ASCII_CHARS[value * Byte.SIZE + Byte.SIZE - 1 - bit] = c;
+            }
+            ASCII_LONGS[value] = ascii;
+        }
+    }
 
-    private static final int[] BITS = { BIT_0, BIT_1, BIT_2, BIT_3, BIT_4, BIT_5, BIT_6, BIT_7 };
+    /**
+     * Checks that a range is within the bounds of an array.
+     *
+     * @param fromIndex The start of the range.
+     * @param size      The size of the range.
+     * @param length    The length of the array.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    static void checkFromIndexSize(final int fromIndex, final int size, final int length) {
+        if ((length | fromIndex | size) < 0 || size > length - fromIndex) {
+            throw new IndexOutOfBoundsException(String.format("Range [%,d, %<,d + %,d) out of bounds for length %,d", fromIndex, size, length));
+        }
+    }
 
     /**
      * Decodes a byte array where each byte represents an ASCII '0' or '1'.
@@ -81,22 +98,61 @@ public class BinaryCodec implements BinaryDecoder, BinaryEncoder {
         if (isEmpty(ascii)) {
             return EMPTY_BYTE_ARRAY;
         }
-        final int asciiLength = ascii.length;
+        return fromAscii(ascii, 0, ascii.length);
+    }
+
+    /**
+     * Decodes a range of a byte array where each byte represents an ASCII '0' or '1'.
+     * <p>
+     * Like {@link #fromAscii(byte[])}, the last eight bytes of the range decode to the first byte of the result and extra leading bytes are ignored. Any
+     * byte other than '1' decodes to a zero bit.
+     * </p>
+     *
+     * @param ascii  each byte represents an ASCII '0' or '1'.
+     * @param offset The offset of the first byte to decode.
+     * @param length The number of bytes to decode.
+     * @return The raw encoded binary where each bit corresponds to a byte in the byte array range.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     * @since 1.23.0
+     */
+    public static byte[] fromAscii(final byte[] ascii, final int offset, final int length) {
+        checkFromIndexSize(offset, length, ascii.length);
+        if (length < Byte.SIZE) {
+            return EMPTY_BYTE_ARRAY;
+        }
         // get length/8 times bytes with 3 bit shifts to the right of the length
-        final byte[] raw = new byte[asciiLength >> 3];
-        /*
-         * We decr index jj by 8 as we go along to not recompute indices using multiplication every time inside the loop.
-         */
-        for (int ii = 0, jj = asciiLength - 1; ii < raw.length; ii++, jj -= 8) {
-            for (int bits = 0; bits < BITS.length; ++bits) {
-                if (ascii[jj - bits] == '1') {
-                    raw[ii] |= BITS[bits];
-                }
-            }
+        final byte[] raw = new byte[length >> 3];
+        final ByteBuffer buffer = ByteBuffer.wrap(ascii);
+        for (int ii = 0, jj = offset + length - Byte.SIZE; ii < raw.length; ii++, jj -= Byte.SIZE) {
+            raw[ii] = fromAsciiLong(buffer.getLong(jj));
         }
         return raw;
     }
 
+    /**
+     * Decodes a byte buffer where each byte represents an ASCII '0' or '1'.
+     * <p>
+     * All bytes identified by {@link ByteBuffer#remaining()} will be used; after this method the value {@link ByteBuffer#remaining() remaining()} will be
+     * zero.
+     * </p>
+     *
+     * @param ascii each byte represents an ASCII '0' or '1'.
+     * @return The raw encoded binary where each bit corresponds to a byte in the byte buffer.
+     * @see #fromAscii(byte[], int, int)
+     * @since 1.23.0
+     */
+    public static byte[] fromAscii(final ByteBuffer ascii) {
+        final int remaining = ascii.remaining();
+        if (ascii.hasArray()) {
+            final byte[] raw = fromAscii(ascii.array(), ascii.arrayOffset() + ascii.position(), remaining);
+            ascii.position(ascii.limit());
+            return raw;
+        }
+        final byte[] array = new byte[remaining];
+        ascii.get(array);
+        return fromAscii(array, 0, remaining);
+    }
+
     /**
      * Decodes a char array where each char represents an ASCII '0' or '1'.
      *
@@ -107,22 +163,57 @@ public class BinaryCodec implements BinaryDecoder, BinaryEncoder {
         if (ascii == null || ascii.length == 0) {
             return EMPTY_BYTE_ARRAY;
         }
-        final int asciiLength = ascii.length;
+        return fromAscii(ascii, 0, ascii.length);
+    }
+
+    /**
+     * Decodes a range of a char array where each char represents an ASCII '0' or '1'.
+     * <p>
+     * Like {@link #fromAscii(char[])}, the last eight chars of the range decode to the first byte of the result and extra leading chars are ignored. Any
+     * char other than '1' decodes to a zero bit.
+     * </p>
+     *
+     * @param ascii  each char represents an ASCII '0' or '1'.
+     * @param offset The offset of the first char to decode.
+     * @param length The number of chars to decode.
+     * @return The raw encoded binary where each bit corresponds to a char in the char array range.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     * @since 1.23.0
+     */
+    public static byte[] fromAscii(final char[] ascii, final int offset, final int length) {
+        checkFromIndexSize(offset, length, ascii.length);
+        if (length < Byte.SIZE) {
+            return EMPTY_BYTE_ARRAY;
+        }
         // get length/8 times bytes with 3 bit shifts to the right of the length
-        final byte[] raw = new byte[asciiLength >> 3];
-        /*
-         * We decr index jj by 8 as we go along to not recompute indices using multiplication every time inside the loop.
-         */
-        for (int ii = 0, jj = asciiLength - 1; ii < raw.length; ii++, jj -= 8) {
-            for (int bits = 0; bits < BITS.length; ++bits) {
-                if (ascii[jj - bits] == '1') {
-                    raw[ii] |= BITS[bits];
-                }
+        final byte[] raw = new byte[length >> 3];
+        for (int ii = 0, jj = offset + length - Byte.SIZE; ii < raw.length; ii++, jj -= Byte.SIZE) {
+            int bits = 0;
+            for (int i = jj; i < jj + Byte.SIZE; i++) {
+                // (c ^ '1') - 1 is negative only for '1'
+                bits = bits << 1 | ((ascii[i] ^ '1') - 1) >>> 31;
             }
+            raw[ii] = (byte) bits;
         }
         return raw;
     }
 
+    /**
+     * Decodes eight ASCII bytes packed big-endian in a long, the first byte being the most significant bit.
+     * <p>
+     * Each byte equal to '1' is detected without branches, any other byte decodes to a zero bit.
+     * </p>
+     *
+     * @param ascii Eight ASCII bytes.
+     * @return The decoded byte.
+     */
+    static byte fromAsciiLong(final long ascii) {
+        final long diff = ascii ^ ASCII_ONES;
+        // Sets the high bit of each byte that is zero in diff, that is each '1'
+        final long ones = ~((diff & LOW_7_BITS) + LOW_7_BITS | diff | LOW_7_BITS);
+        return (byte) ((ones >>> 7) * GATHER_BITS >>> 56);
+    }
+
     /**
      * Returns {@code true} if the given array is {@code null} or empty (size 0.)
      *
@@ -144,24 +235,60 @@ public class BinaryCodec implements BinaryDecoder, BinaryEncoder {
         if (isEmpty(raw)) {
             return EMPTY_BYTE_ARRAY;
         }
-        final int rawLength = raw.length;
+        return toAsciiBytes(raw, 0, raw.length);
+    }
+
+    /**
+     * Converts a range of raw binary data into an array of ASCII 0 and 1 character bytes - each byte is a truncated char.
+     * <p>
+     * Like {@link #toAsciiBytes(byte[])}, the first byte of the range is converted to the last eight bytes of the result.
+     * </p>
+     *
+     * @param raw    The raw binary data to convert.
+     * @param offset The offset of the first byte to convert.
+     * @param length The number of bytes to convert.
+     * @return An array of 0 and 1 character bytes for each bit of the range.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     * @since 1.23.0
+     */
+    public static byte[] toAsciiBytes(final byte[] raw, final int offset, final int length) {
+        checkFromIndexSize(offset, length, raw.length);
+        if (length == 0) {
+            return EMPTY_BYTE_ARRAY;
+        }
         // get 8 times the bytes with 3 bit shifts to the left of the length
-        final byte[] ascii = new byte[rawLength << 3];
-        /*
-         * We decr index jj by 8 as we go along to not recompute indices using multiplication every time inside the loop.
-         */
-        for (int ii = 0, jj = ascii.length - 1; ii < rawLength; ii++, jj -= 8) {
-            for (int bits = 0; bits < BITS.length; ++bits) {
-                if ((raw[ii] & BITS[bits]) == 0) {
-                    ascii[jj - bits] = '0';
-                } else {
-                    ascii[jj - bits] = '1';
-                }
-            }
+        final byte[] ascii = new byte[length << 3];
+        final ByteBuffer buffer = ByteBuffer.wrap(ascii);
+        for (int ii = offset, jj = ascii.length - Byte.SIZE; jj >= 0; ii++, jj -= Byte.SIZE) {
+            buffer.putLong(jj, toAsciiLong(raw[ii]));
         }
         return ascii;
     }
 
+    /**
+     * Converts a byte buffer of raw binary data into an array of ASCII 0 and 1 character bytes - each byte is a truncated char.
+     * <p>
+     * All bytes identified by {@link ByteBuffer#remaining()} will be used; after this method the value {@link ByteBuffer#remaining() remaining()} will be
+     * zero.
+     * </p>
+     *
+     * @param raw The raw binary data to convert.
+     * @return An array of 0 and 1 character bytes for each bit of the argument.
+     * @see #toAsciiBytes(byte[], int, int)
+     * @since 1.23.0
+     */
+    public static byte[] toAsciiBytes(final ByteBuffer raw) {
+        final int remaining = raw.remaining();
+        if (raw.hasArray()) {
+            final byte[] ascii = toAsciiBytes(raw.array(), raw.arrayOffset() + raw.position(), remaining);
+            raw.position(raw.limit());
+            return ascii;
+        }
+        final byte[] array = new byte[remaining];
+        raw.get(array);
+        return toAsciiBytes(array, 0, remaining);
+    }
+
     /**
      * Converts an array of raw binary data into an array of ASCII 0 and 1 characters.
      *
@@ -173,24 +300,45 @@ public class BinaryCodec implements BinaryDecoder, BinaryEncoder {
         if (isEmpty(raw)) {
             return EMPTY_CHAR_ARRAY;
         }
-        final int rawLength = raw.length;
+        return toAsciiChars(raw, 0, raw.length);
+    }
+
+    /**
+     * Converts a range of raw binary data into an array of ASCII 0 and 1 characters.
+     * <p>
+     * Like {@link #toAsciiChars(byte[])}, the first byte of the range is converted to the last eight characters of the result.
+     * </p>
+     *
+     * @param raw    The raw binary data to convert.
+     * @param offset The offset of the first byte to convert.
+     * @param length The number of bytes to convert.
+     * @return An array of 0 and 1 characters for each bit of the range.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     * @since 1.23.0
+     */
+    public static char[] toAsciiChars(final byte[] raw, final int offset, final int length) {
+        checkFromIndexSize(offset, length, raw.length);
+        if (length == 0) {
+            return EMPTY_CHAR_ARRAY;
+        }
         // get 8 times the bytes with 3 bit shifts to the left of the length
-        final char[] ascii = new char[rawLength << 3];
-        /*
-         * We decr index jj by 8 as we go along to not recompute indices using multiplication every time inside the loop.
-         */
-        for (int ii = 0, jj = ascii.length - 1; ii < rawLength; ii++, jj -= 8) {
-            for (int bits = 0; bits < BITS.length; ++bits) {
-                if ((raw[ii] & BITS[bits]) == 0) {
-                    ascii[jj - bits] = '0';
-                } else {
-                    ascii[jj - bits] = '1';
-                }
-            }
+        final char[] ascii = new char[length << 3];
+        for (int ii = offset, jj = ascii.length - Byte.SIZE; jj >= 0; ii++, jj -= Byte.SIZE) {
+            System.arraycopy(ASCII_CHARS, (raw[ii] & 0xff) << 3, ascii, jj, Byte.SIZE);
         }
         return ascii;
     }
 
+    /**
+     * Converts a byte to eight ASCII '0' and '1' bytes packed big-endian in a long, the most significant bit first.
+     *
+     * @param raw The byte to convert.
+     * @return Eight ASCII bytes.
+     */
+    static long toAsciiLong(final byte raw) {
+        return ASCII_LONGS[raw & 0xff];
+    }
+
     /**
      * Converts an array of raw binary data into a String of ASCII 0 and 1 characters.
      *
@@ -199,7 +347,7 @@ public class BinaryCodec implements BinaryDecoder, BinaryEncoder {
      * @see org.apache.commons.codec.BinaryEncoder#encode(byte[])
      */
     public static String toAsciiString(final byte[] raw) {
-        return new String(toAsciiChars(raw));
+        return StringUtils.newStringIso8859_1(toAsciiBytes(raw));
     }
 
     /**
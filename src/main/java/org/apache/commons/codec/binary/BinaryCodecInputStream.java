@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.codec.binary;
+
+import static org.apache.commons.codec.binary.BaseNCodec.EOF;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Provides ASCII '0' and '1' decoding in a streaming fashion (unlimited size).
+ * <p>
+ * The default behavior of the BinaryCodecInputStream is to DECODE, whereas the default behavior of the {@link BinaryCodecOutputStream} is to ENCODE, but this
+ * behavior can be overridden by using a different constructor.
+ * </p>
+ * <p>
+ * The stream produces the same bytes as {@link BinaryCodec#toAsciiBytes(byte[])} and {@link BinaryCodec#fromAscii(byte[])} applied to the whole underlying
+ * stream: the first byte is converted to the last eight ASCII bytes, and when decoding, extra leading ASCII bytes are ignored. Since the last byte is converted
+ * first, this implementation accumulates data internally until EOF is signaled, at which point the entire input is converted, as {@link Base58InputStream}
+ * does.
+ * </p>
+ *
+ * @see BinaryCodec
+ * @see BinaryCodecOutputStream
+ * @since 1.23.0
+ */
+public class BinaryCodecInputStream extends FilterInputStream {
+
+    private final boolean doEncode;
+    private final byte[] singleByte = new byte[1];
+
+    /** The bytes read from the underlying stream, converted at EOF. */
+    private byte[] buffer;
+    private int bufferLength;
+
+    /** The converted bytes, null before EOF. */
+    private byte[] results;
+    private int resultsPos;
+
+    /**
+     * Constructs a BinaryCodecInputStream such that all data read is decoded from ASCII '0' and '1' bytes from the original provided InputStream.
+     *
+     * @param inputStream InputStream to wrap.
+     */
+    public BinaryCodecInputStream(final InputStream inputStream) {
+        this(inputStream, false);
+    }
+
+    /**
+     * Constructs a BinaryCodecInputStream such that all data read is either encoded to or decoded from ASCII '0' and '1' bytes from the original provided
+     * InputStream.
+     *
+     * @param inputStream InputStream to wrap.
+     * @param encode      true if we should encode all data read from us, false if we should decode.
+     */
+    public BinaryCodecInputStream(final InputStream inputStream, final boolean encode) {
+        super(inputStream);
+        this.doEncode = encode;
+        this.buffer = new byte[doEncode ? 4096 : 8192];
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@code 0} if the converted data has been read to the end, a positive number otherwise.
+     * @throws IOException if an I/O error occurs.
+     */
+    @Override
+    public int available() throws IOException {
+        return results != null ? results.length - resultsPos : 1;
+    }
+
+    /**
+     * Reads the underlying stream to its end and converts it, the first time this method is called.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    private void fill() throws IOException {
+        if (results != null) {
+            return;
+        }
+        int read;
+        while ((read = in.read(buffer, bufferLength, buffer.length - bufferLength)) != EOF) {
+            bufferLength += read;
+            if (bufferLength == buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+        }
+        results = doEncode ? BinaryCodec.toAsciiBytes(buffer, 0, bufferLength) : BinaryCodec.fromAscii(buffer, 0, bufferLength);
+        buffer = null;
+    }
+
+    /**
+     * Marks the current position in this input stream.
+     * <p>
+     * The {@link #mark} method of {@link BinaryCodecInputStream} does nothing.
+     * </p>
+     *
+     * @param readLimit The maximum limit of bytes that can be read before the mark position becomes invalid.
+     * @see #markSupported()
+     */
+    @Override
+    public synchronized void mark(final int readLimit) {
+        // noop
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return Always returns {@code false}.
+     */
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    /**
+     * Reads one {@code byte} from this input stream.
+     *
+     * @return The byte as an integer in the range 0 to 255. Returns -1 if EOF has been reached.
+     * @throws IOException Thrown if an I/O error occurs.
+     */
+    @Override
+    public int read() throws IOException {
+        return read(singleByte, 0, 1) == EOF ? EOF : singleByte[0] & 0xff;
+    }
+
+    /**
+     * Attempts to read {@code len} bytes into the specified {@code b} array starting at {@code offset} from this InputStream.
+     * <p>
+     * The first read reads the underlying stream to its end.
+     * </p>
+     *
+     * @param array  destination byte array.
+     * @param offset where to start writing the bytes.
+     * @param len    maximum number of bytes to read.
+     * @return number of bytes read, or -1 at the end of the stream.
+     * @throws IOException               if an I/O error occurs.
+     * @throws NullPointerException      if the byte array parameter is null.
+     * @throws IndexOutOfBoundsException if offset, len or buffer size are invalid.
+     */
+    @Override
+    public int read(final byte[] array, final int offset, final int len) throws IOException {
+        Objects.requireNonNull(array, "array");
+        BinaryCodec.checkFromIndexSize(offset, len, array.length);
+        if (len == 0) {
+            return 0;
+        }
+        fill();
+        if (resultsPos == results.length) {
+            return EOF;
+        }
+        final int read = Math.min(len, results.length - resultsPos);
+        System.arraycopy(results, resultsPos, array, offset, read);
+        resultsPos += read;
+        return read;
+    }
+
+    /**
+     * Repositions this stream to the position at the time the mark method was last called on this input stream.
+     * <p>
+     * The {@link #reset} method of {@link BinaryCodecInputStream} does nothing except throw an {@link IOException}.
+     * </p>
+     *
+     * @throws IOException Thrown if this method is invoked.
+     */
+    @Override
+    public synchronized void reset() throws IOException {
+        throw new IOException("mark/reset not supported");
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the provided skip length is negative.
+     * @throws IOException if an I/O error occurs.
+     */
+    @Override
+    public long skip(final long n) throws IOException {
+        if (n < 0) {
+            throw new IllegalArgumentException("Negative skip length: " + n);
+        }
+        if (n == 0) {
+            return 0;
+        }
+        fill();
+        final int skipped = (int) Math.min(n, results.length - resultsPos);
+        resultsPos += skipped;
+        return skipped;
+    }
+}
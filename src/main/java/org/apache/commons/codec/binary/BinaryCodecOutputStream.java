@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.codec.binary;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Provides ASCII '0' and '1' encoding in a streaming fashion (unlimited size).
+ * <p>
+ * The default behavior of the BinaryCodecOutputStream is to ENCODE, whereas the default behavior of the {@link BinaryCodecInputStream} is to DECODE. But this
+ * behavior can be overridden by using a different constructor.
+ * </p>
+ * <p>
+ * The stream writes the same bytes as {@link BinaryCodec#toAsciiBytes(byte[])} and {@link BinaryCodec#fromAscii(byte[])} applied to all the bytes written: the
+ * first byte is converted to the last eight ASCII bytes, and when decoding, extra leading ASCII bytes are ignored. Since the last byte is converted first, this
+ * implementation accumulates data internally until EOF is signaled by {@link #eof()} or {@link #close()}, at which point the entire input is converted and
+ * written, as {@link Base58OutputStream} does.
+ * </p>
+ *
+ * @see BinaryCodec
+ * @see BinaryCodecInputStream
+ * @since 1.23.0
+ */
+public class BinaryCodecOutputStream extends FilterOutputStream {
+
+    private final boolean doEncode;
+    private final byte[] singleByte = new byte[1];
+
+    /** The bytes written to this stream, converted at EOF; null after EOF. */
+    private byte[] buffer;
+    private int bufferLength;
+
+    /**
+     * Constructs a BinaryCodecOutputStream such that all data written is encoded to ASCII '0' and '1' bytes to the original provided OutputStream.
+     *
+     * @param outputStream OutputStream to wrap.
+     */
+    public BinaryCodecOutputStream(final OutputStream outputStream) {
+        this(outputStream, true);
+    }
+
+    /**
+     * Constructs a BinaryCodecOutputStream such that all data written is either encoded to or decoded from ASCII '0' and '1' bytes to the original provided
+     * OutputStream.
+     *
+     * @param outputStream OutputStream to wrap.
+     * @param encode       true if we should encode all data written to us, false if we should decode.
+     */
+    public BinaryCodecOutputStream(final OutputStream outputStream, final boolean encode) {
+        super(outputStream);
+        this.doEncode = encode;
+        this.buffer = new byte[doEncode ? 1024 : 8192];
+    }
+
+    /**
+     * Closes this output stream and releases any system resources associated with the stream.
+     * <p>
+     * To write the converted data without closing the stream, call {@link #eof()}.
+     * </p>
+     *
+     * @throws IOException Thrown if an I/O error occurs.
+     */
+    @Override
+    public void close() throws IOException {
+        eof();
+        flush();
+        out.close();
+    }
+
+    /**
+     * Signals the end of the data: converts all the bytes written and writes them to the underlying stream. Later writes are ignored.
+     *
+     * @throws IOException Thrown if an I/O error occurs.
+     */
+    public void eof() throws IOException {
+        if (buffer == null) {
+            return;
+        }
+        final byte[] results = doEncode ? BinaryCodec.toAsciiBytes(buffer, 0, bufferLength) : BinaryCodec.fromAscii(buffer, 0, bufferLength);
+        buffer = null;
+        out.write(results);
+    }
+
+    /**
+     * Writes {@code len} bytes from the specified {@code b} array starting at {@code offset} to this output stream.
+     *
+     * @param array  source byte array.
+     * @param offset where to start reading the bytes.
+     * @param len    maximum number of bytes to write.
+     * @throws IOException               if an I/O error occurs.
+     * @throws NullPointerException      if the byte array parameter is null.
+     * @throws IndexOutOfBoundsException if offset, len or buffer size are invalid.
+     */
+    @Override
+    public void write(final byte[] array, final int offset, final int len) throws IOException {
+        Objects.requireNonNull(array, "array");
+        BinaryCodec.checkFromIndexSize(offset, len, array.length);
+        if (buffer == null || len == 0) {
+            return;
+        }
+        if (len > buffer.length - bufferLength) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, bufferLength + len));
+        }
+        System.arraycopy(array, offset, buffer, bufferLength, len);
+        bufferLength += len;
+    }
+
+    /**
+     * Writes the specified {@code byte} to this output stream.
+     *
+     * @param b source byte.
+     * @throws IOException if an I/O error occurs.
+     */
+    @Override
+    public void write(final int b) throws IOException {
+        singleByte[0] = (byte) b;
+        write(singleByte, 0, 1);
+    }
+}
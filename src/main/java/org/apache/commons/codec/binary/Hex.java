@@ -18,12 +18,15 @@
 package org.apache.commons.codec.binary;
 
 import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.function.IntUnaryOperator;
 
 import org.apache.commons.codec.BinaryDecoder;
 import org.apache.commons.codec.BinaryEncoder;
 import org.apache.commons.codec.CharEncoding;
+import org.apache.commons.codec.CodecMetricsRegistry;
 import org.apache.commons.codec.DecoderException;
 import org.apache.commons.codec.EncoderException;
 
@@ -370,6 +373,25 @@ public class Hex implements BinaryEncoder, BinaryDecoder {
         return digit;
     }
 
+    /**
+     * Validates hexadecimal characters.
+     *
+     * @param input  Gets the char value at an index.
+     * @param length The input length.
+     * @return The validation result.
+     */
+    private static ValidationResult validate(final IntUnaryOperator input, final int length) {
+        for (int i = 0; i < length; i++) {
+            if (Character.digit(input.applyAsInt(i), 16) == -1) {
+                return ValidationResult.invalid(i);
+            }
+        }
+        if ((length & 0x01) != 0) {
+            return ValidationResult.invalid(length - 1);
+        }
+        return ValidationResult.valid(length >> 1, true);
+    }
+
     private final Charset charset;
 
     /**
@@ -414,7 +436,10 @@ public class Hex implements BinaryEncoder, BinaryDecoder {
      */
     @Override
     public byte[] decode(final byte[] array) throws DecoderException {
-        return decodeHex(new String(array, getCharset()).toCharArray());
+        final long start = CodecMetricsRegistry.start();
+        final byte[] result = decodeHex(new String(array, getCharset()).toCharArray());
+        CodecMetricsRegistry.decoded(getClass(), array.length, result.length, start);
+        return result;
     }
 
     /**
@@ -480,7 +505,10 @@ public class Hex implements BinaryEncoder, BinaryDecoder {
      */
     @Override
     public byte[] encode(final byte[] array) {
-        return encodeHexString(array).getBytes(getCharset());
+        final long start = CodecMetricsRegistry.start();
+        final byte[] result = encodeHexString(array).getBytes(getCharset());
+        CodecMetricsRegistry.encoded(getClass(), array.length, result.length, start);
+        return result;
     }
 
     /**
@@ -554,6 +582,15 @@ public class Hex implements BinaryEncoder, BinaryDecoder {
         return this.charset.name();
     }
 
+    /**
+     * Tests whether this instance's charset maps ASCII bytes to the same chars, as UTF-8, US-ASCII and ISO-8859-1 do.
+     *
+     * @return whether this instance's charset is ASCII compatible.
+     */
+    private boolean isAsciiCompatible() {
+        return StandardCharsets.UTF_8.equals(charset) || StandardCharsets.US_ASCII.equals(charset) || StandardCharsets.ISO_8859_1.equals(charset);
+    }
+
     /**
      * Returns a string representation of the object, which includes the charset name.
      *
@@ -563,4 +600,48 @@ public class Hex implements BinaryEncoder, BinaryDecoder {
     public String toString() {
         return super.toString() + "[charsetName=" + this.charset + "]";
     }
+
+    /**
+     * Validates the remaining bytes of a buffer as hexadecimal characters in this instance's charset without decoding them.
+     * <p>
+     * This method applies the same rules as {@link #decode(ByteBuffer)}: every character must be a hexadecimal digit and the number of characters must be
+     * even. ASCII bytes in an ASCII compatible charset are checked in place, other input is first converted to characters. The buffer's position, limit and
+     * mark are not changed.
+     * </p>
+     *
+     * @param buffer The buffer to validate.
+     * @return The validation result, offsets are character offsets relative to the buffer's position.
+     * @since 1.23.0
+     */
+    public ValidationResult validate(final ByteBuffer buffer) {
+        final ByteBuffer duplicate = buffer.duplicate();
+        if (isAsciiCompatible()) {
+            final int position = duplicate.position();
+            final int length = duplicate.remaining();
+            int i = 0;
+            while (i < length && duplicate.get(position + i) >= 0) {
+                i++;
+            }
+            if (i == length) {
+                return validate(index -> duplicate.get(position + index), length);
+            }
+        }
+        final CharBuffer chars = charset.decode(duplicate);
+        return validate(chars::charAt, chars.length());
+    }
+
+    /**
+     * Validates hexadecimal characters without decoding them.
+     * <p>
+     * This method applies the same rules as {@link #decodeHex(char[])}: every character must be a hexadecimal digit and the number of characters must be even.
+     * Hexadecimal has no padding, so a valid result always reports canonical padding.
+     * </p>
+     *
+     * @param chars The characters to validate.
+     * @return The validation result.
+     * @since 1.23.0
+     */
+    public ValidationResult validate(final CharSequence chars) {
+        return validate(chars::charAt, chars.length());
+    }
 }
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.codec.binary;
+
+/**
+ * Holds the result of validating encoded data without decoding it.
+ * <p>
+ * A result is either valid, in which case it knows how many bytes decoding would produce and whether the padding is canonical, or invalid, in which case it
+ * knows the offset of the first offending byte or character.
+ * </p>
+ * <p>
+ * This class is immutable and thread-safe.
+ * </p>
+ *
+ * @see Base16#validate(CharSequence)
+ * @see Base16#validate(java.nio.ByteBuffer)
+ * @see Base32#validate(CharSequence)
+ * @see Base32#validate(java.nio.ByteBuffer)
+ * @see Base58#validate(CharSequence)
+ * @see Base58#validate(java.nio.ByteBuffer)
+ * @see Base64#validate(CharSequence)
+ * @see Base64#validate(java.nio.ByteBuffer)
+ * @see Hex#validate(CharSequence)
+ * @see Hex#validate(java.nio.ByteBuffer)
+ * @since 1.23.0
+ */
+public final class ValidationResult {
+
+    /** The valid result for empty input. */
+    static final ValidationResult EMPTY = new ValidationResult(true, 0, -1, true);
+
+    /**
+     * Creates an invalid result.
+     *
+     * @param invalidOffset The offset of the first invalid byte or character.
+     * @return An invalid result.
+     */
+    static ValidationResult invalid(final int invalidOffset) {
+        return new ValidationResult(false, -1, invalidOffset, false);
+    }
+
+    /**
+     * Creates a valid result.
+     *
+     * @param decodedLength    The number of bytes decoding produces.
+     * @param canonicalPadding Whether the padding is canonical.
+     * @return A valid result.
+     */
+    static ValidationResult valid(final long decodedLength, final boolean canonicalPadding) {
+        return decodedLength == 0 && canonicalPadding ? EMPTY : new ValidationResult(true, decodedLength, -1, canonicalPadding);
+    }
+
+    private final boolean valid;
+    private final long decodedLength;
+    private final int invalidOffset;
+    private final boolean canonicalPadding;
+
+    private ValidationResult(final boolean valid, final long decodedLength, final int invalidOffset, final boolean canonicalPadding) {
+        this.valid = valid;
+        this.decodedLength = decodedLength;
+        this.invalidOffset = invalidOffset;
+        this.canonicalPadding = canonicalPadding;
+    }
+
+    /**
+     * Gets the number of bytes decoding the input produces.
+     *
+     * @return The number of bytes decoding the input produces, or -1 if the input is invalid.
+     */
+    public long getDecodedLength() {
+        return decodedLength;
+    }
+
+    /**
+     * Gets the offset of the first invalid byte or character, relative to the start of the input.
+     *
+     * @return The offset of the first invalid byte or character, or -1 if the input is valid.
+     */
+    public int getInvalidOffset() {
+        return invalidOffset;
+    }
+
+    /**
+     * Tests whether the input is padded the way an encoder pads its output: to a whole number of blocks, with no missing and no extra padding. Codecs that do
+     * not use padding always report canonical padding for valid input.
+     *
+     * @return {@code true} if the input is valid and its padding is canonical, {@code false} otherwise.
+     */
+    public boolean isCanonicalPadding() {
+        return canonicalPadding;
+    }
+
+    /**
+     * Tests whether the input is valid.
+     *
+     * @return {@code true} if the input is valid, {@code false} otherwise.
+     */
+    public boolean isValid() {
+        return valid;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[valid=%s, decodedLength=%,d, invalidOffset=%,d, canonicalPadding=%s]", getClass().getSimpleName(), valid, decodedLength,
+                invalidOffset, canonicalPadding);
+    }
+}
@@ -67,6 +67,120 @@ final class B64 {
         }
     }
 
+    /**
+     * Tests whether the given char is in the B64T set.
+     *
+     * @param ch The char to test.
+     * @return whether the char is in the B64T set.
+     */
+    static boolean isB64T(final char ch) {
+        return ch >= 'a' && ch <= 'z' || ch >= 'A' && ch <= 'Z' || ch >= '0' && ch <= '9' || ch == '.' || ch == '/';
+    }
+
+    /**
+     * Base64 like conversion of the bytes of a digest to ASCII chars, in the order given by a table.
+     *
+     * @param bytes
+     *            The digest.
+     * @param order
+     *            The indices of the bytes, in groups of three passed to {@link #b64from24bit(byte, byte, byte, int, StringBuilder)}; an index of -1 stands
+     *            for a zero byte that is not output, as in the last group of some digests.
+     * @param buffer
+     *            Where the output chars is appended to.
+     */
+    static void b64from24bit(final byte[] bytes, final int[] order, final StringBuilder buffer) {
+        for (int i = 0; i < order.length; i += 3) {
+            b64from24bit(byteAt(bytes, order[i]), byteAt(bytes, order[i + 1]), byteAt(bytes, order[i + 2]), charCount(order, i), buffer);
+        }
+    }
+
+    /**
+     * Converts ASCII chars back to the bytes of a digest, the reverse of {@link #b64from24bit(byte[], int[], StringBuilder)}.
+     *
+     * @param str
+     *            The string containing the chars.
+     * @param index
+     *            The index of the first char; the string must hold {@link #b64Length(int[])} chars from there.
+     * @param order
+     *            The indices of the bytes, as for {@link #b64from24bit(byte[], int[], StringBuilder)}.
+     * @param bytes
+     *            Where the bytes are stored.
+     * @return whether the chars are the exact output for some digest: all chars are in the B64T set and the bits beyond the output bytes are 0.
+     */
+    static boolean b64to24bit(final String str, final int index, final int[] order, final byte[] bytes) {
+        int c = index;
+        for (int i = 0; i < order.length; i += 3) {
+            final int outLen = charCount(order, i);
+            int w = 0;
+            for (int n = 0; n < outLen; n++) {
+                final int value = B64T_STRING.indexOf(str.charAt(c++));
+                if (value < 0) {
+                    return false;
+                }
+                w |= value << 6 * n;
+            }
+            if (w >>> 8 * (outLen - 1) != 0) {
+                return false;
+            }
+            for (int j = 2; j >= 0; j--) {
+                if (order[i + j] >= 0) {
+                    bytes[order[i + j]] = (byte) w;
+                }
+                w >>>= 8;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the number of chars output for a digest by {@link #b64from24bit(byte[], int[], StringBuilder)}.
+     *
+     * @param order
+     *            The indices of the bytes.
+     * @return The number of chars.
+     */
+    static int b64Length(final int[] order) {
+        int length = 0;
+        for (int i = 0; i < order.length; i += 3) {
+            length += charCount(order, i);
+        }
+        return length;
+    }
+
+    private static byte byteAt(final byte[] bytes, final int index) {
+        return index < 0 ? 0 : bytes[index];
+    }
+
+    /**
+     * Gets the number of chars output for a group of three byte indices: one more than the number of bytes.
+     */
+    private static int charCount(final int[] order, final int group) {
+        int count = 1;
+        for (int j = group; j < group + 3; j++) {
+            if (order[j] >= 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Counts the chars from the B64T set at the given index of a string, as used for the salt of a crypt hash.
+     *
+     * @param str  The string to scan.
+     * @param from The index to start at.
+     * @param max  The maximum number of chars to count.
+     * @return The number of consecutive B64T chars at {@code from}, at most {@code max}.
+     */
+    static int countB64T(final String str, final int from, final int max) {
+        final int end = Math.min(str.length(), from + max);
+        int i = from;
+        while (i < end && isB64T(str.charAt(i))) {
+            i++;
+        }
+        return i - from;
+    }
+
     /**
      * Generates a string of random chars from the B64T set.
      *
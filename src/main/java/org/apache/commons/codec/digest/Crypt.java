@@ -19,6 +19,14 @@ package org.apache.commons.codec.digest;
 import java.nio.charset.StandardCharsets;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * GNU libc crypt(3) compatible hash method.
@@ -156,6 +164,98 @@ public class Crypt {
         return crypt(key.getBytes(StandardCharsets.UTF_8), salt);
     }
 
+    /**
+     * Verifies a password against a stored crypt(3) hash value.
+     * <p>
+     * The algorithm is selected by the prefix of the hash value as in {@link #crypt(byte[], String)}, and the result is the same as
+     * {@code hash.equals(crypt(keyBytes, hash))}. The digests are compared in constant time, and no hash value is built.
+     * </p>
+     *
+     * @param keyBytes The plaintext password, not modified.
+     * @param hash     The stored hash value.
+     * @return whether the password matches the hash value; {@code false} if the hash value is {@code null} or malformed.
+     * @throws IllegalArgumentException Thrown if a {@link NoSuchAlgorithmException} is caught.
+     * @see Md5Crypt#verify(byte[], String)
+     * @see Sha2Crypt#verify(byte[], String)
+     * @see UnixCrypt#verify(byte[], String)
+     * @since 1.23.0
+     */
+    public static boolean verify(final byte[] keyBytes, final String hash) {
+        Objects.requireNonNull(keyBytes, "keyBytes");
+        if (hash == null) {
+            return false;
+        }
+        if (hash.startsWith(Sha2Crypt.SHA512_PREFIX) || hash.startsWith(Sha2Crypt.SHA256_PREFIX)) {
+            return Sha2Crypt.verify(keyBytes, hash);
+        }
+        if (hash.startsWith(Md5Crypt.MD5_PREFIX)) {
+            return Md5Crypt.verify(keyBytes, hash);
+        }
+        return UnixCrypt.verify(keyBytes, hash);
+    }
+
+    /**
+     * Verifies many passwords against their stored crypt(3) hash values concurrently, for example to audit or migrate a password database.
+     * <p>
+     * The algorithm of each hash value is selected as in {@link #crypt(byte[], String)}. At most {@code parallelism} threads verify the pairs; they are
+     * created for this call and stopped before it returns. A {@code null} or malformed hash value does not match.
+     * </p>
+     *
+     * @param keyBytes    The plaintext passwords, not modified.
+     * @param hashes      The stored hash values, one for each password.
+     * @param parallelism The maximum number of threads to use.
+     * @return For each password, whether it matches its hash value.
+     * @throws IllegalArgumentException Thrown if the arrays differ in length or {@code parallelism} is less than 1.
+     * @throws IllegalStateException    Thrown if the calling thread is interrupted while waiting.
+     * @since 1.23.0
+     */
+    public static boolean[] verifyAll(final byte[][] keyBytes, final String[] hashes, final int parallelism) {
+        Objects.requireNonNull(keyBytes, "keyBytes");
+        Objects.requireNonNull(hashes, "hashes");
+        if (keyBytes.length != hashes.length) {
+            throw new IllegalArgumentException("Passwords and hashes differ in length: " + keyBytes.length + " != " + hashes.length);
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1: " + parallelism);
+        }
+        final boolean[] results = new boolean[hashes.length];
+        final int threads = Math.min(parallelism, hashes.length);
+        if (threads <= 1) {
+            for (int i = 0; i < hashes.length; i++) {
+                results[i] = verify(keyBytes[i], hashes[i]);
+            }
+            return results;
+        }
+        final AtomicInteger next = new AtomicInteger();
+        final Callable<Void> worker = () -> {
+            for (int i = next.getAndIncrement(); i < hashes.length; i = next.getAndIncrement()) {
+                results[i] = verify(keyBytes[i], hashes[i]);
+            }
+            return null;
+        };
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (final Future<Void> future : executor.invokeAll(Collections.nCopies(threads, worker))) {
+                future.get();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (final ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        } finally {
+            executor.shutdownNow();
+        }
+        return results;
+    }
+
     /**
      * TODO Make private in 2.0.
      *
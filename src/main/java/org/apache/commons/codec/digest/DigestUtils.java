@@ -27,6 +27,7 @@ import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.OpenOption;
 import java.nio.file.Path;
+import java.security.DigestException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 
@@ -146,6 +147,23 @@ public class DigestUtils {
         return updateDigest(messageDigest, data).digest();
     }
 
+    /**
+     * Completes the hash computation into the given buffer, without allocating a result array, and resets the digest.
+     *
+     * @param messageDigest The digest to complete.
+     * @param result        The buffer receiving the digest, at least {@link MessageDigest#getDigestLength()} bytes long.
+     * @return The given buffer.
+     * @throws IllegalStateException Thrown if the buffer is too small.
+     */
+    static byte[] digestInto(final MessageDigest messageDigest, final byte[] result) {
+        try {
+            messageDigest.digest(result, 0, result.length);
+            return result;
+        } catch (final DigestException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     /**
      * Gets a {@code MessageDigest} for the given {@code algorithm}.
      *
@@ -17,11 +17,12 @@
 
 package org.apache.commons.codec.digest;
 
-import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.security.InvalidKeyException;
@@ -31,6 +32,7 @@ import java.security.NoSuchAlgorithmException;
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
 
+import org.apache.commons.codec.CodecMetricsRegistry;
 import org.apache.commons.codec.binary.Hex;
 import org.apache.commons.codec.binary.StringUtils;
 
@@ -52,13 +54,17 @@ import org.apache.commons.codec.binary.StringUtils;
  * HmacUtils hm1 = new HmacUtils("HmacAlgoName", key); // use a valid name here!
  * String hexPom = hm1.hmacHex(new File("pom.xml"));
  * String hexNot = hm1.hmacHex(new File("NOTICE.txt"));
+ * // Large files, read 1 MiB at a time
+ * HmacUtils hm2 = new HmacUtils(HMAC_SHA_256, key, 1024 * 1024);
+ * String hexPart = hm2.hmacHex(Paths.get("part-00001"));
  * </pre>
  *
  * @since 1.10
  */
 public final class HmacUtils {
 
-    private static final int STREAM_BUFFER_LENGTH = 1024;
+    /** The size of the buffer {@link #updateHmac(Mac, InputStream)} reads with, and the default size of the buffer an instance reads with. */
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
 
     /**
      * Returns an initialized {@link Mac} for the HmacMD5 algorithm.
@@ -686,6 +692,9 @@ public final class HmacUtils {
 
     /**
      * Resets and then updates the given {@link Mac} with the value.
+     * <p>
+     * The stream is read with an 8 KiB buffer; to choose the buffer size, use an instance created with {@link #HmacUtils(HmacAlgorithms, byte[], int)}.
+     * </p>
      *
      * @param mac           The initialized {@link Mac} to update.
      * @param valueToDigest The value to update the {@link Mac} with.
@@ -698,11 +707,11 @@ public final class HmacUtils {
      */
     public static Mac updateHmac(final Mac mac, final InputStream valueToDigest) throws IOException {
         mac.reset();
-        final byte[] buffer = new byte[STREAM_BUFFER_LENGTH];
-        int read = valueToDigest.read(buffer, 0, STREAM_BUFFER_LENGTH);
+        final byte[] buffer = new byte[DEFAULT_BUFFER_SIZE];
+        int read = valueToDigest.read(buffer, 0, DEFAULT_BUFFER_SIZE);
         while (read > -1) {
             mac.update(buffer, 0, read);
-            read = valueToDigest.read(buffer, 0, STREAM_BUFFER_LENGTH);
+            read = valueToDigest.read(buffer, 0, DEFAULT_BUFFER_SIZE);
         }
         return mac;
     }
@@ -723,6 +732,11 @@ public final class HmacUtils {
 
     private final Mac mac;
 
+    private final int bufferSize;
+
+    /** The direct buffer channels are read into, allocated on first use. */
+    private ByteBuffer channelBuffer;
+
     /**
      * Preserves binary compatibility only. As for previous versions does not provide useful behavior.
      *
@@ -745,6 +759,20 @@ public final class HmacUtils {
         this(algorithm.getName(), key);
     }
 
+    /**
+     * Creates an instance using the provided algorithm type and read buffer size.
+     *
+     * @param algorithm  to use.
+     * @param key        The key to use.
+     * @param bufferSize The size of the buffer the instance methods read streams, files and channels with; the static methods always read with 8 KiB.
+     * @throws IllegalArgumentException Thrown if a {@link NoSuchAlgorithmException} is caught or key is null or key is invalid or bufferSize is not
+     *                                  positive.
+     * @since 1.23.0
+     */
+    public HmacUtils(final HmacAlgorithms algorithm, final byte[] key, final int bufferSize) {
+        this(algorithm.getName(), key, bufferSize);
+    }
+
     /**
      * Creates an instance using the provided algorithm type.
      *
@@ -758,7 +786,15 @@ public final class HmacUtils {
     }
 
     private HmacUtils(final Mac mac) {
+        this(mac, DEFAULT_BUFFER_SIZE);
+    }
+
+    private HmacUtils(final Mac mac, final int bufferSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("bufferSize must be positive: " + bufferSize);
+        }
         this.mac = mac;
+        this.bufferSize = bufferSize;
     }
 
     /**
@@ -773,6 +809,20 @@ public final class HmacUtils {
         this(getInitializedMac(algorithm, key));
     }
 
+    /**
+     * Creates an instance using the provided algorithm type and read buffer size.
+     *
+     * @param algorithm  to use.
+     * @param key        The key to use.
+     * @param bufferSize The size of the buffer the instance methods read streams, files and channels with; the static methods always read with 8 KiB.
+     * @throws IllegalArgumentException Thrown if a {@link NoSuchAlgorithmException} is caught or key is null or key is invalid or bufferSize is not
+     *                                  positive.
+     * @since 1.23.0
+     */
+    public HmacUtils(final String algorithm, final byte[] key, final int bufferSize) {
+        this(getInitializedMac(algorithm, key), bufferSize);
+    }
+
     /**
      * Creates an instance using the provided algorithm type.
      *
@@ -793,7 +843,10 @@ public final class HmacUtils {
      * @since 1.11
      */
     public byte[] hmac(final byte[] valueToDigest) {
-        return mac.doFinal(valueToDigest);
+        final long start = CodecMetricsRegistry.start();
+        final byte[] result = mac.doFinal(valueToDigest);
+        CodecMetricsRegistry.digested(mac.getAlgorithm(), valueToDigest != null ? valueToDigest.length : 0, start);
+        return result;
     }
 
     /**
@@ -804,8 +857,12 @@ public final class HmacUtils {
      * @since 1.11
      */
     public byte[] hmac(final ByteBuffer valueToDigest) {
+        final long start = CodecMetricsRegistry.start();
+        final int length = valueToDigest.remaining();
         mac.update(valueToDigest);
-        return mac.doFinal();
+        final byte[] result = mac.doFinal();
+        CodecMetricsRegistry.digested(mac.getAlgorithm(), length, start);
+        return result;
     }
 
     /**
@@ -820,6 +877,21 @@ public final class HmacUtils {
         return hmac(valueToDigest.toPath());
     }
 
+    /**
+     * Returns the digest for the channel, from its current position to its end.
+     *
+     * @param valueToDigest The channel to use.
+     *                      <p>
+     *                      The FileChannel must not be null and will not be closed.
+     *                      </p>
+     * @return The digest.
+     * @throws IOException If an I/O error occurs.
+     * @since 1.23.0
+     */
+    public byte[] hmac(final FileChannel valueToDigest) throws IOException {
+        return hmac((ReadableByteChannel) valueToDigest);
+    }
+
     /**
      * Returns the digest for the stream.
      *
@@ -832,12 +904,17 @@ public final class HmacUtils {
      * @since 1.11
      */
     public byte[] hmac(final InputStream valueToDigest) throws IOException {
-        final byte[] buffer = new byte[STREAM_BUFFER_LENGTH];
+        final long start = CodecMetricsRegistry.start();
+        final byte[] buffer = new byte[bufferSize];
+        long length = 0;
         int read;
-        while ((read = valueToDigest.read(buffer, 0, STREAM_BUFFER_LENGTH)) > -1) {
+        while ((read = valueToDigest.read(buffer, 0, bufferSize)) > -1) {
+            length += read;
             mac.update(buffer, 0, read);
         }
-        return mac.doFinal();
+        final byte[] result = mac.doFinal();
+        CodecMetricsRegistry.digested(mac.getAlgorithm(), length, start);
+        return result;
     }
 
     /**
@@ -849,11 +926,40 @@ public final class HmacUtils {
      * @since 1.19.0
      */
     public byte[] hmac(final Path valueToDigest) throws IOException {
-        try (BufferedInputStream stream = new BufferedInputStream(Files.newInputStream(valueToDigest))) {
-            return hmac(stream);
+        try (ReadableByteChannel channel = Files.newByteChannel(valueToDigest)) {
+            return hmac(channel);
         }
     }
 
+    /**
+     * Returns the digest for the channel, from its current position to its end.
+     * <p>
+     * The channel is read into a direct buffer, reused by this instance, so that the channel does not go through a temporary direct buffer of its own.
+     * </p>
+     *
+     * @param valueToDigest The channel to use, not closed.
+     * @return The digest.
+     * @throws IOException If an I/O error occurs.
+     */
+    private byte[] hmac(final ReadableByteChannel valueToDigest) throws IOException {
+        final long start = CodecMetricsRegistry.start();
+        if (channelBuffer == null) {
+            channelBuffer = ByteBuffer.allocateDirect(bufferSize);
+        }
+        final ByteBuffer buffer = channelBuffer;
+        buffer.clear();
+        long length = 0;
+        while (valueToDigest.read(buffer) > -1) {
+            buffer.flip();
+            length += buffer.remaining();
+            mac.update(buffer);
+            buffer.clear();
+        }
+        final byte[] result = mac.doFinal();
+        CodecMetricsRegistry.digested(mac.getAlgorithm(), length, start);
+        return result;
+    }
+
     /**
      * Returns the digest for the input data.
      *
@@ -862,7 +968,7 @@ public final class HmacUtils {
      * @since 1.11
      */
     public byte[] hmac(final String valueToDigest) {
-        return mac.doFinal(StringUtils.getBytesUtf8(valueToDigest));
+        return hmac(StringUtils.getBytesUtf8(valueToDigest));
     }
 
     /**
@@ -899,6 +1005,21 @@ public final class HmacUtils {
         return Hex.encodeHexString(hmac(valueToDigest));
     }
 
+    /**
+     * Returns the digest for the channel, from its current position to its end.
+     *
+     * @param valueToDigest The channel to use.
+     *                      <p>
+     *                      The FileChannel must not be null and will not be closed.
+     *                      </p>
+     * @return The digest as a hexadecimal String.
+     * @throws IOException If an I/O error occurs.
+     * @since 1.23.0
+     */
+    public String hmacHex(final FileChannel valueToDigest) throws IOException {
+        return Hex.encodeHexString(hmac(valueToDigest));
+    }
+
     /**
      * Returns the digest for the stream.
      *
@@ -936,4 +1057,16 @@ public final class HmacUtils {
     public String hmacHex(final String valueToDigest) {
         return Hex.encodeHexString(hmac(valueToDigest));
     }
+
+    /**
+     * Resets the {@link Mac}, discarding the data of a digest that did not complete, for example because reading a stream failed. The key is kept, so the
+     * instance can be used again without initializing a new {@link Mac}.
+     *
+     * @return this instance.
+     * @since 1.23.0
+     */
+    public HmacUtils reset() {
+        mac.reset();
+        return this;
+    }
 }
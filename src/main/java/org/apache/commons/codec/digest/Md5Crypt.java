@@ -24,8 +24,6 @@ import java.security.SecureRandom;
 import java.util.Arrays;
 import java.util.Objects;
 import java.util.Random;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * The libc crypt() "$1$" and Apache "$apr1$" MD5-based hash algorithm.
@@ -54,6 +52,50 @@ import java.util.regex.Pattern;
  */
 public class Md5Crypt {
 
+    /**
+     * A hash value parsed for verification: the prefix, the salt and the digest.
+     */
+    private static final class ParsedHash {
+
+        /**
+         * Parses a hash value as produced by {@link Md5Crypt}.
+         *
+         * @param hash the hash value.
+         * @return the parsed hash value, or {@code null} if no password hashes to it.
+         */
+        private static ParsedHash parse(final String hash) {
+            final String prefix;
+            if (hash.startsWith(MD5_PREFIX)) {
+                prefix = MD5_PREFIX;
+            } else if (hash.startsWith(APR1_PREFIX)) {
+                prefix = APR1_PREFIX;
+            } else {
+                return null;
+            }
+            // the hash value must be exactly what md5Crypt produces
+            final int saltLength = B64.countB64T(hash, prefix.length(), SALT_LENGTH_MAX);
+            final int digestStart = prefix.length() + saltLength + 1;
+            final byte[] digest = new byte[BLOCKSIZE];
+            if (saltLength == 0 || hash.length() != digestStart + B64.b64Length(ORDER) || hash.charAt(digestStart - 1) != '$' ||
+                    !B64.b64to24bit(hash, digestStart, ORDER, digest)) {
+                return null;
+            }
+            return new ParsedHash(prefix, hash.substring(prefix.length(), prefix.length() + saltLength).getBytes(StandardCharsets.UTF_8), digest);
+        }
+
+        private final String prefix;
+
+        private final byte[] saltBytes;
+
+        private final byte[] digest;
+
+        private ParsedHash(final String prefix, final byte[] saltBytes, final byte[] digest) {
+            this.prefix = prefix;
+            this.saltBytes = saltBytes;
+            this.digest = digest;
+        }
+    }
+
     /** The Identifier of the Apache variant. */
     static final String APR1_PREFIX = "$apr1$";
 
@@ -63,9 +105,18 @@ public class Md5Crypt {
     /** The Identifier of this crypt() variant. */
     static final String MD5_PREFIX = "$1$";
 
+    /** The order in which the bytes of the final hash are encoded, three at a time. */
+    private static final int[] ORDER = { 0, 6, 12, 1, 7, 13, 2, 8, 14, 3, 9, 15, 4, 10, 5, -1, -1, 11 };
+
+    /** Hash values recently parsed by {@link #verify(byte[], String)}. */
+    private static final ParsedHashCache<ParsedHash> PARSED_HASHES = new ParsedHashCache<>();
+
     /** The number of rounds of the big loop. */
     private static final int ROUNDS = 1000;
 
+    /** The maximum length of the salt string. */
+    private static final int SALT_LENGTH_MAX = 8;
+
     /**
      * See {@link #apr1Crypt(byte[], String)} for details.
      * <p>
@@ -238,7 +289,6 @@ public class Md5Crypt {
      * @since 1.12
      */
     public static String md5Crypt(final byte[] keyBytes, final String salt, final String prefix, final Random random) {
-        final int keyLen = keyBytes.length;
         // Extract the real salt from the given string which can be a complete hash string.
         final String saltString;
         if (salt == null) {
@@ -248,14 +298,44 @@ public class Md5Crypt {
             if (prefix.length() < 3 || prefix.charAt(0) != '$' && prefix.charAt(prefix.length() - 1) != '$') {
                 throw new IllegalArgumentException("Invalid prefix value: " + prefix);
             }
-            final Pattern p = Pattern.compile("^" + prefix.replace("$", "\\$") + "([\\.\\/a-zA-Z0-9]{1,8}).*");
-            final Matcher m = p.matcher(salt);
-            if (!m.find()) {
+            // the prefix followed by 1 to 8 salt chars, anything may follow
+            final int saltLength = salt.startsWith(prefix) ? B64.countB64T(salt, prefix.length(), SALT_LENGTH_MAX) : 0;
+            if (saltLength == 0) {
                 throw new IllegalArgumentException("Invalid salt value: " + salt);
             }
-            saltString = m.group(1);
+            saltString = salt.substring(prefix.length(), prefix.length() + saltLength);
         }
         final byte[] saltBytes = saltString.getBytes(StandardCharsets.UTF_8);
+        final byte[] finalb = md5Digest(keyBytes, prefix, saltBytes);
+        /*
+         * Now make the output string
+         */
+        final StringBuilder passwd = new StringBuilder(prefix + saltString + "$");
+        // The following was nearly identical to the Sha2Crypt code.
+        // Again, the buflen is not really needed.
+        // int buflen = MD5_PREFIX.length() - 1 + salt_string.length() + 1 + BLOCKSIZE + 1;
+        B64.b64from24bit(finalb, ORDER, passwd);
+        /*
+         * Don't leave anything around in JVM they could use.
+         */
+        // Is there a better way to do this with the JVM?
+        Arrays.fill(keyBytes, (byte) 0);
+        Arrays.fill(saltBytes, (byte) 0);
+        Arrays.fill(finalb, (byte) 0);
+        return passwd.toString();
+    }
+
+    /**
+     * Computes the MD5-based digest of a libc6 crypt() "$1$" or Apache htpasswd "$apr1$" hash value.
+     *
+     * @param keyBytes  The plaintext bytes to hash, not modified.
+     * @param prefix    The salt prefix {@value #APR1_PREFIX}, {@value #MD5_PREFIX}.
+     * @param saltBytes The salt string, not modified.
+     * @return The digest, the caller should clear it when done.
+     * @throws IllegalArgumentException Thrown if a {@link NoSuchAlgorithmException} is caught.
+     */
+    private static byte[] md5Digest(final byte[] keyBytes, final String prefix, final byte[] saltBytes) {
+        final int keyLen = keyBytes.length;
         final MessageDigest messageDigestMd5 = DigestUtils.getMd5Digest();
         /*
          The password first, since that is what is most unknown
@@ -272,7 +352,7 @@ public class Md5Crypt {
         /*
          * Then just as many characters of the MD5(pw,salt,pw)
          */
-        MessageDigest altMessageDigestMd5 = DigestUtils.getMd5Digest();
+        final MessageDigest altMessageDigestMd5 = DigestUtils.getMd5Digest();
         altMessageDigestMd5.update(keyBytes);
         altMessageDigestMd5.update(saltBytes);
         altMessageDigestMd5.update(keyBytes);
@@ -299,17 +379,13 @@ public class Md5Crypt {
             }
             ii >>= 1;
         }
-        /*
-         * Now make the output string
-         */
-        final StringBuilder passwd = new StringBuilder(prefix + saltString + "$");
         finalb = messageDigestMd5.digest();
         /*
          * and now, just to make sure things don't run too fast On a 60 Mhz Pentium this takes 34 milliseconds, so you would need 30 seconds to build a 1000
          * entry dictionary...
          */
         for (int i = 0; i < ROUNDS; i++) {
-            altMessageDigestMd5 = DigestUtils.getMd5Digest();
+            altMessageDigestMd5.reset();
             if ((i & 1) != 0) {
                 altMessageDigestMd5.update(keyBytes);
             } else {
@@ -326,27 +402,42 @@ public class Md5Crypt {
             } else {
                 altMessageDigestMd5.update(keyBytes);
             }
-            finalb = altMessageDigestMd5.digest();
+            DigestUtils.digestInto(altMessageDigestMd5, finalb);
         }
-        // The following was nearly identical to the Sha2Crypt code.
-        // Again, the buflen is not really needed.
-        // int buflen = MD5_PREFIX.length() - 1 + salt_string.length() + 1 + BLOCKSIZE + 1;
-        B64.b64from24bit(finalb[0], finalb[6], finalb[12], 4, passwd);
-        B64.b64from24bit(finalb[1], finalb[7], finalb[13], 4, passwd);
-        B64.b64from24bit(finalb[2], finalb[8], finalb[14], 4, passwd);
-        B64.b64from24bit(finalb[3], finalb[9], finalb[15], 4, passwd);
-        B64.b64from24bit(finalb[4], finalb[10], finalb[5], 4, passwd);
-        B64.b64from24bit((byte) 0, (byte) 0, finalb[11], 2, passwd);
         /*
          * Don't leave anything around in JVM they could use.
          */
-        // Is there a better way to do this with the JVM?
         messageDigestMd5.reset();
         altMessageDigestMd5.reset();
-        Arrays.fill(keyBytes, (byte) 0);
-        Arrays.fill(saltBytes, (byte) 0);
-        Arrays.fill(finalb, (byte) 0);
-        return passwd.toString();
+        return finalb;
+    }
+
+    /**
+     * Verifies a password against a "$1$" or "$apr1$" hash value.
+     * <p>
+     * This is equivalent to {@code hash.equals(md5Crypt(keyBytes, hash, prefix))} for the prefix of the hash value, but compares the digests in constant time,
+     * without building a hash value. The most recently verified hash values are kept parsed, so repeated checks against the same hash value only compute the
+     * digest.
+     * </p>
+     *
+     * @param keyBytes The plaintext password, not modified.
+     * @param hash     The stored hash value.
+     * @return whether the password matches the hash value; {@code false} if the hash value is {@code null} or not a "$1$" or "$apr1$" hash value.
+     * @throws IllegalArgumentException Thrown if a {@link NoSuchAlgorithmException} is caught.
+     * @since 1.23.0
+     */
+    public static boolean verify(final byte[] keyBytes, final String hash) {
+        Objects.requireNonNull(keyBytes, "keyBytes");
+        final ParsedHash parsedHash = hash == null ? null : PARSED_HASHES.get(hash, ParsedHash::parse);
+        if (parsedHash == null) {
+            return false;
+        }
+        final byte[] digest = md5Digest(keyBytes, parsedHash.prefix, parsedHash.saltBytes);
+        try {
+            return MessageDigest.isEqual(digest, parsedHash.digest);
+        } finally {
+            Arrays.fill(digest, (byte) 0);
+        }
     }
 
     /**
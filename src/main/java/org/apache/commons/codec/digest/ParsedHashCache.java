@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.codec.digest;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Caches hash values parsed for verification, so that repeated checks against the same stored hash value parse it once.
+ * <p>
+ * The cache holds at most {@value #MAX_SIZE} entries and is cleared when full, which keeps it bounded without tracking usage. Values that fail to parse
+ * are not cached.
+ * </p>
+ * <p>
+ * This class is thread-safe.
+ * </p>
+ *
+ * @param <T> The type of parsed hash values.
+ */
+final class ParsedHashCache<T> {
+
+    /** The maximum number of cached hash values. */
+    static final int MAX_SIZE = 1024;
+
+    private final Map<String, T> map = new ConcurrentHashMap<>();
+
+    /**
+     * Gets a parsed hash value, parsing it if it is not cached.
+     *
+     * @param hash   The hash value.
+     * @param parser Parses a hash value, returning {@code null} if it is malformed.
+     * @return The parsed hash value, or {@code null} if it is malformed.
+     */
+    T get(final String hash, final Function<String, T> parser) {
+        T parsed = map.get(hash);
+        if (parsed == null) {
+            parsed = parser.apply(hash);
+            if (parsed != null) {
+                if (map.size() >= MAX_SIZE) {
+                    map.clear();
+                }
+                map.put(hash, parsed);
+            }
+        }
+        return parsed;
+    }
+}
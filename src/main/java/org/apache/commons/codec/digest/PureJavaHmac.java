@@ -0,0 +1,249 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.codec.digest;
+
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Objects;
+
+import org.apache.commons.codec.CodecMetricsRegistry;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.binary.StringUtils;
+
+/**
+ * A pure-Java implementation of HMAC (RFC 2104) over {@link MessageDigest}, and of Blake3 in keyed mode.
+ * <p>
+ * An instance hashes the inner and outer padded key blocks once, when it is created, and keeps the resulting digest states. Computing a MAC then clones
+ * these two states instead of initializing a {@link javax.crypto.Mac}, which saves two compression function calls per message. This pays off when many
+ * short messages are signed with the same key: create one instance per key and keep it.
+ * </p>
+ * <p>
+ * This class is immutable and thread-safe.
+ * </p>
+ *
+ * @see HmacUtils
+ * @since 1.23.0
+ */
+public final class PureJavaHmac {
+
+    private static final byte IPAD = 0x36;
+
+    private static final byte OPAD = 0x5c;
+
+    /** The algorithm name reported for the Blake3 keyed hash. */
+    private static final String KEYED_BLAKE3 = "KeyedBlake3";
+
+    /**
+     * Gets the block size of the digest an HMAC algorithm is built on.
+     *
+     * @param algorithm The HMAC algorithm.
+     * @return The block size in bytes.
+     */
+    private static int getBlockSize(final HmacAlgorithms algorithm) {
+        switch (algorithm) {
+        case HMAC_SHA_384:
+        case HMAC_SHA_512:
+            return 128;
+        default:
+            return 64;
+        }
+    }
+
+    /**
+     * Gets the name of the digest an HMAC algorithm is built on.
+     *
+     * @param algorithm The HMAC algorithm.
+     * @return The {@link MessageDigest} algorithm name.
+     */
+    private static String getDigestName(final HmacAlgorithms algorithm) {
+        switch (algorithm) {
+        case HMAC_MD5:
+            return MessageDigestAlgorithms.MD5;
+        case HMAC_SHA_1:
+            return MessageDigestAlgorithms.SHA_1;
+        case HMAC_SHA_224:
+            return MessageDigestAlgorithms.SHA_224;
+        case HMAC_SHA_256:
+            return MessageDigestAlgorithms.SHA_256;
+        case HMAC_SHA_384:
+            return MessageDigestAlgorithms.SHA_384;
+        case HMAC_SHA_512:
+            return MessageDigestAlgorithms.SHA_512;
+        default:
+            throw new IllegalArgumentException("Unsupported HMAC algorithm: " + algorithm);
+        }
+    }
+
+    /**
+     * Creates an instance computing HMAC with the given algorithm and key.
+     *
+     * @param algorithm The HMAC algorithm.
+     * @param key       The key, not empty.
+     * @return A new instance.
+     * @throws NullPointerException     if algorithm or key is null.
+     * @throws IllegalArgumentException if key is empty, or if the digest is not available or its state cannot be cloned.
+     */
+    public static PureJavaHmac getInstance(final HmacAlgorithms algorithm, final byte[] key) {
+        Objects.requireNonNull(algorithm, "algorithm");
+        Objects.requireNonNull(key, "key");
+        if (key.length == 0) {
+            // as for javax.crypto.spec.SecretKeySpec
+            throw new IllegalArgumentException("Empty key");
+        }
+        final int blockSize = getBlockSize(algorithm);
+        final MessageDigest inner = DigestUtils.getDigest(getDigestName(algorithm));
+        final byte[] pad = new byte[blockSize];
+        if (key.length > blockSize) {
+            final byte[] keyDigest = inner.digest(key);
+            System.arraycopy(keyDigest, 0, pad, 0, keyDigest.length);
+            Arrays.fill(keyDigest, (byte) 0);
+        } else {
+            System.arraycopy(key, 0, pad, 0, key.length);
+        }
+        try {
+            final MessageDigest outer = clone(inner);
+            for (int i = 0; i < blockSize; i++) {
+                pad[i] ^= IPAD;
+            }
+            inner.update(pad);
+            for (int i = 0; i < blockSize; i++) {
+                pad[i] ^= IPAD ^ OPAD;
+            }
+            outer.update(pad);
+            // fail here rather than on the first message if the provider's digests cannot be cloned
+            return new PureJavaHmac(algorithm.getName(), clone(inner), clone(outer), null);
+        } finally {
+            Arrays.fill(pad, (byte) 0);
+        }
+    }
+
+    /**
+     * Creates an instance computing the Blake3 keyed hash with the given key, as an alternative to HMAC. The MACs are 32 bytes long.
+     *
+     * @param key The 32-byte key.
+     * @return A new instance.
+     * @throws NullPointerException     if key is null.
+     * @throws IllegalArgumentException if key is not 32 bytes.
+     * @see Blake3#initKeyedHash(byte[])
+     */
+    public static PureJavaHmac getKeyedBlake3Instance(final byte[] key) {
+        // checks the key
+        Blake3.initKeyedHash(key);
+        return new PureJavaHmac(KEYED_BLAKE3, null, null, key.clone());
+    }
+
+    private static MessageDigest clone(final MessageDigest messageDigest) {
+        try {
+            return (MessageDigest) messageDigest.clone();
+        } catch (final CloneNotSupportedException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    /** The algorithm name, for {@link CodecMetricsRegistry}. */
+    private final String algorithm;
+
+    /** The digest state after the inner padded key block, never updated after construction; null in Blake3 mode. */
+    private final MessageDigest inner;
+
+    /** The digest state after the outer padded key block, never updated after construction; null in Blake3 mode. */
+    private final MessageDigest outer;
+
+    /** The Blake3 key; null in HMAC mode. */
+    private final byte[] blake3Key;
+
+    private PureJavaHmac(final String algorithm, final MessageDigest inner, final MessageDigest outer, final byte[] blake3Key) {
+        this.algorithm = algorithm;
+        this.inner = inner;
+        this.outer = outer;
+        this.blake3Key = blake3Key;
+    }
+
+    /**
+     * Gets the length of the MACs this instance computes.
+     *
+     * @return The MAC length in bytes.
+     */
+    public int getMacLength() {
+        return blake3Key != null ? 32 : outer.getDigestLength();
+    }
+
+    /**
+     * Computes the MAC of the given data.
+     *
+     * @param data The data.
+     * @return The MAC.
+     */
+    public byte[] hmac(final byte[] data) {
+        return hmac(data, 0, data.length);
+    }
+
+    /**
+     * Computes the MAC of the given part of an array.
+     *
+     * @param data   The data.
+     * @param offset The offset of the first byte.
+     * @param length The number of bytes.
+     * @return The MAC.
+     */
+    public byte[] hmac(final byte[] data, final int offset, final int length) {
+        final long start = CodecMetricsRegistry.start();
+        final byte[] result;
+        if (blake3Key != null) {
+            result = Blake3.initKeyedHash(blake3Key).update(data, offset, length).doFinalize(32);
+        } else {
+            final MessageDigest innerDigest = clone(inner);
+            innerDigest.update(data, offset, length);
+            final MessageDigest outerDigest = clone(outer);
+            outerDigest.update(innerDigest.digest());
+            result = outerDigest.digest();
+        }
+        CodecMetricsRegistry.digested(algorithm, length, start);
+        return result;
+    }
+
+    /**
+     * Computes the MAC of the given data as UTF-8.
+     *
+     * @param data The data.
+     * @return The MAC.
+     */
+    public byte[] hmac(final String data) {
+        return hmac(StringUtils.getBytesUtf8(data));
+    }
+
+    /**
+     * Computes the MAC of the given data.
+     *
+     * @param data The data.
+     * @return The MAC as a hexadecimal String.
+     */
+    public String hmacHex(final byte[] data) {
+        return Hex.encodeHexString(hmac(data));
+    }
+
+    /**
+     * Computes the MAC of the given data as UTF-8.
+     *
+     * @param data The data.
+     * @return The MAC as a hexadecimal String.
+     */
+    public String hmacHex(final String data) {
+        return Hex.encodeHexString(hmac(data));
+    }
+}
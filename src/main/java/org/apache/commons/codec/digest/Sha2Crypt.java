@@ -21,9 +21,8 @@ import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.util.Arrays;
+import java.util.Objects;
 import java.util.Random;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * SHA2-based Unix crypt implementation.
@@ -58,18 +57,167 @@ public class Sha2Crypt {
     /** The number of bytes the final hash value will have (SHA-256 variant). */
     private static final int SHA256_BLOCKSIZE = 32;
 
+    /** The order in which the bytes of the final hash value are encoded, three at a time (SHA-256 variant). */
+    private static final int[] SHA256_ORDER = { 0, 10, 20, 21, 1, 11, 12, 22, 2, 3, 13, 23, 24, 4, 14, 15, 25, 5, 6, 16, 26, 27, 7, 17, 18, 28, 8, 9, 19, 29,
+            -1, 31, 30 };
+
     /** The prefixes that can be used to identify this crypt() variant (SHA-256). */
     static final String SHA256_PREFIX = "$5$";
 
     /** The number of bytes the final hash value will have (SHA-512 variant). */
     private static final int SHA512_BLOCKSIZE = 64;
 
+    /** The order in which the bytes of the final hash value are encoded, three at a time (SHA-512 variant). */
+    private static final int[] SHA512_ORDER = { 0, 21, 42, 22, 43, 1, 44, 2, 23, 3, 24, 45, 25, 46, 4, 47, 5, 26, 6, 27, 48, 28, 49, 7, 50, 8, 29, 9, 30, 51,
+            31, 52, 10, 53, 11, 32, 12, 33, 54, 34, 55, 13, 56, 14, 35, 15, 36, 57, 37, 58, 16, 59, 17, 38, 18, 39, 60, 40, 61, 19, 62, 20, 41, -1, -1, 63 };
+
     /** The prefixes that can be used to identify this crypt() variant (SHA-512). */
     static final String SHA512_PREFIX = "$6$";
 
-    /** The pattern to match valid salt values. */
-    private static final Pattern SALT_PATTERN = Pattern
-            .compile("^\\$([56])\\$(rounds=(\\d+)\\$)?([\\.\\/a-zA-Z0-9]{1,16}).*");
+    /** Hash values recently parsed by {@link #verify(byte[], String)}. */
+    private static final ParsedHashCache<ParsedHash> PARSED_HASHES = new ParsedHashCache<>();
+
+    /** The maximum length of the salt string. */
+    private static final int SALT_LENGTH_MAX = 16;
+
+    /** The index of the optional rounds specification, after {@code $5$} or {@code $6$}. */
+    private static final int SALT_START = 3;
+
+    /**
+     * A hash value parsed for verification: the algorithm, the salt and the digest.
+     */
+    private static final class ParsedHash {
+
+        /**
+         * Parses a hash value as produced by {@link Sha2Crypt}.
+         *
+         * @param hash the hash value.
+         * @return the parsed hash value, or {@code null} if no password hashes to it.
+         */
+        private static ParsedHash parse(final String hash) {
+            final int blocksize;
+            final String algorithm;
+            final int[] order;
+            if (hash.startsWith(SHA512_PREFIX)) {
+                blocksize = SHA512_BLOCKSIZE;
+                algorithm = MessageDigestAlgorithms.SHA_512;
+                order = SHA512_ORDER;
+            } else if (hash.startsWith(SHA256_PREFIX)) {
+                blocksize = SHA256_BLOCKSIZE;
+                algorithm = MessageDigestAlgorithms.SHA_256;
+                order = SHA256_ORDER;
+            } else {
+                return null;
+            }
+            final Salt salt;
+            try {
+                salt = Salt.parse(hash);
+            } catch (final IllegalArgumentException e) {
+                return null;
+            }
+            // the hash value must be exactly what sha2Crypt produces
+            final String hashPrefix = salt.toHashPrefix(hash.substring(0, SALT_START));
+            final byte[] digest = new byte[blocksize];
+            if (!hash.startsWith(hashPrefix) || hash.length() != hashPrefix.length() + B64.b64Length(order) ||
+                    !B64.b64to24bit(hash, hashPrefix.length(), order, digest)) {
+                return null;
+            }
+            return new ParsedHash(blocksize, algorithm, salt.rounds, salt.saltString.getBytes(StandardCharsets.UTF_8), digest);
+        }
+
+        private final int blocksize;
+
+        private final String algorithm;
+
+        private final int rounds;
+
+        private final byte[] saltBytes;
+
+        private final byte[] digest;
+
+        private ParsedHash(final int blocksize, final String algorithm, final int rounds, final byte[] saltBytes, final byte[] digest) {
+            this.blocksize = blocksize;
+            this.algorithm = algorithm;
+            this.rounds = rounds;
+            this.saltBytes = saltBytes;
+            this.digest = digest;
+        }
+    }
+
+    /**
+     * A salt parsed from a salt or hash value: the salt string and the number of rounds.
+     */
+    private static final class Salt {
+
+        /**
+         * Parses the salt of a salt or hash value.
+         *
+         * @param salt the salt or hash value, starting with {@code $5$} or {@code $6$}.
+         * @return the parsed salt.
+         * @throws IllegalArgumentException Thrown if the salt does not match the allowed pattern.
+         */
+        private static Salt parse(final String salt) {
+            int rounds = ROUNDS_DEFAULT;
+            boolean roundsCustom = false;
+            // Accepts the same as the pattern "^\$([56])\$(rounds=(\d+)\$)?([\./a-zA-Z0-9]{1,16}).*"
+            if (salt.length() < SALT_START || salt.charAt(0) != '$' || salt.charAt(1) != '5' && salt.charAt(1) != '6' ||
+                    salt.charAt(2) != '$') {
+                throw new IllegalArgumentException("Invalid salt value: " + salt);
+            }
+            int saltStart = SALT_START;
+            if (salt.startsWith(ROUNDS_PREFIX, SALT_START)) {
+                final int digitsStart = SALT_START + ROUNDS_PREFIX.length();
+                int digitsEnd = digitsStart;
+                while (digitsEnd < salt.length() && salt.charAt(digitsEnd) >= '0' && salt.charAt(digitsEnd) <= '9') {
+                    digitsEnd++;
+                }
+                // the rounds specification only counts if a salt follows it, otherwise "rounds" is the salt
+                if (digitsEnd > digitsStart && digitsEnd < salt.length() && salt.charAt(digitsEnd) == '$' &&
+                        B64.countB64T(salt, digitsEnd + 1, 1) == 1) {
+                    rounds = Integer.parseInt(salt.substring(digitsStart, digitsEnd));
+                    rounds = Math.max(ROUNDS_MIN, Math.min(ROUNDS_MAX, rounds));
+                    roundsCustom = true;
+                    saltStart = digitsEnd + 1;
+                }
+            }
+            final int saltStringLength = B64.countB64T(salt, saltStart, SALT_LENGTH_MAX);
+            if (saltStringLength == 0) {
+                throw new IllegalArgumentException("Invalid salt value: " + salt);
+            }
+            final String saltString = salt.substring(saltStart, saltStart + saltStringLength);
+            return new Salt(rounds, roundsCustom, saltString);
+        }
+
+        private final int rounds;
+
+        private final boolean roundsCustom;
+
+        private final String saltString;
+
+        private Salt(final int rounds, final boolean roundsCustom, final String saltString) {
+            this.rounds = rounds;
+            this.roundsCustom = roundsCustom;
+            this.saltString = saltString;
+        }
+
+        /**
+         * Gets the start of a hash value with this salt: the prefix, the rounds specification if one was given, the salt string and a '$'.
+         *
+         * @param saltPrefix either {@code $5$} or {@code $6$}.
+         * @return the start of the hash value.
+         */
+        private String toHashPrefix(final String saltPrefix) {
+            final StringBuilder buffer = new StringBuilder(saltPrefix);
+            if (roundsCustom) {
+                buffer.append(ROUNDS_PREFIX);
+                buffer.append(rounds);
+                buffer.append("$");
+            }
+            buffer.append(saltString);
+            buffer.append("$");
+            return buffer.toString();
+        }
+    }
 
     /**
      * Generates a libc crypt() compatible "$5$" hash value with random salt.
@@ -133,10 +281,6 @@ public class Sha2Crypt {
     /**
      * Generates a libc6 crypt() compatible "$5$" or "$6$" SHA2 based hash value.
      * <p>
-     * This is a nearly line by line conversion of the original C function. The numbered comments are from the algorithm description, the short C-style ones
-     * from the original C code and the ones with "Remark" from me.
-     * </p>
-     * <p>
      * See {@link Crypt#crypt(String, String)} for details.
      * </p>
      *
@@ -152,27 +296,85 @@ public class Sha2Crypt {
      */
     private static String sha2Crypt(final byte[] keyBytes, final String salt, final String saltPrefix,
             final int blocksize, final String algorithm) {
-
-        final int keyLen = keyBytes.length;
-
-        // Extracts effective salt and the number of rounds from the given salt.
-        int rounds = ROUNDS_DEFAULT;
-        boolean roundsCustom = false;
         if (salt == null) {
             throw new IllegalArgumentException("Salt must not be null");
         }
+        // Extracts effective salt and the number of rounds from the given salt.
+        final Salt parsedSalt = Salt.parse(salt);
+        final byte[] saltBytes = parsedSalt.saltString.getBytes(StandardCharsets.UTF_8);
+        final byte[] altResult = sha2Digest(keyBytes, saltBytes, parsedSalt.rounds, blocksize, algorithm);
 
-        final Matcher m = SALT_PATTERN.matcher(salt);
-        if (!m.find()) {
-            throw new IllegalArgumentException("Invalid salt value: " + salt);
-        }
-        if (m.group(3) != null) {
-            rounds = Integer.parseInt(m.group(3));
-            rounds = Math.max(ROUNDS_MIN, Math.min(ROUNDS_MAX, rounds));
-            roundsCustom = true;
-        }
-        final String saltString = m.group(4);
-        final byte[] saltBytes = saltString.getBytes(StandardCharsets.UTF_8);
+        // 22. Produce the output string. This is an ASCII string of the maximum
+        // size specified above, consisting of multiple pieces:
+        //
+        // a) the salt salt_prefix, $5$ or $6$ respectively
+        //
+        // b) the rounds=<N> specification, if one was present in the input
+        // salt string. A trailing '$' is added in this case to separate
+        // the rounds specification from the following text.
+        //
+        // c) the salt string truncated to 16 characters
+        //
+        // d) a '$' character
+        /*
+         * Now we can construct the result string. It consists of three parts.
+         */
+        final StringBuilder buffer = new StringBuilder(parsedSalt.toHashPrefix(saltPrefix));
+
+        // e) the base-64 encoded final C digest. The encoding used is as
+        // follows:
+        // [...]
+        //
+        // Each group of three bytes from the digest produces four
+        // characters as output:
+        //
+        // 1. character: the six low bits of the first byte
+        // 2. character: the two high bits of the first byte and the
+        // four low bytes from the second byte
+        // 3. character: the four high bytes from the second byte and
+        // the two low bits from the third byte
+        // 4. character: the six high bits from the third byte
+        //
+        // The groups of three bytes are as follows (in this sequence).
+        // These are the indices into the byte array containing the
+        // digest, starting with index 0. For the last group there are
+        // not enough bytes left in the digest and the value zero is used
+        // in its place. This group also produces only three or two
+        // characters as output for SHA-512 and SHA-512 respectively.
+
+        // This was just a safeguard in the C implementation:
+        // int buflen = salt_prefix.length() - 1 + ROUNDS_PREFIX.length() + 9 + 1 + salt_string.length() + 1 + 86 + 1;
+
+        B64.b64from24bit(altResult, blocksize == SHA256_BLOCKSIZE ? SHA256_ORDER : SHA512_ORDER, buffer);
+
+        /*
+         * Clear the buffer for the final result so that people attaching to processes or reading core dumps
+         * cannot get any information.
+         */
+        Arrays.fill(altResult, (byte) 0);
+        Arrays.fill(keyBytes, (byte) 0);
+        Arrays.fill(saltBytes, (byte) 0);
+
+        return buffer.toString();
+    }
+
+    /**
+     * Computes the SHA2 based digest of a libc6 crypt() compatible "$5$" or "$6$" hash value.
+     * <p>
+     * This is a nearly line by line conversion of the original C function. The numbered comments are from the algorithm description, the short C-style ones
+     * from the original C code and the ones with "Remark" from me.
+     * </p>
+     *
+     * @param keyBytes  plaintext to hash, not modified.
+     * @param saltBytes the salt string, not modified.
+     * @param rounds    the number of rounds.
+     * @param blocksize A value that differs between {@code $5$}  and {@code $6$}.
+     * @param algorithm {@link MessageDigest} algorithm identifier string.
+     * @return The digest, the caller should clear it when done.
+     * @throws IllegalArgumentException Thrown if a {@link NoSuchAlgorithmException} is caught.
+     */
+    private static byte[] sha2Digest(final byte[] keyBytes, final byte[] saltBytes, final int rounds, final int blocksize, final String algorithm) {
+        final int keyLen = keyBytes.length;
         final int saltLen = saltBytes.length;
 
         // 1. start digest A
@@ -419,111 +621,23 @@ public class Sha2Crypt {
 
             // h) finish digest C.
             /*
-             * Create intermediate result.
+             * Create intermediate result, reusing its buffer.
              */
-            altResult = messageDigest.digest();
+            DigestUtils.digestInto(messageDigest, altResult);
         }
 
-        // 22. Produce the output string. This is an ASCII string of the maximum
-        // size specified above, consisting of multiple pieces:
-        //
-        // a) the salt salt_prefix, $5$ or $6$ respectively
-        //
-        // b) the rounds=<N> specification, if one was present in the input
-        // salt string. A trailing '$' is added in this case to separate
-        // the rounds specification from the following text.
-        //
-        // c) the salt string truncated to 16 characters
-        //
-        // d) a '$' character
         /*
-         * Now we can construct the result string. It consists of three parts.
-         */
-        final StringBuilder buffer = new StringBuilder(saltPrefix);
-        if (roundsCustom) {
-            buffer.append(ROUNDS_PREFIX);
-            buffer.append(rounds);
-            buffer.append("$");
-        }
-        buffer.append(saltString);
-        buffer.append("$");
-
-        // e) the base-64 encoded final C digest. The encoding used is as
-        // follows:
-        // [...]
-        //
-        // Each group of three bytes from the digest produces four
-        // characters as output:
-        //
-        // 1. character: the six low bits of the first byte
-        // 2. character: the two high bits of the first byte and the
-        // four low bytes from the second byte
-        // 3. character: the four high bytes from the second byte and
-        // the two low bits from the third byte
-        // 4. character: the six high bits from the third byte
-        //
-        // The groups of three bytes are as follows (in this sequence).
-        // These are the indices into the byte array containing the
-        // digest, starting with index 0. For the last group there are
-        // not enough bytes left in the digest and the value zero is used
-        // in its place. This group also produces only three or two
-        // characters as output for SHA-512 and SHA-512 respectively.
-
-        // This was just a safeguard in the C implementation:
-        // int buflen = salt_prefix.length() - 1 + ROUNDS_PREFIX.length() + 9 + 1 + salt_string.length() + 1 + 86 + 1;
-
-        if (blocksize == 32) {
-            B64.b64from24bit(altResult[0], altResult[10], altResult[20], 4, buffer);
-            B64.b64from24bit(altResult[21], altResult[1], altResult[11], 4, buffer);
-            B64.b64from24bit(altResult[12], altResult[22], altResult[2], 4, buffer);
-            B64.b64from24bit(altResult[3], altResult[13], altResult[23], 4, buffer);
-            B64.b64from24bit(altResult[24], altResult[4], altResult[14], 4, buffer);
-            B64.b64from24bit(altResult[15], altResult[25], altResult[5], 4, buffer);
-            B64.b64from24bit(altResult[6], altResult[16], altResult[26], 4, buffer);
-            B64.b64from24bit(altResult[27], altResult[7], altResult[17], 4, buffer);
-            B64.b64from24bit(altResult[18], altResult[28], altResult[8], 4, buffer);
-            B64.b64from24bit(altResult[9], altResult[19], altResult[29], 4, buffer);
-            B64.b64from24bit((byte) 0, altResult[31], altResult[30], 3, buffer);
-        } else {
-            B64.b64from24bit(altResult[0], altResult[21], altResult[42], 4, buffer);
-            B64.b64from24bit(altResult[22], altResult[43], altResult[1], 4, buffer);
-            B64.b64from24bit(altResult[44], altResult[2], altResult[23], 4, buffer);
-            B64.b64from24bit(altResult[3], altResult[24], altResult[45], 4, buffer);
-            B64.b64from24bit(altResult[25], altResult[46], altResult[4], 4, buffer);
-            B64.b64from24bit(altResult[47], altResult[5], altResult[26], 4, buffer);
-            B64.b64from24bit(altResult[6], altResult[27], altResult[48], 4, buffer);
-            B64.b64from24bit(altResult[28], altResult[49], altResult[7], 4, buffer);
-            B64.b64from24bit(altResult[50], altResult[8], altResult[29], 4, buffer);
-            B64.b64from24bit(altResult[9], altResult[30], altResult[51], 4, buffer);
-            B64.b64from24bit(altResult[31], altResult[52], altResult[10], 4, buffer);
-            B64.b64from24bit(altResult[53], altResult[11], altResult[32], 4, buffer);
-            B64.b64from24bit(altResult[12], altResult[33], altResult[54], 4, buffer);
-            B64.b64from24bit(altResult[34], altResult[55], altResult[13], 4, buffer);
-            B64.b64from24bit(altResult[56], altResult[14], altResult[35], 4, buffer);
-            B64.b64from24bit(altResult[15], altResult[36], altResult[57], 4, buffer);
-            B64.b64from24bit(altResult[37], altResult[58], altResult[16], 4, buffer);
-            B64.b64from24bit(altResult[59], altResult[17], altResult[38], 4, buffer);
-            B64.b64from24bit(altResult[18], altResult[39], altResult[60], 4, buffer);
-            B64.b64from24bit(altResult[40], altResult[61], altResult[19], 4, buffer);
-            B64.b64from24bit(altResult[62], altResult[20], altResult[41], 4, buffer);
-            B64.b64from24bit((byte) 0, (byte) 0, altResult[63], 2, buffer);
-        }
-
-        /*
-         * Clear the buffer for the intermediate result so that people attaching to processes or reading core dumps
+         * Clear the buffers for the intermediate results so that people attaching to processes or reading core dumps
          * cannot get any information.
          */
         // Is there a better way to do this with the JVM?
-        Arrays.fill(altResult, (byte) 0);
         Arrays.fill(tempResult, (byte) 0);
         Arrays.fill(bytes, (byte) 0);
         Arrays.fill(sBytes, (byte) 0);
         messageDigest.reset();
         altDigest.reset();
-        Arrays.fill(keyBytes, (byte) 0);
-        Arrays.fill(saltBytes, (byte) 0);
 
-        return buffer.toString();
+        return altResult;
     }
 
     /**
@@ -588,6 +702,33 @@ public class Sha2Crypt {
         return sha2Crypt(keyBytes, salt, SHA512_PREFIX, SHA512_BLOCKSIZE, MessageDigestAlgorithms.SHA_512);
     }
 
+    /**
+     * Verifies a password against a "$5$" or "$6$" hash value.
+     * <p>
+     * This is equivalent to {@code hash.equals(Crypt.crypt(keyBytes, hash))} but compares the digests in constant time, without building a hash value. The
+     * most recently verified hash values are kept parsed, so repeated checks against the same hash value only compute the digest.
+     * </p>
+     *
+     * @param keyBytes The plaintext password, not modified.
+     * @param hash     The stored hash value.
+     * @return whether the password matches the hash value; {@code false} if the hash value is {@code null} or not a "$5$" or "$6$" hash value.
+     * @throws IllegalArgumentException Thrown if a {@link NoSuchAlgorithmException} is caught.
+     * @since 1.23.0
+     */
+    public static boolean verify(final byte[] keyBytes, final String hash) {
+        Objects.requireNonNull(keyBytes, "keyBytes");
+        final ParsedHash parsedHash = hash == null ? null : PARSED_HASHES.get(hash, ParsedHash::parse);
+        if (parsedHash == null) {
+            return false;
+        }
+        final byte[] digest = sha2Digest(keyBytes, parsedHash.saltBytes, parsedHash.rounds, parsedHash.blocksize, parsedHash.algorithm);
+        try {
+            return MessageDigest.isEqual(digest, parsedHash.digest);
+        } finally {
+            Arrays.fill(digest, (byte) 0);
+        }
+    }
+
     /**
      * Consider private.
      *
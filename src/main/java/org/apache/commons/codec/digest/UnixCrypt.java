@@ -17,9 +17,10 @@
 package org.apache.commons.codec.digest;
 
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.security.SecureRandom;
 import java.util.Arrays;
-import java.util.regex.Pattern;
+import java.util.Objects;
 
 /**
  * Unix <a href="https://man7.org/linux/man-pages/man3/crypt.3.html">crypt(3)</a> algorithm implementation.
@@ -44,8 +45,8 @@ import java.util.regex.Pattern;
  */
 public class UnixCrypt {
 
-    private static final String CRYPT_SALT_REGEX = "^[" + B64.B64T_STRING + "]{2,}$";
-    private static final Pattern CRYPT_SALT_PATTERN = Pattern.compile(CRYPT_SALT_REGEX);
+    /** The number of chars of a hash value, the salt included. */
+    private static final int HASH_LENGTH = 13;
 
     private static final int[] CON_SALT = { 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
             0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 5, 6,
@@ -174,7 +175,24 @@ public class UnixCrypt {
                     0x8000020, 0x208000, 32800, 0x8008020, 0x8200000, 32, 0x8208000, 0x208020, 0, 0x8000000,
                     0x8200020, 32768, 0x208020 } };
 
-    private static int[] body(final int[] schedule, final int eSwap0, final int eSwap1) {
+    /** The rows of {@link #SPTRANS} in one array, row {@code i} starting at index {@code i * 64}. */
+    private static final int[] SP = new int[8 * 64];
+
+    static {
+        for (int i = 0; i < SPTRANS.length; i++) {
+            System.arraycopy(SPTRANS[i], 0, SP, i * 64, 64);
+        }
+    }
+
+    /**
+     * Runs the 25 DES encryptions of crypt(3) on a zero block.
+     *
+     * @param schedule The key schedule.
+     * @param eSwap0   The first salt mask.
+     * @param eSwap1   The second salt mask.
+     * @param digest   Where the 8 bytes of the digest are stored.
+     */
+    private static void body(final int[] schedule, final int eSwap0, final int eSwap1, final byte[] digest) {
         int left = 0;
         int right = 0;
         int t = 0;
@@ -191,30 +209,24 @@ public class UnixCrypt {
         t = right;
         right = left >>> 1 | left << 31;
         left = t >>> 1 | t << 31;
-        final int[] results = new int[2];
-        permOp(right, left, 1, 0x55555555, results);
-        right = results[0];
-        left = results[1];
-        permOp(left, right, 8, 0xff00ff, results);
-        left = results[0];
-        right = results[1];
-        permOp(right, left, 2, 0x33333333, results);
-        right = results[0];
-        left = results[1];
-        permOp(left, right, 16, 65535, results);
-        left = results[0];
-        right = results[1];
-        permOp(right, left, 4, 0xf0f0f0f, results);
-        right = results[0];
-        left = results[1];
-        final int[] out = new int[2];
-        out[0] = left;
-        out[1] = right;
-        return out;
-    }
-
-    private static int byteToUnsigned(final byte b) {
-        return b & 0xff;
+        // final permutation, each step swaps the bits of a and b selected by m: t = (a >>> n ^ b) & m; a ^= t << n; b ^= t
+        t = (right >>> 1 ^ left) & 0x55555555;
+        right ^= t << 1;
+        left ^= t;
+        t = (left >>> 8 ^ right) & 0xff00ff;
+        left ^= t << 8;
+        right ^= t;
+        t = (right >>> 2 ^ left) & 0x33333333;
+        right ^= t << 2;
+        left ^= t;
+        t = (left >>> 16 ^ right) & 65535;
+        left ^= t << 16;
+        right ^= t;
+        t = (right >>> 4 ^ left) & 0xf0f0f0f;
+        right ^= t << 4;
+        left ^= t;
+        intToFourBytes(left, digest, 0);
+        intToFourBytes(right, digest, 4);
     }
 
     /**
@@ -246,41 +258,43 @@ public class UnixCrypt {
     public static String crypt(final byte[] original, String salt) {
         if (salt == null) {
             salt = B64.getRandomSalt(2);
-        } else if (!CRYPT_SALT_PATTERN.matcher(salt).matches()) {
+        } else if (!isValidSalt(salt)) {
             throw new IllegalArgumentException("Invalid salt value: " + salt);
         }
-
-        final StringBuilder buffer = new StringBuilder("             ");
-        final char charZero = salt.charAt(0);
-        final char charOne = salt.charAt(1);
-        buffer.setCharAt(0, charZero);
-        buffer.setCharAt(1, charOne);
-        final int eSwap0 = CON_SALT[charZero];
-        final int eSwap1 = CON_SALT[charOne] << 4;
-        final byte[] key = new byte[8];
-        Arrays.fill(key, (byte) 0);
-
-        final int originalLength = original.length;
-        for (int i = 0; i < key.length && i < originalLength; i++) {
-            final int iChar = original[i];
-            key[i] = (byte) (iChar << 1);
+        final int[] schedule = new int[32];
+        final byte[] digest = new byte[9];
+        try {
+            return crypt(original, salt.charAt(0), salt.charAt(1), schedule, digest);
+        } finally {
+            Arrays.fill(schedule, 0);
+            Arrays.fill(digest, (byte) 0);
         }
+    }
 
-        final int[] schedule = desSetKey(key);
-        final int[] out = body(schedule, eSwap0, eSwap1);
-        final byte[] b = new byte[9];
-        intToFourBytes(out[0], b, 0);
-        intToFourBytes(out[1], b, 4);
-        b[8] = 0;
-        int i = 2;
+    /**
+     * Generates a crypt(3) compatible hash using the DES algorithm and the given buffers.
+     *
+     * @param original Plaintext password.
+     * @param charZero The first salt char.
+     * @param charOne  The second salt char.
+     * @param schedule The key schedule buffer of 32 ints.
+     * @param digest   The digest buffer of 9 bytes.
+     * @return A 13 character string starting with the salt string.
+     */
+    private static String crypt(final byte[] original, final char charZero, final char charOne, final int[] schedule, final byte[] digest) {
+        digest(original, charZero, charOne, schedule, digest);
+        digest[8] = 0;
+        final char[] buffer = new char[HASH_LENGTH];
+        buffer[0] = charZero;
+        buffer[1] = charOne;
+        // the 64 bits of the digest and two 0 bits, most significant bit first, 6 bits per char
         int y = 0;
         int u = 128;
-        for (; i < 13; i++) {
-            int j = 0;
+        for (int i = 2; i < HASH_LENGTH; i++) {
             int c = 0;
-            for (; j < 6; j++) {
+            for (int j = 0; j < 6; j++) {
                 c <<= 1;
-                if ((b[y] & u) != 0) {
+                if ((digest[y] & u) != 0) {
                     c |= 0x1;
                 }
                 u >>>= 1;
@@ -288,10 +302,10 @@ public class UnixCrypt {
                     y++;
                     u = 128;
                 }
-                buffer.setCharAt(i, (char) COV2CHAR[c]);
             }
+            buffer[i] = (char) COV2CHAR[c];
         }
-        return buffer.toString();
+        return new String(buffer);
     }
 
     /**
@@ -321,6 +335,22 @@ public class UnixCrypt {
         return crypt(original.getBytes(StandardCharsets.UTF_8), salt);
     }
 
+    /**
+     * Computes the DES-based digest of a crypt(3) hash value.
+     *
+     * @param original Plaintext password, only the first 8 bytes are used.
+     * @param charZero The first salt char.
+     * @param charOne  The second salt char.
+     * @param schedule The key schedule buffer of 32 ints.
+     * @param digest   Where the 8 bytes of the digest are stored.
+     */
+    private static void digest(final byte[] original, final char charZero, final char charOne, final int[] schedule, final byte[] digest) {
+        final int eSwap0 = CON_SALT[charZero];
+        final int eSwap1 = CON_SALT[charOne] << 4;
+        desSetKey(keyToInt(original, 0), keyToInt(original, 4), schedule);
+        body(schedule, eSwap0, eSwap1, digest);
+    }
+
     private static int dEncrypt(int el, final int r, final int s, final int e0, final int e1, final int[] sArr) {
         int v = r ^ r >>> 16;
         int u = v & e0;
@@ -328,31 +358,34 @@ public class UnixCrypt {
         u = u ^ u << 16 ^ r ^ sArr[s];
         int t = v ^ v << 16 ^ r ^ sArr[s + 1];
         t = t >>> 4 | t << 28;
-        el ^= SPTRANS[1][t & 0x3f] | SPTRANS[3][t >>> 8 & 0x3f] | SPTRANS[5][t >>> 16 & 0x3f] |
-                SPTRANS[7][t >>> 24 & 0x3f] | SPTRANS[0][u & 0x3f] | SPTRANS[2][u >>> 8 & 0x3f] |
-                SPTRANS[4][u >>> 16 & 0x3f] | SPTRANS[6][u >>> 24 & 0x3f];
+        el ^= SP[64 | t & 0x3f] | SP[192 | t >>> 8 & 0x3f] | SP[320 | t >>> 16 & 0x3f] | SP[448 | t >>> 24 & 0x3f] |
+                SP[u & 0x3f] | SP[128 | u >>> 8 & 0x3f] | SP[256 | u >>> 16 & 0x3f] | SP[384 | u >>> 24 & 0x3f];
         return el;
     }
 
-    private static int[] desSetKey(final byte[] key) {
-        final int[] schedule = new int[32];
-        int c = fourBytesToInt(key, 0);
-        int d = fourBytesToInt(key, 4);
-        final int[] results = new int[2];
-        permOp(d, c, 4, 0xf0f0f0f, results);
-        d = results[0];
-        c = results[1];
+    /**
+     * Computes the DES key schedule.
+     *
+     * @param c        The first 4 key bytes, little-endian.
+     * @param d        The last 4 key bytes, little-endian.
+     * @param schedule Where the 32 ints of the schedule are stored.
+     */
+    private static void desSetKey(int c, int d, final int[] schedule) {
+        // each step swaps the bits of a and b selected by m: t = (a >>> n ^ b) & m; a ^= t << n; b ^= t
+        int t = (d >>> 4 ^ c) & 0xf0f0f0f;
+        d ^= t << 4;
+        c ^= t;
         c = hPermOp(c, -2, 0xcccc0000);
         d = hPermOp(d, -2, 0xcccc0000);
-        permOp(d, c, 1, 0x55555555, results);
-        d = results[0];
-        c = results[1];
-        permOp(c, d, 8, 0xff00ff, results);
-        c = results[0];
-        d = results[1];
-        permOp(d, c, 1, 0x55555555, results);
-        d = results[0];
-        c = results[1];
+        t = (d >>> 1 ^ c) & 0x55555555;
+        d ^= t << 1;
+        c ^= t;
+        t = (c >>> 8 ^ d) & 0xff00ff;
+        c ^= t << 8;
+        d ^= t;
+        t = (d >>> 1 ^ c) & 0x55555555;
+        d ^= t << 1;
+        c ^= t;
         d = (d & 0xff) << 16 | d & 0xff00 | (d & 0xff0000) >>> 16 | (c & 0xf0000000) >>> 4;
         c &= 0xfffffff;
         int j = 0;
@@ -369,22 +402,37 @@ public class UnixCrypt {
             int s = SKB[0][c & 0x3f] | SKB[1][c >>> 6 & 0x3 | c >>> 7 & 0x3c] |
                     SKB[2][c >>> 13 & 0xf | c >>> 14 & 0x30] |
                     SKB[3][c >>> 20 & 0x1 | c >>> 21 & 0x6 | c >>> 22 & 0x38];
-            final int t = SKB[4][d & 0x3f] | SKB[5][d >>> 7 & 0x3 | d >>> 8 & 0x3c] | SKB[6][d >>> 15 & 0x3f] |
+            t = SKB[4][d & 0x3f] | SKB[5][d >>> 7 & 0x3 | d >>> 8 & 0x3c] | SKB[6][d >>> 15 & 0x3f] |
                     SKB[7][d >>> 21 & 0xf | d >>> 22 & 0x30];
             schedule[j++] = t << 16 | s & 0xffff;
             s = s >>> 16 | t & 0xffff0000;
             s = s << 4 | s >>> 28;
             schedule[j++] = s;
         }
+    }
 
-        return schedule;
+    /**
+     * Tests whether a salt has at least 2 chars, all drawn from [a-zA-Z0-9./].
+     *
+     * @param salt The salt.
+     * @return whether the salt is valid.
+     */
+    private static boolean isValidSalt(final String salt) {
+        return salt.length() >= 2 && B64.countB64T(salt, 0, salt.length()) == salt.length();
     }
 
-    private static int fourBytesToInt(final byte[] b, int offset) {
-        int value = byteToUnsigned(b[offset++]);
-        value |= byteToUnsigned(b[offset++]) << 8;
-        value |= byteToUnsigned(b[offset++]) << 16;
-        value |= byteToUnsigned(b[offset++]) << 24;
+    /**
+     * Packs 4 bytes of the password into a little-endian int of key bytes, the 7 bits of each password byte shifted left by one.
+     *
+     * @param original Plaintext password, missing bytes count as 0.
+     * @param offset   The offset of the first byte.
+     * @return The key bytes.
+     */
+    private static int keyToInt(final byte[] original, final int offset) {
+        int value = 0;
+        for (int i = Math.min(original.length, offset + 4) - 1; i >= offset; i--) {
+            value = value << 8 | original[i] << 1 & 0xff;
+        }
         return value;
     }
 
@@ -400,12 +448,54 @@ public class UnixCrypt {
         b[offset++] = (byte) (iValue >>> 24 & 0xff);
     }
 
-    private static void permOp(int a, int b, final int n, final int m, final int[] results) {
-        final int t = (a >>> n ^ b) & m;
-        a ^= t << n;
-        b ^= t;
-        results[0] = a;
-        results[1] = b;
+    /**
+     * Verifies a password against a traditional DES-based crypt(3) hash value.
+     * <p>
+     * This is equivalent to {@code hash.equals(crypt(keyBytes, hash))} but compares the digests in constant time, without building a hash value.
+     * </p>
+     *
+     * @param keyBytes The plaintext password, not modified.
+     * @param hash     The stored hash value of 13 chars drawn from [a-zA-Z0-9./].
+     * @return whether the password matches the hash value; {@code false} if the hash value is {@code null} or not a 13 char DES hash value.
+     * @since 1.23.0
+     */
+    public static boolean verify(final byte[] keyBytes, final String hash) {
+        Objects.requireNonNull(keyBytes, "keyBytes");
+        if (hash == null || hash.length() != HASH_LENGTH) {
+            return false;
+        }
+        // the 11 chars after the salt hold the 64 bits of the digest, most significant bit first, and two 0 bits
+        final byte[] expected = new byte[9];
+        int y = 0;
+        int u = 128;
+        for (int i = 0; i < HASH_LENGTH; i++) {
+            final int c = B64.B64T_STRING.indexOf(hash.charAt(i));
+            if (c < 0) {
+                return false;
+            }
+            for (int j = 5; i >= 2 && j >= 0; j--) {
+                if ((c & 1 << j) != 0) {
+                    expected[y] |= u;
+                }
+                u >>>= 1;
+                if (u == 0) {
+                    y++;
+                    u = 128;
+                }
+            }
+        }
+        if (expected[8] != 0) {
+            return false;
+        }
+        final int[] schedule = new int[32];
+        final byte[] digest = new byte[9];
+        digest(keyBytes, hash.charAt(0), hash.charAt(1), schedule, digest);
+        try {
+            return MessageDigest.isEqual(digest, expected);
+        } finally {
+            Arrays.fill(schedule, 0);
+            Arrays.fill(digest, (byte) 0);
+        }
     }
 
     /**
@@ -17,6 +17,9 @@
 
 package org.apache.commons.codec.language;
 
+import java.util.Arrays;
+import java.util.Locale;
+
 import org.apache.commons.codec.EncoderException;
 import org.apache.commons.codec.StringEncoder;
 
@@ -33,6 +36,259 @@ import org.apache.commons.codec.StringEncoder;
  */
 public abstract class AbstractCaverphone implements StringEncoder {
 
+    /**
+     * An ordered list of rewrite steps, compiled once, that computes a Caverphone code.
+     * <p>
+     * Each step does the work of one {@code String.replace} or {@code String.replaceAll} call of the published algorithm, in place over a single char buffer
+     * per call instead of compiling a regular expression and allocating a new String. No step makes the text longer, so a buffer the size of the input is
+     * enough.
+     * </p>
+     * <p>
+     * This class is immutable and thread-safe.
+     * </p>
+     */
+    static final class Rules {
+
+        /**
+         * Rewrites the text held in a buffer.
+         */
+        @FunctionalInterface
+        interface Step {
+
+            /**
+             * Rewrites the first {@code length} chars of the buffer in place.
+             *
+             * @param buffer The text.
+             * @param length The length of the text.
+             * @return The new length of the text.
+             */
+            int apply(char[] buffer, int length);
+        }
+
+        /**
+         * Copies the ASCII letters of the given text to the buffer, lower-cased.
+         *
+         * @param text       The text.
+         * @param buffer     The buffer, at least as long as the text.
+         * @param lowerCased Whether the text is already lower-cased with {@link Locale#ENGLISH}.
+         * @return The number of letters, or -1 if the text contains a non-ASCII char and is not lower-cased yet.
+         */
+        private static int copyLetters(final String text, final char[] buffer, final boolean lowerCased) {
+            int length = 0;
+            for (int i = 0; i < text.length(); i++) {
+                final char c = text.charAt(i);
+                if (c >= 'a' && c <= 'z') {
+                    buffer[length++] = c;
+                } else if (c >= 'A' && c <= 'Z') {
+                    buffer[length++] = (char) (c + ('a' - 'A'));
+                } else if (c >= 0x80 && !lowerCased) {
+                    // Some non-ASCII chars lower-case to ASCII letters, like the Kelvin sign
+                    return -1;
+                }
+            }
+            return length;
+        }
+
+        private static boolean regionMatches(final char[] buffer, final int offset, final int length, final char[] chars) {
+            if (length - offset < chars.length) {
+                return false;
+            }
+            for (int i = 0; i < chars.length; i++) {
+                if (buffer[offset + i] != chars[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Creates a step equivalent to {@code replace(from, to)}.
+         *
+         * @param from The literal to replace.
+         * @param to   The replacement, no longer than {@code from}.
+         * @return A new step.
+         */
+        static Step replace(final String from, final String to) {
+            final char[] fromChars = from.toCharArray();
+            final char[] toChars = toChars(from, to);
+            final char first = fromChars[0];
+            return (buffer, length) -> {
+                int write = 0;
+                int read = 0;
+                while (read < length) {
+                    final char c = buffer[read];
+                    if (c == first && regionMatches(buffer, read, length, fromChars)) {
+                        System.arraycopy(toChars, 0, buffer, write, toChars.length);
+                        write += toChars.length;
+                        read += fromChars.length;
+                    } else {
+                        buffer[write++] = c;
+                        read++;
+                    }
+                }
+                return write;
+            };
+        }
+
+        /**
+         * Creates a step equivalent to {@code replaceAll("[chars]", to)}.
+         *
+         * @param chars The chars to replace, all ASCII.
+         * @param to    The replacement.
+         * @return A new step.
+         */
+        static Step replaceAny(final String chars, final char to) {
+            final boolean[] set = toSet(chars);
+            return (buffer, length) -> {
+                for (int i = 0; i < length; i++) {
+                    final char c = buffer[i];
+                    if (c < set.length && set[c]) {
+                        buffer[i] = to;
+                    }
+                }
+                return length;
+            };
+        }
+
+        /**
+         * Creates a step equivalent to {@code replaceAll(from + "$", to)}.
+         *
+         * @param from The literal to replace at the end.
+         * @param to   The replacement, no longer than {@code from}.
+         * @return A new step.
+         */
+        static Step replaceEnd(final String from, final String to) {
+            final char[] fromChars = from.toCharArray();
+            final char[] toChars = toChars(from, to);
+            return (buffer, length) -> {
+                final int offset = length - fromChars.length;
+                if (offset < 0 || !regionMatches(buffer, offset, length, fromChars)) {
+                    return length;
+                }
+                System.arraycopy(toChars, 0, buffer, offset, toChars.length);
+                return offset + toChars.length;
+            };
+        }
+
+        /**
+         * Creates a step equivalent to {@code replaceAll(c + "+", to)}.
+         *
+         * @param c  The char whose runs to replace.
+         * @param to The replacement of each run.
+         * @return A new step.
+         */
+        static Step replaceRuns(final char c, final char to) {
+            return (buffer, length) -> {
+                int write = 0;
+                int read = 0;
+                while (read < length) {
+                    final char ch = buffer[read++];
+                    if (ch == c) {
+                        while (read < length && buffer[read] == c) {
+                            read++;
+                        }
+                        buffer[write++] = to;
+                    } else {
+                        buffer[write++] = ch;
+                    }
+                }
+                return write;
+            };
+        }
+
+        /**
+         * Creates a step equivalent to {@code replaceAll("^" + from, to)}.
+         *
+         * @param from The literal to replace at the start.
+         * @param to   The replacement, no longer than {@code from}.
+         * @return A new step.
+         */
+        static Step replaceStart(final String from, final String to) {
+            final char[] fromChars = from.toCharArray();
+            final char[] toChars = toChars(from, to);
+            return (buffer, length) -> {
+                if (!regionMatches(buffer, 0, length, fromChars)) {
+                    return length;
+                }
+                System.arraycopy(toChars, 0, buffer, 0, toChars.length);
+                System.arraycopy(buffer, fromChars.length, buffer, toChars.length, length - fromChars.length);
+                return length - fromChars.length + toChars.length;
+            };
+        }
+
+        /**
+         * Creates a step equivalent to {@code replaceAll("^[chars]", to)}.
+         *
+         * @param chars The chars to replace at the start, all ASCII.
+         * @param to    The replacement.
+         * @return A new step.
+         */
+        static Step replaceStartAny(final String chars, final char to) {
+            final boolean[] set = toSet(chars);
+            return (buffer, length) -> {
+                if (length > 0 && buffer[0] < set.length && set[buffer[0]]) {
+                    buffer[0] = to;
+                }
+                return length;
+            };
+        }
+
+        private static char[] toChars(final String from, final String to) {
+            if (to.length() > from.length()) {
+                throw new IllegalArgumentException("Replacement '" + to + "' is longer than '" + from + "'");
+            }
+            return to.toCharArray();
+        }
+
+        private static boolean[] toSet(final String chars) {
+            final boolean[] set = new boolean[128];
+            for (int i = 0; i < chars.length(); i++) {
+                set[chars.charAt(i)] = true;
+            }
+            return set;
+        }
+
+        private final Step[] steps;
+        private final char[] padding;
+
+        /**
+         * Constructs a new instance.
+         *
+         * @param codeLength The length of a code, padded with '1's.
+         * @param steps      The steps to apply in order, after lower-casing and removing anything not A-Z.
+         */
+        Rules(final int codeLength, final Step... steps) {
+            this.steps = steps.clone();
+            this.padding = new char[codeLength];
+            Arrays.fill(padding, '1');
+        }
+
+        /**
+         * Encodes the given String.
+         *
+         * @param source The source string.
+         * @return The code.
+         */
+        String encode(final String source) {
+            if (SoundexUtils.isEmpty(source)) {
+                return new String(padding);
+            }
+            char[] buffer = new char[source.length()];
+            int length = copyLetters(source, buffer, false);
+            if (length < 0) {
+                final String lowerCase = source.toLowerCase(Locale.ENGLISH);
+                buffer = new char[lowerCase.length()];
+                length = copyLetters(lowerCase, buffer, true);
+            }
+            for (final Step step : steps) {
+                length = step.apply(buffer, length);
+            }
+            final char[] code = padding.clone();
+            System.arraycopy(buffer, 0, code, 0, Math.min(length, code.length));
+            return new String(code);
+        }
+    }
+
     /**
      * Constructs a new instance for subclasses.
      */
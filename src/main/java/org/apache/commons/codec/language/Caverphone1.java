@@ -17,8 +17,6 @@
 
 package org.apache.commons.codec.language;
 
-import java.util.Locale;
-
 /**
  * Encodes a string into a Caverphone 1.0 value.
  *
@@ -35,6 +33,74 @@ public class Caverphone1 extends AbstractCaverphone {
 
     private static final String SIX_1 = "111111";
 
+    /**
+     * Steps 3 to 5 of the algorithm. Rules.encode(String) does steps 1 and 2, converting to lowercase and removing anything not A-Z, and steps 6 and 7,
+     * padding with six 1s and taking the first six characters.
+     */
+    private static final Rules RULES = new Rules(SIX_1.length(),
+            // 3. Handle various start options
+            // 2 is a temporary placeholder to indicate a consonant which we are no longer interested in.
+            Rules.replaceStart("cough", "cou2f"),
+            Rules.replaceStart("rough", "rou2f"),
+            Rules.replaceStart("tough", "tou2f"),
+            Rules.replaceStart("enough", "enou2f"),
+            Rules.replaceStart("gn", "2n"),
+
+            // End
+            Rules.replaceEnd("mb", "m2"),
+
+            // 4. Handle replacements
+            Rules.replace("cq", "2q"),
+            Rules.replace("ci", "si"),
+            Rules.replace("ce", "se"),
+            Rules.replace("cy", "sy"),
+            Rules.replace("tch", "2ch"),
+            Rules.replace("c", "k"),
+            Rules.replace("q", "k"),
+            Rules.replace("x", "k"),
+            Rules.replace("v", "f"),
+            Rules.replace("dg", "2g"),
+            Rules.replace("tio", "sio"),
+            Rules.replace("tia", "sia"),
+            Rules.replace("d", "t"),
+            Rules.replace("ph", "fh"),
+            Rules.replace("b", "p"),
+            Rules.replace("sh", "s2"),
+            Rules.replace("z", "s"),
+            Rules.replaceStartAny("aeiou", 'A'),
+            // 3 is a temporary placeholder marking a vowel
+            Rules.replaceAny("aeiou", '3'),
+            Rules.replace("3gh3", "3kh3"),
+            Rules.replace("gh", "22"),
+            Rules.replace("g", "k"),
+            Rules.replaceRuns('s', 'S'),
+            Rules.replaceRuns('t', 'T'),
+            Rules.replaceRuns('p', 'P'),
+            Rules.replaceRuns('k', 'K'),
+            Rules.replaceRuns('f', 'F'),
+            Rules.replaceRuns('m', 'M'),
+            Rules.replaceRuns('n', 'N'),
+            Rules.replace("w3", "W3"),
+            Rules.replace("wy", "Wy"), // 1.0 only
+            Rules.replace("wh3", "Wh3"),
+            Rules.replace("why", "Why"), // 1.0 only
+            Rules.replace("w", "2"),
+            Rules.replaceStart("h", "A"),
+            Rules.replace("h", "2"),
+            Rules.replace("r3", "R3"),
+            Rules.replace("ry", "Ry"), // 1.0 only
+            Rules.replace("r", "2"),
+            Rules.replace("l3", "L3"),
+            Rules.replace("ly", "Ly"), // 1.0 only
+            Rules.replace("l", "2"),
+            Rules.replace("j", "y"), // 1.0 only
+            Rules.replace("y3", "Y3"), // 1.0 only
+            Rules.replace("y", "2"), // 1.0 only
+
+            // 5. Handle removals
+            Rules.replace("2", ""),
+            Rules.replace("3", ""));
+
     /**
      * Constructs a new instance.
      */
@@ -51,85 +117,7 @@ public class Caverphone1 extends AbstractCaverphone {
      */
     @Override
     public String encode(final String source) {
-        String txt = source;
-        if (txt == null || txt.isEmpty()) {
-            return SIX_1;
-        }
-
-        // 1. Convert to lowercase
-        txt = txt.toLowerCase(Locale.ENGLISH);
-
-        // 2. Remove anything not A-Z
-        txt = txt.replaceAll("[^a-z]", "");
-
-        // 3. Handle various start options
-        // 2 is a temporary placeholder to indicate a consonant which we are no longer interested in.
-        txt = txt.replaceAll("^cough", "cou2f");
-        txt = txt.replaceAll("^rough", "rou2f");
-        txt = txt.replaceAll("^tough", "tou2f");
-        txt = txt.replaceAll("^enough", "enou2f");
-        txt = txt.replaceAll("^gn", "2n");
-
-        // End
-        txt = txt.replaceAll("mb$", "m2");
-
-        // 4. Handle replacements
-        txt = txt.replace("cq", "2q");
-        txt = txt.replace("ci", "si");
-        txt = txt.replace("ce", "se");
-        txt = txt.replace("cy", "sy");
-        txt = txt.replace("tch", "2ch");
-        txt = txt.replace("c", "k");
-        txt = txt.replace("q", "k");
-        txt = txt.replace("x", "k");
-        txt = txt.replace("v", "f");
-        txt = txt.replace("dg", "2g");
-        txt = txt.replace("tio", "sio");
-        txt = txt.replace("tia", "sia");
-        txt = txt.replace("d", "t");
-        txt = txt.replace("ph", "fh");
-        txt = txt.replace("b", "p");
-        txt = txt.replace("sh", "s2");
-        txt = txt.replace("z", "s");
-        txt = txt.replaceAll("^[aeiou]", "A");
-        // 3 is a temporary placeholder marking a vowel
-        txt = txt.replaceAll("[aeiou]", "3");
-        txt = txt.replace("3gh3", "3kh3");
-        txt = txt.replace("gh", "22");
-        txt = txt.replace("g", "k");
-        txt = txt.replaceAll("s+", "S");
-        txt = txt.replaceAll("t+", "T");
-        txt = txt.replaceAll("p+", "P");
-        txt = txt.replaceAll("k+", "K");
-        txt = txt.replaceAll("f+", "F");
-        txt = txt.replaceAll("m+", "M");
-        txt = txt.replaceAll("n+", "N");
-        txt = txt.replace("w3", "W3");
-        txt = txt.replace("wy", "Wy"); // 1.0 only
-        txt = txt.replace("wh3", "Wh3");
-        txt = txt.replace("why", "Why"); // 1.0 only
-        txt = txt.replace("w", "2");
-        txt = txt.replaceAll("^h", "A");
-        txt = txt.replace("h", "2");
-        txt = txt.replace("r3", "R3");
-        txt = txt.replace("ry", "Ry"); // 1.0 only
-        txt = txt.replace("r", "2");
-        txt = txt.replace("l3", "L3");
-        txt = txt.replace("ly", "Ly"); // 1.0 only
-        txt = txt.replace("l", "2");
-        txt = txt.replace("j", "y"); // 1.0 only
-        txt = txt.replace("y3", "Y3"); // 1.0 only
-        txt = txt.replace("y", "2"); // 1.0 only
-
-        // 5. Handle removals
-        txt = txt.replace("2", "");
-        txt = txt.replace("3", "");
-
-        // 6. put six 1s on the end
-        txt += SIX_1;
-
-        // 7. take the first six characters as the code
-        return txt.substring(0, SIX_1.length());
+        return RULES.encode(source);
     }
 
 }
@@ -17,8 +17,6 @@
 
 package org.apache.commons.codec.language;
 
-import java.util.Locale;
-
 /**
  * Encodes a string into a Caverphone 2.0 value.
  *
@@ -35,6 +33,78 @@ public class Caverphone2 extends AbstractCaverphone {
 
     private static final String TEN_1 = "1111111111";
 
+    /**
+     * Steps 2.5 to 5 of the algorithm. Rules.encode(String) does steps 1 and 2, converting to lowercase and removing anything not A-Z, and steps 6 and 7,
+     * padding with ten 1s and taking the first ten characters.
+     */
+    private static final Rules RULES = new Rules(TEN_1.length(),
+            // 2.5. Remove final e
+            Rules.replaceEnd("e", ""), // 2.0 only
+
+            // 3. Handle various start options
+            Rules.replaceStart("cough", "cou2f"),
+            Rules.replaceStart("rough", "rou2f"),
+            Rules.replaceStart("tough", "tou2f"),
+            Rules.replaceStart("enough", "enou2f"), // 2.0 only
+            Rules.replaceStart("trough", "trou2f"), // 2.0 only
+                                                       // note the spec says ^enough here again, c+p error I assume
+            Rules.replaceStart("gn", "2n"),
+
+            // End
+            Rules.replaceEnd("mb", "m2"),
+
+            // 4. Handle replacements
+            Rules.replace("cq", "2q"),
+            Rules.replace("ci", "si"),
+            Rules.replace("ce", "se"),
+            Rules.replace("cy", "sy"),
+            Rules.replace("tch", "2ch"),
+            Rules.replace("c", "k"),
+            Rules.replace("q", "k"),
+            Rules.replace("x", "k"),
+            Rules.replace("v", "f"),
+            Rules.replace("dg", "2g"),
+            Rules.replace("tio", "sio"),
+            Rules.replace("tia", "sia"),
+            Rules.replace("d", "t"),
+            Rules.replace("ph", "fh"),
+            Rules.replace("b", "p"),
+            Rules.replace("sh", "s2"),
+            Rules.replace("z", "s"),
+            Rules.replaceStartAny("aeiou", 'A'),
+            Rules.replaceAny("aeiou", '3'),
+            Rules.replace("j", "y"), // 2.0 only
+            Rules.replaceStart("y3", "Y3"), // 2.0 only
+            Rules.replaceStart("y", "A"), // 2.0 only
+            Rules.replace("y", "3"), // 2.0 only
+            Rules.replace("3gh3", "3kh3"),
+            Rules.replace("gh", "22"),
+            Rules.replace("g", "k"),
+            Rules.replaceRuns('s', 'S'),
+            Rules.replaceRuns('t', 'T'),
+            Rules.replaceRuns('p', 'P'),
+            Rules.replaceRuns('k', 'K'),
+            Rules.replaceRuns('f', 'F'),
+            Rules.replaceRuns('m', 'M'),
+            Rules.replaceRuns('n', 'N'),
+            Rules.replace("w3", "W3"),
+            Rules.replace("wh3", "Wh3"),
+            Rules.replaceEnd("w", "3"), // 2.0 only
+            Rules.replace("w", "2"),
+            Rules.replaceStart("h", "A"),
+            Rules.replace("h", "2"),
+            Rules.replace("r3", "R3"),
+            Rules.replaceEnd("r", "3"), // 2.0 only
+            Rules.replace("r", "2"),
+            Rules.replace("l3", "L3"),
+            Rules.replaceEnd("l", "3"), // 2.0 only
+            Rules.replace("l", "2"),
+
+            // 5. Handle removals
+            Rules.replace("2", ""),
+            Rules.replaceEnd("3", "A"), // 2.0 only
+            Rules.replace("3", ""));
+
     /**
      * Constructs a new instance.
      */
@@ -51,89 +121,7 @@ public class Caverphone2 extends AbstractCaverphone {
      */
     @Override
     public String encode(final String source) {
-        String txt = source;
-        if (SoundexUtils.isEmpty(txt)) {
-            return TEN_1;
-        }
-
-        // 1. Convert to lowercase
-        txt = txt.toLowerCase(Locale.ENGLISH);
-
-        // 2. Remove anything not A-Z
-        txt = txt.replaceAll("[^a-z]", "");
-
-        // 2.5. Remove final e
-        txt = txt.replaceAll("e$", ""); // 2.0 only
-
-        // 3. Handle various start options
-        txt = txt.replaceAll("^cough", "cou2f");
-        txt = txt.replaceAll("^rough", "rou2f");
-        txt = txt.replaceAll("^tough", "tou2f");
-        txt = txt.replaceAll("^enough", "enou2f"); // 2.0 only
-        txt = txt.replaceAll("^trough", "trou2f"); // 2.0 only
-                                                   // note the spec says ^enough here again, c+p error I assume
-        txt = txt.replaceAll("^gn", "2n");
-
-        // End
-        txt = txt.replaceAll("mb$", "m2");
-
-        // 4. Handle replacements
-        txt = txt.replace("cq", "2q");
-        txt = txt.replace("ci", "si");
-        txt = txt.replace("ce", "se");
-        txt = txt.replace("cy", "sy");
-        txt = txt.replace("tch", "2ch");
-        txt = txt.replace("c", "k");
-        txt = txt.replace("q", "k");
-        txt = txt.replace("x", "k");
-        txt = txt.replace("v", "f");
-        txt = txt.replace("dg", "2g");
-        txt = txt.replace("tio", "sio");
-        txt = txt.replace("tia", "sia");
-        txt = txt.replace("d", "t");
-        txt = txt.replace("ph", "fh");
-        txt = txt.replace("b", "p");
-        txt = txt.replace("sh", "s2");
-        txt = txt.replace("z", "s");
-        txt = txt.replaceAll("^[aeiou]", "A");
-        txt = txt.replaceAll("[aeiou]", "3");
-        txt = txt.replace("j", "y"); // 2.0 only
-        txt = txt.replaceAll("^y3", "Y3"); // 2.0 only
-        txt = txt.replaceAll("^y", "A"); // 2.0 only
-        txt = txt.replace("y", "3"); // 2.0 only
-        txt = txt.replace("3gh3", "3kh3");
-        txt = txt.replace("gh", "22");
-        txt = txt.replace("g", "k");
-        txt = txt.replaceAll("s+", "S");
-        txt = txt.replaceAll("t+", "T");
-        txt = txt.replaceAll("p+", "P");
-        txt = txt.replaceAll("k+", "K");
-        txt = txt.replaceAll("f+", "F");
-        txt = txt.replaceAll("m+", "M");
-        txt = txt.replaceAll("n+", "N");
-        txt = txt.replace("w3", "W3");
-        txt = txt.replace("wh3", "Wh3");
-        txt = txt.replaceAll("w$", "3"); // 2.0 only
-        txt = txt.replace("w", "2");
-        txt = txt.replaceAll("^h", "A");
-        txt = txt.replace("h", "2");
-        txt = txt.replace("r3", "R3");
-        txt = txt.replaceAll("r$", "3"); // 2.0 only
-        txt = txt.replace("r", "2");
-        txt = txt.replace("l3", "L3");
-        txt = txt.replaceAll("l$", "3"); // 2.0 only
-        txt = txt.replace("l", "2");
-
-        // 5. Handle removals
-        txt = txt.replace("2", "");
-        txt = txt.replaceAll("3$", "A"); // 2.0 only
-        txt = txt.replace("3", "");
-
-        // 6. put ten 1s on the end
-        txt += TEN_1;
-
-        // 7. take the first ten characters as the code
-        return txt.substring(0, TEN_1.length());
+        return RULES.encode(source);
     }
 
 }
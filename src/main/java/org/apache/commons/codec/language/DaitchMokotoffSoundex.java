@@ -18,13 +18,11 @@ package org.apache.commons.codec.language;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Scanner;
-import java.util.Set;
 import java.util.regex.Pattern;
 
 import org.apache.commons.codec.CharEncoding;
@@ -70,82 +68,193 @@ import org.apache.commons.codec.StringEncoder;
 public class DaitchMokotoffSoundex implements StringEncoder {
 
     /**
-     * Inner class representing a branch during DM Soundex encoding.
+     * Inner class holding the branches during DM Soundex encoding.
+     * <p>
+     * The code of a branch has at most {@link #MAX_LENGTH} digits and is packed into an {@code int}: four bits per digit,
+     * with the number of digits above them. Branches with equal codes are only kept once, the first one wins.
+     * </p>
      */
-    private static final class Branch {
-        private final StringBuilder builder;
-        private String cachedString;
-        private String lastReplacement;
+    private static final class Branches {
 
-        private Branch() {
-            builder = new StringBuilder();
-        }
+        private static final int DIGIT_BITS = 4;
+
+        private static final int LENGTH_SHIFT = MAX_LENGTH * DIGIT_BITS;
+
+        private static final int DIGITS_MASK = (1 << LENGTH_SHIFT) - 1;
 
         /**
-         * Creates a new branch, identical to this branch.
+         * Appends the digits of a replacement to a code, dropping all digits after the maximum code length.
          *
-         * @return A new, identical branch.
+         * @param code
+         *            the packed code.
+         * @param replacement
+         *            the digits to append.
+         * @return the new packed code.
          */
-        private Branch createBranch() {
-            final Branch branch = new Branch();
-            branch.builder.append(toString());
-            branch.lastReplacement = this.lastReplacement;
-            return branch;
-        }
-
-        @Override
-        public boolean equals(final Object other) {
-            if (this == other) {
-                return true;
-            }
-            if (!(other instanceof Branch)) {
-                return false;
+        private static int append(final int code, final String replacement) {
+            int length = code >>> LENGTH_SHIFT;
+            int digits = code & DIGITS_MASK;
+            for (int i = 0; i < replacement.length() && length < MAX_LENGTH; i++) {
+                digits = digits << DIGIT_BITS | replacement.charAt(i) - '0';
+                length++;
             }
-            return toString().equals(((Branch) other).toString());
+            return length << LENGTH_SHIFT | digits;
         }
 
         /**
-         * Finish this branch by appending '0's until the maximum code length has been reached.
+         * Finishes a code by appending '0's until the maximum code length has been reached.
+         *
+         * @param code
+         *            the packed code.
+         * @return the code as a string.
          */
-        private void finish() {
-            while (builder.length() < MAX_LENGTH) {
-                builder.append('0');
-                cachedString = null;
+        private static String toString(final int code) {
+            final int length = code >>> LENGTH_SHIFT;
+            final char[] chars = new char[MAX_LENGTH];
+            Arrays.fill(chars, '0');
+            for (int i = 0; i < length; i++) {
+                chars[i] = (char) ('0' + (code >>> (length - 1 - i) * DIGIT_BITS & 0xF));
             }
+            return new String(chars);
         }
 
-        @Override
-        public int hashCode() {
-            return toString().hashCode();
+        private int[] codes = new int[4];
+
+        private String[] lastReplacements = new String[4];
+
+        private int size;
+
+        /**
+         * Adds a branch unless a branch with the same code exists.
+         *
+         * @param code
+         *            the packed code.
+         * @param lastReplacement
+         *            the last replacement processed by the branch.
+         */
+        private void add(final int code, final String lastReplacement) {
+            for (int i = 0; i < size; i++) {
+                if (codes[i] == code) {
+                    return;
+                }
+            }
+            if (size == codes.length) {
+                codes = Arrays.copyOf(codes, size * 2);
+                lastReplacements = Arrays.copyOf(lastReplacements, size * 2);
+            }
+            codes[size] = code;
+            lastReplacements[size] = lastReplacement;
+            size++;
         }
 
         /**
-         * Process the next replacement to be added to this branch.
+         * Adds the next replacement processed by the branch at the given index.
          *
+         * @param index
+         *            the index of the branch the replacement is applied to.
          * @param replacement
          *            the next replacement to append.
          * @param forceAppend
          *            indicates if the default processing shall be overridden.
+         * @param target
+         *            the branches receiving the resulting branch.
          */
-        private void processNextReplacement(final String replacement, final boolean forceAppend) {
+        private void addNextReplacement(final int index, final String replacement, final boolean forceAppend, final Branches target) {
+            final String lastReplacement = lastReplacements[index];
             final boolean append = lastReplacement == null || !lastReplacement.endsWith(replacement) || forceAppend;
-            if (append && builder.length() < MAX_LENGTH) {
-                builder.append(replacement);
-                // remove all characters after the maximum length
-                if (builder.length() > MAX_LENGTH) {
-                    builder.delete(MAX_LENGTH, builder.length());
-                }
-                cachedString = null;
+            target.add(append ? append(codes[index], replacement) : codes[index], replacement);
+        }
+
+        private void clear() {
+            Arrays.fill(lastReplacements, 0, size, null);
+            size = 0;
+        }
+
+        private String[] toStrings() {
+            final String[] result = new String[size];
+            for (int i = 0; i < size; i++) {
+                result[i] = toString(codes[i]);
             }
-            lastReplacement = replacement;
+            return result;
         }
+    }
 
-        @Override
-        public String toString() {
-            if (cachedString == null) {
-                cachedString = builder.toString();
+    /**
+     * Inner class holding the compiled rules and foldings of a rules file.
+     * <p>
+     * Chars in the Latin range are looked up in arrays, other chars in maps.
+     * </p>
+     */
+    private static final class Rules {
+
+        /**
+         * Parses the rules in the given resource.
+         *
+         * @param resourceName
+         *            the name of the resource containing the rules.
+         * @return the compiled rules.
+         */
+        private static Rules parse(final String resourceName) {
+            final Map<Character, List<Rule>> rules = new HashMap<>();
+            final Map<Character, Character> foldings = new HashMap<>();
+            try (Scanner scanner = new Scanner(Resources.getInputStream(resourceName), CharEncoding.UTF_8)) {
+                parseRules(scanner, resourceName, rules, foldings);
+            }
+            return new Rules(rules, foldings);
+        }
+
+        private final Rule[][] latinRules = new Rule[LATIN_LIMIT][];
+
+        private final Map<Character, Rule[]> otherRules = new HashMap<>();
+
+        private final char[] latinFoldings = new char[LATIN_LIMIT];
+
+        private final Map<Character, Character> otherFoldings = new HashMap<>();
+
+        private Rules(final Map<Character, List<Rule>> rules, final Map<Character, Character> foldings) {
+            rules.forEach((ch, list) -> {
+                final Rule[] array = list.toArray(new Rule[0]);
+                // sort by pattern length in descending order
+                Arrays.sort(array, (rule1, rule2) -> rule2.getPatternLength() - rule1.getPatternLength());
+                if (ch < LATIN_LIMIT) {
+                    latinRules[ch] = array;
+                } else {
+                    otherRules.put(ch, array);
+                }
+            });
+            foldings.forEach((ch, folded) -> {
+                if (ch < LATIN_LIMIT) {
+                    latinFoldings[ch] = folded;
+                } else {
+                    otherFoldings.put(ch, folded);
+                }
+            });
+        }
+
+        /**
+         * Folds the given char.
+         *
+         * @param ch
+         *            the char to fold.
+         * @return the folded char, or the given char if it has no folding.
+         */
+        private char fold(final char ch) {
+            if (ch < LATIN_LIMIT) {
+                final char folded = latinFoldings[ch];
+                return folded == NUL ? ch : folded;
             }
-            return cachedString;
+            return otherFoldings.getOrDefault(ch, ch);
+        }
+
+        /**
+         * Gets the rules of the given char, sorted by pattern length in descending order.
+         *
+         * @param ch
+         *            the first char of the patterns.
+         * @return the rules, or {@code null} if no pattern starts with the char.
+         */
+        private Rule[] get(final char ch) {
+            return ch < LATIN_LIMIT ? latinRules[ch] : otherRules.get(ch);
         }
     }
 
@@ -162,22 +271,32 @@ public class DaitchMokotoffSoundex implements StringEncoder {
         private Rule(final String pattern, final String replacementAtStart, final String replacementBeforeVowel,
                 final String replacementDefault) {
             this.pattern = pattern;
-            this.replacementAtStart = PIPE.split(replacementAtStart);
-            this.replacementBeforeVowel = PIPE.split(replacementBeforeVowel);
-            this.replacementDefault = PIPE.split(replacementDefault);
+            this.replacementAtStart = splitReplacements(replacementAtStart);
+            this.replacementBeforeVowel = splitReplacements(replacementBeforeVowel);
+            this.replacementDefault = splitReplacements(replacementDefault);
+        }
+
+        private static String[] splitReplacements(final String replacements) {
+            for (int i = 0; i < replacements.length(); i++) {
+                final char ch = replacements.charAt(i);
+                if ((ch < '0' || ch > '9') && ch != '|') {
+                    throw new IllegalArgumentException("Replacements must be digits separated by '|': " + replacements);
+                }
+            }
+            return PIPE.split(replacements);
         }
 
         private int getPatternLength() {
             return pattern.length();
         }
 
-        private String[] getReplacements(final String context, final boolean atStart) {
+        private String[] getReplacements(final String input, final int index, final boolean atStart) {
             if (atStart) {
                 return replacementAtStart;
             }
 
-            final int nextIndex = getPatternLength();
-            final boolean nextCharIsVowel = nextIndex < context.length() && isVowel(context.charAt(nextIndex));
+            final int nextIndex = index + getPatternLength();
+            final boolean nextCharIsVowel = nextIndex < input.length() && isVowel(input.charAt(nextIndex));
             if (nextCharIsVowel) {
                 return replacementBeforeVowel;
             }
@@ -189,8 +308,8 @@ public class DaitchMokotoffSoundex implements StringEncoder {
             return ch == 'a' || ch == 'e' || ch == 'i' || ch == 'o' || ch == 'u';
         }
 
-        private boolean matches(final String context) {
-            return context.startsWith(pattern);
+        private boolean matches(final String input, final int index) {
+            return input.startsWith(pattern, index);
         }
 
         @Override
@@ -219,23 +338,15 @@ public class DaitchMokotoffSoundex implements StringEncoder {
     /** The code length of a DM Soundex value. */
     private static final int MAX_LENGTH = 6;
 
-    /** Transformation rules indexed by the first character of their pattern. */
-    private static final Map<Character, List<Rule>> RULES = new HashMap<>();
-
-    /** Folding rules. */
-    private static final Map<Character, Character> FOLDINGS = new HashMap<>();
+    /** The end of the Latin range of chars, Latin Extended-B included, with array-based rule and folding lookups. */
+    private static final char LATIN_LIMIT = '\u0250';
 
     private static final Pattern EQUAL = Pattern.compile("=");
 
     private static final Pattern SPACES = Pattern.compile("\\s+");
 
-    static {
-        try (Scanner scanner = new Scanner(Resources.getInputStream(RESOURCE_FILE), CharEncoding.UTF_8)) {
-            parseRules(scanner, RESOURCE_FILE, RULES, FOLDINGS);
-        }
-        // sort RULES by pattern length in descending order
-        RULES.forEach((k, v) -> v.sort((rule1, rule2) -> rule2.getPatternLength() - rule1.getPatternLength()));
-    }
+    /** The default transformation and folding rules. */
+    private static final Rules DEFAULT_RULES = Rules.parse(RESOURCE_FILE);
 
     private static void parseRules(final Scanner scanner, final String location, final Map<Character, List<Rule>> ruleMapping,
             final Map<Character, Character> asciiFoldings) {
@@ -313,6 +424,9 @@ public class DaitchMokotoffSoundex implements StringEncoder {
     /** Whether to use ASCII folding prior to encoding. */
     private final boolean folding;
 
+    /** The transformation and folding rules. */
+    private final Rules rules;
+
     /**
      * Creates a new instance with ASCII-folding enabled.
      */
@@ -332,6 +446,31 @@ public class DaitchMokotoffSoundex implements StringEncoder {
      */
     public DaitchMokotoffSoundex(final boolean folding) {
         this.folding = folding;
+        this.rules = DEFAULT_RULES;
+    }
+
+    /**
+     * Creates a new instance using custom rules.
+     * <p>
+     * The resource must use the format of the default rules in {@code org/apache/commons/codec/language/dmrules.txt}: one
+     * folding ({@code ą=a}) or rule ({@code "sch" "4" "4" "4"}) per line, where the replacements at the start of a name,
+     * before a vowel and elsewhere are digits, with alternatives separated by '|'.
+     * </p>
+     *
+     * @param folding
+     *            if ASCII-folding shall be performed before encoding.
+     * @param rulesResourceName
+     *            the name of the resource containing the rules, for example
+     *            {@code "/org/apache/commons/codec/language/dmrules.txt"}.
+     * @throws IllegalArgumentException
+     *             if the resource cannot be found or contains a malformed statement.
+     * @throws IllegalStateException
+     *             if a rule cannot be parsed.
+     * @since 1.23.0
+     */
+    public DaitchMokotoffSoundex(final boolean folding, final String rulesResourceName) {
+        this.folding = folding;
+        this.rules = Rules.parse(Objects.requireNonNull(rulesResourceName, "rulesResourceName"));
     }
 
     /**
@@ -345,15 +484,15 @@ public class DaitchMokotoffSoundex implements StringEncoder {
      * @return A cleaned up string.
      */
     private String cleanup(final String input) {
-        final StringBuilder sb = new StringBuilder();
-        for (char ch : input.toCharArray()) {
+        final StringBuilder sb = new StringBuilder(input.length());
+        for (int i = 0; i < input.length(); i++) {
+            char ch = input.charAt(i);
             if (Character.isWhitespace(ch) || !Character.isLetter(ch)) {
                 continue;
             }
             ch = Character.toLowerCase(ch);
-            final Character character = FOLDINGS.get(ch);
-            if (folding && character != null) {
-                ch = character;
+            if (folding) {
+                ch = rules.fold(ch);
             }
             sb.append(ch);
         }
@@ -445,54 +584,38 @@ public class DaitchMokotoffSoundex implements StringEncoder {
             return null;
         }
         final String input = cleanup(source);
-        final Set<Branch> currentBranches = new LinkedHashSet<>();
-        currentBranches.add(new Branch());
+        Branches currentBranches = new Branches();
+        Branches nextBranches = new Branches();
+        currentBranches.add(0, null);
         char lastChar = NUL;
         for (int index = 0; index < input.length(); index++) {
             final char ch = input.charAt(index);
-            final String inputContext = input.substring(index);
-            final List<Rule> rules = RULES.get(ch);
-            if (rules == null) {
+            final Rule[] charRules = rules.get(ch);
+            if (charRules == null) {
                 continue;
             }
-            // Use an EMPTY_LIST to avoid false positive warnings regarding potential null pointer access.
-            final List<Branch> nextBranches = branching ? new ArrayList<>() : Collections.emptyList();
-            for (final Rule rule : rules) {
-                if (rule.matches(inputContext)) {
-                    if (branching) {
-                        nextBranches.clear();
-                    }
-                    final String[] replacements = rule.getReplacements(inputContext, lastChar == NUL);
-                    final boolean branchingRequired = replacements.length > 1 && branching;
-                    for (final Branch branch : currentBranches) {
-                        for (final String nextReplacement : replacements) {
-                            // if we have multiple replacements, always create a new branch
-                            final Branch nextBranch = branchingRequired ? branch.createBranch() : branch;
-                            // special rule: occurrences of mn or nm are treated differently
-                            final boolean force = lastChar == 'm' && ch == 'n' || lastChar == 'n' && ch == 'm';
-                            nextBranch.processNextReplacement(nextReplacement, force);
-                            if (!branching) {
-                                break;
-                            }
-                            nextBranches.add(nextBranch);
+            for (final Rule rule : charRules) {
+                if (rule.matches(input, index)) {
+                    final String[] replacements = rule.getReplacements(input, index, lastChar == NUL);
+                    // special rule: occurrences of mn or nm are treated differently
+                    final boolean force = lastChar == 'm' && ch == 'n' || lastChar == 'n' && ch == 'm';
+                    // without branching, only the first replacement is used
+                    final int replacementCount = branching ? replacements.length : 1;
+                    for (int i = 0; i < currentBranches.size; i++) {
+                        for (int j = 0; j < replacementCount; j++) {
+                            currentBranches.addNextReplacement(i, replacements[j], force, nextBranches);
                         }
                     }
-                    if (branching) {
-                        currentBranches.clear();
-                        currentBranches.addAll(nextBranches);
-                    }
+                    final Branches branches = currentBranches;
+                    currentBranches = nextBranches;
+                    nextBranches = branches;
+                    nextBranches.clear();
                     index += rule.getPatternLength() - 1;
                     break;
                 }
             }
             lastChar = ch;
         }
-        final String[] result = new String[currentBranches.size()];
-        int index = 0;
-        for (final Branch branch : currentBranches) {
-            branch.finish();
-            result[index++] = branch.toString();
-        }
-        return result;
+        return currentBranches.toStrings();
     }
 }
@@ -149,6 +149,16 @@ public class DoubleMetaphone implements StringEncoder {
             }
         }
 
+        /**
+         * Clears the primary and alternate values so that this result can be reused.
+         *
+         * @since 1.23.0
+         */
+        public void clear() {
+            primary.setLength(0);
+            alternate.setLength(0);
+        }
+
         /**
          * Gets the alternate string.
          *
@@ -158,6 +168,16 @@ public class DoubleMetaphone implements StringEncoder {
             return alternate.toString();
         }
 
+        /**
+         * Gets the alternate value without creating a String. The value changes when this result is cleared or appended to.
+         *
+         * @return The alternate value.
+         * @since 1.23.0
+         */
+        public CharSequence getAlternateCharSequence() {
+            return alternate;
+        }
+
         /**
          * Gets the primary string.
          *
@@ -167,6 +187,16 @@ public class DoubleMetaphone implements StringEncoder {
             return primary.toString();
         }
 
+        /**
+         * Gets the primary value without creating a String. The value changes when this result is cleared or appended to.
+         *
+         * @return The primary value.
+         * @since 1.23.0
+         */
+        public CharSequence getPrimaryCharSequence() {
+            return primary;
+        }
+
         /**
          * Tests whether this result is complete.
          *
@@ -203,9 +233,8 @@ public class DoubleMetaphone implements StringEncoder {
     protected static boolean contains(final String value, final int start, final int length, final String... criteria) {
         boolean result = false;
         if (start >= 0 && start + length <= value.length()) {
-            final String target = value.substring(start, start + length);
             for (final String element : criteria) {
-                if (target.equals(element)) {
+                if (element.length() == length && value.regionMatches(start, element, 0, length)) {
                     result = true;
                     break;
                 }
@@ -341,7 +370,28 @@ public class DoubleMetaphone implements StringEncoder {
      * @param alternate use alternate encode.
      * @return An encoded string.
      */
-    public String doubleMetaphone(String value, final boolean alternate) {
+    public String doubleMetaphone(final String value, final boolean alternate) {
+        final DoubleMetaphoneResult result = doubleMetaphone(value, new DoubleMetaphoneResult(getMaxCodeLen()));
+        if (result == null) {
+            return null;
+        }
+        return alternate ? result.getAlternate() : result.getPrimary();
+    }
+
+    /**
+     * Encodes a value with Double Metaphone into a reusable result, which receives both the primary and the alternate encoding.
+     * <p>
+     * The result is cleared first and keeps the maximum length it was created with. Encoding a trimmed, upper-case value into a reused result allocates
+     * nothing; other values are converted to upper case first.
+     * </p>
+     *
+     * @param value  String to encode.
+     * @param result The result to clear and fill.
+     * @return The given result, or {@code null} if the value is null, empty or only whitespace.
+     * @since 1.23.0
+     */
+    public DoubleMetaphoneResult doubleMetaphone(String value, final DoubleMetaphoneResult result) {
+        result.clear();
         value = cleanInput(value);
         if (value == null) {
             return null;
@@ -350,8 +400,6 @@ public class DoubleMetaphone implements StringEncoder {
         final boolean slavoGermanic = isSlavoGermanic(value);
         int index = isSilentStart(value) ? 1 : 0;
 
-        final DoubleMetaphoneResult result = new DoubleMetaphoneResult(getMaxCodeLen());
-
         while (!result.isComplete() && index <= value.length() - 1) {
             switch (value.charAt(index)) {
             case 'A':
@@ -445,7 +493,7 @@ public class DoubleMetaphone implements StringEncoder {
             }
         }
 
-        return alternate ? result.getAlternate() : result.getPrimary();
+        return result;
     }
 
     /**
@@ -83,6 +83,38 @@ public class Metaphone implements StringEncoder {
         // empty
     }
 
+    /**
+     * Gets a char of the working string: the upper-case word from the offset, with its first char replaced.
+     */
+    private static char charAt(final CharSequence word, final int offset, final char first, final int index) {
+        return index == 0 ? first : SoundexUtils.toUpperCase(word.charAt(offset + index));
+    }
+
+    /**
+     * Encodes a CharSequence using the Metaphone algorithm and appends the code to a StringBuilder.
+     * <p>
+     * This method appends the same code as {@link #metaphone(String)} and, for ASCII input, allocates nothing beyond growing the target.
+     * </p>
+     *
+     * @param source The CharSequence to encode, may be null.
+     * @param target The StringBuilder to append the code to, nothing is appended for a null or empty source.
+     * @return The target.
+     * @since 1.23.0
+     */
+    public StringBuilder encode(final CharSequence source, final StringBuilder target) {
+        if (source == null || source.length() == 0) {
+            return target;
+        }
+        if (!SoundexUtils.isAscii(source)) {
+            return target.append(metaphone(source.toString()));
+        }
+        // single character is itself
+        if (source.length() == 1) {
+            return target.append(SoundexUtils.toUpperCase(source.charAt(0)));
+        }
+        return metaphone(source, target);
+    }
+
     /**
      * Encodes an Object using the Metaphone algorithm. This method is provided in order to satisfy the requirements of the Encoder interface, and will throw an
      * EncoderException if the supplied object is not of type {@link String}.
@@ -134,24 +166,24 @@ public class Metaphone implements StringEncoder {
         return metaphone(str1).equals(metaphone(str2));
     }
 
-    private boolean isNextChar(final StringBuilder string, final int index, final char c) {
+    private static boolean isNextChar(final CharSequence word, final int offset, final char first, final int index, final char c) {
         boolean matches = false;
-        if (index >= 0 && index < string.length() - 1) {
-            matches = string.charAt(index + 1) == c;
+        if (index >= 0 && index < word.length() - offset - 1) {
+            matches = charAt(word, offset, first, index + 1) == c;
         }
         return matches;
     }
 
-    private boolean isPreviousChar(final StringBuilder string, final int index, final char c) {
+    private static boolean isPreviousChar(final CharSequence word, final int offset, final char first, final int index, final char c) {
         boolean matches = false;
-        if (index > 0 && index < string.length()) {
-            matches = string.charAt(index - 1) == c;
+        if (index > 0 && index < word.length() - offset) {
+            matches = charAt(word, offset, first, index - 1) == c;
         }
         return matches;
     }
 
-    private boolean isVowel(final StringBuilder string, final int index) {
-        return VOWELS.indexOf(string.charAt(index)) >= 0;
+    private static boolean isVowel(final CharSequence word, final int offset, final char first, final int index) {
+        return VOWELS.indexOf(charAt(word, offset, first, index)) >= 0;
     }
 
     /**
@@ -165,7 +197,6 @@ public class Metaphone implements StringEncoder {
      * @return A Metaphone code corresponding to the String supplied.
      */
     public String metaphone(final String txt) {
-        boolean hard = false;
         final int txtLength;
         if (txt == null || (txtLength = txt.length()) == 0) {
             return "";
@@ -174,56 +205,63 @@ public class Metaphone implements StringEncoder {
         if (txtLength == 1) {
             return txt.toUpperCase(Locale.ENGLISH);
         }
+        return metaphone(SoundexUtils.isAscii(txt) ? txt : txt.toUpperCase(Locale.ENGLISH), new StringBuilder(10)).toString();
+    }
 
-        final char[] inwd = txt.toUpperCase(Locale.ENGLISH).toCharArray();
-
-        final StringBuilder local = new StringBuilder(40); // manipulate
-        final StringBuilder code = new StringBuilder(10); // output
+    /**
+     * Finds the Metaphone value of a word of at least two characters and appends it.
+     *
+     * @param word The word, either ASCII or already converted to upper case.
+     * @param code The StringBuilder to append the code to.
+     * @return The StringBuilder.
+     */
+    private StringBuilder metaphone(final CharSequence word, final StringBuilder code) {
+        boolean hard = false;
+        final int start = code.length();
+        // The working string is the upper-case word from offset, with its first char replaced by first
+        int offset = 0;
+        char first = SoundexUtils.toUpperCase(word.charAt(0));
+        final char second = SoundexUtils.toUpperCase(word.charAt(1));
         // handle initial 2 characters exceptions
-        switch (inwd[0]) {
+        switch (first) {
         case 'K':
         case 'G':
         case 'P': /* looking for KN, etc */
-            if (inwd[1] == 'N') {
-                local.append(inwd, 1, inwd.length - 1);
-            } else {
-                local.append(inwd);
+            if (second == 'N') {
+                offset = 1;
+                first = second;
             }
             break;
         case 'A': /* looking for AE */
-            if (inwd[1] == 'E') {
-                local.append(inwd, 1, inwd.length - 1);
-            } else {
-                local.append(inwd);
+            if (second == 'E') {
+                offset = 1;
+                first = second;
             }
             break;
         case 'W': /* looking for WR or WH */
-            if (inwd[1] == 'R') { // WR -> R
-                local.append(inwd, 1, inwd.length - 1);
+            if (second == 'R') { // WR -> R
+                offset = 1;
+                first = second;
                 break;
             }
-            if (inwd[1] == 'H') {
-                local.append(inwd, 1, inwd.length - 1);
-                local.setCharAt(0, 'W'); // WH -> W
-            } else {
-                local.append(inwd);
+            if (second == 'H') {
+                offset = 1; // WH -> W
             }
             break;
         case 'X': /* initial X becomes S */
-            inwd[0] = 'S';
-            local.append(inwd);
+            first = 'S';
             break;
         default:
-            local.append(inwd);
-        } // now local has working string with initials fixed
+            break;
+        } // now the working string has initials fixed
 
-        final int wdsz = local.length();
+        final int wdsz = word.length() - offset;
         int n = 0;
 
-        while (code.length() < getMaxCodeLen() && n < wdsz) { // max code size of 4 works well
-            final char symb = local.charAt(n);
+        while (code.length() - start < getMaxCodeLen() && n < wdsz) { // max code size of 4 works well
+            final char symb = charAt(word, offset, first, n);
             // remove duplicate letters except C
-            if (symb == 'C' || !isPreviousChar(local, n, symb)) {
+            if (symb == 'C' || !isPreviousChar(word, offset, first, n, symb)) {
                 // not dup
                 switch (symb) {
                 case 'A':
@@ -236,32 +274,33 @@ public class Metaphone implements StringEncoder {
                     }
                     break; // only use vowel if leading char
                 case 'B':
-                    if (isPreviousChar(local, n, 'M') && isLastChar(wdsz, n)) { // B is silent if word ends in MB
+                    if (isPreviousChar(word, offset, first, n, 'M') && isLastChar(wdsz, n)) { // B is silent if word ends in MB
                         break;
                     }
                     code.append(symb);
                     break;
                 case 'C': // lots of C special cases
                     /* discard if SCI, SCE or SCY */
-                    if (isPreviousChar(local, n, 'S') && !isLastChar(wdsz, n) && FRONTV.indexOf(local.charAt(n + 1)) >= 0) {
+                    if (isPreviousChar(word, offset, first, n, 'S') && !isLastChar(wdsz, n) && FRONTV.indexOf(charAt(word, offset, first, n + 1)) >= 0) {
                         break;
                     }
-                    if (isPreviousChar(local, n, 'S') && isNextChar(local, n, 'H')) { // SCH->sk
+                    if (isPreviousChar(word, offset, first, n, 'S') && isNextChar(word, offset, first, n, 'H')) { // SCH->sk
                         code.append('K');
                         break;
                     }
-                    if (regionMatch(local, n, "CIA") || isNextChar(local, n, 'H')) { // "CIA" -> X or CH -> X
+                    if (regionMatch(word, offset, first, n, "CIA") || isNextChar(word, offset, first, n, 'H')) { // "CIA" -> X or CH -> X
                         code.append('X');
                         break;
                     }
-                    if (!isLastChar(wdsz, n) && FRONTV.indexOf(local.charAt(n + 1)) >= 0) {
+                    if (!isLastChar(wdsz, n) && FRONTV.indexOf(charAt(word, offset, first, n + 1)) >= 0) {
                         code.append('S');
                         break; // CI,CE,CY -> S
                     }
                     code.append('K'); // default C -> K
                     break;
                 case 'D':
-                    if (!isLastChar(wdsz, n + 1) && isNextChar(local, n, 'G') && FRONTV.indexOf(local.charAt(n + 2)) >= 0) { // DGE DGI DGY -> J
+                    if (!isLastChar(wdsz, n + 1) && isNextChar(word, offset, first, n, 'G') &&
+                            FRONTV.indexOf(charAt(word, offset, first, n + 2)) >= 0) { // DGE DGI DGY -> J
                         code.append('J');
                         n += 2;
                     } else {
@@ -269,18 +308,18 @@ public class Metaphone implements StringEncoder {
                     }
                     break;
                 case 'G': // GH silent at end or before consonant
-                    if (isLastChar(wdsz, n + 1) && isNextChar(local, n, 'H')) {
+                    if (isLastChar(wdsz, n + 1) && isNextChar(word, offset, first, n, 'H')) {
                         break;
                     }
-                    if (!isLastChar(wdsz, n + 1) && isNextChar(local, n, 'H') && !isVowel(local, n + 2)) {
+                    if (!isLastChar(wdsz, n + 1) && isNextChar(word, offset, first, n, 'H') && !isVowel(word, offset, first, n + 2)) {
                         break;
                     }
-                    if (n > 0 && (regionMatch(local, n, "GN") || regionMatch(local, n, "GNED"))) {
+                    if (n > 0 && (regionMatch(word, offset, first, n, "GN") || regionMatch(word, offset, first, n, "GNED"))) {
                         break; // silent G
                     }
                     // NOTE: Given that duplicated chars are removed, I don't see how this can ever be true
-                    hard = isPreviousChar(local, n, 'G');
-                    if (!isLastChar(wdsz, n) && FRONTV.indexOf(local.charAt(n + 1)) >= 0 && !hard) {
+                    hard = isPreviousChar(word, offset, first, n, 'G');
+                    if (!isLastChar(wdsz, n) && FRONTV.indexOf(charAt(word, offset, first, n + 1)) >= 0 && !hard) {
                         code.append('J');
                     } else {
                         code.append('K');
@@ -290,10 +329,10 @@ public class Metaphone implements StringEncoder {
                     if (isLastChar(wdsz, n)) {
                         break; // terminal H
                     }
-                    if (n > 0 && VARSON.indexOf(local.charAt(n - 1)) >= 0) {
+                    if (n > 0 && VARSON.indexOf(charAt(word, offset, first, n - 1)) >= 0) {
                         break;
                     }
-                    if (isVowel(local, n + 1)) {
+                    if (isVowel(word, offset, first, n + 1)) {
                         code.append('H'); // Hvowel
                     }
                     break;
@@ -307,7 +346,7 @@ public class Metaphone implements StringEncoder {
                     break;
                 case 'K':
                     if (n > 0) { // not initial
-                        if (!isPreviousChar(local, n, 'C')) {
+                        if (!isPreviousChar(word, offset, first, n, 'C')) {
                             code.append(symb);
                         }
                     } else {
@@ -315,7 +354,7 @@ public class Metaphone implements StringEncoder {
                     }
                     break;
                 case 'P':
-                    if (isNextChar(local, n, 'H')) {
+                    if (isNextChar(word, offset, first, n, 'H')) {
                         // PH -> F
                         code.append('F');
                     } else {
@@ -326,23 +365,23 @@ public class Metaphone implements StringEncoder {
                     code.append('K');
                     break;
                 case 'S':
-                    if (regionMatch(local, n, "SH") || regionMatch(local, n, "SIO") || regionMatch(local, n, "SIA")) {
+                    if (regionMatch(word, offset, first, n, "SH") || regionMatch(word, offset, first, n, "SIO") || regionMatch(word, offset, first, n, "SIA")) {
                         code.append('X');
                     } else {
                         code.append('S');
                     }
                     break;
                 case 'T':
-                    if (regionMatch(local, n, "TIA") || regionMatch(local, n, "TIO")) {
+                    if (regionMatch(word, offset, first, n, "TIA") || regionMatch(word, offset, first, n, "TIO")) {
                         code.append('X');
                         break;
                     }
-                    if (regionMatch(local, n, "TCH")) {
+                    if (regionMatch(word, offset, first, n, "TCH")) {
                         // Silent if in "TCH"
                         break;
                     }
                     // substitute numeral 0 for TH (resembles theta after all)
-                    if (regionMatch(local, n, "TH")) {
+                    if (regionMatch(word, offset, first, n, "TH")) {
                         code.append('0');
                     } else {
                         code.append('T');
@@ -353,7 +392,7 @@ public class Metaphone implements StringEncoder {
                     break;
                 case 'W':
                 case 'Y': // silent if not followed by vowel
-                    if (!isLastChar(wdsz, n) && isVowel(local, n + 1)) {
+                    if (!isLastChar(wdsz, n) && isVowel(word, offset, first, n + 1)) {
                         code.append(symb);
                     }
                     break;
@@ -370,20 +409,23 @@ public class Metaphone implements StringEncoder {
                 } // end switch
             } // end else from symb != 'C'
             n++;
-            if (code.length() > getMaxCodeLen()) {
-                code.setLength(getMaxCodeLen());
+            if (code.length() - start > getMaxCodeLen()) {
+                code.setLength(start + getMaxCodeLen());
             }
         }
-        return code.toString();
+        return code;
     }
 
-    private boolean regionMatch(final StringBuilder string, final int index, final String test) {
-        boolean matches = false;
-        if (index >= 0 && index + test.length() - 1 < string.length()) {
-            final String substring = string.substring(index, index + test.length());
-            matches = substring.equals(test);
+    private static boolean regionMatch(final CharSequence word, final int offset, final char first, final int index, final String test) {
+        if (index < 0 || index + test.length() - 1 >= word.length() - offset) {
+            return false;
         }
-        return matches;
+        for (int i = 0; i < test.length(); i++) {
+            if (charAt(word, offset, first, index + i) != test.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -0,0 +1,247 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.codec.language;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+import org.apache.commons.codec.EncoderException;
+import org.apache.commons.codec.StringEncoder;
+
+/**
+ * Encodes many Strings at once with a {@link StringEncoder}, splitting the work across a {@link ForkJoinPool}.
+ * <p>
+ * Encoders such as {@link Soundex}, {@link Metaphone} and {@link DoubleMetaphone} have setters that change how they encode; an encoder that is reconfigured
+ * while a batch runs must not be shared. The methods that take a {@link Supplier} of encoders create one encoder for each unit of work, so each encoder is only
+ * ever used by one thread at a time. The methods that take a single encoder share it across threads, which is safe for the encoders of this package as long as
+ * nothing calls their setters during the batch.
+ * </p>
+ * <p>
+ * This class is thread-safe.
+ * </p>
+ *
+ * @since 1.23.0
+ */
+public final class PhoneticBatch {
+
+    /**
+     * Accumulates codes for {@link PhoneticBatch#toList(Supplier)}.
+     */
+    private static final class Codes {
+
+        private final StringEncoder encoder;
+        private final List<String> list = new ArrayList<>();
+
+        Codes(final StringEncoder encoder) {
+            this.encoder = Objects.requireNonNull(encoder, "encoder");
+        }
+
+        void add(final CharSequence source) {
+            try {
+                list.add(encode(encoder, source));
+            } catch (final EncoderException e) {
+                throw new IllegalArgumentException(e.getMessage(), e);
+            }
+        }
+
+        Codes addAll(final Codes other) {
+            list.addAll(other.list);
+            return this;
+        }
+    }
+
+    /**
+     * Encodes a range of the source into the target, splitting large ranges in two.
+     */
+    private static final class EncodeTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient Supplier<? extends StringEncoder> encoders;
+        private final transient List<? extends CharSequence> source;
+        private final String[] target;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        EncodeTask(final Supplier<? extends StringEncoder> encoders, final List<? extends CharSequence> source, final String[] target, final int from,
+                final int to, final int threshold) {
+            this.encoders = encoders;
+            this.source = source;
+            this.target = target;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                try {
+                    encodeRange(encoders.get(), source, target, from, to);
+                } catch (final EncoderException e) {
+                    throw new EncoderRuntimeException(e);
+                }
+            } else {
+                final int middle = from + to >>> 1;
+                invokeAll(new EncodeTask(encoders, source, target, from, middle, threshold),
+                        new EncodeTask(encoders, source, target, middle, to, threshold));
+            }
+        }
+    }
+
+    /**
+     * Carries an {@link EncoderException} out of a {@link ForkJoinPool}.
+     */
+    private static final class EncoderRuntimeException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        EncoderRuntimeException(final EncoderException cause) {
+            super(cause);
+        }
+    }
+
+    /**
+     * The smallest number of Strings one unit of work encodes.
+     */
+    private static final int MIN_CHUNK_SIZE = 1024;
+
+    private static String encode(final StringEncoder encoder, final CharSequence source) throws EncoderException {
+        return encoder.encode(source == null ? null : source.toString());
+    }
+
+    /**
+     * Encodes all Strings with an encoder shared by all threads of the common pool.
+     *
+     * @param encoder The encoder, which must not be reconfigured while the batch runs.
+     * @param source  The Strings to encode, may contain {@code null} elements.
+     * @return The codes, in the order of the source.
+     * @throws EncoderException if the encoder fails to encode a String.
+     */
+    public static String[] encodeAll(final StringEncoder encoder, final List<? extends CharSequence> source) throws EncoderException {
+        final String[] target = new String[source.size()];
+        encodeAll(encoder, source, target);
+        return target;
+    }
+
+    /**
+     * Encodes all Strings with an encoder shared by all threads of the common pool.
+     *
+     * @param encoder The encoder, which must not be reconfigured while the batch runs.
+     * @param source  The Strings to encode, may contain {@code null} elements.
+     * @param target  Receives the code of each source element at the same index.
+     * @throws EncoderException         if the encoder fails to encode a String.
+     * @throws IllegalArgumentException if the target is shorter than the source.
+     */
+    public static void encodeAll(final StringEncoder encoder, final List<? extends CharSequence> source, final String[] target) throws EncoderException {
+        Objects.requireNonNull(encoder, "encoder");
+        encodeAll(ForkJoinPool.commonPool(), () -> encoder, source, target);
+    }
+
+    /**
+     * Encodes all Strings in the given pool, with an encoder from the given supplier for each unit of work.
+     * <p>
+     * Use this method when encoders are not thread-safe or are cheap to create. The supplier itself may be called by several threads at once.
+     * </p>
+     *
+     * @param pool     The pool to run in.
+     * @param encoders Supplies a new encoder, or one not used by any other thread, on each call.
+     * @param source   The Strings to encode, may contain {@code null} elements; a list without {@link RandomAccess} is copied first.
+     * @param target   Receives the code of each source element at the same index.
+     * @throws EncoderException         if an encoder fails to encode a String.
+     * @throws IllegalArgumentException if the target is shorter than the source.
+     */
+    public static void encodeAll(final ForkJoinPool pool, final Supplier<? extends StringEncoder> encoders, final List<? extends CharSequence> source,
+            final String[] target) throws EncoderException {
+        Objects.requireNonNull(pool, "pool");
+        Objects.requireNonNull(encoders, "encoders");
+        if (!(source instanceof RandomAccess)) {
+            encodeAll(pool, encoders, new ArrayList<>(source), target);
+            return;
+        }
+        final int size = source.size();
+        if (target.length < size) {
+            throw new IllegalArgumentException(String.format("Target length %,d is less than source size %,d", target.length, size));
+        }
+        final int threshold = Math.max(MIN_CHUNK_SIZE, size / (pool.getParallelism() * 4));
+        if (size <= threshold) {
+            encodeRange(encoders.get(), source, target, 0, size);
+            return;
+        }
+        try {
+            pool.invoke(new EncodeTask(encoders, source, target, 0, size, threshold));
+        } catch (final RuntimeException e) {
+            // The pool may rethrow a copy of the exception thrown by a task, with the original as its cause
+            for (Throwable t = e; t != null; t = t.getCause()) {
+                if (t instanceof EncoderRuntimeException) {
+                    throw (EncoderException) t.getCause();
+                }
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Encodes all Strings in the common pool, with an encoder from the given supplier for each unit of work.
+     *
+     * @param encoders Supplies a new encoder, or one not used by any other thread, on each call.
+     * @param source   The Strings to encode, may contain {@code null} elements.
+     * @param target   Receives the code of each source element at the same index.
+     * @throws EncoderException         if an encoder fails to encode a String.
+     * @throws IllegalArgumentException if the target is shorter than the source.
+     * @see #encodeAll(ForkJoinPool, Supplier, List, String[])
+     */
+    public static void encodeAll(final Supplier<? extends StringEncoder> encoders, final List<? extends CharSequence> source, final String[] target)
+            throws EncoderException {
+        encodeAll(ForkJoinPool.commonPool(), encoders, source, target);
+    }
+
+    private static void encodeRange(final StringEncoder encoder, final List<? extends CharSequence> source, final String[] target, final int from,
+            final int to) throws EncoderException {
+        Objects.requireNonNull(encoder, "encoder");
+        for (int i = from; i < to; i++) {
+            target[i] = encode(encoder, source.get(i));
+        }
+    }
+
+    /**
+     * Returns a {@link Collector} that encodes the elements of a stream into a list of codes, in encounter order.
+     * <p>
+     * A parallel stream creates one result container per unit of work, and each container gets its own encoder from the supplier. An {@link EncoderException}
+     * is rethrown as an {@link IllegalArgumentException}.
+     * </p>
+     *
+     * @param encoders Supplies a new encoder, or one not used by any other thread, on each call.
+     * @return A new collector.
+     */
+    public static Collector<CharSequence, ?, List<String>> toList(final Supplier<? extends StringEncoder> encoders) {
+        Objects.requireNonNull(encoders, "encoders");
+        return Collector.of(() -> new Codes(encoders.get()), Codes::add, Codes::addAll, codes -> codes.list);
+    }
+
+    private PhoneticBatch() {
+        // utility class
+    }
+}
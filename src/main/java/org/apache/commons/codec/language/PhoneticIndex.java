@@ -0,0 +1,478 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.codec.language;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import org.apache.commons.codec.EncoderException;
+import org.apache.commons.codec.StringEncoder;
+
+/**
+ * An in-memory index from phonetic codes to record IDs, used to find the records whose names sound like a given name.
+ * <p>
+ * Each record is added with an {@code int} ID and a name, which every encoder of the index encodes once. Encoders that return several codes separated by
+ * {@code '|'}, like {@link org.apache.commons.codec.language.bm.BeiderMorseEncoder BeiderMorseEncoder}, index the record under each code, and a
+ * {@link DaitchMokotoffSoundex} encodes with {@link DaitchMokotoffSoundex#soundex(String) branching} so that it does the same. The {@code '('}, {@code ')'}
+ * and {@code '-'} that Beider-Morse uses to group the codes of multi-word names also separate codes. For each encoder, the index keeps its codes in a sorted
+ * array and the IDs of each code in a sorted array of primitive ints.
+ * </p>
+ * <p>
+ * A query encodes a name with the same encoders and returns the sorted IDs of all records that share at least one code with it. An index can be written to a
+ * file and read back with {@link #read(Path, StringEncoder...)}, which maps the IDs into memory instead of reading them.
+ * </p>
+ * <p>
+ * An index is immutable and thread-safe, provided its encoders are not reconfigured. A builder is not thread-safe.
+ * </p>
+ *
+ * @since 1.23.0
+ */
+public final class PhoneticIndex {
+
+    /**
+     * Builds {@link PhoneticIndex} instances.
+     */
+    public static final class Builder implements Supplier<PhoneticIndex> {
+
+        private StringEncoder[] encoders = {};
+        private List<Map<String, IdList>> maps = new ArrayList<>();
+
+        /**
+         * Constructs a new instance.
+         */
+        public Builder() {
+            // empty
+        }
+
+        /**
+         * Adds a record, encoding its name with each encoder.
+         *
+         * @param id   The record ID.
+         * @param name The name of the record; a null name adds nothing.
+         * @return {@code this} instance.
+         * @throws EncoderException      if an encoder fails to encode the name.
+         * @throws IllegalStateException if no encoders are set.
+         */
+        public Builder add(final int id, final CharSequence name) throws EncoderException {
+            if (encoders.length == 0) {
+                throw new IllegalStateException("No encoders set");
+            }
+            if (name == null) {
+                return this;
+            }
+            final String source = name.toString();
+            for (int i = 0; i < encoders.length; i++) {
+                final Map<String, IdList> map = maps.get(i);
+                final String encoded = encode(encoders[i], source);
+                if (encoded == null) {
+                    continue;
+                }
+                int start = 0;
+                for (int end = 0; end <= encoded.length(); end++) {
+                    if (end == encoded.length() || isSeparator(encoded.charAt(end))) {
+                        if (end > start) {
+                            map.computeIfAbsent(encoded.substring(start, end), k -> new IdList()).add(id);
+                        }
+                        start = end + 1;
+                    }
+                }
+            }
+            return this;
+        }
+
+        /**
+         * Creates a new {@link PhoneticIndex} instance.
+         */
+        @Override
+        public PhoneticIndex get() {
+            final Table[] tables = new Table[encoders.length];
+            for (int i = 0; i < tables.length; i++) {
+                tables[i] = Table.of(maps.get(i));
+            }
+            return new PhoneticIndex(encoders.clone(), tables);
+        }
+
+        /**
+         * Sets the encoders, which must be set before adding records.
+         *
+         * @param encoders The encoders.
+         * @return {@code this} instance.
+         * @throws IllegalStateException if records have been added already.
+         */
+        public Builder setEncoders(final StringEncoder... encoders) {
+            for (final Map<String, IdList> map : maps) {
+                if (!map.isEmpty()) {
+                    throw new IllegalStateException("Records have been added already");
+                }
+            }
+            this.encoders = encoders.clone();
+            for (final StringEncoder encoder : this.encoders) {
+                Objects.requireNonNull(encoder, "encoder");
+            }
+            this.maps = new ArrayList<>(encoders.length);
+            for (int i = 0; i < encoders.length; i++) {
+                maps.add(new HashMap<>());
+            }
+            return this;
+        }
+    }
+
+    /**
+     * A growable list of IDs.
+     */
+    private static final class IdList {
+
+        private int[] ids = new int[2];
+        private int size;
+
+        void add(final int id) {
+            if (size > 0 && ids[size - 1] == id) {
+                return;
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size << 1);
+            }
+            ids[size++] = id;
+        }
+
+        /**
+         * Sorts the IDs and removes duplicates.
+         *
+         * @return The new size.
+         */
+        int sort() {
+            Arrays.sort(ids, 0, size);
+            int unique = 0;
+            for (int i = 0; i < size; i++) {
+                if (unique == 0 || ids[i] != ids[unique - 1]) {
+                    ids[unique++] = ids[i];
+                }
+            }
+            size = unique;
+            return size;
+        }
+    }
+
+    /**
+     * The codes of one encoder and their IDs.
+     */
+    private static final class Table {
+
+        static Table of(final Map<String, IdList> map) {
+            final String[] codes = map.keySet().toArray(new String[0]);
+            Arrays.sort(codes);
+            final int[] offsets = new int[codes.length + 1];
+            long total = 0;
+            for (int i = 0; i < codes.length; i++) {
+                total += map.get(codes[i]).sort();
+                if (total > Integer.MAX_VALUE) {
+                    throw new IllegalStateException("Too many IDs for one encoder: " + total);
+                }
+                offsets[i + 1] = (int) total;
+            }
+            final int[] ids = new int[(int) total];
+            for (int i = 0; i < codes.length; i++) {
+                final IdList list = map.get(codes[i]);
+                System.arraycopy(list.ids, 0, ids, offsets[i], list.size);
+            }
+            return new Table(codes, offsets, IntBuffer.wrap(ids));
+        }
+
+        /** The sorted codes. */
+        private final String[] codes;
+
+        /** The IDs of code {@code i} are at {@code offsets[i]} up to {@code offsets[i + 1]}. */
+        private final int[] offsets;
+
+        /** The IDs of all codes, possibly mapped from a file. */
+        private final IntBuffer ids;
+
+        Table(final String[] codes, final int[] offsets, final IntBuffer ids) {
+            this.codes = codes;
+            this.offsets = offsets;
+            this.ids = ids;
+        }
+
+        int indexOf(final String code) {
+            return Arrays.binarySearch(codes, code);
+        }
+    }
+
+    /** Identifies a file written by {@link #write(Path)}. */
+    private static final int MAGIC = 0x50484958;
+
+    /** The version of the file format. */
+    private static final int VERSION = 1;
+
+    /**
+     * Creates a new builder.
+     *
+     * @return A new builder.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private static String encode(final StringEncoder encoder, final String source) throws EncoderException {
+        return encoder instanceof DaitchMokotoffSoundex ? ((DaitchMokotoffSoundex) encoder).soundex(source) : encoder.encode(source);
+    }
+
+    private static boolean isSeparator(final char c) {
+        return c == '|' || c == '(' || c == ')' || c == '-';
+    }
+
+    /**
+     * Reads an index written by {@link #write(Path)}, mapping its IDs into memory.
+     * <p>
+     * The encoders must be configured the same way as the encoders of the written index; only their classes are checked.
+     * </p>
+     *
+     * @param path     The file to read.
+     * @param encoders The encoders of the written index, in the same order.
+     * @return A new index.
+     * @throws IOException              if an I/O error occurs or the file is not an index.
+     * @throws IllegalArgumentException if the encoders do not match the encoders of the written index.
+     */
+    public static PhoneticIndex read(final Path path, final StringEncoder... encoders) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final ByteBuffer header = ByteBuffer.allocate(12);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // keep reading
+            }
+            header.flip();
+            if (header.remaining() < 12 || header.getInt() != MAGIC) {
+                throw new IOException("Not a phonetic index: " + path);
+            }
+            final int version = header.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported phonetic index version " + version + ": " + path);
+            }
+            final int dictionaryLength = header.getInt();
+            if (dictionaryLength < 0 || dictionaryLength > channel.size() - header.capacity()) {
+                throw new IOException("Truncated phonetic index: " + path);
+            }
+            final ByteBuffer dictionary = ByteBuffer.allocate(dictionaryLength);
+            while (dictionary.hasRemaining() && channel.read(dictionary) >= 0) {
+                // keep reading
+            }
+            if (dictionary.hasRemaining()) {
+                throw new IOException("Truncated phonetic index: " + path);
+            }
+            final DataInputStream in = new DataInputStream(new ByteArrayInputStream(dictionary.array()));
+            final int count = in.readInt();
+            if (count != encoders.length) {
+                throw new IllegalArgumentException(String.format("The index has %,d encoders, not %,d", count, encoders.length));
+            }
+            final Table[] tables = new Table[count];
+            long position = header.capacity() + dictionary.capacity();
+            for (int i = 0; i < count; i++) {
+                final String className = in.readUTF();
+                if (!className.equals(encoders[i].getClass().getName())) {
+                    throw new IllegalArgumentException(String.format("Encoder %,d of the index is a %s, not a %s", i, className,
+                            encoders[i].getClass().getName()));
+                }
+                final int codeCount = in.readInt();
+                // each code takes at least its two byte length
+                if (codeCount < 0 || codeCount > in.available() / Short.BYTES) {
+                    throw new IOException("Truncated phonetic index: " + path);
+                }
+                final String[] codes = new String[codeCount];
+                for (int j = 0; j < codes.length; j++) {
+                    codes[j] = in.readUTF();
+                }
+                final int[] offsets = new int[codes.length + 1];
+                for (int j = 0; j < offsets.length; j++) {
+                    offsets[j] = in.readInt();
+                }
+                final long size = (long) offsets[codes.length] * Integer.BYTES;
+                if (position + size > channel.size()) {
+                    throw new IOException("Truncated phonetic index: " + path);
+                }
+                tables[i] = new Table(codes, offsets, channel.map(FileChannel.MapMode.READ_ONLY, position, size).asIntBuffer());
+                position += size;
+            }
+            return new PhoneticIndex(encoders.clone(), tables);
+        }
+    }
+
+    private static void writeFully(final FileChannel channel, final ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private final StringEncoder[] encoders;
+    private final Table[] tables;
+
+    private PhoneticIndex(final StringEncoder[] encoders, final Table[] tables) {
+        this.encoders = encoders;
+        this.tables = tables;
+    }
+
+    /**
+     * Gets the sorted IDs of the records whose name shares at least one code with the given name, for any encoder.
+     *
+     * @param name The name to look up.
+     * @return The sorted IDs, empty if there are none.
+     * @throws EncoderException if an encoder fails to encode the name.
+     */
+    public int[] candidates(final CharSequence name) throws EncoderException {
+        if (name == null) {
+            return new int[0];
+        }
+        final String source = name.toString();
+        // Collect the matching ranges first so that the result is allocated once
+        int[] ranges = new int[12];
+        int rangeCount = 0;
+        int total = 0;
+        for (int i = 0; i < encoders.length; i++) {
+            final String encoded = encode(encoders[i], source);
+            if (encoded == null) {
+                continue;
+            }
+            int start = 0;
+            for (int end = 0; end <= encoded.length(); end++) {
+                if (end == encoded.length() || isSeparator(encoded.charAt(end))) {
+                    final int index = end > start ? tables[i].indexOf(encoded.substring(start, end)) : -1;
+                    if (index >= 0) {
+                        if (rangeCount * 3 == ranges.length) {
+                            ranges = Arrays.copyOf(ranges, ranges.length << 1);
+                        }
+                        final int from = tables[i].offsets[index];
+                        final int to = tables[i].offsets[index + 1];
+                        ranges[rangeCount * 3] = i;
+                        ranges[rangeCount * 3 + 1] = from;
+                        ranges[rangeCount * 3 + 2] = to;
+                        rangeCount++;
+                        total += to - from;
+                    }
+                    start = end + 1;
+                }
+            }
+        }
+        final int[] ids = new int[total];
+        int size = 0;
+        for (int r = 0; r < rangeCount; r++) {
+            final IntBuffer postings = tables[ranges[r * 3]].ids;
+            for (int j = ranges[r * 3 + 1]; j < ranges[r * 3 + 2]; j++) {
+                ids[size++] = postings.get(j);
+            }
+        }
+        if (rangeCount <= 1) {
+            return ids;
+        }
+        Arrays.sort(ids);
+        int unique = 0;
+        for (int i = 0; i < size; i++) {
+            if (unique == 0 || ids[i] != ids[unique - 1]) {
+                ids[unique++] = ids[i];
+            }
+        }
+        return unique == size ? ids : Arrays.copyOf(ids, unique);
+    }
+
+    /**
+     * Gets the number of distinct codes of an encoder.
+     *
+     * @param encoderIndex The index of the encoder, in the order the encoders were set.
+     * @return The number of distinct codes.
+     */
+    public int getCodeCount(final int encoderIndex) {
+        return tables[encoderIndex].codes.length;
+    }
+
+    /**
+     * Gets the sorted IDs of the records with the given code of an encoder.
+     *
+     * @param encoderIndex The index of the encoder, in the order the encoders were set.
+     * @param code         A single code, as returned by the encoder or one of its {@code '|'} separated branches.
+     * @return The sorted IDs, empty if there are none.
+     */
+    public int[] postings(final int encoderIndex, final String code) {
+        final Table table = tables[encoderIndex];
+        final int index = table.indexOf(code);
+        if (index < 0) {
+            return new int[0];
+        }
+        final int[] ids = new int[table.offsets[index + 1] - table.offsets[index]];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = table.ids.get(table.offsets[index] + i);
+        }
+        return ids;
+    }
+
+    /**
+     * Writes this index to a file, replacing the file if it exists.
+     * <p>
+     * The file holds the class names of the encoders, the codes and the IDs, but not the encoders' configuration.
+     * </p>
+     *
+     * @param path The file to write.
+     * @throws IOException if an I/O error occurs.
+     */
+    public void write(final Path path) throws IOException {
+        final ByteArrayOutputStream dictionaryBytes = new ByteArrayOutputStream();
+        try (DataOutputStream dictionary = new DataOutputStream(dictionaryBytes)) {
+            dictionary.writeInt(encoders.length);
+            for (int i = 0; i < encoders.length; i++) {
+                dictionary.writeUTF(encoders[i].getClass().getName());
+                dictionary.writeInt(tables[i].codes.length);
+                for (final String code : tables[i].codes) {
+                    dictionary.writeUTF(code);
+                }
+                for (final int offset : tables[i].offsets) {
+                    dictionary.writeInt(offset);
+                }
+            }
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            final ByteBuffer header = ByteBuffer.allocate(12);
+            header.putInt(MAGIC).putInt(VERSION).putInt(dictionaryBytes.size()).flip();
+            writeFully(channel, header);
+            writeFully(channel, ByteBuffer.wrap(dictionaryBytes.toByteArray()));
+            final ByteBuffer buffer = ByteBuffer.allocate(8192);
+            for (final Table table : tables) {
+                final IntBuffer ids = table.ids.duplicate();
+                ids.clear();
+                while (ids.hasRemaining()) {
+                    while (ids.hasRemaining() && buffer.remaining() >= Integer.BYTES) {
+                        buffer.putInt(ids.get());
+                    }
+                    buffer.flip();
+                    writeFully(channel, buffer);
+                    buffer.clear();
+                }
+            }
+        }
+    }
+}
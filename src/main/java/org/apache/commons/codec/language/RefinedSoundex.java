@@ -130,6 +130,47 @@ public class RefinedSoundex implements StringEncoder {
         return SoundexUtils.difference(this, s1, s2);
     }
 
+    /**
+     * Encodes a CharSequence using the refined Soundex algorithm and appends the code to a StringBuilder.
+     * <p>
+     * This method appends the same code as {@link #soundex(String)} and, for ASCII input, allocates nothing beyond growing the target.
+     * </p>
+     *
+     * @param source The CharSequence to encode, may be null.
+     * @param target The StringBuilder to append the code to, nothing is appended for a null source or a source without letters.
+     * @return The target.
+     * @since 1.23.0
+     */
+    public StringBuilder encode(final CharSequence source, final StringBuilder target) {
+        if (source == null) {
+            return target;
+        }
+        if (!SoundexUtils.isAscii(source)) {
+            return target.append(soundex(source.toString()));
+        }
+        boolean first = true;
+        char last = '*';
+        for (int i = 0; i < source.length(); i++) {
+            final char ch = SoundexUtils.toUpperCase(source.charAt(i));
+            if (ch < 'A' || ch > 'Z') {
+                continue;
+            }
+            if (first) {
+                target.append(ch);
+                first = false;
+            }
+            final char current = getMappingCode(ch);
+            if (current == last) {
+                continue;
+            }
+            if (current != 0) {
+                target.append(current);
+            }
+            last = current;
+        }
+        return target;
+    }
+
     /**
      * Encodes an Object using the refined Soundex algorithm. This method is
      * provided in order to satisfy the requirements of the Encoder interface,
@@ -192,6 +192,60 @@ public class Soundex implements StringEncoder {
         return SoundexUtils.difference(this, s1, s2);
     }
 
+    /**
+     * Encodes a CharSequence using the Soundex algorithm and appends the code to a StringBuilder.
+     * <p>
+     * This method appends the same code as {@link #soundex(String)} and, for ASCII input, allocates nothing.
+     * </p>
+     *
+     * @param source The CharSequence to encode, may be null.
+     * @param target The StringBuilder to append the code to, nothing is appended for a null source or a source without letters.
+     * @return The target.
+     * @throws IllegalArgumentException if a character is not mapped.
+     * @since 1.23.0
+     */
+    public StringBuilder encode(final CharSequence source, final StringBuilder target) {
+        if (source == null) {
+            return target;
+        }
+        if (!SoundexUtils.isAscii(source)) {
+            return target.append(soundex(source.toString()));
+        }
+        final int start = target.length();
+        int count = 0;
+        char lastDigit = 0; // previous digit
+        for (int i = 0; i < source.length() && count < 4; i++) {
+            final char ch = SoundexUtils.toUpperCase(source.charAt(i));
+            if (ch < 'A' || ch > 'Z') {
+                continue;
+            }
+            if (count == 0) {
+                lastDigit = map(ch);
+                target.append(ch);
+                count++;
+                continue;
+            }
+            if (this.specialCaseHW && (ch == 'H' || ch == 'W')) { // these are ignored completely
+                continue;
+            }
+            final char digit = map(ch);
+            if (digit == SILENT_MARKER) {
+                continue;
+            }
+            if (digit != '0' && digit != lastDigit) { // don't store vowels or repeats
+                target.append(digit);
+                count++;
+            }
+            lastDigit = digit;
+        }
+        if (count > 0) {
+            while (target.length() < start + 4) {
+                target.append('0');
+            }
+        }
+        return target;
+    }
+
     /**
      * Encodes an Object using the Soundex algorithm. This method is provided in order to satisfy the requirements of the Encoder interface, and will throw an
      * EncoderException if the supplied object is not of type {@link String}.
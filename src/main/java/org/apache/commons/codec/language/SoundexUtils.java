@@ -103,6 +103,21 @@ final class SoundexUtils {
         return diff;
     }
 
+    /**
+     * Tests whether a CharSequence contains only ASCII characters, which clean up and change case without allocating.
+     *
+     * @param cs The CharSequence to test.
+     * @return {@code true} if all characters are ASCII.
+     */
+    static boolean isAscii(final CharSequence cs) {
+        for (int i = 0; i < cs.length(); i++) {
+            if (cs.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * <p>
      * Checks if a CharSequence is empty ("") or null.
@@ -122,4 +137,14 @@ final class SoundexUtils {
     static boolean isEmpty(final CharSequence cs) {
         return cs == null || cs.length() == 0;
     }
+
+    /**
+     * Converts an ASCII lower-case letter to upper case, like {@link String#toUpperCase(Locale)} with {@link Locale#ENGLISH}.
+     *
+     * @param ch An ASCII character.
+     * @return The upper-case character.
+     */
+    static char toUpperCase(final char ch) {
+        return ch >= 'a' && ch <= 'z' ? (char) (ch - ('a' - 'A')) : ch;
+    }
 }
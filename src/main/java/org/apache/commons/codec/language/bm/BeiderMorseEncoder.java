@@ -79,6 +79,8 @@ public class BeiderMorseEncoder implements StringEncoder {
      */
     public static final class Builder {
 
+        private EncodingCache cache;
+
         private PhoneticEngine engine = PhoneticEngine.builder().get();
 
         private Builder() {
@@ -94,6 +96,21 @@ public class BeiderMorseEncoder implements StringEncoder {
             return new BeiderMorseEncoder(this);
         }
 
+        /**
+         * Sets the cache the encoder looks up encodings in before computing them, for example to share one cache between several encoders.
+         * <p>
+         * A null value, the default, keeps the cache of the phonetic engine, if any.
+         * </p>
+         *
+         * @param cache The cache, may be null.
+         * @return this builder, for chaining.
+         * @see PhoneticEngine.Builder#setCache(EncodingCache)
+         */
+        public Builder setCache(final EncodingCache cache) {
+            this.cache = cache;
+            return this;
+        }
+
         /**
          * Sets the phonetic engine to use.
          *
@@ -129,7 +146,7 @@ public class BeiderMorseEncoder implements StringEncoder {
     }
 
     private BeiderMorseEncoder(final Builder builder) {
-        engine = builder.engine;
+        engine = builder.cache != null ? PhoneticEngine.builder().setAll(builder.engine).setCache(builder.cache).get() : builder.engine;
     }
 
     @Override
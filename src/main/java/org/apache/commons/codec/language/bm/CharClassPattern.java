@@ -0,0 +1,235 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.codec.language.bm;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.codec.language.bm.Rule.RPattern;
+
+/**
+ * Matches the subset of regular expressions that the rule files use for left and right contexts, and the language files for guessing languages, without
+ * {@link java.util.regex.Pattern}.
+ * <p>
+ * The subset is a sequence of atoms, optionally anchored with {@code ^} and {@code $}. An atom is a literal character, a {@code .}, a bracketed class like
+ * {@code [aeiou]} or {@code [^aeiou]} without ranges or escapes, or a group of single-character alternatives like {@code (a|e|o)}. Each atom matches exactly
+ * one character, so a pattern compiles to an array of character sets, each a bitmap indexed by character, and matching is a loop over that array.
+ * </p>
+ * <p>
+ * This class is immutable and thread-safe.
+ * </p>
+ */
+final class CharClassPattern implements RPattern {
+
+    /** The characters {@code .} does not match: the line terminators of {@link java.util.regex.Pattern}. */
+    private static final String LINE_TERMINATORS = "\n\r\u0085\u2028\u2029";
+
+    /** The characters that have a special meaning outside a bracketed class. */
+    private static final String META = "\\[](){}.*+?^$|";
+
+    private static long[] bitmap(final CharSequence chars) {
+        int max = 0;
+        for (int i = 0; i < chars.length(); i++) {
+            max = Math.max(max, chars.charAt(i));
+        }
+        final long[] bitmap = new long[(max >> 6) + 1];
+        for (int i = 0; i < chars.length(); i++) {
+            final char c = chars.charAt(i);
+            bitmap[c >> 6] |= 1L << c;
+        }
+        return bitmap;
+    }
+
+    /**
+     * Compiles a regular expression.
+     *
+     * @param regex The regular expression.
+     * @return The compiled pattern, or null if the regular expression is not in the supported subset.
+     */
+    static CharClassPattern compile(final String regex) {
+        final boolean start = regex.startsWith("^");
+        final boolean end = regex.endsWith("$") && regex.length() > (start ? 1 : 0);
+        final String content = regex.substring(start ? 1 : 0, end ? regex.length() - 1 : regex.length());
+        final List<long[]> sets = new ArrayList<>();
+        final List<Boolean> negated = new ArrayList<>();
+        for (int i = 0; i < content.length();) {
+            final char c = content.charAt(i);
+            final int close;
+            if (c == '[') {
+                close = content.indexOf(']', i + 1);
+                final boolean negate = close > i + 1 && content.charAt(i + 1) == '^';
+                final String chars = close < 0 ? null : content.substring(negate ? i + 2 : i + 1, close);
+                if (chars == null || chars.isEmpty() || !isPlain(chars, "\\[]^-&")) {
+                    return null;
+                }
+                sets.add(bitmap(chars));
+                negated.add(negate);
+            } else if (c == '(') {
+                close = content.indexOf(')', i + 1);
+                if (close < 0) {
+                    return null;
+                }
+                // single characters separated by '|'
+                final StringBuilder chars = new StringBuilder();
+                for (int j = i + 1; j < close; j += 2) {
+                    final char a = content.charAt(j);
+                    if (META.indexOf(a) >= 0 || j + 1 < close && content.charAt(j + 1) != '|' || j + 1 == close - 1) {
+                        return null;
+                    }
+                    chars.append(a);
+                }
+                if (chars.length() == 0) {
+                    return null;
+                }
+                sets.add(bitmap(chars));
+                negated.add(Boolean.FALSE);
+            } else if (c == '.') {
+                close = i;
+                sets.add(bitmap(LINE_TERMINATORS));
+                negated.add(Boolean.TRUE);
+            } else if (META.indexOf(c) < 0) {
+                close = i;
+                sets.add(bitmap(String.valueOf(c)));
+                negated.add(Boolean.FALSE);
+            } else {
+                return null;
+            }
+            i = close + 1;
+        }
+        final boolean[] negatedArray = new boolean[negated.size()];
+        for (int i = 0; i < negatedArray.length; i++) {
+            negatedArray[i] = negated.get(i);
+        }
+        return new CharClassPattern(start, end, true, sets.toArray(new long[0][]), negatedArray);
+    }
+
+    /**
+     * Compiles a left or right context of a {@link Rule}.
+     * <p>
+     * Rule has always matched two shapes of anchored context without regular expression semantics: a context without a bracketed class is a literal, even if
+     * it contains {@code .}, {@code (} or {@code |}, and a context that is a single bracketed class matches one character against all the characters between
+     * the brackets. These keep that meaning; other contexts compile like {@link #compile(String)}.
+     * </p>
+     *
+     * @param regex The context, with its anchor.
+     * @return The compiled pattern, or null if the context is not in the supported subset.
+     */
+    static CharClassPattern compileContext(final String regex) {
+        final boolean start = regex.startsWith("^");
+        final boolean end = regex.endsWith("$") && regex.length() > (start ? 1 : 0);
+        final String content = regex.substring(start ? 1 : 0, end ? regex.length() - 1 : regex.length());
+        if (start || end) {
+            if (content.indexOf('[') < 0) {
+                final long[][] sets = new long[content.length()][];
+                for (int i = 0; i < sets.length; i++) {
+                    sets[i] = bitmap(content.substring(i, i + 1));
+                }
+                return new CharClassPattern(start, end, false, sets, new boolean[sets.length]);
+            }
+            if (content.startsWith("[") && content.endsWith("]") && content.indexOf('[', 1) < 0) {
+                final String box = content.substring(1, content.length() - 1);
+                final boolean negate = box.startsWith("^");
+                return new CharClassPattern(start, end, false, new long[][] { bitmap(negate ? box.substring(1) : box) }, new boolean[] { negate });
+            }
+        }
+        return compile(regex);
+    }
+
+    private static boolean isPlain(final String chars, final String special) {
+        for (int i = 0; i < chars.length(); i++) {
+            if (special.indexOf(chars.charAt(i)) >= 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private final boolean end;
+    /** Whether {@code $} also matches before a line terminator that ends the input, as in a regular expression. */
+    private final boolean endBeforeLineTerminator;
+    private final boolean[] negated;
+    private final long[][] sets;
+    private final boolean start;
+
+    private CharClassPattern(final boolean start, final boolean end, final boolean endBeforeLineTerminator, final long[][] sets, final boolean[] negated) {
+        this.start = start;
+        this.end = end;
+        this.endBeforeLineTerminator = endBeforeLineTerminator;
+        this.sets = sets;
+        this.negated = negated;
+    }
+
+    @Override
+    public boolean isMatch(final CharSequence input) {
+        return isMatch(input, 0, input.length());
+    }
+
+    /**
+     * Tests whether a range of the input matches, as if the range were the whole input.
+     *
+     * @param input The input.
+     * @param from  The start of the range, inclusive.
+     * @param to    The end of the range, exclusive.
+     * @return whether the range matches.
+     */
+    boolean isMatch(final CharSequence input, final int from, final int to) {
+        if (!end) {
+            if (start) {
+                return to - from >= sets.length && matchesAt(input, from);
+            }
+            for (int i = from; i <= to - sets.length; i++) {
+                if (matchesAt(input, i)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        if (matchesEndingAt(input, from, to)) {
+            return true;
+        }
+        if (!endBeforeLineTerminator) {
+            return false;
+        }
+        // like Pattern, '$' also matches before a line terminator that ends the input
+        if (to > from) {
+            final char last = input.charAt(to - 1);
+            if (last == '\n' && to - 2 >= from && input.charAt(to - 2) == '\r') {
+                return matchesEndingAt(input, from, to - 2);
+            }
+            return LINE_TERMINATORS.indexOf(last) >= 0 && matchesEndingAt(input, from, to - 1);
+        }
+        return false;
+    }
+
+    private boolean matchesAt(final CharSequence input, final int offset) {
+        for (int k = 0; k < sets.length; k++) {
+            final char c = input.charAt(offset + k);
+            final long[] set = sets[k];
+            final int word = c >> 6;
+            if ((word < set.length && (set[word] & 1L << c) != 0) == negated[k]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean matchesEndingAt(final CharSequence input, final int from, final int to) {
+        final int offset = to - sets.length;
+        return offset >= from && (!start || offset == from) && matchesAt(input, offset);
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.codec.language.bm;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * A bounded, thread-safe cache of Beider-Morse encodings.
+ * <p>
+ * Encoding with a {@link PhoneticEngine} is expensive, and real-world names are heavily skewed towards a small set of common ones. An engine built with
+ * {@link PhoneticEngine.Builder#setCache(EncodingCache)} looks up each input in its cache before encoding it, and stores what it encodes. Entries are keyed by
+ * the input and by every setting of the engine that changes its output, so one cache can be shared by engines with different settings.
+ * </p>
+ * <p>
+ * The cache is split into segments selected by the hash of the key, each guarded by its own lock. Each segment is a segmented LRU: new entries go to a
+ * probationary segment, and entries hit again move to a protected segment that holds 80% of the capacity. A scan of names that occur only once therefore only
+ * evicts other names that occurred only once, not the frequent ones. Encoding happens outside the lock, so two threads that miss on the same key at the same
+ * time both encode it.
+ * </p>
+ * <p>
+ * This class is thread-safe.
+ * </p>
+ *
+ * @see PhoneticEngine.Builder#setCache(EncodingCache)
+ * @see BeiderMorseEncoder.Builder#setCache(EncodingCache)
+ * @since 1.23.0
+ */
+public final class EncodingCache {
+
+    /**
+     * A segmented LRU cache guarded by its own lock.
+     */
+    private static final class Segment {
+
+        private final LinkedHashMap<Object, String> probation = new LinkedHashMap<>(16, 0.75f, true);
+        private final LinkedHashMap<Object, String> protect = new LinkedHashMap<>(16, 0.75f, true);
+        private final int probationCapacity;
+        private final int protectCapacity;
+
+        Segment(final int capacity) {
+            protectCapacity = capacity * 4 / 5;
+            probationCapacity = capacity - protectCapacity;
+        }
+
+        synchronized void clear() {
+            probation.clear();
+            protect.clear();
+        }
+
+        /**
+         * Gets the value of a key, promoting it to the protected segment on a hit.
+         */
+        synchronized String get(final Object key) {
+            String value = protect.get(key);
+            if (value == null && (value = probation.get(key)) != null && protectCapacity > 0) {
+                probation.remove(key);
+                protect.put(key, value);
+                if (protect.size() > protectCapacity) {
+                    // demote the least recently used protected entry
+                    final Map.Entry<Object, String> eldest = removeEldest(protect);
+                    probation.put(eldest.getKey(), eldest.getValue());
+                }
+            }
+            return value;
+        }
+
+        /**
+         * Puts a new value in the probationary segment.
+         *
+         * @return The number of entries evicted.
+         */
+        synchronized int put(final Object key, final String value) {
+            if (protect.containsKey(key) || probation.put(key, value) != null) {
+                return 0;
+            }
+            int evicted = 0;
+            while (probation.size() > probationCapacity) {
+                removeEldest(probation);
+                evicted++;
+            }
+            return evicted;
+        }
+
+        synchronized int size() {
+            return probation.size() + protect.size();
+        }
+
+        private static Map.Entry<Object, String> removeEldest(final LinkedHashMap<Object, String> map) {
+            final Iterator<Map.Entry<Object, String>> iterator = map.entrySet().iterator();
+            final Map.Entry<Object, String> eldest = iterator.next();
+            iterator.remove();
+            return eldest;
+        }
+    }
+
+    private static final int MAX_SEGMENTS = 16;
+
+    /** The number of entries each segment must at least hold before the cache uses more than one segment. */
+    private static final int MIN_SEGMENT_CAPACITY = 64;
+
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder hitCount = new LongAdder();
+    private final int maximumSize;
+    private final LongAdder missCount = new LongAdder();
+    private final Segment[] segments;
+
+    /**
+     * Constructs a new cache holding at most the given number of encodings.
+     *
+     * @param maximumSize The maximum number of encodings to hold.
+     * @throws IllegalArgumentException if {@code maximumSize} is less than 1.
+     */
+    public EncodingCache(final int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        int count = 1;
+        while (count < MAX_SEGMENTS && maximumSize / (count * 2) >= MIN_SEGMENT_CAPACITY) {
+            count *= 2;
+        }
+        segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            // spread the remainder so that the capacities add up to maximumSize
+            segments[i] = new Segment(maximumSize / count + (i < maximumSize % count ? 1 : 0));
+        }
+    }
+
+    /**
+     * Removes all encodings from this cache. The hit, miss and eviction counts are kept.
+     */
+    public void clear() {
+        for (final Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    /**
+     * Gets the encoding of a key from this cache, or computes and stores it.
+     *
+     * @param key     The key, which captures the input and the settings of the engine.
+     * @param encoder Computes the encoding on a miss.
+     * @return The encoding.
+     */
+    String get(final Object key, final Supplier<String> encoder) {
+        final Segment segment = segment(key);
+        String value = segment.get(key);
+        if (value != null) {
+            hitCount.increment();
+            return value;
+        }
+        missCount.increment();
+        value = encoder.get();
+        final int evicted = segment.put(key, value);
+        if (evicted > 0) {
+            evictionCount.add(evicted);
+        }
+        return value;
+    }
+
+    /**
+     * Gets the number of encodings evicted to keep this cache within its maximum size.
+     *
+     * @return The number of encodings evicted.
+     */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * Gets the number of lookups that found their encoding in this cache.
+     *
+     * @return The number of hits.
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * Gets the fraction of lookups that found their encoding in this cache.
+     *
+     * @return The ratio of hits to lookups, or 0 if there were no lookups.
+     */
+    public double getHitRate() {
+        final long hits = hitCount.sum();
+        final long lookups = hits + missCount.sum();
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    /**
+     * Gets the maximum number of encodings this cache holds.
+     *
+     * @return The maximum number of encodings.
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Gets the number of lookups that did not find their encoding in this cache.
+     *
+     * @return The number of misses.
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    private Segment segment(final Object key) {
+        final int hash = key.hashCode();
+        return segments[(hash ^ hash >>> 16) & segments.length - 1];
+    }
+
+    /**
+     * Gets the number of encodings in this cache.
+     *
+     * @return The number of encodings.
+     */
+    public int size() {
+        int size = 0;
+        for (final Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[maximumSize=%,d, size=%,d, hitCount=%,d, missCount=%,d, evictionCount=%,d]", getClass().getSimpleName(), maximumSize, size(),
+                getHitCount(), getMissCount(), getEvictionCount());
+    }
+}
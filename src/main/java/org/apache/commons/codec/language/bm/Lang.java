@@ -17,20 +17,21 @@
 
 package org.apache.commons.codec.language.bm;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Scanner;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
-import org.apache.commons.codec.Resources;
-
 /**
  * Language guessing utility.
  * <p>
@@ -86,31 +87,35 @@ public class Lang {
     private static final class LangRule {
         private final boolean acceptOnMatch;
         private final Set<String> languages;
-        private final Pattern pattern;
+        private final Rule.RPattern pattern;
 
-        private LangRule(final Pattern pattern, final Set<String> languages, final boolean acceptOnMatch) {
-            this.pattern = pattern;
+        private LangRule(final String regex, final Set<String> languages, final boolean acceptOnMatch) {
+            final CharClassPattern compiled = CharClassPattern.compile(regex);
+            if (compiled != null) {
+                this.pattern = compiled;
+            } else {
+                final Pattern fallback = Pattern.compile(regex);
+                this.pattern = txt -> fallback.matcher(txt).find();
+            }
             this.languages = languages;
             this.acceptOnMatch = acceptOnMatch;
         }
 
         public boolean matches(final String txt) {
-            return pattern.matcher(txt).find();
+            return pattern.isMatch(txt);
         }
     }
 
-    private static final Map<NameType, Lang> LANGS = new EnumMap<>(NameType.class);
+    /** The maximum number of languages for which guessing uses bit masks. */
+    private static final int MAX_MASK_LANGUAGES = Long.SIZE;
+
+    /** The Lang of each name type, loaded on first use of the name type. */
+    private static final Map<NameType, Lang> LANGS = new ConcurrentHashMap<>();
 
     private static final String LANGUAGE_RULES_RN = "/org/apache/commons/codec/language/bm/%s_lang.txt";
 
     private static final Pattern PLUS = Pattern.compile("\\+");
 
-    static {
-        for (final NameType s : NameType.values()) {
-            LANGS.put(s, loadFromResource(String.format(LANGUAGE_RULES_RN, s.getName()), Languages.getInstance(s)));
-        }
-    }
-
     /**
      * Gets a Lang instance for one of the supported NameTypes.
      *
@@ -119,7 +124,7 @@ public class Lang {
      * @return A Lang encapsulating the language guessing rules for that name type.
      */
     public static Lang instance(final NameType nameType) {
-        return LANGS.get(nameType);
+        return LANGS.computeIfAbsent(nameType, s -> loadFromResource(String.format(LANGUAGE_RULES_RN, s.getName()), Languages.getInstance(s)));
     }
 
     /**
@@ -137,11 +142,10 @@ public class Lang {
      */
     public static Lang loadFromResource(final String languageRulesResourceName, final Languages languages) {
         final List<LangRule> rules = new ArrayList<>();
-        try (Scanner scanner = new Scanner(Resources.getInputStream(languageRulesResourceName),
-                ResourceConstants.ENCODING)) {
+        try (BufferedReader reader = ResourceConstants.newReader(languageRulesResourceName)) {
             boolean inExtendedComment = false;
-            while (scanner.hasNextLine()) {
-                final String rawLine = scanner.nextLine();
+            String rawLine;
+            while ((rawLine = reader.readLine()) != null) {
                 String line = rawLine;
                 if (inExtendedComment) {
                     // check for closing comment marker, otherwise discard doc comment line
@@ -172,24 +176,51 @@ public class Lang {
                                 "' in language resource '" + languageRulesResourceName + "'");
                     }
 
-                    final Pattern pattern = Pattern.compile(parts[0]);
                     final String[] langs = PLUS.split(parts[1]);
                     final boolean accept = parts[2].equals("true");
 
-                    rules.add(new LangRule(pattern, new HashSet<>(Arrays.asList(langs)), accept));
+                    rules.add(new LangRule(parts[0], new HashSet<>(Arrays.asList(langs)), accept));
                 }
             }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(languageRulesResourceName, e);
         }
         return new Lang(rules, languages);
     }
 
+    /** The bit mask of all the languages. */
+    private final long allMask;
+
     private final Languages languages;
 
+    /** The guessed language sets by bit mask of their languages. */
+    private final Map<Long, Languages.LanguageSet> languageSets = new ConcurrentHashMap<>();
+
+    /** The bit of each language, or null if there are too many languages for a bit mask. */
+    private final Map<String, Long> languageBits;
+
+    /** The bit mask of the languages of each rule, or null if there are too many languages for a bit mask. */
+    private final long[] ruleMasks;
+
     private final List<LangRule> rules;
 
     private Lang(final List<LangRule> rules, final Languages languages) {
         this.rules = Collections.unmodifiableList(rules);
         this.languages = languages;
+        final Set<String> all = languages.getLanguages();
+        if (all.size() <= MAX_MASK_LANGUAGES) {
+            languageBits = new HashMap<>();
+            all.forEach(language -> languageBits.put(language, 1L << languageBits.size()));
+            allMask = toMask(all);
+            ruleMasks = new long[rules.size()];
+            for (int i = 0; i < ruleMasks.length; i++) {
+                ruleMasks[i] = toMask(rules.get(i).languages);
+            }
+        } else {
+            allMask = 0;
+            languageBits = null;
+            ruleMasks = null;
+        }
     }
 
     /**
@@ -213,6 +244,20 @@ public class Lang {
      */
     public Languages.LanguageSet guessLanguages(final String input) {
         final String text = input.toLowerCase(Locale.ENGLISH);
+        if (ruleMasks != null) {
+            // one pass over the rules, narrowing down a bit mask of the languages
+            long mask = allMask;
+            for (int i = 0; i < ruleMasks.length && mask != 0; i++) {
+                final long ruleMask = ruleMasks[i];
+                final LangRule rule = rules.get(i);
+                // skip matching when the rule cannot change the mask
+                final boolean changes = rule.acceptOnMatch ? (mask & ~ruleMask) != 0 : (mask & ruleMask) != 0;
+                if (changes && rule.matches(text)) {
+                    mask = rule.acceptOnMatch ? mask & ruleMask : mask & ~ruleMask;
+                }
+            }
+            return languageSets.computeIfAbsent(mask, this::toLanguageSet);
+        }
         final Set<String> langs = new HashSet<>(languages.getLanguages());
         rules.forEach(rule -> {
             if (rule.matches(text)) {
@@ -226,4 +271,37 @@ public class Lang {
         final Languages.LanguageSet ls = Languages.LanguageSet.from(langs);
         return ls.equals(Languages.NO_LANGUAGES) ? Languages.ANY_LANGUAGE : ls;
     }
+
+    /**
+     * Converts a bit mask of languages to the language set {@link #guessLanguages(String)} returns for it.
+     *
+     * @param mask
+     *            the bit mask.
+     * @return The language set.
+     */
+    private Languages.LanguageSet toLanguageSet(final long mask) {
+        // remove from a copy of all the languages, like the set algorithm, so the set iterates in the same order
+        final Set<String> langs = new HashSet<>(languages.getLanguages());
+        langs.removeIf(language -> (mask & languageBits.get(language)) == 0);
+        final Languages.LanguageSet ls = Languages.LanguageSet.from(langs);
+        return ls.equals(Languages.NO_LANGUAGES) ? Languages.ANY_LANGUAGE : ls;
+    }
+
+    /**
+     * Converts a set of languages to a bit mask, ignoring unknown languages.
+     *
+     * @param langs
+     *            the languages.
+     * @return The bit mask.
+     */
+    private long toMask(final Set<String> langs) {
+        long mask = 0;
+        for (final String language : langs) {
+            final Long bit = languageBits.get(language);
+            if (bit != null) {
+                mask |= bit;
+            }
+        }
+        return mask;
+    }
 }
@@ -17,17 +17,17 @@
 
 package org.apache.commons.codec.language.bm;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Collections;
-import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.NoSuchElementException;
-import java.util.Scanner;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
-import org.apache.commons.codec.Resources;
-
 /**
  * Language codes.
  * <p>
@@ -133,8 +133,21 @@ public class Languages {
     public static final class SomeLanguages extends LanguageSet {
         private final Set<String> languages;
 
+        /** The bits of {@link #languages}, or 0 if some language has no bit. */
+        private final long mask;
+
         private SomeLanguages(final Set<String> languages) {
             this.languages = Collections.unmodifiableSet(languages);
+            long m = 0;
+            for (final String language : languages) {
+                final long bit = languageBit(language);
+                if (bit == 0) {
+                    m = 0;
+                    break;
+                }
+                m |= bit;
+            }
+            this.mask = m;
         }
 
         @Override
@@ -175,6 +188,15 @@ public class Languages {
                 return other;
             }
             final SomeLanguages someLanguages = (SomeLanguages) other;
+            if (mask != 0 && someLanguages.mask != 0) {
+                final long union = mask | someLanguages.mask;
+                if (union == mask) {
+                    return this;
+                }
+                if (union == someLanguages.mask) {
+                    return other;
+                }
+            }
             final Set<String> set = new HashSet<>(languages);
             set.addAll(someLanguages.languages);
             return from(set);
@@ -189,6 +211,19 @@ public class Languages {
                 return this;
             }
             final SomeLanguages someLanguages = (SomeLanguages) other;
+            if (mask != 0 && someLanguages.mask != 0) {
+                // the common case of a subset or disjoint sets needs no new set
+                final long common = mask & someLanguages.mask;
+                if (common == mask) {
+                    return this;
+                }
+                if (common == someLanguages.mask) {
+                    return other;
+                }
+                if (common == 0) {
+                    return NO_LANGUAGES;
+                }
+            }
             return from(languages.stream().filter(lang -> someLanguages.languages.contains(lang)).collect(Collectors.toSet()));
         }
 
@@ -204,7 +239,11 @@ public class Languages {
      */
     public static final String ANY = "any";
 
-    private static final Map<NameType, Languages> LANGUAGES = new EnumMap<>(NameType.class);
+    /** The languages of each name type, loaded on first use of the name type. */
+    private static final Map<NameType, Languages> LANGUAGES = new ConcurrentHashMap<>();
+
+    /** The bit of each language name seen so far, at most {@link Long#SIZE} of them. */
+    private static final Map<String, Long> LANGUAGE_BITS = new ConcurrentHashMap<>();
 
     /**
      * No languages at all.
@@ -288,10 +327,18 @@ public class Languages {
         }
     };
 
-    static {
-        for (final NameType s : NameType.values()) {
-            LANGUAGES.put(s, getInstance(langResourceName(s)));
+    private static synchronized long assignLanguageBit(final String language) {
+        final Long bit = LANGUAGE_BITS.get(language);
+        if (bit != null) {
+            return bit;
         }
+        if (LANGUAGE_BITS.size() == Long.SIZE) {
+            // too many distinct languages, sets with this one fall back to set operations
+            return 0;
+        }
+        final long newBit = 1L << LANGUAGE_BITS.size();
+        LANGUAGE_BITS.put(language, newBit);
+        return newBit;
     }
 
     /**
@@ -301,7 +348,18 @@ public class Languages {
      * @return An instance for the given name type.
      */
     public static Languages getInstance(final NameType nameType) {
-        return LANGUAGES.get(nameType);
+        return LANGUAGES.computeIfAbsent(nameType, s -> getInstance(langResourceName(s)));
+    }
+
+    /**
+     * Gets the bit of the given language name, shared by all name types, so that {@link SomeLanguages} can be intersected with bit operations.
+     *
+     * @param language The language name.
+     * @return The bit of the language, or 0 if all bits are taken.
+     */
+    private static long languageBit(final String language) {
+        final Long bit = LANGUAGE_BITS.get(language);
+        return bit != null ? bit : assignLanguageBit(language);
     }
 
     /**
@@ -313,11 +371,11 @@ public class Languages {
     public static Languages getInstance(final String languagesResourceName) {
         // read languages list
         final Set<String> ls = new HashSet<>();
-        try (Scanner lsScanner = new Scanner(Resources.getInputStream(languagesResourceName),
-                ResourceConstants.ENCODING)) {
+        try (BufferedReader reader = ResourceConstants.newReader(languagesResourceName)) {
             boolean inExtendedComment = false;
-            while (lsScanner.hasNextLine()) {
-                final String line = lsScanner.nextLine().trim();
+            String rawLine;
+            while ((rawLine = reader.readLine()) != null) {
+                final String line = rawLine.trim();
                 if (inExtendedComment) {
                     if (line.endsWith(ResourceConstants.EXT_CMT_END)) {
                         inExtendedComment = false;
@@ -329,6 +387,8 @@ public class Languages {
                 }
             }
             return new Languages(Collections.unmodifiableSet(ls));
+        } catch (final IOException e) {
+            throw new UncheckedIOException(languagesResourceName, e);
         }
     }
 
@@ -19,10 +19,10 @@ package org.apache.commons.codec.language.bm;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumMap;
 import java.util.HashSet;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -34,6 +34,7 @@ import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import org.apache.commons.codec.language.bm.Languages.LanguageSet;
+import org.apache.commons.codec.language.bm.Languages.SomeLanguages;
 import org.apache.commons.codec.language.bm.Rule.Phoneme;
 
 /**
@@ -67,6 +68,8 @@ public class PhoneticEngine {
 
         private static final int MAX_PHONEMES = 20;
 
+        private EncodingCache cache;
+
         private boolean concat = true;
 
         private int maxInputLength = MAX_INPUT_LENGTH;
@@ -97,6 +100,22 @@ public class PhoneticEngine {
             this.ruleType = engine.getRuleType();
             this.concat = engine.isConcat();
             this.maxPhonemes = engine.getMaxPhonemes();
+            this.maxInputLength = engine.maxInputLength;
+            this.cache = engine.getCache();
+            return this;
+        }
+
+        /**
+         * Sets the cache the engine looks up encodings in before computing them.
+         * <p>
+         * A null value, the default, disables caching.
+         * </p>
+         *
+         * @param cache The cache, may be null.
+         * @return This builder.
+         */
+        public Builder setCache(final EncodingCache cache) {
+            this.cache = cache;
             return this;
         }
 
@@ -189,15 +208,19 @@ public class PhoneticEngine {
             return new PhonemeBuilder(new Rule.Phoneme("", languages));
         }
 
-        private final Set<Rule.Phoneme> phonemes;
+        /** The phonemes, in the order they were built; only the first {@link #size} slots are used. */
+        private Rule.Phoneme[] phonemes;
+
+        private int size;
 
         private PhonemeBuilder(final Rule.Phoneme phoneme) {
-            this.phonemes = new LinkedHashSet<>();
-            this.phonemes.add(phoneme);
+            this.phonemes = new Rule.Phoneme[] { phoneme };
+            this.size = 1;
         }
 
-        private PhonemeBuilder(final Set<Rule.Phoneme> phonemes) {
-            this.phonemes = phonemes;
+        private PhonemeBuilder(final Collection<Rule.Phoneme> phonemes) {
+            this.phonemes = phonemes.toArray(new Rule.Phoneme[0]);
+            this.size = this.phonemes.length;
         }
 
         /**
@@ -206,7 +229,9 @@ public class PhoneticEngine {
          * @param str The characters to append to the phonemes.
          */
         public void append(final CharSequence str) {
-            phonemes.forEach(ph -> ph.append(str));
+            for (int i = 0; i < size; i++) {
+                phonemes[i].append(str);
+            }
         }
 
         /**
@@ -214,37 +239,40 @@ public class PhoneticEngine {
          * <p>
          * This will lengthen phonemes that have compatible language sets to the expression, and drop those that are incompatible.
          * </p>
+         * <p>
+         * No phoneme is built beyond the first {@code maxPhonemes}.
+         * </p>
          *
          * @param phonemeExpr The expression to apply.
          * @param maxPhonemes The maximum number of phonemes to build up.
          */
         public void apply(final Rule.PhonemeExpr phonemeExpr, final int maxPhonemes) {
-            final Set<Rule.Phoneme> newPhonemes = new LinkedHashSet<>(Math.min(phonemes.size() * phonemeExpr.size(), maxPhonemes));
-            EXPR: for (final Rule.Phoneme left : phonemes) {
-                for (final Rule.Phoneme right : phonemeExpr.getPhonemes()) {
+            final Iterable<Rule.Phoneme> rights = phonemeExpr.getPhonemes();
+            final Rule.Phoneme[] newPhonemes = new Rule.Phoneme[Math.max(0, (int) Math.min((long) size * phonemeExpr.size(), maxPhonemes))];
+            int newSize = 0;
+            EXPR: for (int i = 0; i < size && newSize < newPhonemes.length; i++) {
+                final Rule.Phoneme left = phonemes[i];
+                for (final Rule.Phoneme right : rights) {
                     final LanguageSet languages = left.getLanguages().restrictTo(right.getLanguages());
                     if (!languages.isEmpty()) {
-                        final Rule.Phoneme join = new Phoneme(left, right, languages);
-                        if (newPhonemes.size() < maxPhonemes) {
-                            newPhonemes.add(join);
-                            if (newPhonemes.size() >= maxPhonemes) {
-                                break EXPR;
-                            }
+                        newPhonemes[newSize++] = new Phoneme(left, right, languages);
+                        if (newSize == newPhonemes.length) {
+                            break EXPR;
                         }
                     }
                 }
             }
-            phonemes.clear();
-            phonemes.addAll(newPhonemes);
+            phonemes = newPhonemes;
+            size = newSize;
         }
 
         /**
-         * Gets underlying phoneme set. Please don't mutate.
+         * Gets underlying phonemes. Please don't mutate.
          *
-         * @return the phoneme set.
+         * @return the phonemes.
          */
-        public Set<Rule.Phoneme> getPhonemes() {
-            return phonemes;
+        public List<Rule.Phoneme> getPhonemes() {
+            return Arrays.asList(phonemes).subList(0, size);
         }
 
         /**
@@ -254,7 +282,14 @@ public class PhoneticEngine {
          * @return the stringified phoneme set.
          */
         public String makeString() {
-            return phonemes.stream().map(Rule.Phoneme::getPhonemeText).collect(Collectors.joining("|"));
+            final StringBuilder builder = new StringBuilder();
+            for (int i = 0; i < size; i++) {
+                if (i > 0) {
+                    builder.append('|');
+                }
+                builder.append(phonemes[i].getPhonemeText());
+            }
+            return builder.toString();
         }
     }
 
@@ -270,7 +305,7 @@ public class PhoneticEngine {
      */
     private static final class RulesApplication {
 
-        private final Map<String, List<Rule>> finalRules;
+        private final RuleTable finalRules;
 
         private boolean found;
 
@@ -282,7 +317,7 @@ public class PhoneticEngine {
 
         private final PhonemeBuilder phonemeBuilder;
 
-        RulesApplication(final Map<String, List<Rule>> finalRules, final CharSequence input, final PhonemeBuilder phonemeBuilder, final int i,
+        RulesApplication(final RuleTable finalRules, final CharSequence input, final PhonemeBuilder phonemeBuilder, final int i,
                 final int maxPhonemes) {
             this.finalRules = Objects.requireNonNull(finalRules, "finalRules");
             this.phonemeBuilder = phonemeBuilder;
@@ -309,16 +344,13 @@ public class PhoneticEngine {
         public RulesApplication invoke() {
             found = false;
             int patternLength = 1;
-            final List<Rule> rules = finalRules.get(input.subSequence(i, i + patternLength));
-            if (rules != null) {
-                for (final Rule rule : rules) {
-                    final String pattern = rule.getPattern();
-                    patternLength = pattern.length();
-                    if (rule.patternAndContextMatches(input, i)) {
-                        phonemeBuilder.apply(rule.getPhoneme(), maxPhonemes);
-                        found = true;
-                        break;
-                    }
+            for (final Rule rule : finalRules.get(input.charAt(i))) {
+                final String pattern = rule.getPattern();
+                patternLength = pattern.length();
+                if (rule.patternAndContextMatches(input, i)) {
+                    phonemeBuilder.apply(rule.getPhoneme(), maxPhonemes);
+                    found = true;
+                    break;
                 }
             }
             if (!found) {
@@ -333,6 +365,50 @@ public class PhoneticEngine {
         }
     }
 
+    /**
+     * Keys an {@link EncodingCache} entry by the input and every engine setting that changes its encoding.
+     */
+    private static final class Key {
+
+        private final boolean concat;
+        private final int hashCode;
+        private final String input;
+        /** The languages the input was encoded for, or null if they were guessed from the input. */
+        private final Object languages;
+        private final int maxPhonemes;
+        private final NameType nameType;
+        private final RuleType ruleType;
+
+        Key(final PhoneticEngine engine, final String input, final LanguageSet languageSet) {
+            this.input = input;
+            this.nameType = engine.nameType;
+            this.ruleType = engine.ruleType;
+            this.concat = engine.concat;
+            this.maxPhonemes = engine.maxPhonemes;
+            // SomeLanguages does not implement equals, but its set of languages does
+            this.languages = languageSet instanceof SomeLanguages ? ((SomeLanguages) languageSet).getLanguages() : languageSet;
+            this.hashCode = Objects.hash(input, nameType, ruleType, concat, maxPhonemes, languages);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            return hashCode == other.hashCode && concat == other.concat && maxPhonemes == other.maxPhonemes && nameType == other.nameType &&
+                    ruleType == other.ruleType && input.equals(other.input) && Objects.equals(languages, other.languages);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
     private static final Map<NameType, Set<String>> NAME_PREFIXES = new EnumMap<>(NameType.class);
 
     private static final Pattern QUOTE = Pattern.compile("'");
@@ -365,6 +441,8 @@ public class PhoneticEngine {
         return strings.stream().collect(Collectors.joining(sep));
     }
 
+    private final EncodingCache cache;
+
     private final boolean concat;
 
     private final Lang lang;
@@ -393,6 +471,7 @@ public class PhoneticEngine {
         this.lang = Lang.instance(builder.nameType);
         this.maxPhonemes = builder.maxPhonemes;
         this.maxInputLength = builder.maxInputLength;
+        this.cache = builder.cache;
     }
 
     /**
@@ -432,7 +511,7 @@ public class PhoneticEngine {
      * @param finalRules     The final rules to apply.
      * @return The resulting phonemes.
      */
-    private PhonemeBuilder applyFinalRules(final PhonemeBuilder phonemeBuilder, final Map<String, List<Rule>> finalRules) {
+    private PhonemeBuilder applyFinalRules(final PhonemeBuilder phonemeBuilder, final RuleTable finalRules) {
         Objects.requireNonNull(finalRules, "finalRules");
         if (finalRules.isEmpty()) {
             return phonemeBuilder;
@@ -468,6 +547,18 @@ public class PhoneticEngine {
         return new PhonemeBuilder(phonemes.keySet());
     }
 
+    /**
+     * Throws if the input is longer than the maximum allowed length.
+     *
+     * @param input The input.
+     * @throws IllegalArgumentException if the input is longer than the maximum allowed length.
+     */
+    private void checkInputLength(final String input) {
+        if (input.length() > maxInputLength) {
+            throw new IllegalArgumentException("Input is greater than maxInputLength (" + maxInputLength + ").");
+        }
+    }
+
     /**
      * Encodes a string to its phonetic representation.
      *
@@ -476,7 +567,12 @@ public class PhoneticEngine {
      * @throws IllegalArgumentException if the input is longer than the maximum allowed length.
      */
     public String encode(final String input) {
-        return encode(input, lang.guessLanguages(input));
+        if (cache == null) {
+            return encode(input, lang.guessLanguages(input));
+        }
+        checkInputLength(input);
+        // the guessed languages depend only on the input and the name type, so they need not be part of the key
+        return cache.get(new Key(this, input, null), () -> encodeUncached(input, lang.guessLanguages(input)));
     }
 
     /**
@@ -487,15 +583,17 @@ public class PhoneticEngine {
      * @return A phonetic representation of the input; a String containing '-'-separated phonetic representations of the input.
      * @throws IllegalArgumentException if the input is longer than the maximum allowed length.
      */
-    public String encode(String input, final Languages.LanguageSet languageSet) {
-        if (input.length() > maxInputLength) {
-            throw new IllegalArgumentException("Input is greater than maxInputLength (" + maxInputLength + ").");
-        }
-        final Map<String, List<Rule>> rules = Rule.getInstanceMap(this.nameType, RuleType.RULES, languageSet);
+    public String encode(final String input, final Languages.LanguageSet languageSet) {
+        checkInputLength(input);
+        return cache != null ? cache.get(new Key(this, input, languageSet), () -> encodeUncached(input, languageSet)) : encodeUncached(input, languageSet);
+    }
+
+    private String encodeUncached(String input, final Languages.LanguageSet languageSet) {
+        final RuleTable rules = Rule.getInstanceTable(this.nameType, RuleType.RULES, languageSet);
         // rules common across many (all) languages
-        final Map<String, List<Rule>> finalRules1 = Rule.getInstanceMap(this.nameType, this.ruleType, "common");
+        final RuleTable finalRules1 = Rule.getInstanceTable(this.nameType, this.ruleType, "common");
         // rules that apply to a specific language that may be ambiguous or wrong if applied to other languages
-        final Map<String, List<Rule>> finalRules2 = Rule.getInstanceMap(this.nameType, this.ruleType, languageSet);
+        final RuleTable finalRules2 = Rule.getInstanceTable(this.nameType, this.ruleType, languageSet);
         // tidy the input
         // lower case is a locale-dependent operation
         input = input.toLowerCase(Locale.ENGLISH).replace('-', ' ').trim();
@@ -568,6 +666,16 @@ public class PhoneticEngine {
         return phonemeBuilder.makeString();
     }
 
+    /**
+     * Gets the cache of encodings.
+     *
+     * @return The cache of encodings, or null if this engine does not cache.
+     * @since 1.23.0
+     */
+    public EncodingCache getCache() {
+        return this.cache;
+    }
+
     /**
      * Gets the Lang language guessing rules being used.
      *
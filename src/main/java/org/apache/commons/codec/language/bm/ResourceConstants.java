@@ -17,9 +17,13 @@
 
 package org.apache.commons.codec.language.bm;
 
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.regex.Pattern;
 
 import org.apache.commons.codec.CharEncoding;
+import org.apache.commons.codec.Resources;
 
 /**
  * Constants used to process resource files.
@@ -36,5 +40,14 @@ final class ResourceConstants {
     static final String EXT_CMT_START = "/*";
     static final Pattern SPACES = Pattern.compile("\\s+");
 
-
+    /**
+     * Opens a resource for reading lines. This is much cheaper to set up than a {@link java.util.Scanner}, which matters because the resources are read on
+     * first use of the encoder.
+     *
+     * @param resourceName The resource name.
+     * @return A reader on the resource.
+     */
+    static BufferedReader newReader(final String resourceName) {
+        return new BufferedReader(new InputStreamReader(Resources.getInputStream(resourceName), StandardCharsets.UTF_8));
+    }
 }
@@ -17,21 +17,22 @@
 
 package org.apache.commons.codec.language.bm;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Scanner;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import org.apache.commons.codec.Resources;
 import org.apache.commons.codec.language.bm.Languages.LanguageSet;
 
 /**
@@ -138,8 +139,9 @@ public class Rule {
          * @param languages    A language set.
          */
         public Phoneme(final Phoneme phonemeLeft, final Phoneme phonemeRight, final Languages.LanguageSet languages) {
-            this(phonemeLeft.phonemeText, languages);
-            this.phonemeText.append(phonemeRight.phonemeText);
+            this.phonemeText = new StringBuilder(phonemeLeft.phonemeText.length() + phonemeRight.phonemeText.length());
+            this.phonemeText.append(phonemeLeft.phonemeText).append(phonemeRight.phonemeText);
+            this.languages = languages;
         }
 
         /**
@@ -274,6 +276,20 @@ public class Rule {
         boolean isMatch(CharSequence input);
     }
 
+    /**
+     * The rules of one resource file, as a map and as a table.
+     */
+    private static final class RuleResource {
+
+        private final Map<String, List<Rule>> map;
+        private final RuleTable table;
+
+        RuleResource(final Map<String, List<Rule>> map) {
+            this.map = map;
+            this.table = new RuleTable(map);
+        }
+    }
+
     private static final String PIPE = "|";
 
     /**
@@ -294,67 +310,15 @@ public class Rule {
     private static final int HASH_INCLUDE_LENGTH = HASH_INCLUDE.length();
     private static final Pattern AROUND_PLUS = Pattern.compile("[+]");
     private static final Pattern AROUND_PIPE = Pattern.compile("[|]");
-    private static final Map<NameType, Map<RuleType, Map<String, Map<String, List<Rule>>>>> RULES = new EnumMap<>(NameType.class);
-
-    /**
-     * Initializes {@code RULES}.
-     */
-    static {
-        for (final NameType nameType : NameType.values()) {
-            final Map<RuleType, Map<String, Map<String, List<Rule>>>> rtsMap = new EnumMap<>(RuleType.class);
-            for (final RuleType ruleType : RuleType.values()) {
-                final Map<String, Map<String, List<Rule>>> rsMap = new HashMap<>();
-                final Languages languages = Languages.getInstance(nameType);
-                languages.getLanguages().forEach(l -> {
-                    try (Scanner scanner = createScanner(nameType, ruleType, l)) {
-                        rsMap.put(l, parseRules(scanner, createResourceName(nameType, ruleType, l)));
-                    } catch (final IllegalStateException e) {
-                        throw new IllegalStateException("Problem processing " + createResourceName(nameType, ruleType, l), e);
-                    }
-                });
-                if (!ruleType.equals(RuleType.RULES)) {
-                    try (Scanner scanner = createScanner(nameType, ruleType, "common")) {
-                        rsMap.put("common", parseRules(scanner, createResourceName(nameType, ruleType, "common")));
-                    }
-                }
-                rtsMap.put(ruleType, Collections.unmodifiableMap(rsMap));
-            }
-            RULES.put(nameType, Collections.unmodifiableMap(rtsMap));
-        }
-    }
-
-    private static boolean contains(final CharSequence chars, final char input) {
-        return chars.chars().anyMatch(c -> c == input);
-    }
+    /** The rules of each resource file, loaded on first use, keyed by resource name. */
+    private static final Map<String, RuleResource> RULES = new ConcurrentHashMap<>();
 
     private static String createResourceName(final NameType nameType, final RuleType rt, final String lang) {
         return String.format("/org/apache/commons/codec/language/bm/%s_%s_%s.txt", nameType.getName(), rt.getName(), lang);
     }
 
-    @SuppressWarnings("resource") // Closing the Scanner closes the resource
-    private static Scanner createScanner(final NameType nameType, final RuleType rt, final String lang) {
-        final String resName = createResourceName(nameType, rt, lang);
-        return new Scanner(Resources.getInputStream(resName), ResourceConstants.ENCODING);
-    }
-
-    @SuppressWarnings("resource") // Closing the Scanner closes the resource
-    private static Scanner createScanner(final String lang) {
-        final String resName = String.format("/org/apache/commons/codec/language/bm/%s.txt", lang);
-        return new Scanner(Resources.getInputStream(resName), ResourceConstants.ENCODING);
-    }
-
-    private static boolean endsWith(final CharSequence input, final CharSequence suffix) {
-        final int suffixLength = suffix.length();
-        final int inputLength = input.length();
-        if (suffixLength > inputLength) {
-            return false;
-        }
-        for (int i = inputLength - 1, j = suffixLength - 1; j >= 0; i--, j--) {
-            if (input.charAt(i) != suffix.charAt(j)) {
-                return false;
-            }
-        }
-        return true;
+    private static String createResourceName(final String lang) {
+        return String.format("/org/apache/commons/codec/language/bm/%s.txt", lang);
     }
 
     /**
@@ -407,11 +371,54 @@ public class Rule {
      * @since 1.9
      */
     public static Map<String, List<Rule>> getInstanceMap(final NameType nameType, final RuleType rt, final String lang) {
-        final Map<String, List<Rule>> rules = RULES.get(nameType).get(rt).get(lang);
-        if (rules == null) {
+        return getRuleResource(nameType, rt, lang).map;
+    }
+
+    /**
+     * Gets the rules for a combination of name type, rule type and languages, indexed by the first character of the rule pattern.
+     *
+     * @param nameType The NameType to consider.
+     * @param rt       The RuleType to consider.
+     * @param langs    The set of languages to consider.
+     * @return A table of all Rules that apply.
+     */
+    static RuleTable getInstanceTable(final NameType nameType, final RuleType rt, final Languages.LanguageSet langs) {
+        return getInstanceTable(nameType, rt, langs.isSingleton() ? langs.getAny() : Languages.ANY);
+    }
+
+    /**
+     * Gets the rules for a combination of name type, rule type and a single language, indexed by the first character of the rule pattern.
+     *
+     * @param nameType The NameType to consider.
+     * @param rt       The RuleType to consider.
+     * @param lang     The language to consider.
+     * @return A table of all Rules that apply.
+     */
+    static RuleTable getInstanceTable(final NameType nameType, final RuleType rt, final String lang) {
+        return getRuleResource(nameType, rt, lang).table;
+    }
+
+    /**
+     * Gets the rules of a resource file, loading them on first use. Only the resources an application needs are read, so the first encoding of a name only
+     * pays for the languages it is guessed to be in.
+     *
+     * @param nameType The NameType to consider.
+     * @param rt       The RuleType to consider.
+     * @param lang     The language to consider.
+     * @return The rules of the resource file.
+     * @throws IllegalArgumentException if there are no rules for the combination.
+     */
+    private static RuleResource getRuleResource(final NameType nameType, final RuleType rt, final String lang) {
+        if (!Languages.getInstance(nameType).getLanguages().contains(lang) && (rt == RuleType.RULES || !"common".equals(lang))) {
             throw new IllegalArgumentException(String.format("No rules found for %s, %s, '%s'.", nameType.getName(), rt.getName(), lang));
         }
-        return rules;
+        return RULES.computeIfAbsent(createResourceName(nameType, rt, lang), resourceName -> {
+            try {
+                return new RuleResource(Collections.unmodifiableMap(parseRules(resourceName)));
+            } catch (final IllegalStateException e) {
+                throw new IllegalStateException("Problem processing " + resourceName, e);
+            }
+        });
     }
 
     private static Phoneme parsePhoneme(final String ph) {
@@ -451,13 +458,25 @@ public class Rule {
         return parsePhoneme(ph);
     }
 
-    private static Map<String, List<Rule>> parseRules(final Scanner scanner, final String location) {
+    private static Map<String, List<Rule>> parseRules(final String resourceName) {
+        return parseRules(resourceName, resourceName);
+    }
+
+    private static Map<String, List<Rule>> parseRules(final String resourceName, final String location) {
+        try (BufferedReader reader = ResourceConstants.newReader(resourceName)) {
+            return parseRules(reader, location);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(location, e);
+        }
+    }
+
+    private static Map<String, List<Rule>> parseRules(final BufferedReader reader, final String location) throws IOException {
         final Map<String, List<Rule>> lines = new HashMap<>();
         int currentLine = 0;
         boolean inMultilineComment = false;
-        while (scanner.hasNextLine()) {
+        String rawLine;
+        while ((rawLine = reader.readLine()) != null) {
             currentLine++;
-            final String rawLine = scanner.nextLine();
             String line = rawLine;
             if (inMultilineComment) {
                 if (line.endsWith(ResourceConstants.EXT_CMT_END)) {
@@ -482,9 +501,7 @@ public class Rule {
                     if (incl.contains(" ")) {
                         throw new IllegalArgumentException("Malformed import statement '" + rawLine + "' in " + location);
                     }
-                    try (Scanner hashIncludeScanner = createScanner(incl)) {
-                        lines.putAll(parseRules(hashIncludeScanner, location + "->" + incl));
-                    }
+                    lines.putAll(parseRules(createResourceName(incl), location + "->" + incl));
                 } else {
                     // rule
                     final String[] parts = ResourceConstants.SPACES.split(line);
@@ -528,64 +545,38 @@ public class Rule {
     }
 
     /**
-     * Attempts to compile the regex into direct string ops, falling back to Pattern and Matcher in the worst case.
+     * Tests whether a range of the input matches a context, as if the range were the whole input.
+     *
+     * @param context The context.
+     * @param input   The input.
+     * @param from    The start of the range, inclusive.
+     * @param to      The end of the range, exclusive.
+     * @return whether the range matches.
+     */
+    private static boolean isMatch(final RPattern context, final CharSequence input, final int from, final int to) {
+        if (context == ALL_STRINGS_RMATCHER) {
+            return true;
+        }
+        if (context instanceof CharClassPattern) {
+            return ((CharClassPattern) context).isMatch(input, from, to);
+        }
+        return context.isMatch(input.subSequence(from, to));
+    }
+
+    /**
+     * Compiles the regex into a {@link CharClassPattern}, falling back to Pattern and Matcher for syntax the rule files do not use.
      *
      * @param regex The regular expression to compile.
      * @return An RPattern that will match this regex.
      */
     private static RPattern pattern(final String regex) {
-        final boolean startsWith = regex.startsWith("^");
-        final boolean endsWith = regex.endsWith("$");
-        final String content = regex.substring(startsWith ? 1 : 0, endsWith ? regex.length() - 1 : regex.length());
-        final boolean boxes = content.contains("[");
-        if (!boxes) {
-            if (startsWith && endsWith) {
-                // exact match
-                if (content.isEmpty()) {
-                    // empty
-                    return input -> input.length() == 0;
-                }
-                return input -> input.equals(content);
-            }
-            if ((startsWith || endsWith) && content.isEmpty()) {
-                // matches every string
-                return ALL_STRINGS_RMATCHER;
-            }
-            if (startsWith) {
-                // matches from start
-                return input -> startsWith(input, content);
-            }
-            if (endsWith) {
-                // matches from start
-                return input -> endsWith(input, content);
-            }
-        } else {
-            final boolean startsWithBox = content.startsWith("[");
-            final boolean endsWithBox = content.endsWith("]");
-            if (startsWithBox && endsWithBox) {
-                String boxContent = content.substring(1, content.length() - 1);
-                if (!boxContent.contains("[")) {
-                    // box containing alternatives
-                    final boolean negate = boxContent.startsWith("^");
-                    if (negate) {
-                        boxContent = boxContent.substring(1);
-                    }
-                    final String bContent = boxContent;
-                    final boolean shouldMatch = !negate;
-                    if (startsWith && endsWith) {
-                        // exact match
-                        return input -> input.length() == 1 && contains(bContent, input.charAt(0)) == shouldMatch;
-                    }
-                    if (startsWith) {
-                        // first char
-                        return input -> input.length() > 0 && contains(bContent, input.charAt(0)) == shouldMatch;
-                    }
-                    if (endsWith) {
-                        // last char
-                        return input -> input.length() > 0 && contains(bContent, input.charAt(input.length() - 1)) == shouldMatch;
-                    }
-                }
-            }
+        if (regex.equals("^") || regex.equals("$")) {
+            // matches every string
+            return ALL_STRINGS_RMATCHER;
+        }
+        final CharClassPattern compiled = CharClassPattern.compileContext(regex);
+        if (compiled != null) {
+            return compiled;
         }
         return new RPattern() {
 
@@ -599,18 +590,6 @@ public class Rule {
         };
     }
 
-    private static boolean startsWith(final CharSequence input, final CharSequence prefix) {
-        if (prefix.length() > input.length()) {
-            return false;
-        }
-        for (int i = 0; i < prefix.length(); i++) {
-            if (input.charAt(i) != prefix.charAt(i)) {
-                return false;
-            }
-        }
-        return true;
-    }
-
     private static String stripQuotes(String str) {
         if (str.startsWith(DOUBLE_QUOTE)) {
             str = str.substring(1);
@@ -697,12 +676,11 @@ public class Rule {
         }
         // evaluate the pattern, left context and right context
         // fail early if any of the evaluations is not successful
-        if (!input.subSequence(i, ipl).equals(pattern)) {
-            return false;
-        }
-        if (!rContext.isMatch(input.subSequence(ipl, input.length()))) {
-            return false;
+        for (int k = 0; k < patternLength; k++) {
+            if (input.charAt(i + k) != pattern.charAt(k)) {
+                return false;
+            }
         }
-        return lContext.isMatch(input.subSequence(0, i));
+        return isMatch(rContext, input, ipl, input.length()) && isMatch(lContext, input, 0, i);
     }
 }
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.codec.language.bm;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable table of rules indexed by the first character of their pattern.
+ * <p>
+ * Rules whose pattern starts with an ASCII character are found by indexing an array; the others by a binary search over the sorted non-ASCII characters.
+ * Within each character, rules keep the order of the rule file, since the first matching rule wins.
+ * </p>
+ * <p>
+ * This class is immutable and thread-safe.
+ * </p>
+ */
+final class RuleTable {
+
+    private static final Rule[] NO_RULES = {};
+
+    private final Rule[][] ascii = new Rule[128][];
+    private final boolean empty;
+    private final char[] otherChars;
+    private final Rule[][] otherRules;
+
+    /**
+     * Constructs a new table from a map of rules grouped by the first character of their pattern.
+     *
+     * @param rules The rules, as returned by {@link Rule#getInstanceMap(NameType, RuleType, String)}.
+     */
+    RuleTable(final Map<String, List<Rule>> rules) {
+        Arrays.fill(ascii, NO_RULES);
+        final char[] chars = new char[rules.size()];
+        int count = 0;
+        for (final String key : rules.keySet()) {
+            final char c = key.charAt(0);
+            if (c < ascii.length) {
+                ascii[c] = rules.get(key).toArray(NO_RULES);
+            } else {
+                chars[count++] = c;
+            }
+        }
+        otherChars = Arrays.copyOf(chars, count);
+        Arrays.sort(otherChars);
+        otherRules = new Rule[count][];
+        for (int i = 0; i < count; i++) {
+            otherRules[i] = rules.get(String.valueOf(otherChars[i])).toArray(NO_RULES);
+        }
+        empty = rules.isEmpty();
+    }
+
+    /**
+     * Gets the rules whose pattern starts with a character.
+     *
+     * @param c The character.
+     * @return The rules in rule file order, never null.
+     */
+    Rule[] get(final char c) {
+        if (c < ascii.length) {
+            return ascii[c];
+        }
+        final int i = Arrays.binarySearch(otherChars, c);
+        return i >= 0 ? otherRules[i] : NO_RULES;
+    }
+
+    /**
+     * Tests whether this table has no rules.
+     *
+     * @return whether this table has no rules.
+     */
+    boolean isEmpty() {
+        return empty;
+    }
+}
@@ -17,11 +17,12 @@
 
 package org.apache.commons.codec.net;
 
-import java.nio.ByteBuffer;
-import java.util.BitSet;
+import java.nio.charset.Charset;
+import java.util.Arrays;
 
 import org.apache.commons.codec.BinaryDecoder;
 import org.apache.commons.codec.BinaryEncoder;
+import org.apache.commons.codec.CodecMetricsRegistry;
 import org.apache.commons.codec.DecoderException;
 import org.apache.commons.codec.EncoderException;
 
@@ -30,8 +31,7 @@ import org.apache.commons.codec.EncoderException;
  * special US-ASCII characters can be specified in order to perform proper URI encoding for the different parts
  * of the URI.
  * <p>
- * This class is immutable. It is also thread-safe besides using BitSet which is not thread-safe, but its public
- * interface only call the access
+ * This class is immutable and thread-safe.
  * </p>
  *
  * @see <a href="https://tools.ietf.org/html/rfc3986#section-2.1">Percent-Encoding</a>
@@ -49,21 +49,18 @@ public class PercentCodec implements BinaryEncoder, BinaryDecoder {
      */
     private static final byte PLUS_CHAR = '+';
 
+    static final String DECODE_MESSAGE = "Invalid percent decoding: ";
+
     /**
-     * The bit set used to store the character that should be always encoded.
+     * The {@link Utils#encodePercent(byte[], int, int, byte[])} codes of the byte values: the non US-ASCII and the always encoded characters are escaped.
      */
-    private final BitSet alwaysEncodeChars = new BitSet();
+    private final byte[] encodeTable = new byte[256];
 
     /**
      * The flag defining if the space character should be encoded as '+'.
      */
     private final boolean plusForSpace;
 
-    /**
-     * The minimum and maximum code of the bytes that is inserted in the bit set, used to prevent look-ups
-     */
-    private int alwaysEncodeCharsMin = Integer.MAX_VALUE, alwaysEncodeCharsMax = Integer.MIN_VALUE;
-
     /**
      * Constructs a Percent coded that will encode all the non US-ASCII characters using the Percent-Encoding
      * while it will not encode all the US-ASCII characters, except for character '%' that is used as escape
@@ -71,6 +68,7 @@ public class PercentCodec implements BinaryEncoder, BinaryDecoder {
      */
     public PercentCodec() {
         this.plusForSpace = false;
+        Arrays.fill(encodeTable, 0x80, encodeTable.length, Utils.ESCAPE);
         insertAlwaysEncodeChar(ESCAPE_CHAR);
     }
 
@@ -84,23 +82,14 @@ public class PercentCodec implements BinaryEncoder, BinaryDecoder {
      */
     public PercentCodec(final byte[] alwaysEncodeChars, final boolean plusForSpace) {
         this.plusForSpace = plusForSpace;
+        Arrays.fill(encodeTable, 0x80, encodeTable.length, Utils.ESCAPE);
         insertAlwaysEncodeChars(alwaysEncodeChars);
         if (plusForSpace) {
             insertAlwaysEncodeChar(PLUS_CHAR);
-        }
-    }
-
-    private boolean canEncode(final byte c) {
-        return !isAsciiChar(c) || inAlwaysEncodeCharsRange(c) && alwaysEncodeChars.get(c);
-    }
-
-    private boolean containsSpace(final byte[] bytes) {
-        for (final byte b : bytes) {
-            if (b == ' ') {
-                return true;
+            if (encodeTable[Utils.SPACE] == Utils.LITERAL) {
+                encodeTable[Utils.SPACE] = Utils.PLUS;
             }
         }
-        return false;
     }
 
     /**
@@ -114,24 +103,32 @@ public class PercentCodec implements BinaryEncoder, BinaryDecoder {
         if (bytes == null) {
             return null;
         }
-        final ByteBuffer buffer = ByteBuffer.allocate(expectedDecodingBytes(bytes));
-        for (int i = 0; i < bytes.length; i++) {
-            final byte b = bytes[i];
-            if (b == ESCAPE_CHAR) {
-                try {
-                    final int u = Utils.digit16(bytes[++i]);
-                    final int l = Utils.digit16(bytes[++i]);
-                    buffer.put((byte) ((u << 4) + l));
-                } catch (final ArrayIndexOutOfBoundsException e) {
-                    throw new DecoderException("Invalid percent decoding: ", e);
-                }
-            } else if (plusForSpace && b == '+') {
-                buffer.put((byte) ' ');
-            } else {
-                buffer.put(b);
-            }
+        final long start = CodecMetricsRegistry.start();
+        final byte[] result = Utils.decodePercent(bytes, 0, bytes.length, plusForSpace, DECODE_MESSAGE);
+        CodecMetricsRegistry.decoded(getClass(), bytes.length, result.length, start);
+        return result;
+    }
+
+    /**
+     * Decodes characters encoded with Percent-Encoding based on RFC 3986, without first converting them to bytes, into a String of the given charset.
+     * <p>
+     * Characters outside of US-ASCII are treated as {@code '?'}, as the US-ASCII encoding of the characters would be.
+     * </p>
+     *
+     * @param chars   The characters to decode.
+     * @param charset The charset of the decoded bytes.
+     * @return The decoded String, or null if chars is null.
+     * @throws DecoderException if an invalid percent-encoded sequence is found.
+     * @since 1.23.0
+     */
+    public String decodeAsString(final CharSequence chars, final Charset charset) throws DecoderException {
+        if (chars == null) {
+            return null;
         }
-        return buffer.array();
+        final long start = CodecMetricsRegistry.start();
+        final byte[] result = Utils.decodePercent(chars, plusForSpace, DECODE_MESSAGE);
+        CodecMetricsRegistry.decoded(getClass(), chars.length(), result.length, start);
+        return new String(result, charset);
     }
 
     /**
@@ -152,28 +149,6 @@ public class PercentCodec implements BinaryEncoder, BinaryDecoder {
         throw new DecoderException("Objects of type " + obj.getClass().getName() + " cannot be Percent decoded");
     }
 
-    private byte[] doEncode(final byte[] bytes, final int expectedLength, final boolean willEncode) {
-        final ByteBuffer buffer = ByteBuffer.allocate(expectedLength);
-        for (final byte b : bytes) {
-            if (willEncode && canEncode(b)) {
-                byte bb = b;
-                if (bb < 0) {
-                    bb = (byte) (256 + bb);
-                }
-                final char hex1 = Utils.hexChar(bb >> 4);
-                final char hex2 = Utils.hexChar(bb);
-                buffer.put(ESCAPE_CHAR);
-                buffer.put((byte) hex1);
-                buffer.put((byte) hex2);
-            } else if (plusForSpace && b == ' ') {
-                buffer.put((byte) '+');
-            } else {
-                buffer.put(b);
-            }
-        }
-        return buffer.array();
-    }
-
     /**
      * Percent-Encoding based on RFC 3986. The non US-ASCII characters are encoded, as well as the
      * US-ASCII characters that are configured to be always encoded.
@@ -185,12 +160,10 @@ public class PercentCodec implements BinaryEncoder, BinaryDecoder {
         if (bytes == null) {
             return null;
         }
-        final int expectedEncodingBytes = expectedEncodingBytes(bytes);
-        final boolean willEncode = expectedEncodingBytes != bytes.length;
-        if (willEncode || plusForSpace && containsSpace(bytes)) {
-            return doEncode(bytes, expectedEncodingBytes, willEncode);
-        }
-        return bytes;
+        final long start = CodecMetricsRegistry.start();
+        final byte[] result = needsEncoding(bytes) ? Utils.encodePercent(bytes, 0, bytes.length, encodeTable) : bytes;
+        CodecMetricsRegistry.encoded(getClass(), bytes.length, result.length, start);
+        return result;
     }
 
     /**
@@ -211,51 +184,31 @@ public class PercentCodec implements BinaryEncoder, BinaryDecoder {
         throw new EncoderException("Objects of type " + obj.getClass().getName() + " cannot be Percent encoded");
     }
 
-    private int expectedDecodingBytes(final byte[] bytes) {
-        int byteCount = 0;
-        for (int i = 0; i < bytes.length;) {
-            final byte b = bytes[i];
-            i += b == ESCAPE_CHAR ? 3 : 1;
-            byteCount++;
-        }
-        return byteCount;
-    }
-
-    private int expectedEncodingBytes(final byte[] bytes) {
-        int byteCount = 0;
-        for (final byte b : bytes) {
-            byteCount += canEncode(b) ? 3 : 1;
-        }
-        return byteCount;
-    }
-
-    private boolean inAlwaysEncodeCharsRange(final byte c) {
-        return c >= alwaysEncodeCharsMin && c <= alwaysEncodeCharsMax;
+    /**
+     * Gets the {@link Utils#encodePercent(byte[], int, int, byte[])} codes of the byte values, shared with the streams.
+     *
+     * @return The codes, not to be modified.
+     */
+    byte[] getEncodeTable() {
+        return encodeTable;
     }
 
     /**
-     * Inserts a single character into a BitSet and maintains the min and max of the characters of the
-     * {@code BitSet alwaysEncodeChars} in order to avoid look-ups when a byte is out of this range.
+     * Marks a single character as always encoded.
      *
-     * @param b The byte that is candidate for min and max limit.
+     * @param b The US-ASCII character.
      */
     private void insertAlwaysEncodeChar(final byte b) {
         if (b < 0) {
             throw new IllegalArgumentException("byte must be >= 0");
         }
-        this.alwaysEncodeChars.set(b);
-        if (b < alwaysEncodeCharsMin) {
-            alwaysEncodeCharsMin = b;
-        }
-        if (b > alwaysEncodeCharsMax) {
-            alwaysEncodeCharsMax = b;
-        }
+        encodeTable[b] = Utils.ESCAPE;
     }
 
     /**
-     * Inserts the byte array into a BitSet for faster lookup.
+     * Marks the characters of the byte array as always encoded.
      *
-     * @param alwaysEncodeCharsArray The byte array into a BitSet for faster lookup.
+     * @param alwaysEncodeCharsArray The US-ASCII characters.
      */
     private void insertAlwaysEncodeChars(final byte[] alwaysEncodeCharsArray) {
         if (alwaysEncodeCharsArray != null) {
@@ -266,7 +219,27 @@ public class PercentCodec implements BinaryEncoder, BinaryDecoder {
         insertAlwaysEncodeChar(ESCAPE_CHAR);
     }
 
-    private boolean isAsciiChar(final byte c) {
-        return c >= 0;
+    /**
+     * Tests whether {@code '+'} decodes to a space and a space encodes to {@code '+'}.
+     *
+     * @return whether {@code '+'} stands for a space.
+     */
+    boolean isPlusForSpace() {
+        return plusForSpace;
+    }
+
+    /**
+     * Tests whether encoding changes any byte.
+     *
+     * @param bytes The bytes to encode.
+     * @return whether any byte is escaped or is a space written as {@code '+'}.
+     */
+    private boolean needsEncoding(final byte[] bytes) {
+        for (final byte b : bytes) {
+            if (encodeTable[b & 0xff] != Utils.LITERAL) {
+                return true;
+            }
+        }
+        return false;
     }
 }
@@ -0,0 +1,411 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.codec.net;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
+import org.apache.commons.codec.DecoderException;
+
+/**
+ * Provides Percent-Encoding and decoding in a streaming fashion (unlimited size).
+ * <p>
+ * The default behavior of the PercentCodecInputStream is to DECODE, whereas the default behavior of the {@link PercentCodecOutputStream} is to ENCODE, but
+ * this behavior can be overridden by using a different constructor. The bytes are encoded and decoded as the given {@link PercentCodec} does, including its
+ * always encoded characters and its plus for space setting; escape sequences split across reads of the underlying stream are decoded as if read at once.
+ * </p>
+ * <p>
+ * An {@code application/x-www-form-urlencoded} body, as written by {@link URLCodec}, decodes with {@code new PercentCodec(null, true)}. Instead of reading
+ * the decoded bytes, {@link #readFields(FieldConsumer)} passes the decoded name and value of each field of such a body to a callback.
+ * </p>
+ * <p>
+ * Invalid escape sequences throw an {@link IOException} whose cause is the {@link DecoderException} that the codec would throw.
+ * </p>
+ *
+ * @see PercentCodec
+ * @see PercentCodecOutputStream
+ * @since 1.23.0
+ */
+public class PercentCodecInputStream extends FilterInputStream {
+
+    /**
+     * Receives the fields of an {@code application/x-www-form-urlencoded} body.
+     *
+     * @see PercentCodecInputStream#readFields(FieldConsumer)
+     * @since 1.23.0
+     */
+    @FunctionalInterface
+    public interface FieldConsumer {
+
+        /**
+         * Accepts a field.
+         * <p>
+         * The buffers hold the decoded bytes between their position and limit and are only valid during the call: they share a reused array.
+         * </p>
+         *
+         * @param name  The decoded name.
+         * @param value The decoded value, empty for a field without {@code '='}.
+         * @throws IOException if the consumer fails.
+         */
+        void accept(ByteBuffer name, ByteBuffer value) throws IOException;
+    }
+
+    private static final int EOF = -1;
+
+    private static final byte ESCAPE_CHAR = '%';
+
+    private static final byte FIELD_SEPARATOR = '&';
+
+    private static final byte NAME_SEPARATOR = '=';
+
+    private static final byte PLUS_CHAR = '+';
+
+    private final boolean doEncode;
+    private final byte[] encodeTable;
+    private final boolean plusForSpace;
+    private final byte[] singleByte = new byte[1];
+
+    /** The bytes read from the underlying stream that have not been converted yet, at most an incomplete escape sequence when decoding. */
+    private final byte[] buffer;
+    private int bufferLength;
+
+    /** The converted bytes that have not been read yet. */
+    private final byte[] results;
+    private int resultsPos;
+    private int resultsLength;
+    private boolean eof;
+
+    /** The reused views of the name and value of a field. */
+    private ByteBuffer fieldName;
+    private ByteBuffer fieldValue;
+
+    /**
+     * Constructs a PercentCodecInputStream such that all data read is decoded, as {@link PercentCodec#PercentCodec()} does, from the original provided
+     * InputStream.
+     *
+     * @param inputStream InputStream to wrap.
+     */
+    public PercentCodecInputStream(final InputStream inputStream) {
+        this(inputStream, new PercentCodec(), false);
+    }
+
+    /**
+     * Constructs a PercentCodecInputStream such that all data read is either encoded or decoded, as the given codec does, from the original provided
+     * InputStream.
+     *
+     * @param inputStream InputStream to wrap.
+     * @param codec       The codec that defines the always encoded characters and whether {@code '+'} stands for a space.
+     * @param encode      true if we should encode all data read from us, false if we should decode.
+     */
+    public PercentCodecInputStream(final InputStream inputStream, final PercentCodec codec, final boolean encode) {
+        super(inputStream);
+        Objects.requireNonNull(codec, "codec");
+        this.doEncode = encode;
+        this.encodeTable = codec.getEncodeTable();
+        this.plusForSpace = codec.isPlusForSpace();
+        this.buffer = new byte[doEncode ? 4096 : 8192];
+        this.results = new byte[doEncode ? buffer.length * 3 : buffer.length];
+    }
+
+    /**
+     * Passes a field to a consumer.
+     *
+     * @param consumer   The consumer.
+     * @param field      The decoded bytes of the name followed by the value.
+     * @param nameLength The length of the name, -1 for a field without {@code '='}.
+     * @param length     The length of the field.
+     * @throws IOException if the consumer fails.
+     */
+    private void acceptField(final FieldConsumer consumer, final byte[] field, final int nameLength, final int length) throws IOException {
+        if (fieldName == null || fieldName.array() != field) {
+            fieldName = ByteBuffer.wrap(field);
+            fieldValue = ByteBuffer.wrap(field);
+        }
+        final int nameEnd = nameLength < 0 ? length : nameLength;
+        fieldName.clear();
+        fieldName.limit(nameEnd);
+        fieldValue.clear();
+        fieldValue.limit(length);
+        fieldValue.position(nameEnd);
+        consumer.accept(fieldName, fieldValue);
+    }
+
+    /**
+     * Appends a decoded byte to a field, growing its array when needed.
+     *
+     * @param field          The field.
+     * @param length         The number of bytes of the field.
+     * @param b              The byte to append.
+     * @param maxFieldLength The maximum number of bytes of a field.
+     * @return The field, or a larger copy.
+     * @throws IOException if the field would be longer than the maximum.
+     */
+    private static byte[] append(final byte[] field, final int length, final byte b, final int maxFieldLength) throws IOException {
+        byte[] result = field;
+        if (length == result.length) {
+            if (length >= maxFieldLength) {
+                throw new IOException("Form field longer than " + maxFieldLength + " bytes");
+            }
+            result = Arrays.copyOf(field, (int) Math.min(length * 2L, maxFieldLength));
+        }
+        result[length] = b;
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return The number of converted bytes that can be read without blocking.
+     */
+    @Override
+    public int available() throws IOException {
+        return resultsLength - resultsPos;
+    }
+
+    /**
+     * Reads and converts the next chunk of the underlying stream.
+     *
+     * @return false at the end of the underlying stream.
+     * @throws IOException if an I/O error occurs or an escape sequence is invalid.
+     */
+    private boolean fill() throws IOException {
+        resultsPos = 0;
+        resultsLength = 0;
+        try {
+            while (resultsLength == 0) {
+                if (eof) {
+                    return false;
+                }
+                final int read = in.read(buffer, bufferLength, buffer.length - bufferLength);
+                if (read == EOF) {
+                    eof = true;
+                    if (bufferLength > 0) {
+                        // throws for the incomplete escape sequence
+                        resultsLength = Utils.decodePercent(buffer, 0, bufferLength, results, 0, plusForSpace, PercentCodec.DECODE_MESSAGE);
+                        bufferLength = 0;
+                    }
+                    continue;
+                }
+                bufferLength += read;
+                if (doEncode) {
+                    resultsLength = Utils.encodePercent(buffer, 0, bufferLength, encodeTable, results, 0);
+                    bufferLength = 0;
+                } else {
+                    final int complete = Utils.completeEnd(buffer, 0, bufferLength);
+                    resultsLength = Utils.decodePercent(buffer, 0, complete, results, 0, plusForSpace, PercentCodec.DECODE_MESSAGE);
+                    // Keep an incomplete escape sequence for the next read
+                    System.arraycopy(buffer, complete, buffer, 0, bufferLength - complete);
+                    bufferLength -= complete;
+                }
+            }
+        } catch (final DecoderException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+        return true;
+    }
+
+    /**
+     * Marks the current position in this input stream.
+     * <p>
+     * The {@link #mark} method of {@link PercentCodecInputStream} does nothing.
+     * </p>
+     *
+     * @param readLimit The maximum limit of bytes that can be read before the mark position becomes invalid.
+     * @see #markSupported()
+     */
+    @Override
+    public synchronized void mark(final int readLimit) {
+        // noop
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return Always returns {@code false}.
+     */
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    /**
+     * Reads one {@code byte} from this input stream.
+     *
+     * @return The byte as an integer in the range 0 to 255. Returns -1 if EOF has been reached.
+     * @throws IOException Thrown if an I/O error occurs or an escape sequence is invalid.
+     */
+    @Override
+    public int read() throws IOException {
+        return read(singleByte, 0, 1) == EOF ? EOF : singleByte[0] & 0xff;
+    }
+
+    /**
+     * Attempts to read {@code len} bytes into the specified {@code b} array starting at {@code offset} from this InputStream.
+     *
+     * @param array  destination byte array.
+     * @param offset where to start writing the bytes.
+     * @param len    maximum number of bytes to read.
+     * @return number of bytes read, or -1 at the end of the stream.
+     * @throws IOException               if an I/O error occurs or an escape sequence is invalid.
+     * @throws NullPointerException      if the byte array parameter is null.
+     * @throws IndexOutOfBoundsException if offset, len or buffer size are invalid.
+     */
+    @Override
+    public int read(final byte[] array, final int offset, final int len) throws IOException {
+        Objects.requireNonNull(array, "array");
+        if (offset < 0 || len < 0 || len > array.length - offset) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (len == 0) {
+            return 0;
+        }
+        if (resultsPos == resultsLength && !fill()) {
+            return EOF;
+        }
+        final int read = Math.min(len, resultsLength - resultsPos);
+        System.arraycopy(results, resultsPos, array, offset, read);
+        resultsPos += read;
+        return read;
+    }
+
+    /**
+     * Reads the rest of the underlying stream as an {@code application/x-www-form-urlencoded} body and passes the decoded name and value of each field to a
+     * consumer, limiting a field only to the maximum array size.
+     *
+     * @param consumer The consumer of the fields.
+     * @return The number of fields.
+     * @throws IOException           if an I/O error occurs, an escape sequence is invalid, or the consumer fails.
+     * @throws IllegalStateException if this stream encodes or some of the underlying stream has already been read.
+     * @see #readFields(FieldConsumer, int)
+     */
+    public long readFields(final FieldConsumer consumer) throws IOException {
+        return readFields(consumer, Integer.MAX_VALUE - 8);
+    }
+
+    /**
+     * Reads the rest of the underlying stream as an {@code application/x-www-form-urlencoded} body and passes the decoded name and value of each field to a
+     * consumer, without building a String or an array for each field.
+     * <p>
+     * Fields are separated by {@code '&'}, and the first {@code '='} of a field separates its name from its value; both are split before decoding, so an
+     * escaped {@code '&'} or {@code '='} is part of a name or value. Empty fields are skipped. Each field is held in memory as it is decoded.
+     * </p>
+     *
+     * @param consumer       The consumer of the fields.
+     * @param maxFieldLength The maximum number of decoded bytes of the name and value of a field.
+     * @return The number of fields.
+     * @throws IOException              if an I/O error occurs, an escape sequence is invalid, a field is longer than the maximum, or the consumer fails.
+     * @throws IllegalArgumentException if the maximum field length is not positive.
+     * @throws IllegalStateException    if this stream encodes or some of the underlying stream has already been read.
+     */
+    public long readFields(final FieldConsumer consumer, final int maxFieldLength) throws IOException {
+        Objects.requireNonNull(consumer, "consumer");
+        if (maxFieldLength <= 0) {
+            throw new IllegalArgumentException("maxFieldLength must be positive: " + maxFieldLength);
+        }
+        if (doEncode || eof || bufferLength > 0 || resultsLength > 0) {
+            throw new IllegalStateException(doEncode ? "Stream encodes" : "Stream already read");
+        }
+        byte[] field = new byte[Math.min(maxFieldLength, 1024)];
+        int length = 0;
+        // the length of the name, -1 before the '='
+        int nameLength = -1;
+        // the hexadecimal digits of an escape sequence that are still to be read
+        int escapeDigits = 0;
+        int high = 0;
+        long count = 0;
+        try {
+            int read;
+            while ((read = in.read(buffer, 0, buffer.length)) != EOF) {
+                for (int i = 0; i < read; i++) {
+                    final byte b = buffer[i];
+                    if (escapeDigits == 2) {
+                        high = Utils.digit16(b);
+                        escapeDigits = 1;
+                    } else if (escapeDigits == 1) {
+                        field = append(field, length++, (byte) (high << 4 | Utils.digit16(b)), maxFieldLength);
+                        escapeDigits = 0;
+                    } else if (b == ESCAPE_CHAR) {
+                        escapeDigits = 2;
+                    } else if (b == FIELD_SEPARATOR) {
+                        if (length > 0 || nameLength >= 0) {
+                            acceptField(consumer, field, nameLength, length);
+                            count++;
+                        }
+                        length = 0;
+                        nameLength = -1;
+                    } else if (b == NAME_SEPARATOR && nameLength < 0) {
+                        nameLength = length;
+                    } else {
+                        field = append(field, length++, b == PLUS_CHAR && plusForSpace ? Utils.SPACE : b, maxFieldLength);
+                    }
+                }
+            }
+            eof = true;
+            if (escapeDigits > 0) {
+                throw new DecoderException(PercentCodec.DECODE_MESSAGE + "incomplete escape sequence at the end of the input");
+            }
+        } catch (final DecoderException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+        if (length > 0 || nameLength >= 0) {
+            acceptField(consumer, field, nameLength, length);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Repositions this stream to the position at the time the mark method was last called on this input stream.
+     * <p>
+     * The {@link #reset} method of {@link PercentCodecInputStream} does nothing except throw an {@link IOException}.
+     * </p>
+     *
+     * @throws IOException Thrown if this method is invoked.
+     */
+    @Override
+    public synchronized void reset() throws IOException {
+        throw new IOException("mark/reset not supported");
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the provided skip length is negative.
+     * @throws IOException if an I/O error occurs or an escape sequence is invalid.
+     */
+    @Override
+    public long skip(final long n) throws IOException {
+        if (n < 0) {
+            throw new IllegalArgumentException("Negative skip length: " + n);
+        }
+        long todo = n;
+        while (todo > 0) {
+            if (resultsPos == resultsLength && !fill()) {
+                break;
+            }
+            final int skipped = (int) Math.min(todo, resultsLength - resultsPos);
+            resultsPos += skipped;
+            todo -= skipped;
+        }
+        return n - todo;
+    }
+}
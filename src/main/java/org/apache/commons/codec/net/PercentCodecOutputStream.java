@@ -0,0 +1,207 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.codec.net;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Objects;
+
+import org.apache.commons.codec.DecoderException;
+
+/**
+ * Provides Percent-Encoding and decoding in a streaming fashion (unlimited size).
+ * <p>
+ * The default behavior of the PercentCodecOutputStream is to ENCODE, whereas the default behavior of the {@link PercentCodecInputStream} is to DECODE. But
+ * this behavior can be overridden by using a different constructor. The bytes are encoded and decoded as the given {@link PercentCodec} does, including its
+ * always encoded characters and its plus for space setting; escape sequences split across writes are decoded as if written at once.
+ * </p>
+ * <p>
+ * Invalid escape sequences throw an {@link IOException} whose cause is the {@link DecoderException} that the codec would throw; an escape sequence cut short
+ * by the end of the input throws when the stream is closed.
+ * </p>
+ * <p>
+ * Since this class buffers converted data, call {@link #flush()} or {@link #close()} when done writing.
+ * </p>
+ *
+ * @see PercentCodec
+ * @see PercentCodecInputStream
+ * @since 1.23.0
+ */
+public class PercentCodecOutputStream extends FilterOutputStream {
+
+    /** The length of an escape sequence. */
+    private static final int ESCAPE_LENGTH = 3;
+
+    private final boolean doEncode;
+    private final byte[] encodeTable;
+    private final boolean plusForSpace;
+    private final byte[] singleByte = new byte[1];
+
+    /** The converted bytes that have not been written to the underlying stream yet. */
+    private final byte[] results;
+    private int resultsLength;
+
+    /** When decoding, the bytes of an incomplete escape sequence. */
+    private final byte[] pending = new byte[ESCAPE_LENGTH];
+    private int pendingLength;
+
+    /**
+     * Constructs a PercentCodecOutputStream such that all data written is encoded, as {@link PercentCodec#PercentCodec()} does, to the original provided
+     * OutputStream.
+     *
+     * @param outputStream OutputStream to wrap.
+     */
+    public PercentCodecOutputStream(final OutputStream outputStream) {
+        this(outputStream, new PercentCodec(), true);
+    }
+
+    /**
+     * Constructs a PercentCodecOutputStream such that all data written is either encoded or decoded, as the given codec does, to the original provided
+     * OutputStream.
+     *
+     * @param outputStream OutputStream to wrap.
+     * @param codec        The codec that defines the always encoded characters and whether {@code '+'} stands for a space.
+     * @param encode       true if we should encode all data written to us, false if we should decode.
+     */
+    public PercentCodecOutputStream(final OutputStream outputStream, final PercentCodec codec, final boolean encode) {
+        super(outputStream);
+        Objects.requireNonNull(codec, "codec");
+        this.doEncode = encode;
+        this.encodeTable = codec.getEncodeTable();
+        this.plusForSpace = codec.isPlusForSpace();
+        this.results = new byte[8192];
+    }
+
+    /**
+     * Closes this output stream, flushing the converted bytes.
+     *
+     * @throws IOException if an I/O error occurs or, when decoding, the input ends with an incomplete escape sequence.
+     */
+    @Override
+    public void close() throws IOException {
+        final int length = pendingLength;
+        pendingLength = 0;
+        try {
+            if (length > 0) {
+                // throws for the incomplete escape sequence
+                Utils.decodePercent(pending, 0, length, plusForSpace, PercentCodec.DECODE_MESSAGE);
+            }
+        } catch (final DecoderException e) {
+            super.close();
+            throw new IOException(e.getMessage(), e);
+        }
+        super.close();
+    }
+
+    /**
+     * Flushes this output stream and forces any buffered output bytes to be written out to the stream.
+     * <p>
+     * When decoding, an incomplete escape sequence stays buffered until the rest of it is written.
+     * </p>
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @Override
+    public void flush() throws IOException {
+        flushResults();
+        out.flush();
+    }
+
+    private void flushResults() throws IOException {
+        if (resultsLength > 0) {
+            out.write(results, 0, resultsLength);
+            resultsLength = 0;
+        }
+    }
+
+    /**
+     * Writes {@code len} bytes from the specified {@code b} array starting at {@code offset} to this output stream.
+     *
+     * @param array  source byte array.
+     * @param offset where to start reading the bytes.
+     * @param len    maximum number of bytes to write.
+     * @throws IOException               if an I/O error occurs or, when decoding, an escape sequence is invalid.
+     * @throws NullPointerException      if the byte array parameter is null.
+     * @throws IndexOutOfBoundsException if offset, len or buffer size are invalid.
+     */
+    @Override
+    public void write(final byte[] array, final int offset, final int len) throws IOException {
+        Objects.requireNonNull(array, "array");
+        if (offset < 0 || len < 0 || len > array.length - offset) {
+            throw new IndexOutOfBoundsException();
+        }
+        final int end = offset + len;
+        int i = offset;
+        if (doEncode) {
+            while (i < end) {
+                if (results.length - resultsLength < ESCAPE_LENGTH) {
+                    flushResults();
+                }
+                final int chunk = Math.min(end - i, (results.length - resultsLength) / ESCAPE_LENGTH);
+                resultsLength += Utils.encodePercent(array, i, chunk, encodeTable, results, resultsLength);
+                i += chunk;
+            }
+            return;
+        }
+        try {
+            if (pendingLength > 0) {
+                // complete the escape sequence of the previous write
+                while (pendingLength < ESCAPE_LENGTH && i < end) {
+                    pending[pendingLength++] = array[i++];
+                }
+                if (pendingLength < ESCAPE_LENGTH) {
+                    return;
+                }
+                if (resultsLength == results.length) {
+                    flushResults();
+                }
+                pendingLength = 0;
+                resultsLength += Utils.decodePercent(pending, 0, ESCAPE_LENGTH, results, resultsLength, plusForSpace, PercentCodec.DECODE_MESSAGE);
+            }
+            while (i < end) {
+                if (results.length - resultsLength < ESCAPE_LENGTH) {
+                    flushResults();
+                }
+                final int complete = Utils.completeEnd(array, i, Math.min(end - i, results.length - resultsLength));
+                if (complete == i) {
+                    // an escape sequence cut short by the end of the array
+                    pendingLength = end - i;
+                    System.arraycopy(array, i, pending, 0, pendingLength);
+                    return;
+                }
+                resultsLength += Utils.decodePercent(array, i, complete - i, results, resultsLength, plusForSpace, PercentCodec.DECODE_MESSAGE);
+                i = complete;
+            }
+        } catch (final DecoderException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Writes the specified {@code byte} to this output stream.
+     *
+     * @param b source byte.
+     * @throws IOException if an I/O error occurs or, when decoding, an escape sequence is invalid.
+     */
+    @Override
+    public void write(final int b) throws IOException {
+        singleByte[0] = (byte) b;
+        write(singleByte, 0, 1);
+    }
+}
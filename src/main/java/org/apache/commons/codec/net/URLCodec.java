@@ -17,15 +17,17 @@
 
 package org.apache.commons.codec.net;
 
-import java.io.ByteArrayOutputStream;
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
 import java.net.URLEncoder;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
 import java.util.BitSet;
 
 import org.apache.commons.codec.BinaryDecoder;
 import org.apache.commons.codec.BinaryEncoder;
 import org.apache.commons.codec.CharEncoding;
+import org.apache.commons.codec.CodecMetricsRegistry;
 import org.apache.commons.codec.DecoderException;
 import org.apache.commons.codec.EncoderException;
 import org.apache.commons.codec.StringDecoder;
@@ -50,6 +52,21 @@ import org.apache.commons.codec.binary.StringUtils;
  */
 public class URLCodec implements BinaryEncoder, BinaryDecoder, StringEncoder, StringDecoder {
 
+    /**
+     * A set of URL safe characters and its {@link Utils#encodePercent(byte[], int, int, byte[])} table.
+     */
+    private static final class EncodeTable {
+
+        private final BitSet urlsafe;
+
+        private final byte[] table;
+
+        private EncodeTable(final BitSet urlsafe, final byte[] table) {
+            this.urlsafe = urlsafe;
+            this.table = table;
+        }
+    }
+
     /**
      * Release 1.5 made this field final.
      */
@@ -94,6 +111,14 @@ public class URLCodec implements BinaryEncoder, BinaryDecoder, StringEncoder, St
         WWW_FORM_URL = (BitSet) WWW_FORM_URL_SAFE.clone();
     }
 
+    /** The {@link Utils#encodePercent(byte[], int, int, byte[])} table of {@link #WWW_FORM_URL_SAFE}. */
+    private static final byte[] WWW_FORM_URL_SAFE_TABLE = newEncodeTable(WWW_FORM_URL_SAFE);
+
+    /** The last custom set of URL safe characters given to {@link #encodeUrl(BitSet, byte[])}, and its table. */
+    private static volatile EncodeTable lastEncodeTable;
+
+    private static final String DECODE_MESSAGE = "Invalid URL encoding: ";
+
     /**
      * Decodes an array of URL safe 7-bit characters into an array of original bytes. Escaped characters are converted
      * back to their original representation.
@@ -108,24 +133,51 @@ public class URLCodec implements BinaryEncoder, BinaryDecoder, StringEncoder, St
         if (bytes == null) {
             return null;
         }
-        final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
-        for (int i = 0; i < bytes.length; i++) {
-            final int b = bytes[i];
-            if (b == PLUS_CHAR) {
-                buffer.write(' ');
-            } else if (b == ESCAPE_CHAR) {
-                try {
-                    final int u = Utils.digit16(bytes[++i]);
-                    final int l = Utils.digit16(bytes[++i]);
-                    buffer.write((char) ((u << 4) + l));
-                } catch (final ArrayIndexOutOfBoundsException e) {
-                    throw new DecoderException("Invalid URL encoding: ", e);
-                }
-            } else {
-                buffer.write(b);
+        return Utils.decodePercent(bytes, 0, bytes.length, true, DECODE_MESSAGE);
+    }
+
+    /**
+     * Gets the {@link Utils#encodePercent(byte[], int, int, byte[])} table of a set of URL safe characters.
+     * <p>
+     * The table of the last custom set is kept, so callers that pass the same set again do not rebuild it.
+     * </p>
+     *
+     * @param urlsafe
+     *            bitset of characters deemed URL safe, except for {@code %} and {@code +}, may be null.
+     * @return The table.
+     */
+    private static byte[] encodeTable(final BitSet urlsafe) {
+        if (urlsafe == null || urlsafe == WWW_FORM_URL_SAFE) {
+            return WWW_FORM_URL_SAFE_TABLE;
+        }
+        final EncodeTable last = lastEncodeTable;
+        if (last != null && last.urlsafe.equals(urlsafe)) {
+            return last.table;
+        }
+        // Keep a copy, the caller may change the set afterwards
+        final BitSet copy = (BitSet) urlsafe.clone();
+        final EncodeTable entry = new EncodeTable(copy, newEncodeTable(copy));
+        lastEncodeTable = entry;
+        return entry.table;
+    }
+
+    /**
+     * Builds the {@link Utils#encodePercent(byte[], int, int, byte[])} table of a set of URL safe characters.
+     *
+     * @param urlsafe
+     *            bitset of characters deemed URL safe, except for {@code %} and {@code +}.
+     * @return The table.
+     */
+    private static byte[] newEncodeTable(final BitSet urlsafe) {
+        final byte[] table = new byte[256];
+        for (int b = 0; b < table.length; b++) {
+            if (!urlsafe.get(b) || b == ESCAPE_CHAR || b == PLUS_CHAR) {
+                table[b] = Utils.ESCAPE;
+            } else if (b == ' ') {
+                table[b] = Utils.PLUS;
             }
         }
-        return buffer.toByteArray();
+        return table;
     }
 
     /**
@@ -139,34 +191,11 @@ public class URLCodec implements BinaryEncoder, BinaryDecoder, StringEncoder, St
      *            array of bytes to convert to URL safe characters.
      * @return array of bytes containing URL safe characters.
      */
-    public static final byte[] encodeUrl(BitSet urlsafe, final byte[] bytes) {
+    public static final byte[] encodeUrl(final BitSet urlsafe, final byte[] bytes) {
         if (bytes == null) {
             return null;
         }
-        if (urlsafe == null) {
-            urlsafe = WWW_FORM_URL_SAFE;
-        }
-
-        final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
-        for (final byte c : bytes) {
-            int b = c;
-            if (b < 0) {
-                b = 256 + b;
-            }
-            if (urlsafe.get(b) && b != ESCAPE_CHAR && b != PLUS_CHAR) {
-                if (b == ' ') {
-                    b = PLUS_CHAR;
-                }
-                buffer.write(b);
-            } else {
-                buffer.write(ESCAPE_CHAR);
-                final char hex1 = Utils.hexChar(b >> 4);
-                final char hex2 = Utils.hexChar(b);
-                buffer.write(hex1);
-                buffer.write(hex2);
-            }
-        }
-        return buffer.toByteArray();
+        return Utils.encodePercent(bytes, 0, bytes.length, encodeTable(urlsafe));
     }
 
     /**
@@ -205,7 +234,76 @@ public class URLCodec implements BinaryEncoder, BinaryDecoder, StringEncoder, St
      */
     @Override
     public byte[] decode(final byte[] bytes) throws DecoderException {
-        return decodeUrl(bytes);
+        if (bytes == null) {
+            return null;
+        }
+        final long start = CodecMetricsRegistry.start();
+        final byte[] result = decodeUrl(bytes);
+        CodecMetricsRegistry.decoded(getClass(), bytes.length, result.length, start);
+        return result;
+    }
+
+    /**
+     * Decodes the remaining URL safe 7-bit characters of a buffer into an array of original bytes. Escaped characters are converted back to their original
+     * representation.
+     * <p>
+     * All bytes identified by {@link ByteBuffer#remaining()} are used; after this method the value {@link ByteBuffer#remaining() remaining()} will be zero.
+     * </p>
+     *
+     * @param buffer
+     *            buffer of URL safe characters.
+     * @return array of original bytes, or null if the buffer is null.
+     * @throws DecoderException
+     *             Thrown if URL decoding is unsuccessful.
+     * @since 1.23.0
+     */
+    public byte[] decode(final ByteBuffer buffer) throws DecoderException {
+        if (buffer == null) {
+            return null;
+        }
+        final long start = CodecMetricsRegistry.start();
+        final int length = buffer.remaining();
+        final byte[] result;
+        if (buffer.hasArray()) {
+            result = Utils.decodePercent(buffer.array(), buffer.arrayOffset() + buffer.position(), length, true, DECODE_MESSAGE);
+        } else {
+            final byte[] bytes = new byte[length];
+            buffer.duplicate().get(bytes);
+            result = decodeUrl(bytes);
+        }
+        buffer.position(buffer.limit());
+        CodecMetricsRegistry.decoded(getClass(), length, result.length, start);
+        return result;
+    }
+
+    /**
+     * Decodes URL safe characters into their original form using the specified charset, without first converting them to bytes. Escaped characters are
+     * converted back to their original representation.
+     * <p>
+     * Characters outside of US-ASCII are treated as {@code '?'}, as {@link #decode(String, String)} does.
+     * </p>
+     *
+     * @param chars
+     *            URL safe characters to convert into their original form.
+     * @param charset
+     *            the original string charset.
+     * @return original string.
+     * @throws DecoderException
+     *             Thrown if URL decoding is unsuccessful.
+     * @since 1.23.0
+     */
+    public String decodeAsString(final CharSequence chars, final Charset charset) throws DecoderException {
+        if (chars == null) {
+            return null;
+        }
+        return new String(decodeChars(chars), charset);
+    }
+
+    private byte[] decodeChars(final CharSequence chars) throws DecoderException {
+        final long start = CodecMetricsRegistry.start();
+        final byte[] result = Utils.decodePercent(chars, true, DECODE_MESSAGE);
+        CodecMetricsRegistry.decoded(getClass(), chars.length(), result.length, start);
+        return result;
     }
 
     /**
@@ -275,7 +373,7 @@ public class URLCodec implements BinaryEncoder, BinaryDecoder, StringEncoder, St
         if (str == null) {
             return null;
         }
-        return new String(decode(StringUtils.getBytesUsAscii(str)), charsetName);
+        return new String(decodeChars(str), charsetName);
     }
 
     /**
@@ -287,7 +385,43 @@ public class URLCodec implements BinaryEncoder, BinaryDecoder, StringEncoder, St
      */
     @Override
     public byte[] encode(final byte[] bytes) {
-        return encodeUrl(WWW_FORM_URL_SAFE, bytes);
+        if (bytes == null) {
+            return null;
+        }
+        final long start = CodecMetricsRegistry.start();
+        final byte[] result = encodeUrl(WWW_FORM_URL_SAFE, bytes);
+        CodecMetricsRegistry.encoded(getClass(), bytes.length, result.length, start);
+        return result;
+    }
+
+    /**
+     * Encodes the remaining bytes of a buffer into an array of URL safe 7-bit characters. Unsafe characters are escaped.
+     * <p>
+     * All bytes identified by {@link ByteBuffer#remaining()} are used; after this method the value {@link ByteBuffer#remaining() remaining()} will be zero.
+     * </p>
+     *
+     * @param buffer
+     *            buffer of bytes to convert to URL safe characters.
+     * @return array of bytes containing URL safe characters, or null if the buffer is null.
+     * @since 1.23.0
+     */
+    public byte[] encode(final ByteBuffer buffer) {
+        if (buffer == null) {
+            return null;
+        }
+        final long start = CodecMetricsRegistry.start();
+        final int length = buffer.remaining();
+        final byte[] result;
+        if (buffer.hasArray()) {
+            result = Utils.encodePercent(buffer.array(), buffer.arrayOffset() + buffer.position(), length, WWW_FORM_URL_SAFE_TABLE);
+        } else {
+            final byte[] bytes = new byte[length];
+            buffer.duplicate().get(bytes);
+            result = Utils.encodePercent(bytes, 0, length, WWW_FORM_URL_SAFE_TABLE);
+        }
+        buffer.position(buffer.limit());
+        CodecMetricsRegistry.encoded(getClass(), length, result.length, start);
+        return result;
     }
 
     /**
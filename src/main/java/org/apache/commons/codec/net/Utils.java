@@ -17,6 +17,9 @@
 
 package org.apache.commons.codec.net;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
 import org.apache.commons.codec.DecoderException;
 
 /**
@@ -37,6 +40,155 @@ final class Utils {
 
     static final byte SPACE = 32;
 
+    /** The code of a byte that percent-encoding copies as is. */
+    static final byte LITERAL = 0;
+
+    /** The code of a byte that percent-encoding escapes. */
+    static final byte ESCAPE = 1;
+
+    /** The code of the space that percent-encoding writes as {@code '+'}. */
+    static final byte PLUS = 2;
+
+    private static final byte ESCAPE_CHAR = '%';
+
+    private static final byte PLUS_CHAR = '+';
+
+    /** The values of the hexadecimal digits, indexed by byte value, -1 for bytes that are not hexadecimal digits. */
+    private static final byte[] DIGITS16 = new byte[256];
+
+    /** The upper case hexadecimal digits. */
+    private static final byte[] UPPER_HEX_DIGITS = { '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'A', 'B', 'C', 'D', 'E', 'F' };
+
+    static {
+        Arrays.fill(DIGITS16, (byte) -1);
+        for (int i = 0; i < RADIX; i++) {
+            DIGITS16[Character.forDigit(i, RADIX)] = (byte) i;
+            DIGITS16[Character.toUpperCase(Character.forDigit(i, RADIX))] = (byte) i;
+        }
+    }
+
+    /**
+     * Decodes percent-encoded bytes.
+     *
+     * @param bytes        The encoded bytes.
+     * @param offset       The offset of the first byte.
+     * @param length       The number of bytes.
+     * @param plusForSpace Whether {@code '+'} decodes to a space.
+     * @param message      The message of the exception thrown for an escape sequence cut short by the end of the input.
+     * @return The decoded bytes.
+     * @throws DecoderException Thrown if an escape sequence is invalid.
+     */
+    static byte[] decodePercent(final byte[] bytes, final int offset, final int length, final boolean plusForSpace, final String message)
+            throws DecoderException {
+        final int end = offset + length;
+        int decodedLength = 0;
+        for (int i = offset; i < end; i += bytes[i] == ESCAPE_CHAR ? 3 : 1) {
+            decodedLength++;
+        }
+        final byte[] result = new byte[decodedLength];
+        decodePercent(bytes, offset, length, result, 0, plusForSpace, message);
+        return result;
+    }
+
+    /**
+     * Decodes percent-encoded bytes into an array large enough for the decoded bytes; the encoded length is always large enough.
+     *
+     * @param bytes        The encoded bytes.
+     * @param offset       The offset of the first byte.
+     * @param length       The number of bytes.
+     * @param result       The destination of the decoded bytes.
+     * @param resultOffset The index of the first decoded byte in the destination.
+     * @param plusForSpace Whether {@code '+'} decodes to a space.
+     * @param message      The message of the exception thrown for an escape sequence cut short by the end of the input.
+     * @return The number of decoded bytes.
+     * @throws DecoderException Thrown if an escape sequence is invalid.
+     */
+    static int decodePercent(final byte[] bytes, final int offset, final int length, final byte[] result, final int resultOffset, final boolean plusForSpace,
+            final String message) throws DecoderException {
+        final int end = offset + length;
+        int pos = resultOffset;
+        int i = offset;
+        while (i < end) {
+            // copy the run of bytes that decode to themselves
+            final int runStart = i;
+            byte b = 0;
+            while (i < end && (b = bytes[i]) != ESCAPE_CHAR && (b != PLUS_CHAR || !plusForSpace)) {
+                i++;
+            }
+            System.arraycopy(bytes, runStart, result, pos, i - runStart);
+            pos += i - runStart;
+            if (i == end) {
+                break;
+            }
+            if (b == PLUS_CHAR) {
+                result[pos++] = SPACE;
+                i++;
+            } else {
+                if (i + 2 >= end) {
+                    if (i + 1 < end) {
+                        digit16(bytes[i + 1]);
+                    }
+                    throw truncated(message, length);
+                }
+                result[pos++] = (byte) (digit16(bytes[i + 1]) << 4 | digit16(bytes[i + 2]));
+                i += 3;
+            }
+        }
+        return pos - resultOffset;
+    }
+
+    /**
+     * Decodes percent-encoded chars, which are treated as US-ASCII.
+     *
+     * @param chars        The encoded chars.
+     * @param plusForSpace Whether {@code '+'} decodes to a space.
+     * @param message      The message of the exception thrown for an escape sequence cut short by the end of the input.
+     * @return The decoded bytes.
+     * @throws DecoderException Thrown if an escape sequence is invalid.
+     */
+    static byte[] decodePercent(final CharSequence chars, final boolean plusForSpace, final String message) throws DecoderException {
+        final int end = chars.length();
+        int decodedLength = 0;
+        // the number of hex digits of the current escape sequence still to skip
+        int digits = 0;
+        for (int i = 0; i < end; i++) {
+            final char c = chars.charAt(i);
+            if (c > 0x7f) {
+                // as the US-ASCII encoder replaces the char, or a surrogate pair, with '?'
+                final byte[] bytes = chars.toString().getBytes(StandardCharsets.US_ASCII);
+                return decodePercent(bytes, 0, bytes.length, plusForSpace, message);
+            }
+            if (digits > 0) {
+                digits--;
+            } else {
+                decodedLength++;
+                if (c == ESCAPE_CHAR) {
+                    digits = 2;
+                }
+            }
+        }
+        final byte[] result = new byte[decodedLength];
+        int pos = 0;
+        for (int i = 0; i < end; i++) {
+            final char c = chars.charAt(i);
+            if (c == ESCAPE_CHAR) {
+                if (i + 2 >= end) {
+                    if (i + 1 < end) {
+                        digit16((byte) chars.charAt(i + 1));
+                    }
+                    throw truncated(message, end);
+                }
+                result[pos++] = (byte) (digit16((byte) chars.charAt(i + 1)) << 4 | digit16((byte) chars.charAt(i + 2)));
+                i += 2;
+            } else if (c == PLUS_CHAR && plusForSpace) {
+                result[pos++] = SPACE;
+            } else {
+                result[pos++] = (byte) c;
+            }
+        }
+        return result;
+    }
+
     /**
      * Returns the numeric value of the character {@code b} in radix 16.
      *
@@ -45,7 +197,7 @@ final class Utils {
      * @throws DecoderException Thrown when the byte is not valid per {@link Character#digit(char,int)}.
      */
     static int digit16(final byte b) throws DecoderException {
-        final int i = Character.digit((char) b, RADIX);
+        final int i = DIGITS16[b & 0xff];
         if (i == -1) {
             throw new DecoderException("Invalid URL encoding: not a valid digit (radix " + RADIX + "): " + b);
         }
@@ -59,6 +211,98 @@ final class Utils {
      * @return The upper case hexadecimal digit of the lower 4 bits of the int.
      */
     static char hexChar(final int b) {
-        return Character.toUpperCase(Character.forDigit(b & 0xF, RADIX));
+        return (char) UPPER_HEX_DIGITS[b & 0xF];
+    }
+
+    /**
+     * Percent-encodes bytes.
+     *
+     * @param bytes  The bytes to encode.
+     * @param offset The offset of the first byte.
+     * @param length The number of bytes.
+     * @param table  The codes {@link #LITERAL}, {@link #ESCAPE} or {@link #PLUS} of the byte values, indexed by unsigned byte value.
+     * @return The encoded bytes.
+     */
+    static byte[] encodePercent(final byte[] bytes, final int offset, final int length, final byte[] table) {
+        final int end = offset + length;
+        int encodedLength = length;
+        for (int i = offset; i < end; i++) {
+            if (table[bytes[i] & 0xff] == ESCAPE) {
+                encodedLength += 2;
+            }
+        }
+        final byte[] result = new byte[encodedLength];
+        encodePercent(bytes, offset, length, table, result, 0);
+        return result;
+    }
+
+    /**
+     * Percent-encodes bytes into an array large enough for the encoded bytes; three times the length is always large enough.
+     *
+     * @param bytes        The bytes to encode.
+     * @param offset       The offset of the first byte.
+     * @param length       The number of bytes.
+     * @param table        The codes {@link #LITERAL}, {@link #ESCAPE} or {@link #PLUS} of the byte values, indexed by unsigned byte value.
+     * @param result       The destination of the encoded bytes.
+     * @param resultOffset The index of the first encoded byte in the destination.
+     * @return The number of encoded bytes.
+     */
+    static int encodePercent(final byte[] bytes, final int offset, final int length, final byte[] table, final byte[] result, final int resultOffset) {
+        final int end = offset + length;
+        int pos = resultOffset;
+        int i = offset;
+        while (i < end) {
+            // copy the run of bytes that encode to themselves
+            final int runStart = i;
+            while (i < end && table[bytes[i] & 0xff] == LITERAL) {
+                i++;
+            }
+            System.arraycopy(bytes, runStart, result, pos, i - runStart);
+            pos += i - runStart;
+            if (i == end) {
+                break;
+            }
+            final int b = bytes[i++] & 0xff;
+            if (table[b] == PLUS) {
+                result[pos++] = PLUS_CHAR;
+            } else {
+                result[pos++] = ESCAPE_CHAR;
+                result[pos++] = UPPER_HEX_DIGITS[b >> 4];
+                result[pos++] = UPPER_HEX_DIGITS[b & 0xF];
+            }
+        }
+        return pos - resultOffset;
+    }
+
+    /**
+     * Gets the end of the complete escape sequences and other bytes, that is, the index of the {@code '%'} of an escape sequence cut short by the end of the
+     * input, or the end of the input.
+     *
+     * @param bytes  The encoded bytes.
+     * @param offset The offset of the first byte.
+     * @param length The number of bytes.
+     * @return The end of the bytes that can be decoded without the following input.
+     */
+    static int completeEnd(final byte[] bytes, final int offset, final int length) {
+        final int end = offset + length;
+        int i = offset;
+        while (i < end) {
+            i += bytes[i] == ESCAPE_CHAR ? 3 : 1;
+        }
+        return i > end ? i - 3 : end;
+    }
+
+    /**
+     * Creates the exception thrown for an escape sequence cut short by the end of the input.
+     * <p>
+     * The cause is the exception, with the message of Java 9 and later, that the codecs threw when they read past the end of the input.
+     * </p>
+     *
+     * @param message The message.
+     * @param length  The length of the input, the index of the missing byte.
+     * @return The exception.
+     */
+    private static DecoderException truncated(final String message, final int length) {
+        return new DecoderException(message, new ArrayIndexOutOfBoundsException("Index " + length + " out of bounds for length " + length));
     }
 }
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.codec;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import org.apache.commons.codec.binary.Base32;
+import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.binary.StringUtils;
+import org.apache.commons.codec.digest.HmacAlgorithms;
+import org.apache.commons.codec.digest.HmacUtils;
+import org.apache.commons.codec.digest.PureJavaHmac;
+import org.apache.commons.codec.net.PercentCodec;
+import org.apache.commons.codec.net.URLCodec;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests {@link CodecMetricsRegistry} with {@link RecordingCodecMetrics} registered.
+ * <p>
+ * The registry looks up its providers once per class loader, so the provider is registered in a {@code META-INF/services} file visible only to an isolated
+ * class loader that loads the codec classes again. The other tests keep the default, disabled registry.
+ * </p>
+ */
+class CodecMetricsRegistryEnabledTest {
+
+    /**
+     * Runs codec operations in the isolated class loader and returns the counters of {@link RecordingCodecMetrics}.
+     */
+    public static final class Operations implements Callable<Map<String, Long>> {
+
+        @Override
+        public Map<String, Long> call() throws Exception {
+            final Map<String, Long> result = new HashMap<>();
+            result.put("enabled", CodecMetricsRegistry.isEnabled() ? 1L : 0L);
+            result.put("providers", (long) CodecMetricsRegistry.getProviders().size());
+            result.put("recording provider", CodecMetricsRegistry.getProviders().get(0) instanceof RecordingCodecMetrics ? 1L : 0L);
+            result.put("started", CodecMetricsRegistry.start() != 0 ? 1L : 0L);
+            final byte[] data = StringUtils.getBytesUtf8("Hello World");
+            new Base64().encode(data);
+            new Base64().decode("SGVsbG8gV29ybGQ=");
+            new Base64().decode(StringUtils.getBytesUtf8("SGVsbG8gV29ybGQ="));
+            new Base64().encodeToChars(data, 0, data.length, new char[16], 0);
+            new Base64().decode("SGVsbG8gV29ybGQ=", 0, 16, new byte[11], 0);
+            // empty input is not measured
+            new Base64().encode(new byte[0]);
+            new Base32().encode(data);
+            new Base32().decode("JBSWY3DPEBLW64TMMQ======");
+            new Hex().encode(new byte[2]);
+            new Hex().decode(StringUtils.getBytesUtf8("0a0b"));
+            final byte[] key = StringUtils.getBytesUtf8("key");
+            new HmacUtils(HmacAlgorithms.HMAC_SHA_256, key).hmac("Hello");
+            PureJavaHmac.getInstance(HmacAlgorithms.HMAC_SHA_256, key).hmac("Hello");
+            PureJavaHmac.getKeyedBlake3Instance(new byte[32]).hmac("Hello");
+            new URLCodec().encode(StringUtils.getBytesUtf8("a=b"));
+            new URLCodec().decode(StringUtils.getBytesUtf8("a%3Db"));
+            new PercentCodec(StringUtils.getBytesUtf8("="), false).encode(StringUtils.getBytesUtf8("a=b"));
+            new PercentCodec().decode(StringUtils.getBytesUtf8("a%3Db"));
+            try {
+                new Base64.Builder().setDecodingPolicy(CodecPolicy.STRICT).get().decode("AB");
+            } catch (final IllegalArgumentException e) {
+                // expected, counted as rejected
+            }
+            result.putAll(RecordingCodecMetrics.snapshot());
+            return result;
+        }
+    }
+
+    private static void assertRecorded(final Map<String, Long> counters, final String prefix, final long calls, final long in, final long out) {
+        assertEquals(calls, (long) counters.getOrDefault(prefix + " calls", 0L), prefix + " calls");
+        assertEquals(in, (long) counters.getOrDefault(prefix + " in", 0L), prefix + " in");
+        assertEquals(out, (long) counters.getOrDefault(prefix + " out", 0L), prefix + " out");
+        assertFalse(counters.containsKey(prefix + " negative nanos"), prefix + " negative nanos");
+    }
+
+    private static URL location(final Class<?> clazz) {
+        return clazz.getProtectionDomain().getCodeSource().getLocation();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Long> runIsolated(final Path servicesRoot) throws Exception {
+        final Path services = Files.createDirectories(servicesRoot.resolve("META-INF/services"));
+        Files.write(services.resolve(CodecMetrics.class.getName()), Collections.singletonList(RecordingCodecMetrics.class.getName()),
+                StandardCharsets.UTF_8);
+        final URL[] urls = { servicesRoot.toUri().toURL(), location(CodecMetricsRegistry.class), location(RecordingCodecMetrics.class) };
+        // The parent sees only the JDK, so the codec classes and the registry are loaded again by the isolated loader.
+        try (URLClassLoader loader = new URLClassLoader(urls, ClassLoader.getSystemClassLoader().getParent())) {
+            final Class<?> operations = loader.loadClass(Operations.class.getName());
+            assertNotSame(Operations.class, operations);
+            return ((Callable<Map<String, Long>>) operations.getConstructor().newInstance()).call();
+        }
+    }
+
+    @Test
+    void testDefaultRegistryStaysDisabled(@TempDir final Path tempDir) throws Exception {
+        runIsolated(tempDir);
+        assertFalse(CodecMetricsRegistry.isEnabled());
+    }
+
+    @Test
+    void testMeasurements(@TempDir final Path tempDir) throws Exception {
+        final Map<String, Long> counters = runIsolated(tempDir);
+        assertEquals(1, (long) counters.get("enabled"));
+        assertEquals(1, (long) counters.get("providers"));
+        assertEquals(1, (long) counters.get("recording provider"));
+        assertEquals(1, (long) counters.get("started"));
+        assertRecorded(counters, "encoded Base64", 2, 22, 32);
+        assertRecorded(counters, "decoded Base64", 3, 48, 33);
+        assertRecorded(counters, "encoded Base32", 1, 11, 24);
+        assertRecorded(counters, "decoded Base32", 1, 24, 11);
+        assertRecorded(counters, "encoded Hex", 1, 2, 4);
+        assertRecorded(counters, "decoded Hex", 1, 4, 2);
+        assertRecorded(counters, "digested HmacSHA256", 2, 10, 0);
+        assertRecorded(counters, "digested KeyedBlake3", 1, 5, 0);
+        assertRecorded(counters, "encoded URLCodec", 1, 3, 5);
+        assertRecorded(counters, "decoded URLCodec", 1, 5, 3);
+        assertRecorded(counters, "encoded PercentCodec", 1, 3, 5);
+        assertRecorded(counters, "decoded PercentCodec", 1, 5, 3);
+        assertEquals(1, (long) counters.get("rejected Base64"));
+    }
+}
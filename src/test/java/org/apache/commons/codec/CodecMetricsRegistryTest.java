@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.codec;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.codec.binary.StringUtils;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link CodecMetricsRegistry} without a provider, the default.
+ *
+ * @see CodecMetricsRegistryEnabledTest
+ */
+class CodecMetricsRegistryTest {
+
+    @Test
+    void testCodecsWithoutProvider() {
+        final byte[] data = StringUtils.getBytesUtf8("Hello World");
+        assertEquals("SGVsbG8gV29ybGQ=", StringUtils.newStringUtf8(new Base64().encode(data)));
+        final Base64 base64 = new Base64.Builder().setDecodingPolicy(CodecPolicy.STRICT).get();
+        assertThrows(IllegalArgumentException.class, () -> base64.decode("AB"));
+    }
+
+    @Test
+    void testHooksDoNothing() {
+        final long start = CodecMetricsRegistry.start();
+        assertEquals(0, start);
+        CodecMetricsRegistry.decoded(Base64.class, 1, 1, start);
+        CodecMetricsRegistry.digested("HmacSHA256", 1, start);
+        CodecMetricsRegistry.encoded(Base64.class, 1, 1, start);
+        CodecMetricsRegistry.rejected(Base64.class);
+        assertTrue(CodecMetricsRegistry.getProviders().isEmpty());
+    }
+
+    @Test
+    void testIsEnabled() {
+        assertFalse(CodecMetricsRegistry.isEnabled());
+        assertTrue(CodecMetricsRegistry.getProviders().isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> CodecMetricsRegistry.getProviders().add(new RecordingCodecMetrics()));
+    }
+}
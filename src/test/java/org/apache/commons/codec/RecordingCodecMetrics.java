@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.codec;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the measurements of codecs.
+ * <p>
+ * {@link CodecMetricsRegistryEnabledTest} registers this provider in an isolated class loader. The callbacks never throw, a negative duration is counted
+ * under {@code "<prefix> negative nanos"} for the test to assert.
+ * </p>
+ */
+public class RecordingCodecMetrics implements CodecMetrics {
+
+    private static final Map<String, AtomicLong> COUNTERS = new ConcurrentHashMap<>();
+
+    private static void add(final String key, final long value) {
+        COUNTERS.computeIfAbsent(key, k -> new AtomicLong()).addAndGet(value);
+    }
+
+    @Override
+    public void decoded(final Class<?> codec, final long inputLength, final long outputLength, final long nanos) {
+        record("decoded " + codec.getSimpleName(), inputLength, outputLength, nanos);
+    }
+
+    @Override
+    public void digested(final String algorithm, final long inputLength, final long nanos) {
+        record("digested " + algorithm, inputLength, 0, nanos);
+    }
+
+    @Override
+    public void encoded(final Class<?> codec, final long inputLength, final long outputLength, final long nanos) {
+        record("encoded " + codec.getSimpleName(), inputLength, outputLength, nanos);
+    }
+
+    private void record(final String prefix, final long inputLength, final long outputLength, final long nanos) {
+        add(prefix + " calls", 1);
+        add(prefix + " in", inputLength);
+        add(prefix + " out", outputLength);
+        if (nanos < 0) {
+            add(prefix + " negative nanos", 1);
+        }
+    }
+
+    @Override
+    public void rejected(final Class<?> codec) {
+        add("rejected " + codec.getSimpleName(), 1);
+    }
+
+    /**
+     * Gets a copy of all counters.
+     *
+     * @return The counter values by name.
+     */
+    static Map<String, Long> snapshot() {
+        final Map<String, Long> snapshot = new HashMap<>();
+        COUNTERS.forEach((key, counter) -> snapshot.put(key, counter.get()));
+        return snapshot;
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.commons.codec.binary;
 
+import static org.apache.commons.codec.binary.ValidationResultTest.assertValidation;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -24,6 +25,7 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.Random;
@@ -631,4 +633,16 @@ class Base16Test {
         }
         return buf.toString();
     }
+
+    @Test
+    void testValidate() {
+        final Base16 base16 = new Base16();
+        assertValidation(base16.validate(""), true, 0, -1, true);
+        assertValidation(base16.validate("666F6F"), true, 3, -1, true);
+        assertValidation(base16.validate("666F6"), false, -1, 4, false);
+        assertValidation(base16.validate("666f6f"), false, -1, 3, false);
+        assertValidation(base16.validate("66 6F"), false, -1, 2, false);
+        assertValidation(new Base16(true).validate("666f6f"), true, 3, -1, true);
+        assertValidation(base16.validate(ByteBuffer.wrap(StringUtils.getBytesUtf8("666F6F"))), true, 3, -1, true);
+    }
 }
@@ -17,6 +17,7 @@
 
 package org.apache.commons.codec.binary;
 
+import static org.apache.commons.codec.binary.ValidationResultTest.assertValidation;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -25,9 +26,11 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Random;
 import java.util.stream.IntStream;
 
 import org.apache.commons.codec.CodecPolicy;
@@ -607,4 +610,85 @@ class Base32Test {
         codec.readResults(singly, 0, 100, context);
         assertArrayEquals(allInOne, singly);
     }
+
+    @Test
+    void testValidate() {
+        final Base32 base32 = new Base32();
+        assertValidation(base32.validate(""), true, 0, -1, true);
+        assertValidation(base32.validate("MZXW6==="), true, 3, -1, true);
+        assertValidation(base32.validate("MZXW6YTBOI======"), true, 6, -1, true);
+        assertValidation(base32.validate("MZXW\r\n6YQ=\r\n"), true, 4, -1, true);
+        assertValidation(base32.validate("MZXW6"), true, 3, -1, false);
+        assertValidation(base32.validate("MZXW6YQ"), true, 4, -1, false);
+        assertValidation(base32.validate("MZXW7==="), false, -1, 4, false);
+        assertValidation(base32.validate("MZXW6===MZXW6==="), false, -1, 8, false);
+        assertValidation(base32.validate("MZXW1==="), false, -1, 4, false);
+        for (final String impossible : BASE32_IMPOSSIBLE_CASES) {
+            assertFalse(base32.validate(impossible).isValid(), impossible);
+        }
+        final Base32 base32Hex = Base32.builder().setHexDecodeTable(true).get();
+        assertValidation(base32Hex.validate("CPNMU==="), true, 3, -1, true);
+        assertValidation(base32Hex.validate(ByteBuffer.wrap("CPNMUOJ1".getBytes(CHARSET_UTF8))), true, 5, -1, true);
+        for (final String impossible : BASE32HEX_IMPOSSIBLE_CASES) {
+            assertFalse(base32Hex.validate(impossible).isValid(), impossible);
+        }
+    }
+
+    @Test
+    void testValidateMatchesDecodedLength() {
+        final Base32 base32 = new Base32();
+        final Random random = new Random(1);
+        for (int size = 0; size < 100; size++) {
+            final byte[] data = new byte[size];
+            random.nextBytes(data);
+            assertValidation(base32.validate(ByteBuffer.wrap(base32.encode(data))), true, size, -1, true);
+        }
+    }
+
+    private static byte[] encodeByteByByte(final Base32 codec, final byte[] data) {
+        final BaseNCodec.Context context = new BaseNCodec.Context();
+        for (final byte b : data) {
+            codec.encode(new byte[] { b }, 0, 1, context);
+        }
+        codec.encode(data, 0, BaseNCodec.EOF, context);
+        final byte[] result = new byte[codec.available(context)];
+        codec.readResults(result, 0, result.length, context);
+        return result;
+    }
+
+    @Test
+    void testBlockEncodeDecodeMatchesByteByByte() {
+        final byte[] custom = "ybndrfg8ejkmcpqxot1uwisza345h769".getBytes(CHARSET_UTF8);
+        final Base32[] codecs = { new Base32(), Base32.builder().setHexEncodeTable(true).setHexDecodeTable(true).get(),
+                Base32.builder().setEncodeTable(custom).get(), Base32.builder().setLineLength(64).get(),
+                Base32.builder().setLineLength(20).setLineSeparator((byte) '\n').setPadding((byte) '*').get() };
+        final Random random = new Random(1);
+        for (final Base32 codec : codecs) {
+            for (int size = 1; size < 100; size++) {
+                final byte[] data = new byte[size];
+                random.nextBytes(data);
+                final byte[] expected = encodeByteByByte(codec, data);
+                final byte[] encoded = codec.encode(data);
+                assertArrayEquals(expected, encoded);
+                assertArrayEquals(encodeByteByByte(codec, Arrays.copyOfRange(data, 1, size)), codec.encode(data, 1, size - 1));
+                assertArrayEquals(data, codec.decode(encoded));
+                // Characters outside the alphabet break up whole blocks
+                final byte[] spaced = new byte[encoded.length * 2];
+                for (int i = 0; i < encoded.length; i++) {
+                    spaced[2 * i] = encoded[i];
+                    spaced[2 * i + 1] = ' ';
+                }
+                assertArrayEquals(data, codec.decode(spaced));
+            }
+        }
+    }
+
+    @Test
+    void testDecodeSingleTrailingCharacterAfterBlock() {
+        // A lone trailing character is decoded leniently with bits of the previous character
+        final byte[] expected = new Base32(true).decode("QJUK1NR58");
+        assertEquals(6, expected.length);
+        assertEquals(42, expected[5]);
+        assertArrayEquals(expected, new Base32(true).decode("QJUK1NR5-8"));
+    }
 }
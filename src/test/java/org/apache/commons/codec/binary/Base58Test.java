@@ -17,6 +17,7 @@
 
 package org.apache.commons.codec.binary;
 
+import static org.apache.commons.codec.binary.ValidationResultTest.assertValidation;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -447,4 +448,24 @@ public class Base58Test {
         assertEquals(content1, decodedContent1);
         assertArrayEquals(content2Trimmed, decodedBytes2, "decoding 0x0000287fb4cd");
     }
+
+    @Test
+    void testValidate() {
+        final Base58 base58 = new Base58();
+        assertValidation(base58.validate(""), true, 0, -1, true);
+        assertValidation(base58.validate("StV1DL6CwTryKyV"), true, 11, -1, true);
+        assertValidation(base58.validate("1112"), true, 4, -1, true);
+        assertValidation(base58.validate("111"), true, 3, -1, true);
+        assertValidation(base58.validate("StV1D0"), false, -1, 5, false);
+        assertValidation(base58.validate(ByteBuffer.wrap(StringUtils.getBytesUtf8("StV1DL6CwTryKyV"))), true, 11, -1, true);
+        final Random random = new Random(1);
+        for (int size = 0; size < 100; size++) {
+            final byte[] data = new byte[size];
+            random.nextBytes(data);
+            if (size > 2) {
+                data[0] = 0;
+            }
+            assertValidation(base58.validate(base58.encodeToString(data)), true, size, -1, true);
+        }
+    }
 }
@@ -17,6 +17,7 @@
 
 package org.apache.commons.codec.binary;
 
+import static org.apache.commons.codec.binary.ValidationResultTest.assertValidation;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -26,6 +27,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
@@ -715,6 +717,61 @@ class Base64Test {
         assertEquals(0, Base64.decodeBase64("\n".getBytes(CHARSET_UTF8)).length);
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = { 4, 64, 76, 80 })
+    void testDecodeLines(final int lineLength) {
+        for (final byte[] lineSeparator : new byte[][] { { '\r', '\n' }, { '\n' } }) {
+            final Base64 codec = Base64.builder().setLineLength(lineLength).setLineSeparator(lineSeparator).get();
+            for (int size = 0; size < 1000; size += 7) {
+                final byte[] data = new byte[size];
+                getRandom().nextBytes(data);
+                final byte[] encoded = codec.encode(data);
+                assertArrayEquals(data, codec.decode(encoded));
+                assertArrayEquals(data, Base64.decodeBase64(encoded));
+                assertArrayEquals(data, Base64.builder().setDecodingPolicy(CodecPolicy.STRICT).get().decode(encoded));
+            }
+        }
+    }
+
+    @Test
+    void testDecodeLinesWithChangingLineStructure() {
+        final byte[] data = new byte[1000];
+        getRandom().nextBytes(data);
+        final String encoded = Base64.encodeBase64String(data);
+        final StringBuilder lines = new StringBuilder();
+        // 76 character lines, then 64 character lines, then lines with a missing CR, then misaligned lines with whitespace
+        int i = 0;
+        for (; i + 76 <= 456; i += 76) {
+            lines.append(encoded, i, i + 76).append("\r\n");
+        }
+        for (; i + 64 <= 840; i += 64) {
+            lines.append(encoded, i, i + 64).append("\r\n");
+        }
+        for (; i + 64 <= 1096; i += 64) {
+            lines.append(encoded, i, i + 64).append('\n');
+        }
+        for (; i + 63 <= encoded.length(); i += 63) {
+            lines.append(encoded, i, i + 63).append(" \t\r\n");
+        }
+        lines.append(encoded, i, encoded.length());
+        assertArrayEquals(data, Base64.decodeBase64(lines.toString()));
+    }
+
+    @Test
+    void testDecodeLinesWithNonBase64() {
+        final byte[] data = new byte[300];
+        getRandom().nextBytes(data);
+        final byte[] encoded = Base64.encodeBase64Chunked(data);
+        final byte[] expected = Base64.decodeBase64(encoded);
+        // Bytes outside of the alphabet in the middle of a line are skipped by the decoder
+        final byte[] withNonBase64 = ArrayUtils.insert(100, encoded, (byte) '%', (byte) '*');
+        assertArrayEquals(expected, Base64.decodeBase64(withNonBase64));
+        // Padding in the middle of a line stops the decoder
+        final byte[] withPad = encoded.clone();
+        withPad[100] = '=';
+        assertArrayEquals(Arrays.copyOf(expected, 73), Base64.decodeBase64(withPad));
+    }
+
     /**
      * Test our decode with pad character in the middle. (Our current
      * implementation: halt decode and return what we've got so far).
@@ -1686,4 +1743,126 @@ class Base64Test {
     private String toString(final byte[] data) {
         return org.apache.commons.lang3.StringUtils.join(data, ',');
     }
+
+    @Test
+    void testValidate() {
+        final Base64 base64 = new Base64();
+        assertValidation(base64.validate(""), true, 0, -1, true);
+        assertValidation(base64.validate("Zm9vYmFy"), true, 6, -1, true);
+        assertValidation(base64.validate("Zm9vYg=="), true, 4, -1, true);
+        assertValidation(base64.validate("Zm9vYmE="), true, 5, -1, true);
+        assertValidation(base64.validate("Zm9v\r\nYmFy\r\n"), true, 6, -1, true);
+        assertValidation(base64.validate("Zm9v_-8="), true, 5, -1, true);
+        // Missing or extra padding is valid but not canonical
+        assertValidation(base64.validate("Zm9vYg"), true, 4, -1, false);
+        assertValidation(base64.validate("Zm9vYg="), true, 4, -1, false);
+        assertValidation(base64.validate("Zm9vYmFy===="), true, 6, -1, false);
+        // Bytes outside the alphabet, data after padding, impossible trailing characters
+        assertValidation(base64.validate("Zm9v%mFy"), false, -1, 4, false);
+        assertValidation(base64.validate("Zm9vYg==Zm9v"), false, -1, 8, false);
+        assertValidation(base64.validate("Zm9vYmF\u0100"), false, -1, 7, false);
+        for (final String impossible : BASE64_IMPOSSIBLE_CASES) {
+            assertFalse(base64.validate(impossible).isValid(), impossible);
+        }
+        assertValidation(base64.validate("Zm9vYE=="), false, -1, 5, false);
+        assertValidation(base64.validate("Zm9vY"), false, -1, 4, false);
+    }
+
+    @Test
+    void testValidateByteBuffer() {
+        final Base64 base64 = new Base64();
+        final byte[] bytes = StringUtils.getBytesUtf8("**Zm9vYg==**");
+        final ByteBuffer heap = ByteBuffer.wrap(bytes, 2, 8);
+        assertValidation(base64.validate(heap), true, 4, -1, true);
+        assertEquals(2, heap.position());
+        final ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes).flip().position(2);
+        assertValidation(base64.validate(direct), false, -1, 8, false);
+        assertEquals(2, direct.position());
+    }
+
+    @Test
+    void testValidateMatchesDecodedLength() {
+        final Base64 base64 = new Base64();
+        final Base64 chunked = Base64.builder().setLineLength(BaseNCodec.MIME_CHUNK_SIZE).get();
+        for (int size = 0; size < 200; size++) {
+            final byte[] data = new byte[size];
+            getRandom().nextBytes(data);
+            assertValidation(base64.validate(ByteBuffer.wrap(base64.encode(data))), true, size, -1, true);
+            assertValidation(base64.validate(chunked.encodeToString(data)), true, size, -1, true);
+            assertValidation(base64.validate(Base64.encodeBase64URLSafeString(data)), true, size, -1, size % 3 == 0);
+        }
+    }
+
+    @Test
+    void testDecodeCharSequence() {
+        final Base64 base64 = new Base64();
+        final byte[] dst = new byte[8];
+        assertEquals(6, base64.decode(new StringBuilder("**Zm9v\r\nYmFy**"), 2, 10, dst, 1));
+        assertArrayEquals(new byte[] { 0, 'f', 'o', 'o', 'b', 'a', 'r', 0 }, dst);
+        assertEquals(4, base64.decode("Zm9vYg==Zm9v", 0, 12, dst, 0));
+        assertEquals(5, base64.decode("Zm9vYmE", 0, 7, dst, 0));
+        assertEquals(1, base64.decode("Z\u00e9\u0100\u20acg", 0, 5, dst, 0));
+        assertEquals(0, base64.decode("", 0, 0, dst, 8));
+        assertThrows(IllegalArgumentException.class, () -> base64.decode("Zm9vYmFy", 0, 8, new byte[5], 0));
+        assertThrows(IllegalArgumentException.class, () -> base64.decode("Zm9vYg", 0, 6, dst, 6));
+        assertThrows(IndexOutOfBoundsException.class, () -> base64.decode("Zm9v", 1, 4, dst, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> base64.decode("Zm9v", 0, 4, dst, 9));
+        final Base64 strict = Base64.builder().setDecodingPolicy(CodecPolicy.STRICT).get();
+        for (final String impossible : BASE64_IMPOSSIBLE_CASES) {
+            assertThrows(IllegalArgumentException.class, () -> strict.decode(impossible, 0, impossible.length(), new byte[impossible.length()], 0), impossible);
+        }
+    }
+
+    @Test
+    void testDecodeStringMatchesDecodeBytes() {
+        final String noise = "\r\n =\t-_+/A#\u00e9\u0100";
+        final Random random = getRandom();
+        for (final Base64 base64 : new Base64[] { new Base64(), Base64.builder().setUrlSafe(true).get(),
+                Base64.builder().setLineLength(BaseNCodec.MIME_CHUNK_SIZE).get(), Base64.builder().setDecodingPolicy(CodecPolicy.STRICT).get() }) {
+            for (int size = 0; size < 100; size++) {
+                final byte[] data = new byte[size];
+                random.nextBytes(data);
+                final StringBuilder encoded = new StringBuilder(base64.encodeToString(data));
+                assertArrayEquals(data, base64.decode(encoded.toString()));
+                if (size > 0) {
+                    encoded.setCharAt(random.nextInt(encoded.length()), noise.charAt(random.nextInt(noise.length())));
+                }
+                final String s = encoded.toString();
+                byte[] expected;
+                try {
+                    expected = base64.decode(StringUtils.getBytesUtf8(s));
+                } catch (final IllegalArgumentException e) {
+                    assertThrows(IllegalArgumentException.class, () -> base64.decode(s), s);
+                    continue;
+                }
+                assertArrayEquals(expected, base64.decode(s), s);
+            }
+        }
+        assertNull(new Base64().decode((String) null));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 4, 10, 64, 76 })
+    void testEncodeToChars(final int lineLength) {
+        final Base64[] codecs = { Base64.builder().setLineLength(lineLength).get(), Base64.builder().setLineLength(lineLength).setUrlSafe(true).get(),
+                Base64.builder().setLineLength(lineLength).setLineSeparator((byte) '\n').get() };
+        for (final Base64 base64 : codecs) {
+            for (int i = 0; i < 100; i++) {
+                final int size = i;
+                final byte[] data = new byte[size + 3];
+                getRandom().nextBytes(data);
+                final String expected = StringUtils.newStringUtf8(base64.encode(Arrays.copyOfRange(data, 2, 2 + size)));
+                final char[] dst = new char[expected.length() + 2];
+                assertEquals(expected.length(), base64.encodeToChars(data, 2, size, dst, 1));
+                assertEquals(expected, new String(dst, 1, expected.length()));
+                assertEquals(expected, base64.encodeToString(Arrays.copyOfRange(data, 2, 2 + size)));
+                if (size > 0) {
+                    assertThrows(IllegalArgumentException.class, () -> base64.encodeToChars(data, 2, size, dst, 3));
+                }
+            }
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> new Base64().encodeToChars(new byte[3], 1, 3, new char[4], 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> new Base64().encodeToChars(new byte[3], 0, 3, new char[4], -1));
+    }
 }
@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.codec.binary;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests {@link BinaryCodecInputStream}.
+ */
+class BinaryCodecInputStreamTest {
+
+    private static byte[] readByteByByte(final InputStream in) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int b;
+        while ((b = in.read()) != -1) {
+            out.write(b);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] readByChunk(final InputStream in, final int chunkSize) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final byte[] chunk = new byte[chunkSize];
+        int n;
+        while ((n = in.read(chunk, 0, chunkSize)) != -1) {
+            out.write(chunk, 0, n);
+        }
+        return out.toByteArray();
+    }
+
+    @Test
+    void testDecodeIgnoresLeadingPartialGroup() throws IOException {
+        final byte[] ascii = "1010100000101000010".getBytes(StandardCharsets.US_ASCII);
+        try (InputStream in = new BinaryCodecInputStream(new ByteArrayInputStream(ascii))) {
+            assertArrayEquals(BinaryCodec.fromAscii(ascii), readByteByByte(in));
+        }
+    }
+
+    @Test
+    void testDecodeMatchesArrayApi() throws IOException {
+        final byte[] ascii = "0100000101000010".getBytes(StandardCharsets.US_ASCII);
+        try (InputStream in = new BinaryCodecInputStream(new ByteArrayInputStream(ascii))) {
+            assertEquals("BA", new String(readByChunk(in, 10), StandardCharsets.US_ASCII));
+        }
+    }
+
+    @Test
+    void testEmpty() throws IOException {
+        try (InputStream in = new BinaryCodecInputStream(new ByteArrayInputStream(new byte[0]))) {
+            assertEquals(-1, in.read());
+            assertEquals(0, in.available());
+        }
+        try (InputStream in = new BinaryCodecInputStream(new ByteArrayInputStream(new byte[0]), true)) {
+            assertEquals(-1, in.read(new byte[8], 0, 8));
+        }
+    }
+
+    @Test
+    void testEncodeMatchesArrayApi() throws IOException {
+        final byte[] raw = "AB".getBytes(StandardCharsets.US_ASCII);
+        try (InputStream in = new BinaryCodecInputStream(new ByteArrayInputStream(raw), true)) {
+            assertArrayEquals(BinaryCodec.toAsciiBytes(raw), readByteByByte(in));
+        }
+    }
+
+    @Test
+    void testMarkAndReset() throws IOException {
+        try (InputStream in = new BinaryCodecInputStream(new ByteArrayInputStream(new byte[8]))) {
+            assertFalse(in.markSupported());
+            in.mark(1);
+            assertThrows(IOException.class, in::reset);
+        }
+    }
+
+    @Test
+    void testReadArgumentValidation() throws IOException {
+        try (InputStream in = new BinaryCodecInputStream(new ByteArrayInputStream(new byte[8]))) {
+            final byte[] buf = new byte[4];
+            assertThrows(NullPointerException.class, () -> in.read(null, 0, 0));
+            assertThrows(IndexOutOfBoundsException.class, () -> in.read(buf, -1, 1));
+            assertThrows(IndexOutOfBoundsException.class, () -> in.read(buf, 2, 3));
+            assertEquals(0, in.read(buf, 0, 0));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 3, 8, 1000, 8192, 10000 })
+    void testRoundTrip(final int chunkSize) throws IOException {
+        final Random random = new Random(chunkSize);
+        final byte[] raw = new byte[20000];
+        random.nextBytes(raw);
+        final byte[] ascii = BinaryCodec.toAsciiBytes(raw);
+        // Stream and array APIs are interchangeable
+        try (InputStream in = new BinaryCodecInputStream(new ByteArrayInputStream(raw), true)) {
+            final byte[] streamAscii = readByChunk(in, chunkSize);
+            assertArrayEquals(ascii, streamAscii);
+            assertArrayEquals(raw, BinaryCodec.fromAscii(streamAscii));
+        }
+        try (InputStream in = new BinaryCodecInputStream(new ByteArrayInputStream(ascii))) {
+            assertArrayEquals(raw, readByChunk(in, chunkSize));
+        }
+        try (InputStream in = new BinaryCodecInputStream(new BinaryCodecInputStream(new ByteArrayInputStream(raw), true))) {
+            assertArrayEquals(raw, readByChunk(in, chunkSize));
+        }
+    }
+
+    @Test
+    void testSkip() throws IOException {
+        final byte[] raw = { 1, 2, 3, 4, 5 };
+        try (InputStream in = new BinaryCodecInputStream(new ByteArrayInputStream(BinaryCodec.toAsciiBytes(raw)))) {
+            assertThrows(IllegalArgumentException.class, () -> in.skip(-1));
+            assertEquals(2, in.skip(2));
+            assertEquals(3, in.read());
+            assertEquals(2, in.skip(10));
+            assertEquals(-1, in.read());
+        }
+    }
+}
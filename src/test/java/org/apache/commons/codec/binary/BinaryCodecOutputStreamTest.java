@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.codec.binary;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests {@link BinaryCodecOutputStream}.
+ */
+class BinaryCodecOutputStreamTest {
+
+    private static byte[] writeByChunk(final byte[] data, final int chunkSize, final boolean encode) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (OutputStream os = new BinaryCodecOutputStream(out, encode)) {
+            for (int i = 0; i < data.length; i += chunkSize) {
+                os.write(data, i, Math.min(chunkSize, data.length - i));
+            }
+        }
+        return out.toByteArray();
+    }
+
+    @Test
+    void testDecodeIgnoresLeadingPartialGroup() throws IOException {
+        final byte[] ascii = "1010100000101000010".getBytes(StandardCharsets.US_ASCII);
+        assertArrayEquals(BinaryCodec.fromAscii(ascii), writeByChunk(ascii, 5, false));
+        assertEquals("BA", new String(writeByChunk(ascii, 5, false), StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void testDecodeMatchesArrayApi() throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (OutputStream os = new BinaryCodecOutputStream(out, false)) {
+            for (final byte b : "0100000101000010".getBytes(StandardCharsets.US_ASCII)) {
+                os.write(b);
+            }
+        }
+        assertEquals("BA", new String(out.toByteArray(), StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void testEmpty() throws IOException {
+        assertEquals(0, writeByChunk(new byte[0], 1, true).length);
+        assertEquals(0, writeByChunk(new byte[0], 1, false).length);
+    }
+
+    @Test
+    void testEncodeMatchesArrayApi() throws IOException {
+        final byte[] raw = "AB".getBytes(StandardCharsets.US_ASCII);
+        assertArrayEquals(BinaryCodec.toAsciiBytes(raw), writeByChunk(raw, 1, true));
+        assertEquals("0100001001000001", new String(writeByChunk(raw, 1, true), StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void testEof() throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (BinaryCodecOutputStream os = new BinaryCodecOutputStream(out)) {
+            os.write(0xff);
+            os.write(0x00);
+            os.flush();
+            assertEquals(0, out.size());
+            os.eof();
+            assertEquals("0000000011111111", new String(out.toByteArray(), StandardCharsets.US_ASCII));
+            os.write(0xff);
+        }
+        assertEquals(16, out.size());
+    }
+
+    @Test
+    void testWriteArgumentValidation() throws IOException {
+        try (OutputStream os = new BinaryCodecOutputStream(new ByteArrayOutputStream())) {
+            final byte[] buf = new byte[4];
+            assertThrows(NullPointerException.class, () -> os.write(null, 0, 0));
+            assertThrows(IndexOutOfBoundsException.class, () -> os.write(buf, -1, 1));
+            assertThrows(IndexOutOfBoundsException.class, () -> os.write(buf, 2, 3));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 3, 8, 1000, 8192, 10000 })
+    void testRoundTrip(final int chunkSize) throws IOException {
+        final Random random = new Random(chunkSize);
+        final byte[] raw = new byte[20000];
+        random.nextBytes(raw);
+        final byte[] ascii = writeByChunk(raw, chunkSize, true);
+        // Stream and array APIs are interchangeable
+        assertArrayEquals(BinaryCodec.toAsciiBytes(raw), ascii);
+        assertArrayEquals(raw, BinaryCodec.fromAscii(ascii));
+        assertArrayEquals(raw, writeByChunk(BinaryCodec.toAsciiBytes(raw), chunkSize, false));
+        assertArrayEquals(raw, writeByChunk(ascii, chunkSize, false));
+    }
+}
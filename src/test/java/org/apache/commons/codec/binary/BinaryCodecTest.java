@@ -22,8 +22,11 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
 
 import org.apache.commons.codec.DecoderException;
 import org.apache.commons.codec.EncoderException;
@@ -533,6 +536,78 @@ class BinaryCodecTest {
         assertEquals(0, ((char[]) instance.encode(obj)).length);
     }
 
+    /**
+     * Converts one bit at a time, the way BinaryCodec did before it used lookup tables.
+     */
+    private static byte[] toAsciiBytesBitByBit(final byte[] raw) {
+        final byte[] ascii = new byte[raw.length * 8];
+        for (int ii = 0, jj = ascii.length - 1; ii < raw.length; ii++, jj -= 8) {
+            for (int bit = 0; bit < 8; bit++) {
+                ascii[jj - bit] = (raw[ii] & 1 << bit) == 0 ? (byte) '0' : (byte) '1';
+            }
+        }
+        return ascii;
+    }
+
+    @Test
+    void testAllByteValuesMatchBitByBit() {
+        final byte[] raw = new byte[256];
+        for (int i = 0; i < raw.length; i++) {
+            raw[i] = (byte) i;
+        }
+        final byte[] expected = toAsciiBytesBitByBit(raw);
+        assertArrayEquals(expected, BinaryCodec.toAsciiBytes(raw));
+        assertEquals(new String(expected, StandardCharsets.US_ASCII), new String(BinaryCodec.toAsciiChars(raw)));
+        assertEquals(new String(expected, StandardCharsets.US_ASCII), BinaryCodec.toAsciiString(raw));
+        assertArrayEquals(raw, BinaryCodec.fromAscii(expected));
+        assertArrayEquals(raw, BinaryCodec.fromAscii(new String(expected, StandardCharsets.US_ASCII).toCharArray()));
+    }
+
+    @Test
+    void testByteBuffer() {
+        final byte[] raw = { 1, 2, (byte) 0xff, 0x7f };
+        final ByteBuffer rawBuffer = ByteBuffer.wrap(raw, 1, 2);
+        assertArrayEquals(BinaryCodec.toAsciiBytes(new byte[] { 2, (byte) 0xff }), BinaryCodec.toAsciiBytes(rawBuffer));
+        assertEquals(0, rawBuffer.remaining());
+        final ByteBuffer directRaw = ByteBuffer.allocateDirect(raw.length);
+        directRaw.put(raw).flip();
+        assertArrayEquals(BinaryCodec.toAsciiBytes(raw), BinaryCodec.toAsciiBytes(directRaw));
+        assertEquals(0, directRaw.remaining());
+        final byte[] ascii = BinaryCodec.toAsciiBytes(raw);
+        final ByteBuffer asciiBuffer = ByteBuffer.wrap(ascii, 8, 16);
+        assertArrayEquals(new byte[] { 2, (byte) 0xff }, BinaryCodec.fromAscii(asciiBuffer));
+        assertEquals(0, asciiBuffer.remaining());
+        final ByteBuffer directAscii = ByteBuffer.allocateDirect(ascii.length);
+        directAscii.put(ascii).flip();
+        assertArrayEquals(raw, BinaryCodec.fromAscii(directAscii));
+        assertEquals(0, directAscii.remaining());
+        assertEquals(0, BinaryCodec.toAsciiBytes(ByteBuffer.allocate(0)).length);
+        assertEquals(0, BinaryCodec.fromAscii(ByteBuffer.allocate(7)).length);
+    }
+
+    @Test
+    void testFromAsciiNonOneIsZeroBit() {
+        assertArrayEquals(new byte[] { (byte) 0x81 }, BinaryCodec.fromAscii("1xyz 0\u00b11".getBytes(StandardCharsets.ISO_8859_1)));
+        assertArrayEquals(new byte[] { (byte) 0x81 }, BinaryCodec.fromAscii("1xyz 0\u01311".toCharArray()));
+        assertArrayEquals(new byte[] { 0 }, BinaryCodec.fromAscii(new byte[] { '1' - 1, '1' + 1, (byte) ('1' | 0x80), 0, -1, '0', '0', 'x' }));
+    }
+
+    @Test
+    void testFromAsciiRange() {
+        final byte[] ascii = "xx0000000111111110yy".getBytes(StandardCharsets.US_ASCII);
+        assertArrayEquals(new byte[] { (byte) 0xfe, 1 }, BinaryCodec.fromAscii(ascii, 2, 16));
+        // extra leading bytes are ignored
+        assertArrayEquals(new byte[] { (byte) 0xfe, 1 }, BinaryCodec.fromAscii(ascii, 1, 17));
+        assertEquals(0, BinaryCodec.fromAscii(ascii, 2, 7).length);
+        final char[] chars = "xx0000000111111110yy".toCharArray();
+        assertArrayEquals(new byte[] { (byte) 0xfe, 1 }, BinaryCodec.fromAscii(chars, 2, 16));
+        assertArrayEquals(new byte[] { (byte) 0xfe, 1 }, BinaryCodec.fromAscii(chars, 1, 17));
+        assertEquals(0, BinaryCodec.fromAscii(chars, 2, 7).length);
+        assertThrows(IndexOutOfBoundsException.class, () -> BinaryCodec.fromAscii(ascii, 5, 16));
+        assertThrows(IndexOutOfBoundsException.class, () -> BinaryCodec.fromAscii(chars, -1, 8));
+        assertThrows(IndexOutOfBoundsException.class, () -> BinaryCodec.fromAscii(chars, 0, -1));
+    }
+
     /*
      * Tests for byte[] fromAscii(byte[])
      */
@@ -1078,6 +1153,28 @@ class BinaryCodecTest {
         assertEquals("", BinaryCodec.toAsciiString(null));
     }
 
+    @Test
+    void testToAsciiRange() {
+        final byte[] raw = { 1, 2, (byte) 0x80, 3 };
+        assertArrayEquals("1000000000000010".getBytes(StandardCharsets.US_ASCII), BinaryCodec.toAsciiBytes(raw, 1, 2));
+        assertEquals("1000000000000010", new String(BinaryCodec.toAsciiChars(raw, 1, 2)));
+        assertEquals(0, BinaryCodec.toAsciiBytes(raw, 4, 0).length);
+        assertEquals(0, BinaryCodec.toAsciiChars(raw, 4, 0).length);
+        assertThrows(IndexOutOfBoundsException.class, () -> BinaryCodec.toAsciiBytes(raw, 3, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> BinaryCodec.toAsciiChars(raw, -1, 1));
+        final Random random = new Random(1);
+        for (int i = 0; i < 100; i++) {
+            final byte[] bytes = new byte[random.nextInt(100)];
+            random.nextBytes(bytes);
+            final byte[] expected = toAsciiBytesBitByBit(bytes);
+            assertArrayEquals(expected, BinaryCodec.toAsciiBytes(bytes));
+            assertArrayEquals(bytes, BinaryCodec.fromAscii(expected));
+            final int offset = bytes.length == 0 ? 0 : random.nextInt(bytes.length);
+            final int length = random.nextInt(bytes.length - offset + 1);
+            assertArrayEquals(BinaryCodec.toAsciiBytes(Arrays.copyOfRange(bytes, offset, offset + length)), BinaryCodec.toAsciiBytes(bytes, offset, length));
+        }
+    }
+
     /**
      * Tests for byte[] toByteArray(String)
      */
@@ -17,6 +17,7 @@
 
 package org.apache.commons.codec.binary;
 
+import static org.apache.commons.codec.binary.ValidationResultTest.assertValidation;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
@@ -669,4 +670,20 @@ class HexTest {
     void testRequiredCharset(final Charset charset) throws UnsupportedEncodingException, DecoderException {
         testCharset(charset.name(), "testRequiredCharset");
     }
+
+    @Test
+    void testValidate() {
+        final Hex hex = new Hex();
+        assertValidation(hex.validate(""), true, 0, -1, true);
+        assertValidation(hex.validate("0aFf"), true, 2, -1, true);
+        assertValidation(hex.validate("0g"), false, -1, 1, false);
+        assertValidation(hex.validate("abc"), false, -1, 2, false);
+        final ByteBuffer buffer = ByteBuffer.wrap("xx0aff".getBytes(StandardCharsets.US_ASCII));
+        buffer.position(2);
+        assertValidation(hex.validate(buffer), true, 2, -1, true);
+        assertEquals(2, buffer.position());
+        final Hex utf16 = new Hex(StandardCharsets.UTF_16BE);
+        assertValidation(utf16.validate(ByteBuffer.wrap("0aff".getBytes(StandardCharsets.UTF_16BE))), true, 2, -1, true);
+        assertValidation(utf16.validate(ByteBuffer.wrap("0a-f".getBytes(StandardCharsets.UTF_16BE))), false, -1, 2, false);
+    }
 }
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.codec.binary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link ValidationResult}.
+ */
+class ValidationResultTest {
+
+    static void assertValidation(final ValidationResult result, final boolean valid, final long decodedLength, final int invalidOffset,
+            final boolean canonicalPadding) {
+        assertEquals(valid, result.isValid(), result::toString);
+        assertEquals(decodedLength, result.getDecodedLength(), result::toString);
+        assertEquals(invalidOffset, result.getInvalidOffset(), result::toString);
+        assertEquals(canonicalPadding, result.isCanonicalPadding(), result::toString);
+    }
+
+    @Test
+    void testInvalid() {
+        assertValidation(ValidationResult.invalid(3), false, -1, 3, false);
+    }
+
+    @Test
+    void testToString() {
+        final String s = ValidationResult.valid(1234, false).toString();
+        assertTrue(s.startsWith("ValidationResult["), s);
+        assertTrue(s.contains("valid=true"), s);
+        assertTrue(s.contains("canonicalPadding=false"), s);
+        assertFalse(ValidationResult.invalid(0).toString().contains("valid=true"));
+    }
+
+    @Test
+    void testValid() {
+        assertValidation(ValidationResult.valid(10, true), true, 10, -1, true);
+        assertValidation(ValidationResult.valid(0, false), true, 0, -1, false);
+        assertSame(ValidationResult.EMPTY, ValidationResult.valid(0, true));
+    }
+}
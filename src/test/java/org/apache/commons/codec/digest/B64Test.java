@@ -16,8 +16,11 @@
  */
 package org.apache.commons.codec.digest;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 
@@ -36,4 +39,21 @@ class B64Test {
         assertNotNull(new B64()); // for the 100% code coverage :)
         assertEquals(64, B64.B64T_ARRAY.length);
     }
+
+    @Test
+    void testB64to24bit() {
+        final int[] order = { 0, 2, 1, -1, 3, 4, -1, -1, 5 };
+        final byte[] bytes = { 1, -2, 3, -4, 5, -6 };
+        final StringBuilder buffer = new StringBuilder();
+        B64.b64from24bit(bytes, order, buffer);
+        assertEquals(B64.b64Length(order), buffer.length());
+        final byte[] decoded = new byte[bytes.length];
+        assertTrue(B64.b64to24bit(buffer.toString(), 0, order, decoded));
+        assertArrayEquals(bytes, decoded);
+        // bits beyond the last byte
+        buffer.setCharAt(buffer.length() - 1, 'z');
+        assertFalse(B64.b64to24bit(buffer.toString(), 0, order, decoded));
+        buffer.setCharAt(0, '$');
+        assertFalse(B64.b64to24bit(buffer.toString(), 0, order, decoded));
+    }
 }
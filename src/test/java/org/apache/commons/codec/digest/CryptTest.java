@@ -16,11 +16,16 @@
  */
 package org.apache.commons.codec.digest;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.charset.StandardCharsets;
+
 import org.junit.jupiter.api.Test;
 
 class CryptTest {
@@ -114,4 +119,36 @@ class CryptTest {
         startsWith(Crypt.crypt("secret", "$5$xxxx"), "$5$xxxx$");
         startsWith(Crypt.crypt("secret", "$6$xxxx"), "$6$xxxx$");
     }
+
+    @Test
+    void testVerify() {
+        final byte[] secret = "secret".getBytes(StandardCharsets.UTF_8);
+        final byte[] wrong = "wrong".getBytes(StandardCharsets.UTF_8);
+        assertTrue(Crypt.verify(secret, "$1$xxxx$aMkevjfEIpa35Bh3G4bAc."));
+        assertTrue(Crypt.verify(secret, "xxWAum7tHdIUw"));
+        assertTrue(Crypt.verify(secret, Crypt.crypt("secret", "$5$abc")));
+        assertTrue(Crypt.verify(secret, Crypt.crypt("secret", "$6$rounds=1000$abc")));
+        assertFalse(Crypt.verify(wrong, "$1$xxxx$aMkevjfEIpa35Bh3G4bAc."));
+        assertFalse(Crypt.verify(wrong, "xxWAum7tHdIUw"));
+        assertFalse(Crypt.verify(secret, "$1$xxxx$aMkevjfEIpa35Bh3G4bAc"));
+        assertFalse(Crypt.verify(secret, "$2a$10$abc"));
+        assertFalse(Crypt.verify(secret, null));
+        assertArrayEquals("secret".getBytes(StandardCharsets.UTF_8), secret);
+    }
+
+    @Test
+    void testVerifyAll() {
+        final String sha512 = Crypt.crypt("secret", "$6$rounds=1000$abc");
+        final byte[] secret = "secret".getBytes(StandardCharsets.UTF_8);
+        final byte[] wrong = "wrong".getBytes(StandardCharsets.UTF_8);
+        final byte[][] keys = { secret, secret, secret, wrong, secret, secret };
+        final String[] hashes = { "$1$xxxx$aMkevjfEIpa35Bh3G4bAc.", "xxWAum7tHdIUw", sha512, sha512, "$5$", null };
+        final boolean[] expected = { true, true, true, false, false, false };
+        assertArrayEquals(expected, Crypt.verifyAll(keys, hashes, 1));
+        assertArrayEquals(expected, Crypt.verifyAll(keys, hashes, 4));
+        assertArrayEquals("secret".getBytes(StandardCharsets.UTF_8), secret);
+        assertEquals(0, Crypt.verifyAll(new byte[0][], new String[0], 4).length);
+        assertThrows(IllegalArgumentException.class, () -> Crypt.verifyAll(keys, new String[1], 4));
+        assertThrows(IllegalArgumentException.class, () -> Crypt.verifyAll(keys, hashes, 0));
+    }
 }
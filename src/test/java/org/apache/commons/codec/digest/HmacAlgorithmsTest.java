@@ -25,6 +25,7 @@ import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
@@ -234,6 +235,16 @@ class HmacAlgorithmsTest {
         assertEquals(standardResultString, new HmacUtils(hmacAlgorithm, STANDARD_KEY_BYTES).hmacHex(TempFile.toFile()));
     }
 
+    @ParameterizedTest
+    @MethodSource("data")
+    void testMacHexFileChannel(final HmacAlgorithms hmacAlgorithm, final byte[] standardResultBytes, final String standardResultString)
+            throws IOException {
+        assumeTrue(HmacUtils.isAvailable(hmacAlgorithm));
+        try (FileChannel channel = FileChannel.open(TempFile)) {
+            assertEquals(standardResultString, new HmacUtils(hmacAlgorithm, STANDARD_KEY_BYTES).hmacHex(channel));
+        }
+    }
+
     @ParameterizedTest
     @MethodSource("data")
     void testMacHexInputStream(final HmacAlgorithms hmacAlgorithm, final byte[] standardResultBytes, final String standardResultString)
@@ -264,6 +275,16 @@ class HmacAlgorithmsTest {
         assertArrayEquals(standardResultBytes, new HmacUtils(hmacAlgorithm, STANDARD_KEY_BYTES).hmac(new ByteArrayInputStream(STANDARD_PHRASE_BYTES)));
     }
 
+    @ParameterizedTest
+    @MethodSource("data")
+    void testMacPathBufferSize(final HmacAlgorithms hmacAlgorithm, final byte[] standardResultBytes, final String standardResultString)
+            throws IOException {
+        assumeTrue(HmacUtils.isAvailable(hmacAlgorithm));
+        final HmacUtils hmacUtils = new HmacUtils(hmacAlgorithm, STANDARD_KEY_BYTES, 3);
+        assertArrayEquals(standardResultBytes, hmacUtils.hmac(TempFile));
+        assertArrayEquals(standardResultBytes, hmacUtils.hmac(new ByteArrayInputStream(STANDARD_PHRASE_BYTES)));
+    }
+
     @ParameterizedTest
     @MethodSource("data")
     void testMacString(final HmacAlgorithms hmacAlgorithm, final byte[] standardResultBytes, final String standardResultString) {
@@ -18,10 +18,20 @@ package org.apache.commons.codec.digest;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.net.URI;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Random;
 
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
@@ -29,12 +39,19 @@ import javax.crypto.spec.SecretKeySpec;
 import org.apache.commons.codec.binary.Hex;
 import org.apache.commons.codec.binary.StringUtils;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 /**
  * Tests {@link HmacUtils}.
  */
 class HmacUtilsTest {
 
+    @Test
+    void testBufferSizeInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> new HmacUtils(HmacAlgorithms.HMAC_SHA_1, HmacAlgorithmsTest.STANDARD_KEY_BYTES, 0));
+        assertThrows(IllegalArgumentException.class, () -> new HmacUtils(HmacAlgorithms.HMAC_SHA_1.getName(), HmacAlgorithmsTest.STANDARD_KEY_BYTES, -1));
+    }
+
     @SuppressWarnings("deprecation") // most of the static methods are deprecated
     @Test
     void testEmptyKey() {
@@ -68,6 +85,19 @@ class HmacUtilsTest {
                         new ByteArrayInputStream("what do ya want for nothing?".getBytes())));
     }
 
+    @Test
+    void testHmacPathOnZipFileSystem(@TempDir final Path tempDir) throws IOException {
+        final byte[] data = new byte[20000];
+        new Random(1).nextBytes(data);
+        final URI uri = URI.create("jar:" + tempDir.resolve("test.zip").toUri());
+        try (FileSystem zipFs = FileSystems.newFileSystem(uri, Collections.singletonMap("create", "true"))) {
+            final Path path = zipFs.getPath("data.bin");
+            Files.write(path, data);
+            final HmacUtils hmac = new HmacUtils(HmacAlgorithms.HMAC_SHA_256, StringUtils.getBytesUtf8("key"), 1000);
+            assertArrayEquals(hmac.hmac(data), hmac.hmac(path));
+        }
+    }
+
     @SuppressWarnings("deprecation") // most of the static methods are deprecated
     @Test
     void testHmacSha1Hex() throws IOException {
@@ -164,6 +194,20 @@ class HmacUtilsTest {
         assertThrows(IllegalArgumentException.class, () -> HmacUtils.getHmacMd5(null));
     }
 
+    @Test
+    void testReset() throws IOException {
+        final HmacUtils hmacUtils = new HmacUtils(HmacAlgorithms.HMAC_SHA_1, HmacAlgorithmsTest.STANDARD_KEY_BYTES, 4);
+        final InputStream failing = new SequenceInputStream(new ByteArrayInputStream(HmacAlgorithmsTest.STANDARD_PHRASE_BYTES), new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("test");
+            }
+        });
+        assertThrows(IOException.class, () -> hmacUtils.hmac(failing));
+        assertSame(hmacUtils, hmacUtils.reset());
+        assertEquals(HmacAlgorithmsTest.STANDARD_SHA1_RESULT_STRING, hmacUtils.hmacHex(HmacAlgorithmsTest.STANDARD_PHRASE_BYTES));
+    }
+
     @Test
     void testSecretKeySpecAllowsEmptyKeys() {
         assertThrows(IllegalArgumentException.class, () -> new SecretKeySpec(new byte[] {}, "HmacMD5"));
@@ -18,6 +18,7 @@ package org.apache.commons.codec.digest;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -98,6 +99,19 @@ class Md5CryptTest {
         assertThrows(IllegalArgumentException.class, () -> Md5Crypt.md5Crypt("secret".getBytes(), ""));
     }
 
+    @Test
+    void testVerify() {
+        final byte[] secret = "secret".getBytes(StandardCharsets.UTF_8);
+        assertTrue(Md5Crypt.verify(secret, "$1$xxxx$aMkevjfEIpa35Bh3G4bAc."));
+        assertTrue(Md5Crypt.verify(secret, Md5Crypt.apr1Crypt("secret", "abcdefgh")));
+        assertFalse(Md5Crypt.verify("Secret".getBytes(StandardCharsets.UTF_8), "$1$xxxx$aMkevjfEIpa35Bh3G4bAc."));
+        assertFalse(Md5Crypt.verify(secret, "$1$xxxx$aMkevjfEIpa35Bh3G4bAc/"));
+        assertFalse(Md5Crypt.verify(secret, "$1$xxxx$aMkevjfEIpa35Bh3G4bAc"));
+        assertFalse(Md5Crypt.verify(secret, "$1$$aMkevjfEIpa35Bh3G4bAc."));
+        assertFalse(Md5Crypt.verify(secret, "xxWAum7tHdIUw"));
+        assertFalse(Md5Crypt.verify(secret, null));
+    }
+
     @Test
     void testZeroOutInput() {
         final byte[] buffer = new byte[200];
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.codec.digest;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+
+import org.apache.commons.codec.binary.StringUtils;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link PureJavaHmac}.
+ */
+class PureJavaHmacTest {
+
+    private static void assertGetInstance(final HmacAlgorithms algorithm) {
+        final Random random = new Random(algorithm.ordinal());
+        for (final int keyLength : new int[] { 1, 20, 63, 64, 65, 127, 128, 129, 300 }) {
+            final byte[] key = new byte[keyLength];
+            random.nextBytes(key);
+            final PureJavaHmac hmac = PureJavaHmac.getInstance(algorithm, key);
+            final HmacUtils hmacUtils = new HmacUtils(algorithm, key);
+            assertEquals(hmacUtils.hmac(new byte[0]).length, hmac.getMacLength());
+            for (final int dataLength : new int[] { 0, 1, 55, 64, 200 }) {
+                final byte[] data = new byte[dataLength];
+                random.nextBytes(data);
+                assertArrayEquals(hmacUtils.hmac(data), hmac.hmac(data));
+                // repeated use gives the same result
+                assertArrayEquals(hmacUtils.hmac(data), hmac.hmac(data));
+            }
+        }
+    }
+
+    @Test
+    void testGetInstance() {
+        for (final HmacAlgorithms algorithm : HmacAlgorithms.values()) {
+            assertGetInstance(algorithm);
+        }
+    }
+
+    @Test
+    void testGetInstanceEmptyKey() {
+        assertThrows(IllegalArgumentException.class, () -> PureJavaHmac.getInstance(HmacAlgorithms.HMAC_SHA_256, new byte[0]));
+    }
+
+    @Test
+    void testGetInstanceNull() {
+        assertThrows(NullPointerException.class, () -> PureJavaHmac.getInstance(null, new byte[1]));
+        assertThrows(NullPointerException.class, () -> PureJavaHmac.getInstance(HmacAlgorithms.HMAC_SHA_256, null));
+    }
+
+    @Test
+    void testGetKeyedBlake3Instance() {
+        final byte[] key = new byte[32];
+        new Random(1).nextBytes(key);
+        final PureJavaHmac hmac = PureJavaHmac.getKeyedBlake3Instance(key);
+        final byte[] data = HmacAlgorithmsTest.STANDARD_PHRASE_BYTES;
+        assertEquals(32, hmac.getMacLength());
+        assertArrayEquals(Blake3.keyedHash(key, data), hmac.hmac(data));
+        assertArrayEquals(Blake3.keyedHash(key, data), hmac.hmac(data));
+        final byte[] originalKey = key.clone();
+        key[0]++;
+        // the instance keeps its own copy of the key
+        assertArrayEquals(Blake3.keyedHash(originalKey, data), hmac.hmac(data));
+        assertThrows(IllegalArgumentException.class, () -> PureJavaHmac.getKeyedBlake3Instance(new byte[16]));
+        assertThrows(NullPointerException.class, () -> PureJavaHmac.getKeyedBlake3Instance(null));
+    }
+
+    @Test
+    void testHmacHex() {
+        final PureJavaHmac hmac = PureJavaHmac.getInstance(HmacAlgorithms.HMAC_SHA_1, HmacAlgorithmsTest.STANDARD_KEY_BYTES);
+        assertEquals(HmacAlgorithmsTest.STANDARD_SHA1_RESULT_STRING, hmac.hmacHex(HmacAlgorithmsTest.STANDARD_PHRASE_STRING));
+        assertEquals(HmacAlgorithmsTest.STANDARD_SHA1_RESULT_STRING, hmac.hmacHex(HmacAlgorithmsTest.STANDARD_PHRASE_BYTES));
+        final byte[] padded = StringUtils.getBytesUtf8("xx" + HmacAlgorithmsTest.STANDARD_PHRASE_STRING + "yy");
+        assertArrayEquals(HmacAlgorithmsTest.STANDARD_SHA1_RESULT_BYTES, hmac.hmac(padded, 2, padded.length - 4));
+    }
+}
@@ -17,7 +17,9 @@
 
 package org.apache.commons.codec.digest;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.charset.StandardCharsets;
 
@@ -42,4 +44,22 @@ class Sha2CryptTest {
         // Full effect (WARNING: ~2 min):
         // Crypt.crypt("anything".getBytes(), "$6$rounds=999999999$abcdefghijklmnop");
     }
+
+    @Test
+    void testVerify() {
+        final byte[] secret = "secret".getBytes(StandardCharsets.UTF_8);
+        for (final String salt : new String[] { "$5$abc", "$6$abcdefghijklmnop", "$6$rounds=1000$abc" }) {
+            final String hash = Crypt.crypt("secret", salt);
+            assertTrue(Sha2Crypt.verify(secret, hash));
+            assertFalse(Sha2Crypt.verify("Secret".getBytes(StandardCharsets.UTF_8), hash));
+            assertFalse(Sha2Crypt.verify(secret, hash + "x"));
+            assertFalse(Sha2Crypt.verify(secret, hash.substring(0, hash.length() - 1)));
+        }
+        // the rounds are normalized, so a hash value with other rounds can't be produced
+        final String hash = Crypt.crypt("secret", "$5$rounds=10$abc");
+        assertTrue(Sha2Crypt.verify(secret, hash));
+        assertFalse(Sha2Crypt.verify(secret, hash.replace("rounds=1000$", "rounds=10$")));
+        assertFalse(Sha2Crypt.verify(secret, "$1$xxxx$aMkevjfEIpa35Bh3G4bAc."));
+        assertFalse(Sha2Crypt.verify(secret, null));
+    }
 }
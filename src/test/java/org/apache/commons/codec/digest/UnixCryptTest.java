@@ -17,6 +17,7 @@
 package org.apache.commons.codec.digest;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -104,4 +105,19 @@ class UnixCryptTest {
         final String hash2 = UnixCrypt.crypt("foo");
         assertNotSame(hash, hash2);
     }
+
+    @Test
+    void testVerify() {
+        final byte[] secret = "secret".getBytes(StandardCharsets.UTF_8);
+        assertTrue(UnixCrypt.verify(secret, "xxWAum7tHdIUw"));
+        // only the first 8 bytes are used
+        assertTrue(UnixCrypt.verify("12345678 and more".getBytes(StandardCharsets.UTF_8), UnixCrypt.crypt("12345678", "xx")));
+        assertFalse(UnixCrypt.verify("Secret".getBytes(StandardCharsets.UTF_8), "xxWAum7tHdIUw"));
+        // the last char only has 4 bits of the digest
+        assertFalse(UnixCrypt.verify(secret, "xxWAum7tHdIUx"));
+        assertFalse(UnixCrypt.verify(secret, "xxWAum7tHdIU"));
+        assertFalse(UnixCrypt.verify(secret, "xxWAum7tHdIUw."));
+        assertFalse(UnixCrypt.verify(secret, "x$WAum7tHdIUw"));
+        assertFalse(UnixCrypt.verify(secret, null));
+    }
 }
@@ -0,0 +1,254 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.codec.language;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link AbstractCaverphone.Rules} against the regular expression implementation of Caverphone 1.0 and 2.0 it replaces.
+ */
+class AbstractCaverphoneTest {
+
+    /**
+     * Fragments the rules look for, so that random names exercise every rule.
+     */
+    private static final String[] FRAGMENTS = { "a", "b", "c", "ce", "ci", "cough", "cq", "cy", "d", "dg", "e", "enough", "f", "g", "gh", "gn", "h", "i", "j",
+            "k", "l", "ly", "m", "mb", "n", "o", "p", "ph", "q", "r", "rough", "ry", "s", "sh", "t", "tch", "tia", "tio", "tough", "trough", "u", "v", "w",
+            "wh", "why", "wy", "x", "y", "z", "'", "-", " ", "A", "MB", "Gh", "\u00e9", "\u212a", "\u0130" };
+
+    private static List<String> corpus() {
+        final Random random = new Random(31);
+        final List<String> corpus = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            final StringBuilder name = new StringBuilder();
+            final int fragments = random.nextInt(8);
+            for (int j = 0; j < fragments; j++) {
+                name.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+            }
+            corpus.add(name.toString());
+        }
+        return corpus;
+    }
+
+    /**
+     * The regular expression implementation of {@link Caverphone1#encode(String)} from version 1.22.0.
+     */
+    private static String encodeCaverphone1(final String source) {
+        String txt = source;
+        if (txt == null || txt.isEmpty()) {
+            return "111111";
+        }
+
+        // 1. Convert to lowercase
+        txt = txt.toLowerCase(Locale.ENGLISH);
+
+        // 2. Remove anything not A-Z
+        txt = txt.replaceAll("[^a-z]", "");
+
+        // 3. Handle various start options
+        // 2 is a temporary placeholder to indicate a consonant which we are no longer interested in.
+        txt = txt.replaceAll("^cough", "cou2f");
+        txt = txt.replaceAll("^rough", "rou2f");
+        txt = txt.replaceAll("^tough", "tou2f");
+        txt = txt.replaceAll("^enough", "enou2f");
+        txt = txt.replaceAll("^gn", "2n");
+
+        // End
+        txt = txt.replaceAll("mb$", "m2");
+
+        // 4. Handle replacements
+        txt = txt.replace("cq", "2q");
+        txt = txt.replace("ci", "si");
+        txt = txt.replace("ce", "se");
+        txt = txt.replace("cy", "sy");
+        txt = txt.replace("tch", "2ch");
+        txt = txt.replace("c", "k");
+        txt = txt.replace("q", "k");
+        txt = txt.replace("x", "k");
+        txt = txt.replace("v", "f");
+        txt = txt.replace("dg", "2g");
+        txt = txt.replace("tio", "sio");
+        txt = txt.replace("tia", "sia");
+        txt = txt.replace("d", "t");
+        txt = txt.replace("ph", "fh");
+        txt = txt.replace("b", "p");
+        txt = txt.replace("sh", "s2");
+        txt = txt.replace("z", "s");
+        txt = txt.replaceAll("^[aeiou]", "A");
+        // 3 is a temporary placeholder marking a vowel
+        txt = txt.replaceAll("[aeiou]", "3");
+        txt = txt.replace("3gh3", "3kh3");
+        txt = txt.replace("gh", "22");
+        txt = txt.replace("g", "k");
+        txt = txt.replaceAll("s+", "S");
+        txt = txt.replaceAll("t+", "T");
+        txt = txt.replaceAll("p+", "P");
+        txt = txt.replaceAll("k+", "K");
+        txt = txt.replaceAll("f+", "F");
+        txt = txt.replaceAll("m+", "M");
+        txt = txt.replaceAll("n+", "N");
+        txt = txt.replace("w3", "W3");
+        txt = txt.replace("wy", "Wy"); // 1.0 only
+        txt = txt.replace("wh3", "Wh3");
+        txt = txt.replace("why", "Why"); // 1.0 only
+        txt = txt.replace("w", "2");
+        txt = txt.replaceAll("^h", "A");
+        txt = txt.replace("h", "2");
+        txt = txt.replace("r3", "R3");
+        txt = txt.replace("ry", "Ry"); // 1.0 only
+        txt = txt.replace("r", "2");
+        txt = txt.replace("l3", "L3");
+        txt = txt.replace("ly", "Ly"); // 1.0 only
+        txt = txt.replace("l", "2");
+        txt = txt.replace("j", "y"); // 1.0 only
+        txt = txt.replace("y3", "Y3"); // 1.0 only
+        txt = txt.replace("y", "2"); // 1.0 only
+
+        // 5. Handle removals
+        txt = txt.replace("2", "");
+        txt = txt.replace("3", "");
+
+        // 6. put six 1s on the end
+        txt += "111111";
+
+        // 7. take the first six characters as the code
+        return txt.substring(0, "111111".length());
+    }
+
+    /**
+     * The regular expression implementation of {@link Caverphone2#encode(String)} from version 1.22.0.
+     */
+    private static String encodeCaverphone2(final String source) {
+        String txt = source;
+        if (txt == null || txt.isEmpty()) {
+            return "1111111111";
+        }
+
+        // 1. Convert to lowercase
+        txt = txt.toLowerCase(Locale.ENGLISH);
+
+        // 2. Remove anything not A-Z
+        txt = txt.replaceAll("[^a-z]", "");
+
+        // 2.5. Remove final e
+        txt = txt.replaceAll("e$", ""); // 2.0 only
+
+        // 3. Handle various start options
+        txt = txt.replaceAll("^cough", "cou2f");
+        txt = txt.replaceAll("^rough", "rou2f");
+        txt = txt.replaceAll("^tough", "tou2f");
+        txt = txt.replaceAll("^enough", "enou2f"); // 2.0 only
+        txt = txt.replaceAll("^trough", "trou2f"); // 2.0 only
+                                                   // note the spec says ^enough here again, c+p error I assume
+        txt = txt.replaceAll("^gn", "2n");
+
+        // End
+        txt = txt.replaceAll("mb$", "m2");
+
+        // 4. Handle replacements
+        txt = txt.replace("cq", "2q");
+        txt = txt.replace("ci", "si");
+        txt = txt.replace("ce", "se");
+        txt = txt.replace("cy", "sy");
+        txt = txt.replace("tch", "2ch");
+        txt = txt.replace("c", "k");
+        txt = txt.replace("q", "k");
+        txt = txt.replace("x", "k");
+        txt = txt.replace("v", "f");
+        txt = txt.replace("dg", "2g");
+        txt = txt.replace("tio", "sio");
+        txt = txt.replace("tia", "sia");
+        txt = txt.replace("d", "t");
+        txt = txt.replace("ph", "fh");
+        txt = txt.replace("b", "p");
+        txt = txt.replace("sh", "s2");
+        txt = txt.replace("z", "s");
+        txt = txt.replaceAll("^[aeiou]", "A");
+        txt = txt.replaceAll("[aeiou]", "3");
+        txt = txt.replace("j", "y"); // 2.0 only
+        txt = txt.replaceAll("^y3", "Y3"); // 2.0 only
+        txt = txt.replaceAll("^y", "A"); // 2.0 only
+        txt = txt.replace("y", "3"); // 2.0 only
+        txt = txt.replace("3gh3", "3kh3");
+        txt = txt.replace("gh", "22");
+        txt = txt.replace("g", "k");
+        txt = txt.replaceAll("s+", "S");
+        txt = txt.replaceAll("t+", "T");
+        txt = txt.replaceAll("p+", "P");
+        txt = txt.replaceAll("k+", "K");
+        txt = txt.replaceAll("f+", "F");
+        txt = txt.replaceAll("m+", "M");
+        txt = txt.replaceAll("n+", "N");
+        txt = txt.replace("w3", "W3");
+        txt = txt.replace("wh3", "Wh3");
+        txt = txt.replaceAll("w$", "3"); // 2.0 only
+        txt = txt.replace("w", "2");
+        txt = txt.replaceAll("^h", "A");
+        txt = txt.replace("h", "2");
+        txt = txt.replace("r3", "R3");
+        txt = txt.replaceAll("r$", "3"); // 2.0 only
+        txt = txt.replace("r", "2");
+        txt = txt.replace("l3", "L3");
+        txt = txt.replaceAll("l$", "3"); // 2.0 only
+        txt = txt.replace("l", "2");
+
+        // 5. Handle removals
+        txt = txt.replace("2", "");
+        txt = txt.replaceAll("3$", "A"); // 2.0 only
+        txt = txt.replace("3", "");
+
+        // 6. put ten 1s on the end
+        txt += "1111111111";
+
+        // 7. take the first ten characters as the code
+        return txt.substring(0, "1111111111".length());
+    }
+
+    @Test
+    void testCaverphone1MatchesRegularExpressions() {
+        final Caverphone1 caverphone = new Caverphone1();
+        assertEquals(encodeCaverphone1(null), caverphone.encode(null));
+        for (final String name : corpus()) {
+            assertEquals(encodeCaverphone1(name), caverphone.encode(name), name);
+        }
+    }
+
+    @Test
+    void testCaverphone2MatchesRegularExpressions() {
+        final Caverphone2 caverphone = new Caverphone2();
+        assertEquals(encodeCaverphone2(null), caverphone.encode(null));
+        for (final String name : corpus()) {
+            assertEquals(encodeCaverphone2(name), caverphone.encode(name), name);
+        }
+    }
+
+    @Test
+    void testReplacementLongerThanMatch() {
+        assertThrows(IllegalArgumentException.class, () -> AbstractCaverphone.Rules.replace("a", "bc"));
+        assertThrows(IllegalArgumentException.class, () -> AbstractCaverphone.Rules.replaceEnd("a", "bc"));
+        assertThrows(IllegalArgumentException.class, () -> AbstractCaverphone.Rules.replaceStart("a", "bc"));
+    }
+}
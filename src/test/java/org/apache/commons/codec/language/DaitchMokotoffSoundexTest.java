@@ -18,6 +18,7 @@
 package org.apache.commons.codec.language;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.stream.IntStream;
 
@@ -74,6 +75,22 @@ class DaitchMokotoffSoundexTest extends AbstractStringEncoderTest<DaitchMokotoff
         assertEquals("547830|545783|594783|594578", soundex("GERSCHFELD"));
     }
 
+    @Test
+    void testCustomRules() {
+        final String rules = "/org/apache/commons/codec/language/dmrules-custom.txt";
+        final DaitchMokotoffSoundex folding = new DaitchMokotoffSoundex(true, rules);
+        assertEquals("170000", folding.soundex("abc"));
+        assertEquals("730000|740000", folding.soundex("cab"));
+        assertEquals("730000|740000", folding.soundex("c\u00e4b"));
+        assertEquals("730000", folding.encode("c\u00e4b"));
+        assertEquals("760000", new DaitchMokotoffSoundex(false, rules).soundex("c\u00e4b"));
+    }
+
+    @Test
+    void testCustomRulesMissing() {
+        assertThrows(IllegalArgumentException.class, () -> new DaitchMokotoffSoundex(true, "/org/apache/commons/codec/language/missing.txt"));
+    }
+
     @Test
     void testEncodeBasic() {
         // same as above, but without branching
@@ -175,6 +192,15 @@ class DaitchMokotoffSoundexTest extends AbstractStringEncoderTest<DaitchMokotoff
         assertEquals(jacksonJackson, soundex("JacksonJackson"));
     }
 
+    @Test
+    void testSoundexLongInput() {
+        final StringBuilder input = new StringBuilder();
+        for (int i = 0; i < 20_000; i++) {
+            input.append("Jackson");
+        }
+        assertEquals("154654|154645|154644|145465|145464|454654|454645|454644|445465|445464", soundex(input.toString()));
+    }
+
     @Test
     void testSpecialRomanianCharacters() {
         assertEquals("364000|464000", soundex("ţamas")); // t-cedilla
@@ -20,6 +20,7 @@ package org.apache.commons.codec.language;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -1116,6 +1117,22 @@ class DoubleMetaphoneTest extends AbstractStringEncoderTest<DoubleMetaphone> {
         assertDoubleMetaphoneAlt("XRN", "Czerny");
     }
 
+    @Test
+    void testDoubleMetaphoneReusableResult() {
+        final DoubleMetaphone encoder = getStringEncoder();
+        final DoubleMetaphone.DoubleMetaphoneResult result = encoder.new DoubleMetaphoneResult(encoder.getMaxCodeLen());
+        for (final String[] pair : FIXTURE) {
+            assertSame(result, encoder.doubleMetaphone(pair[0], result));
+            assertEquals(encoder.doubleMetaphone(pair[0]), result.getPrimary());
+            assertEquals(encoder.doubleMetaphone(pair[0], true), result.getAlternate());
+            assertEquals(result.getPrimary(), result.getPrimaryCharSequence().toString());
+            assertEquals(result.getAlternate(), result.getAlternateCharSequence().toString());
+        }
+        assertNull(encoder.doubleMetaphone(" ", result));
+        assertEquals(0, result.getPrimaryCharSequence().length());
+        assertEquals(0, result.getAlternateCharSequence().length());
+    }
+
     @Test
     void testEmpty() {
         assertNull(getStringEncoder().doubleMetaphone(null));
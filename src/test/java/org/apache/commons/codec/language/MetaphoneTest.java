@@ -79,6 +79,22 @@ class MetaphoneTest extends AbstractStringEncoderTest<Metaphone> {
         assertEquals("B", getStringEncoder().metaphone("BAUGH"));
     }
 
+    @Test
+    void testEncodeToStringBuilder() {
+        final StringBuilder target = new StringBuilder("x");
+        final Metaphone metaphone = new Metaphone();
+        for (final int maxCodeLen : new int[] { 1, 4, 10 }) {
+            metaphone.setMaxCodeLen(maxCodeLen);
+            for (final String name : new String[] { "knight", "Wright", "white", "Xavier", "aegis", "SCHMIDT", "dodgy", "thumb", "Science", "x", "\u00c9mile",
+                    "\u00df", "" }) {
+                target.setLength(1);
+                assertEquals("x" + metaphone.encode(name), metaphone.encode(new StringBuilder(name), target).toString(), name);
+            }
+        }
+        target.setLength(1);
+        assertEquals("x", metaphone.encode(null, target).toString());
+    }
+
     @Test
     void testExceedLength() {
         // should be AKSKS, but is truncated by Max Code Length
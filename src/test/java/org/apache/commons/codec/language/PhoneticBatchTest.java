@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.codec.language;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.apache.commons.codec.EncoderException;
+import org.apache.commons.codec.StringEncoder;
+import org.apache.commons.codec.language.bm.BeiderMorseEncoder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Tests {@link PhoneticBatch}.
+ */
+class PhoneticBatchTest {
+
+    private static final String[] SYLLABLES = { "an", "ber", "chri", "da", "ger", "hof", "jo", "kow", "li", "mac", "ner", "o", "phil", "quin", "ro", "sch",
+            "ski", "th", "ul", "von", "wh", "x", "y", "zy" };
+
+    static Stream<Supplier<StringEncoder>> encoders() {
+        return Stream.of(Soundex::new, RefinedSoundex::new, Metaphone::new, DoubleMetaphone::new, Nysiis::new, ColognePhonetic::new, Caverphone2::new,
+                MatchRatingApproachEncoder::new, DaitchMokotoffSoundex::new, BeiderMorseEncoder::new);
+    }
+
+    private static List<String> names(final int count) {
+        final Random random = new Random(count);
+        final List<String> names = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final StringBuilder name = new StringBuilder();
+            for (int j = random.nextInt(4) + 1; j > 0; j--) {
+                name.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+            }
+            name.setCharAt(0, Character.toUpperCase(name.charAt(0)));
+            names.add(name.toString());
+        }
+        return names;
+    }
+
+    private static String[] sequential(final StringEncoder encoder, final List<String> names) throws EncoderException {
+        final String[] codes = new String[names.size()];
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = encoder.encode(names.get(i));
+        }
+        return codes;
+    }
+
+    @ParameterizedTest
+    @MethodSource("encoders")
+    void testEncodeAllMatchesSequential(final Supplier<StringEncoder> encoders) throws EncoderException {
+        final List<String> names = names(encoders.get() instanceof BeiderMorseEncoder ? 3000 : 20000);
+        final String[] expected = sequential(encoders.get(), names);
+        assertArrayEquals(expected, PhoneticBatch.encodeAll(encoders.get(), names));
+        final String[] target = new String[names.size() + 1];
+        PhoneticBatch.encodeAll(encoders, names, target);
+        assertArrayEquals(expected, Arrays.copyOf(target, names.size()));
+        assertNull(target[names.size()]);
+        assertEquals(Arrays.asList(expected), names.parallelStream().collect(PhoneticBatch.toList(encoders)));
+    }
+
+    @Test
+    void testEncodeAllPerThreadEncoders() throws EncoderException {
+        final List<String> names = names(50000);
+        final AtomicInteger created = new AtomicInteger();
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            final String[] target = new String[names.size()];
+            PhoneticBatch.encodeAll(pool, () -> {
+                created.incrementAndGet();
+                final DoubleMetaphone encoder = new DoubleMetaphone();
+                encoder.setMaxCodeLen(6);
+                return encoder;
+            }, names, target);
+            final DoubleMetaphone expected = new DoubleMetaphone();
+            expected.setMaxCodeLen(6);
+            assertArrayEquals(sequential(expected, names), target);
+            assertTrue(created.get() > 1);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testEncodeAllEmptyAndNulls() throws EncoderException {
+        assertEquals(0, PhoneticBatch.encodeAll(new Soundex(), new ArrayList<>()).length);
+        assertArrayEquals(new String[] { null, "R163" }, PhoneticBatch.encodeAll(new Soundex(), Arrays.asList(null, "Robert")));
+        assertArrayEquals(new String[] { "R163", "T522" }, PhoneticBatch.encodeAll(new Soundex(), new LinkedList<>(Arrays.asList("Robert", "Tymczak"))));
+    }
+
+    @Test
+    void testEncodeAllRethrowsEncoderException() {
+        final EncoderException failure = new EncoderException("test");
+        final StringEncoder encoder = new StringEncoder() {
+
+            @Override
+            public Object encode(final Object source) throws EncoderException {
+                throw failure;
+            }
+
+            @Override
+            public String encode(final String source) throws EncoderException {
+                if (source.equals("Fail")) {
+                    throw failure;
+                }
+                return source;
+            }
+        };
+        final List<String> names = names(10000);
+        names.set(7777, "Fail");
+        assertSame(failure, assertThrows(EncoderException.class, () -> PhoneticBatch.encodeAll(encoder, names)));
+        assertSame(failure, assertThrows(EncoderException.class, () -> PhoneticBatch.encodeAll(encoder, names.subList(7777, 7779))));
+        assertSame(failure, assertThrows(IllegalArgumentException.class, () -> names.parallelStream().collect(PhoneticBatch.toList(() -> encoder))).getCause());
+    }
+
+    @Test
+    void testEncodeAllTargetTooShort() {
+        assertThrows(IllegalArgumentException.class, () -> PhoneticBatch.encodeAll(new Soundex(), Arrays.asList("a", "b"), new String[1]));
+    }
+}
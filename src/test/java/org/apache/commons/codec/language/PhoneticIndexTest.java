@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.codec.language;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.apache.commons.codec.EncoderException;
+import org.apache.commons.codec.StringEncoder;
+import org.apache.commons.codec.language.bm.BeiderMorseEncoder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests {@link PhoneticIndex}.
+ */
+class PhoneticIndexTest {
+
+    private static final String[] NAMES = { "Robert", "Rupert", "Rubin", "Ashcraft", "Ashcroft", "Tymczak", "Pfister", "Schmidt", "Smith", "Smyth",
+            "Jackson", "Jaxon", "Peters", "Peterson", "Moskowitz", "Moskovitz", "Auerbach", "Ohrbach", "Lipshitz", "Lippszyc" };
+
+    private static int[] bruteForce(final StringEncoder[] encoders, final String[] names, final String query) throws EncoderException {
+        final TreeSet<Integer> ids = new TreeSet<>();
+        for (final StringEncoder encoder : encoders) {
+            final String[] queryCodes = encode(encoder, query).split("[|()-]");
+            for (int id = 0; id < names.length; id++) {
+                final String[] codes = encode(encoder, names[id]).split("[|()-]");
+                for (final String code : codes) {
+                    if (!code.isEmpty() && Arrays.asList(queryCodes).contains(code)) {
+                        ids.add(id);
+                    }
+                }
+            }
+        }
+        return ids.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static String encode(final StringEncoder encoder, final String name) throws EncoderException {
+        return encoder instanceof DaitchMokotoffSoundex ? ((DaitchMokotoffSoundex) encoder).soundex(name) : encoder.encode(name);
+    }
+
+    private static PhoneticIndex index(final StringEncoder... encoders) throws EncoderException {
+        final PhoneticIndex.Builder builder = PhoneticIndex.builder().setEncoders(encoders);
+        // add in reverse order to check that postings are sorted
+        for (int id = NAMES.length - 1; id >= 0; id--) {
+            builder.add(id, NAMES[id]);
+        }
+        return builder.add(99, null).get();
+    }
+
+    @Test
+    void testBuilderWithoutEncoders() {
+        assertThrows(IllegalStateException.class, () -> PhoneticIndex.builder().add(1, "Robert"));
+    }
+
+    @Test
+    void testCandidatesMatchBruteForce() throws EncoderException {
+        final StringEncoder[] encoders = { new Soundex(), new DoubleMetaphone(), new Nysiis(), new DaitchMokotoffSoundex(), new BeiderMorseEncoder() };
+        final PhoneticIndex index = index(encoders);
+        for (final String query : NAMES) {
+            assertArrayEquals(bruteForce(encoders, NAMES, query), index.candidates(query), query);
+        }
+        assertArrayEquals(bruteForce(encoders, NAMES, "Smithe"), index.candidates(new StringBuilder("Smithe")));
+        assertEquals(0, index.candidates(null).length);
+    }
+
+    @Test
+    void testMultipleCodesAreFannedOut() throws EncoderException {
+        final DaitchMokotoffSoundex encoder = new DaitchMokotoffSoundex();
+        final PhoneticIndex index = index(encoder);
+        final String[] codes = encoder.soundex("Peters").split("\\|");
+        assertTrue(codes.length > 1);
+        for (final String code : codes) {
+            assertTrue(Arrays.binarySearch(index.postings(0, code), 12) >= 0, code);
+        }
+        assertEquals(0, index.postings(0, encoder.soundex("Peters")).length);
+        assertEquals(0, index.postings(0, "999999").length);
+    }
+
+    @Test
+    void testPostingsAreSorted() throws EncoderException {
+        final PhoneticIndex index = index(new Soundex());
+        assertArrayEquals(new int[] { 0, 1 }, index.postings(0, "R163"));
+        assertArrayEquals(new int[] { 7, 8, 9 }, index.candidates("Smith"));
+        assertEquals(0, index.candidates("Xyz").length);
+    }
+
+    @Test
+    void testRandomIds() throws EncoderException {
+        final Random random = new Random(7);
+        final PhoneticIndex.Builder builder = PhoneticIndex.builder().setEncoders(new Soundex());
+        final TreeSet<Integer> expected = new TreeSet<>();
+        for (int i = 0; i < 10000; i++) {
+            final int id = random.nextInt(5000) - 1000;
+            final String name = NAMES[random.nextInt(NAMES.length)];
+            builder.add(id, name);
+            if (name.equals("Robert") || name.equals("Rupert")) {
+                expected.add(id);
+            }
+        }
+        assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(), builder.get().candidates("Robert"));
+    }
+
+    @Test
+    void testReadCorruptLengths(@TempDir final Path tempDir) throws EncoderException, IOException {
+        final Path file = tempDir.resolve("index.bin");
+        index(new Soundex()).write(file);
+        final byte[] bytes = Files.readAllBytes(file);
+        // the dictionary length follows the magic number and the version, the code count follows the encoder count and class name
+        final int codeCountOffset = 12 + Integer.BYTES + Short.BYTES + Soundex.class.getName().length();
+        for (final int offset : new int[] { 8, codeCountOffset }) {
+            for (final int length : new int[] { -1, Integer.MAX_VALUE }) {
+                final byte[] corrupt = bytes.clone();
+                ByteBuffer.wrap(corrupt).putInt(offset, length);
+                Files.write(file, corrupt);
+                final IOException e = assertThrows(IOException.class, () -> PhoneticIndex.read(file, new Soundex()));
+                assertTrue(e.getMessage().startsWith("Truncated phonetic index"), e.getMessage());
+            }
+        }
+    }
+
+    @Test
+    void testWriteAndRead(@TempDir final Path tempDir) throws EncoderException, IOException {
+        final StringEncoder[] encoders = { new Soundex(), new DaitchMokotoffSoundex() };
+        final PhoneticIndex index = index(encoders);
+        final Path file = tempDir.resolve("index.bin");
+        index.write(file);
+        final PhoneticIndex read = PhoneticIndex.read(file, new Soundex(), new DaitchMokotoffSoundex());
+        for (int i = 0; i < encoders.length; i++) {
+            assertEquals(index.getCodeCount(i), read.getCodeCount(i));
+        }
+        for (final String query : NAMES) {
+            assertArrayEquals(index.candidates(query), read.candidates(query), query);
+        }
+        // a read index can be written again
+        final Path copy = tempDir.resolve("copy.bin");
+        read.write(copy);
+        assertArrayEquals(Files.readAllBytes(file), Files.readAllBytes(copy));
+        assertThrows(IllegalArgumentException.class, () -> PhoneticIndex.read(file, new Soundex()));
+        assertThrows(IllegalArgumentException.class, () -> PhoneticIndex.read(file, new Soundex(), new Nysiis()));
+        Files.write(file, new byte[] { 1, 2, 3 });
+        assertThrows(IOException.class, () -> PhoneticIndex.read(file, encoders));
+    }
+}
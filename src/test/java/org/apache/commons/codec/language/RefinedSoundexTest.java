@@ -73,6 +73,17 @@ class RefinedSoundexTest extends AbstractStringEncoderTest<RefinedSoundex> {
         assertEquals("D6043", RefinedSoundex.US_ENGLISH.encode("dogs"));
     }
 
+    @Test
+    void testEncodeToStringBuilder() {
+        final StringBuilder target = new StringBuilder("x");
+        for (final String name : new String[] { "testing", "Braz", "jacksonville", "O'Hara", "Lee", "A", "\u00c9mile", "\u00df", "123", "" }) {
+            target.setLength(1);
+            assertEquals("x" + getStringEncoder().encode(name), getStringEncoder().encode(new StringBuilder(name), target).toString(), name);
+        }
+        target.setLength(1);
+        assertEquals("x", getStringEncoder().encode(null, target).toString());
+    }
+
     @Test
     void testGetMappingCodeNonLetter() {
         final char code = getStringEncoder().getMappingCode('#');
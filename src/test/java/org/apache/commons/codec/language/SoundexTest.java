@@ -222,6 +222,21 @@ class SoundexTest extends AbstractStringEncoderTest<Soundex> {
         assertEquals("W252", getStringEncoder().encode(" \t\n\r Washington \t\n\r "));
     }
 
+    @Test
+    void testEncodeToStringBuilder() {
+        final StringBuilder target = new StringBuilder("x");
+        for (final String name : new String[] { "Robert", "rupert", "O'Hara", "Ashcraft", "Tymczak", "jackson-smith", "Lee", "A", "Rob\u2014ert", "123", "" }) {
+            target.setLength(1);
+            assertEquals("x" + getStringEncoder().encode(name), getStringEncoder().encode((CharSequence) name, target).toString(), name);
+            target.setLength(1);
+            assertEquals("x" + Soundex.US_ENGLISH_GENEALOGY.encode(name), Soundex.US_ENGLISH_GENEALOGY.encode(new StringBuilder(name), target).toString(), name);
+        }
+        target.setLength(1);
+        assertEquals("x", getStringEncoder().encode(null, target).toString());
+        assertThrows(IllegalArgumentException.class, () -> getStringEncoder().encode("\u00c9mile", new StringBuilder()));
+        assertThrows(IllegalArgumentException.class, () -> new Soundex("0123").encode("Robert", new StringBuilder()));
+    }
+
     @Test
 // examples and algorithm rules from:  http://www.genealogy.com/articles/research/00000060.html
     void testGenealogy() { // treat vowels and HW as silent
@@ -136,6 +136,23 @@ class BeiderMorseEncoderBuilderTest {
         assertEquals(null, encoder.encode((String) null));
     }
 
+    /**
+     * Tests that {@link BeiderMorseEncoder.Builder#setCache(EncodingCache)} caches encodings and that the setters keep the cache.
+     */
+    @Test
+    void testSetCache() throws EncoderException {
+        final EncodingCache cache = new EncodingCache(10);
+        final BeiderMorseEncoder encoder = BeiderMorseEncoder.builder().setPhoneticEngine(PhoneticEngine.builder().setRuleType(RuleType.EXACT).get())
+                .setCache(cache).get();
+        assertEquals(RuleType.EXACT, encoder.getRuleType());
+        assertEquals(encoder.encode("Cohen"), encoder.encode("Cohen"));
+        assertEquals(1, cache.getHitCount());
+        encoder.setConcat(false);
+        encoder.encode("Cohen");
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+    }
+
     /**
      * Tests that passing {@code null} to {@link BeiderMorseEncoder.Builder#setPhoneticEngine(PhoneticEngine)} falls back to the default engine.
      */
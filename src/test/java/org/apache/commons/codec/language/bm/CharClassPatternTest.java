@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.codec.language.bm;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link CharClassPattern}.
+ */
+class CharClassPatternTest {
+
+    private static final String ALPHABET = "abceiouxyz.|()^$\n\r\u03b1\u03bf\u0430\u0435";
+
+    @Test
+    void testLiteralContextsKeepLiteralMeaning() {
+        // a context without a bracketed class is a literal
+        assertTrue(CharClassPattern.compileContext(".$").isMatch("x."));
+        assertFalse(CharClassPattern.compileContext(".$").isMatch("xy"));
+        assertTrue(CharClassPattern.compileContext("^(a|b)").isMatch("(a|b)c"));
+        assertFalse(CharClassPattern.compileContext("^(a|b)").isMatch("ac"));
+        // a context that is a single bracketed class
+        assertTrue(CharClassPattern.compileContext("^[a]b]$").isMatch("]"));
+        assertFalse(CharClassPattern.compileContext("^[a]b]$").isMatch("a\n"));
+    }
+
+    @Test
+    void testMatchesLikeRegularExpressions() {
+        final String[] regexes = { "^[ab]c", "[ab]c$", "^[ab][^c]$", "a[^aeiou]$", "^[^aeiou]e", "^(\u03b1|\u03bf)[x]", "[x](a|e|o)$", "^.[x]$", "[ab].$",
+            "^(a|b)[ce]" };
+        final Random random = new Random(0);
+        for (final String regex : regexes) {
+            final CharClassPattern compiled = CharClassPattern.compile(regex);
+            assertNotNull(compiled, regex);
+            final Pattern pattern = Pattern.compile(regex);
+            for (int i = 0; i < 2000; i++) {
+                final StringBuilder input = new StringBuilder();
+                for (int length = random.nextInt(6); length > 0; length--) {
+                    input.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+                }
+                assertEquals(pattern.matcher(input).find(), compiled.isMatch(input), regex + " on " + input);
+            }
+        }
+    }
+
+    @Test
+    void testMatchesRange() {
+        final CharClassPattern pattern = CharClassPattern.compile("^[ab]c");
+        assertTrue(pattern.isMatch("xxacxx", 2, 6));
+        assertFalse(pattern.isMatch("xxacxx", 1, 6));
+        assertFalse(pattern.isMatch("xxacxx", 2, 3));
+        final CharClassPattern end = CharClassPattern.compile("a[^b]$");
+        assertTrue(end.isMatch("xxacxx", 0, 4));
+        assertFalse(end.isMatch("xxacxx", 0, 5));
+    }
+
+    @Test
+    void testRejectsUnsupportedSyntax() {
+        for (final String regex : new String[] { "^[a-z]x", "^a*[b]", "^[a\\]]x", "^(ab|c)[d]", "^(a|)[d]", "^[ab]+", "[a]b$$", "^[ab]{2}" }) {
+            assertNull(CharClassPattern.compile(regex), regex);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.codec.language.bm;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link EncodingCache}.
+ */
+class EncodingCacheTest {
+
+    private static final String[] NAMES = { "Renault", "SntJohn-Smith", "d'ortley", "van helsing", "Judenburg", "Cohen", "Levy", "Peters", "da Silva",
+            "de la Cruz", "Schwarzenegger", "O'Brien", "bar", "al", "'''", "Mueller", "M\u00fcller" };
+
+    @Test
+    void testCachedEncodingsMatchUncached() {
+        final EncodingCache cache = new EncodingCache(1000);
+        for (final NameType nameType : NameType.values()) {
+            for (final RuleType ruleType : Arrays.asList(RuleType.APPROX, RuleType.EXACT)) {
+                for (final boolean concat : new boolean[] { true, false }) {
+                    final PhoneticEngine.Builder builder = PhoneticEngine.builder().setNameType(nameType).setRuleType(ruleType).setConcat(concat);
+                    final PhoneticEngine plain = builder.get();
+                    final PhoneticEngine cached = builder.setCache(cache).get();
+                    for (int round = 0; round < 2; round++) {
+                        for (final String name : NAMES) {
+                            assertEquals(plain.encode(name), cached.encode(name), name);
+                            final Languages.LanguageSet languages = Languages.LanguageSet.from(new HashSet<>(Arrays.asList("english", "german")));
+                            assertEquals(plain.encode(name, languages), cached.encode(name, languages), name);
+                        }
+                    }
+                }
+            }
+        }
+        assertTrue(cache.getHitCount() > 0);
+        assertTrue(cache.getMissCount() > 0);
+    }
+
+    @Test
+    void testConcurrentAccess() throws Exception {
+        final EncodingCache cache = new EncodingCache(8);
+        final PhoneticEngine plain = PhoneticEngine.builder().get();
+        final PhoneticEngine cached = PhoneticEngine.builder().setCache(cache).get();
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 200; i++) {
+                        final String name = NAMES[i % NAMES.length];
+                        assertEquals(plain.encode(name), cached.encode(name), name);
+                    }
+                    return null;
+                }));
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue(cache.size() <= 8);
+        assertTrue(cache.getEvictionCount() > 0);
+    }
+
+    @Test
+    void testConstructorRejectsNonPositiveSize() {
+        assertThrows(IllegalArgumentException.class, () -> new EncodingCache(0));
+        assertThrows(IllegalArgumentException.class, () -> new EncodingCache(-1));
+    }
+
+    @Test
+    void testEncodeRejectsLongInputBeforeLookup() {
+        final EncodingCache cache = new EncodingCache(10);
+        final PhoneticEngine engine = PhoneticEngine.builder().setMaxInputLength(3).setCache(cache).get();
+        assertThrows(IllegalArgumentException.class, () -> engine.encode("abcd"));
+        assertEquals(0, cache.getMissCount());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testFrequentEntriesSurviveScan() {
+        final EncodingCache cache = new EncodingCache(10);
+        final PhoneticEngine engine = PhoneticEngine.builder().setCache(cache).get();
+        engine.encode("Cohen");
+        engine.encode("Cohen");
+        for (int i = 0; i < 100; i++) {
+            engine.encode("name" + i);
+        }
+        final long hits = cache.getHitCount();
+        engine.encode("Cohen");
+        assertEquals(hits + 1, cache.getHitCount());
+        assertTrue(cache.size() <= 10);
+    }
+
+    @Test
+    void testHitAndMissCounts() {
+        final EncodingCache cache = new EncodingCache(100);
+        final PhoneticEngine engine = PhoneticEngine.builder().setCache(cache).get();
+        assertEquals(0, cache.getHitRate());
+        engine.encode("Renault");
+        assertEquals(0, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        engine.encode("Renault");
+        engine.encode("Renault");
+        assertEquals(2, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(2.0 / 3, cache.getHitRate(), 1e-9);
+        assertEquals(1, cache.size());
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(2, cache.getHitCount());
+        assertEquals(100, cache.getMaximumSize());
+    }
+
+    @Test
+    void testSettingsArePartOfKey() {
+        final EncodingCache cache = new EncodingCache(100);
+        final PhoneticEngine exact = PhoneticEngine.builder().setRuleType(RuleType.EXACT).setCache(cache).get();
+        final PhoneticEngine approx = PhoneticEngine.builder().setRuleType(RuleType.APPROX).setCache(cache).get();
+        assertEquals(PhoneticEngine.builder().setRuleType(RuleType.EXACT).get().encode("Renault"), exact.encode("Renault"));
+        assertEquals(PhoneticEngine.builder().setRuleType(RuleType.APPROX).get().encode("Renault"), approx.encode("Renault"));
+        assertEquals(0, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    void testSizeIsBounded() {
+        for (final int maximumSize : new int[] { 1, 2, 5, 63, 64, 129, 1000 }) {
+            final EncodingCache cache = new EncodingCache(maximumSize);
+            final PhoneticEngine engine = PhoneticEngine.builder().setRuleType(RuleType.EXACT).setCache(cache).get();
+            for (int i = 0; i < 2 * maximumSize + 10; i++) {
+                engine.encode("n" + i);
+                engine.encode("n" + i / 2);
+                assertTrue(cache.size() <= maximumSize, cache::toString);
+            }
+            assertEquals(cache.getMissCount() - cache.size(), cache.getEvictionCount(), cache::toString);
+        }
+    }
+}
@@ -17,10 +17,13 @@
 
 package org.apache.commons.codec.language.bm;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.stream.Stream;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -55,6 +58,26 @@ class LanguageGuessingTest {
 
     private final Lang lang = Lang.instance(NameType.GENERIC);
 
+    @Test
+    void testGuessLanguagesIsCaseInsensitive() {
+        for (final String name : new String[] { "Renault", "Schwarzenegger", "O'Brien", "Escu", "Ivanov" }) {
+            assertEquals(lang.guessLanguages(name.toLowerCase()).toString(), lang.guessLanguages(name).toString());
+        }
+    }
+
+    @Test
+    void testGuessLanguagesNoMatchIsAnyLanguage() {
+        // "witz" is German and "eau" is French or Romanian, which rules out every language
+        assertSame(Languages.ANY_LANGUAGE, lang.guessLanguages("witzeau"));
+        assertEquals(Languages.ANY, lang.guessLanguage("witzeau"));
+    }
+
+    @Test
+    void testGuessLanguagesReusesLanguageSets() {
+        assertSame(lang.guessLanguages("renault"), lang.guessLanguages("arnault"));
+        assertEquals("french", lang.guessLanguage("renault"));
+    }
+
     @ParameterizedTest
     @MethodSource("data")
     void testLanguageGuessing(final String name, final String language) {
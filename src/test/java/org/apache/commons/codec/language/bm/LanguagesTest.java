@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.codec.language.bm;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.apache.commons.codec.language.bm.Languages.LanguageSet;
+import org.apache.commons.codec.language.bm.Languages.SomeLanguages;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link Languages}.
+ */
+class LanguagesTest {
+
+    @Test
+    void testRestrictToAndMergeOfSomeLanguages() {
+        final LanguageSet french = LanguageSet.from(new HashSet<>(Arrays.asList("french")));
+        final LanguageSet frenchGerman = LanguageSet.from(new HashSet<>(Arrays.asList("french", "german")));
+        final LanguageSet germanItalian = LanguageSet.from(new HashSet<>(Arrays.asList("german", "italian")));
+        assertSame(french, french.restrictTo(frenchGerman));
+        assertSame(french, frenchGerman.restrictTo(french));
+        assertSame(Languages.NO_LANGUAGES, french.restrictTo(germanItalian));
+        assertEquals(Collections.singleton("german"), ((SomeLanguages) frenchGerman.restrictTo(germanItalian)).getLanguages());
+        assertSame(frenchGerman, french.merge(frenchGerman));
+        assertEquals(new HashSet<>(Arrays.asList("french", "german", "italian")), ((SomeLanguages) frenchGerman.merge(germanItalian)).getLanguages());
+    }
+}
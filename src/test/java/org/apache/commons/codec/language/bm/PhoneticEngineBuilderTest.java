@@ -22,6 +22,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -203,6 +205,20 @@ class PhoneticEngineBuilderTest {
         assertEquals(original.getMaxPhonemes(), copy.getMaxPhonemes());
     }
 
+    /**
+     * Tests {@link PhoneticEngine.Builder#setCache(EncodingCache)} and that {@link PhoneticEngine.Builder#setAll(PhoneticEngine)} copies the cache.
+     */
+    @Test
+    void testSetCache() {
+        assertNull(PhoneticEngine.builder().get().getCache());
+        final EncodingCache cache = new EncodingCache(10);
+        final PhoneticEngine engine = PhoneticEngine.builder().setCache(cache).get();
+        assertSame(cache, engine.getCache());
+        assertSame(cache, PhoneticEngine.builder().setAll(engine).get().getCache());
+        assertEquals(PhoneticEngine.builder().get().encode("Renault"), engine.encode("Renault"));
+        assertEquals(1, cache.size());
+    }
+
     /**
      * Tests {@link PhoneticEngine.Builder#setConcat(boolean)} with {@code false}.
      */
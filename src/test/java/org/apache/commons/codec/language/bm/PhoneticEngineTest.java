@@ -23,6 +23,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -88,6 +89,13 @@ class PhoneticEngineTest {
         }
     }
 
+    @Test
+    void testEncodeMaxPhonemes() {
+        final String name = "Angelo Schwarzenegger";
+        assertEquals("", new PhoneticEngine(NameType.GENERIC, RuleType.APPROX, true, 0).encode(name));
+        assertEquals("angilosvarzinigir", new PhoneticEngine(NameType.GENERIC, RuleType.APPROX, true, 1).encode(name));
+    }
+
     @ParameterizedTest
     @MethodSource("invalidData")
     void testInvalidEncode(final String input, final String phoneticExpected, final NameType nameType,
@@ -17,9 +17,15 @@
 
 package org.apache.commons.codec.language.bm;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+import java.util.Map;
+
 import org.junit.jupiter.api.Test;
 
 /**
@@ -41,6 +47,31 @@ class RuleTest {
         return phonemes;
     }
 
+    @Test
+    void testGetInstanceMapRejectsUnknownLanguage() {
+        assertThrows(IllegalArgumentException.class, () -> Rule.getInstanceMap(NameType.GENERIC, RuleType.APPROX, "klingon"));
+        assertThrows(IllegalArgumentException.class, () -> Rule.getInstanceMap(NameType.GENERIC, RuleType.RULES, "common"));
+        // loaded once, on first use
+        assertSame(Rule.getInstanceMap(NameType.GENERIC, RuleType.APPROX, "common"), Rule.getInstanceMap(NameType.GENERIC, RuleType.APPROX, "common"));
+    }
+
+    @Test
+    void testInstanceTableMatchesInstanceMap() {
+        for (final NameType nameType : NameType.values()) {
+            for (final RuleType ruleType : RuleType.values()) {
+                for (final String lang : Languages.getInstance(nameType).getLanguages()) {
+                    final Map<String, List<Rule>> map = Rule.getInstanceMap(nameType, ruleType, lang);
+                    final RuleTable table = Rule.getInstanceTable(nameType, ruleType, lang);
+                    assertEquals(map.isEmpty(), table.isEmpty());
+                    for (char c = 0; c < 0x700; c++) {
+                        final List<Rule> rules = map.get(String.valueOf(c));
+                        assertArrayEquals(rules == null ? new Rule[0] : rules.toArray(new Rule[0]), table.get(c));
+                    }
+                }
+            }
+        }
+    }
+
     @Test
     void testParsePhonemeExprLang311() {
         assertEquals(1, Rule.parsePhonemeExpr("()").size());
@@ -0,0 +1,233 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.codec.net;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.commons.codec.DecoderException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests {@link PercentCodecInputStream}.
+ */
+class PercentCodecInputStreamTest {
+
+    private static byte[] readByteByByte(final InputStream in) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int b;
+        while ((b = in.read()) != -1) {
+            out.write(b);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] readByChunk(final InputStream in, final int chunkSize) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final byte[] chunk = new byte[chunkSize];
+        int n;
+        while ((n = in.read(chunk, 0, chunkSize)) != -1) {
+            out.write(chunk, 0, n);
+        }
+        return out.toByteArray();
+    }
+
+    private static List<String> readFields(final InputStream in) throws IOException {
+        final List<String> fields = new ArrayList<>();
+        try (PercentCodecInputStream percentIn = new PercentCodecInputStream(in, new PercentCodec(null, true), false)) {
+            final long count = percentIn
+                    .readFields((name, value) -> fields.add(StandardCharsets.UTF_8.decode(name) + "=" + StandardCharsets.UTF_8.decode(value)));
+            assertEquals(fields.size(), count);
+        }
+        return fields;
+    }
+
+    /**
+     * Returns at most {@code max} bytes from each read, to split escape sequences across reads.
+     */
+    private static InputStream trickle(final byte[] bytes, final int max) {
+        return new FilterInputStream(new ByteArrayInputStream(bytes)) {
+            @Override
+            public int read(final byte[] b, final int off, final int len) throws IOException {
+                return super.read(b, off, Math.min(len, max));
+            }
+        };
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 2, 3, 4 })
+    void testDecodeEscapeSplitAcrossReads(final int max) throws Exception {
+        final PercentCodec codec = new PercentCodec(null, true);
+        final byte[] encoded = "a%C3%A4+b%25%2B+%e2%82%ac".getBytes(StandardCharsets.US_ASCII);
+        try (InputStream in = new PercentCodecInputStream(trickle(encoded, max), codec, false)) {
+            assertArrayEquals(codec.decode(encoded), readByteByByte(in));
+        }
+    }
+
+    @Test
+    void testDecodeInvalid() throws IOException {
+        try (InputStream in = new PercentCodecInputStream(new ByteArrayInputStream("ab%4Z".getBytes(StandardCharsets.US_ASCII)))) {
+            assertInstanceOf(DecoderException.class, assertThrows(IOException.class, () -> readByChunk(in, 16)).getCause());
+        }
+        try (InputStream in = new PercentCodecInputStream(trickle("ab%4".getBytes(StandardCharsets.US_ASCII), 1))) {
+            assertEquals('a', in.read());
+            assertEquals('b', in.read());
+            final IOException e = assertThrows(IOException.class, in::read);
+            assertInstanceOf(DecoderException.class, e.getCause());
+            assertInstanceOf(ArrayIndexOutOfBoundsException.class, e.getCause().getCause());
+        }
+    }
+
+    @Test
+    void testEmpty() throws IOException {
+        try (InputStream in = new PercentCodecInputStream(new ByteArrayInputStream(new byte[0]))) {
+            assertEquals(-1, in.read());
+            assertEquals(0, in.available());
+        }
+        try (InputStream in = new PercentCodecInputStream(new ByteArrayInputStream(new byte[0]), new PercentCodec(), true)) {
+            assertEquals(-1, in.read(new byte[8], 0, 8));
+        }
+    }
+
+    @Test
+    void testMarkAndReset() throws IOException {
+        try (InputStream in = new PercentCodecInputStream(new ByteArrayInputStream(new byte[8]))) {
+            assertFalse(in.markSupported());
+            in.mark(1);
+            assertThrows(IOException.class, in::reset);
+        }
+    }
+
+    @Test
+    void testReadArgumentValidation() throws IOException {
+        try (InputStream in = new PercentCodecInputStream(new ByteArrayInputStream(new byte[8]))) {
+            final byte[] buf = new byte[4];
+            assertThrows(NullPointerException.class, () -> in.read(null, 0, 0));
+            assertThrows(IndexOutOfBoundsException.class, () -> in.read(buf, -1, 1));
+            assertThrows(IndexOutOfBoundsException.class, () -> in.read(buf, 2, 3));
+            assertEquals(0, in.read(buf, 0, 0));
+        }
+        assertThrows(NullPointerException.class, () -> new PercentCodecInputStream(new ByteArrayInputStream(new byte[0]), null, false));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 2, 3, 7 })
+    void testReadFields(final int max) throws IOException {
+        final byte[] body = "a=1&b=x+y%26z%3D&&flag&=v&c=%3D=&%C3%A4=%E2%82%AC".getBytes(StandardCharsets.US_ASCII);
+        assertEquals(Arrays.asList("a=1", "b=x y&z=", "flag=", "=v", "c===", "\u00e4=\u20ac"), readFields(trickle(body, max)));
+    }
+
+    @Test
+    void testReadFieldsEmpty() throws IOException {
+        assertEquals(Arrays.asList(), readFields(new ByteArrayInputStream(new byte[0])));
+        assertEquals(Arrays.asList(), readFields(new ByteArrayInputStream("&&".getBytes(StandardCharsets.US_ASCII))));
+    }
+
+    @Test
+    void testReadFieldsInvalid() throws IOException {
+        assertInstanceOf(DecoderException.class,
+                assertThrows(IOException.class, () -> readFields(new ByteArrayInputStream("a=%2".getBytes(StandardCharsets.US_ASCII)))).getCause());
+        assertInstanceOf(DecoderException.class,
+                assertThrows(IOException.class, () -> readFields(new ByteArrayInputStream("a=%2&b".getBytes(StandardCharsets.US_ASCII)))).getCause());
+    }
+
+    @Test
+    void testReadFieldsLarge() throws IOException {
+        final StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            body.append("k").append(i).append('=').append(i % 10 == 0 ? "%20%2B" : "v").append(i).append('&');
+        }
+        final char[] big = new char[50000];
+        Arrays.fill(big, 'x');
+        body.append("big=").append(big);
+        final List<String> fields = readFields(trickle(body.toString().getBytes(StandardCharsets.US_ASCII), 5000));
+        assertEquals(5001, fields.size());
+        assertEquals("k10= +10", fields.get(10));
+        assertEquals("k4999=v4999", fields.get(4999));
+        assertEquals("big=" + new String(big), fields.get(5000));
+    }
+
+    @Test
+    void testReadFieldsMaxFieldLength() throws IOException {
+        final byte[] body = "a=1234&b=12345".getBytes(StandardCharsets.US_ASCII);
+        try (PercentCodecInputStream in = new PercentCodecInputStream(new ByteArrayInputStream(body))) {
+            assertThrows(IllegalArgumentException.class, () -> in.readFields((name, value) -> { }, 0));
+            assertThrows(IOException.class, () -> in.readFields((name, value) -> { }, 5));
+        }
+        try (PercentCodecInputStream in = new PercentCodecInputStream(new ByteArrayInputStream(body))) {
+            assertEquals(2, in.readFields((name, value) -> { }, 6));
+        }
+    }
+
+    @Test
+    void testReadFieldsState() throws IOException {
+        try (PercentCodecInputStream in = new PercentCodecInputStream(new ByteArrayInputStream("a=1&b=2".getBytes(StandardCharsets.US_ASCII)))) {
+            assertEquals('a', in.read());
+            assertThrows(IllegalStateException.class, () -> in.readFields((name, value) -> { }));
+        }
+        try (PercentCodecInputStream in = new PercentCodecInputStream(new ByteArrayInputStream(new byte[0]), new PercentCodec(), true)) {
+            assertThrows(IllegalStateException.class, () -> in.readFields((name, value) -> { }));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 3, 8, 1000, 8192, 10000 })
+    void testRoundTrip(final int chunkSize) throws Exception {
+        final PercentCodec codec = new PercentCodec("&=/".getBytes(StandardCharsets.US_ASCII), true);
+        final Random random = new Random(chunkSize);
+        final byte[] raw = new byte[20000];
+        random.nextBytes(raw);
+        final byte[] encoded = codec.encode(raw);
+        try (InputStream in = new PercentCodecInputStream(new ByteArrayInputStream(raw), codec, true)) {
+            assertArrayEquals(encoded, readByChunk(in, chunkSize));
+        }
+        try (InputStream in = new PercentCodecInputStream(trickle(encoded, chunkSize), codec, false)) {
+            assertArrayEquals(raw, readByChunk(in, chunkSize));
+        }
+        try (InputStream in = new PercentCodecInputStream(new PercentCodecInputStream(new ByteArrayInputStream(raw), codec, true), codec, false)) {
+            assertArrayEquals(raw, readByChunk(in, chunkSize));
+        }
+    }
+
+    @Test
+    void testSkip() throws IOException {
+        try (InputStream in = new PercentCodecInputStream(new ByteArrayInputStream("%01%02%03%04%05".getBytes(StandardCharsets.US_ASCII)))) {
+            assertThrows(IllegalArgumentException.class, () -> in.skip(-1));
+            assertEquals(2, in.skip(2));
+            assertEquals(3, in.read());
+            assertEquals(2, in.skip(10));
+            assertEquals(-1, in.read());
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.codec.net;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.apache.commons.codec.DecoderException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests {@link PercentCodecOutputStream}.
+ */
+class PercentCodecOutputStreamTest {
+
+    private static void writeByChunk(final OutputStream out, final byte[] bytes, final int chunkSize) throws IOException {
+        for (int i = 0; i < bytes.length; i += chunkSize) {
+            out.write(bytes, i, Math.min(chunkSize, bytes.length - i));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 2, 3, 4 })
+    void testDecodeEscapeSplitAcrossWrites(final int chunkSize) throws Exception {
+        final PercentCodec codec = new PercentCodec(null, true);
+        final byte[] encoded = "a%C3%A4+b%25%2B+%e2%82%ac".getBytes(StandardCharsets.US_ASCII);
+        final ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (OutputStream out = new PercentCodecOutputStream(result, codec, false)) {
+            writeByChunk(out, encoded, chunkSize);
+        }
+        assertArrayEquals(codec.decode(encoded), result.toByteArray());
+    }
+
+    @Test
+    void testDecodeInvalid() throws IOException {
+        try (OutputStream out = new PercentCodecOutputStream(new ByteArrayOutputStream(), new PercentCodec(), false)) {
+            out.write('%');
+            out.write('4');
+            assertInstanceOf(DecoderException.class, assertThrows(IOException.class, () -> out.write('Z')).getCause());
+        }
+        final ByteArrayOutputStream result = new ByteArrayOutputStream();
+        final OutputStream out = new PercentCodecOutputStream(result, new PercentCodec(), false);
+        out.write("ab%4".getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+        assertEquals("ab", result.toString("US-ASCII"));
+        final IOException e = assertThrows(IOException.class, out::close);
+        assertInstanceOf(DecoderException.class, e.getCause());
+        assertInstanceOf(ArrayIndexOutOfBoundsException.class, e.getCause().getCause());
+    }
+
+    @Test
+    void testEncode() throws IOException {
+        final ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (OutputStream out = new PercentCodecOutputStream(result)) {
+            out.write("a b%".getBytes(StandardCharsets.US_ASCII));
+            out.write(0xe4);
+        }
+        assertEquals("a b%25%E4", result.toString("US-ASCII"));
+    }
+
+    @Test
+    void testWriteArgumentValidation() throws IOException {
+        try (OutputStream out = new PercentCodecOutputStream(new ByteArrayOutputStream())) {
+            final byte[] buf = new byte[4];
+            assertThrows(NullPointerException.class, () -> out.write(null, 0, 0));
+            assertThrows(IndexOutOfBoundsException.class, () -> out.write(buf, -1, 1));
+            assertThrows(IndexOutOfBoundsException.class, () -> out.write(buf, 2, 3));
+            out.write(buf, 0, 0);
+        }
+        assertThrows(NullPointerException.class, () -> new PercentCodecOutputStream(new ByteArrayOutputStream(), null, true));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 3, 8, 1000, 8192, 10000 })
+    void testRoundTrip(final int chunkSize) throws Exception {
+        final PercentCodec codec = new PercentCodec("&=/".getBytes(StandardCharsets.US_ASCII), true);
+        final Random random = new Random(chunkSize);
+        final byte[] raw = new byte[20000];
+        random.nextBytes(raw);
+        final byte[] encoded = codec.encode(raw);
+        final ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (OutputStream out = new PercentCodecOutputStream(result, codec, true)) {
+            writeByChunk(out, raw, chunkSize);
+        }
+        assertArrayEquals(encoded, result.toByteArray());
+        result.reset();
+        try (OutputStream out = new PercentCodecOutputStream(result, codec, false)) {
+            writeByChunk(out, encoded, chunkSize);
+        }
+        assertArrayEquals(raw, result.toByteArray());
+        result.reset();
+        try (OutputStream out = new PercentCodecOutputStream(new PercentCodecOutputStream(result, codec, false), codec, true)) {
+            writeByChunk(out, raw, chunkSize);
+        }
+        assertArrayEquals(raw, result.toByteArray());
+    }
+}
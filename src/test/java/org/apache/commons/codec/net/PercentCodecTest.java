@@ -68,6 +68,17 @@ class PercentCodecTest {
         assertEquals(new String(decoded, StandardCharsets.UTF_8), input, "Configurable PercentCodec decoding test");
     }
 
+    @Test
+    void testDecodeAsString() throws Exception {
+        final PercentCodec percentCodec = new PercentCodec(null, true);
+        assertEquals("a b+c", percentCodec.decodeAsString(new StringBuilder("a+b%2Bc"), StandardCharsets.US_ASCII));
+        assertEquals("\u00e4", percentCodec.decodeAsString("%C3%A4", StandardCharsets.UTF_8));
+        assertNull(percentCodec.decodeAsString(null, StandardCharsets.UTF_8));
+        assertThrows(DecoderException.class, () -> percentCodec.decodeAsString("%C", StandardCharsets.UTF_8));
+        assertThrows(DecoderException.class, () -> percentCodec.decodeAsString("ab%", StandardCharsets.UTF_8));
+        assertThrows(DecoderException.class, () -> percentCodec.decodeAsString("ab%%%a", StandardCharsets.UTF_8));
+    }
+
     @Test
     void testDecodeInvalidEncodedResultDecoding() throws Exception {
         final String inputS = "\u03B1\u03B2";
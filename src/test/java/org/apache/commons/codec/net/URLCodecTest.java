@@ -18,9 +18,11 @@
 package org.apache.commons.codec.net;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.BitSet;
 
@@ -58,10 +60,45 @@ class URLCodecTest {
         validateState(urlCodec);
     }
 
+    @Test
+    void testDecodeAsString() throws Exception {
+        final URLCodec urlCodec = new URLCodec();
+        assertEquals("Hello there!", urlCodec.decodeAsString(new StringBuilder("Hello+there%21"), StandardCharsets.US_ASCII));
+        assertEquals(constructString(SWISS_GERMAN_STUFF_UNICODE),
+                urlCodec.decodeAsString("Gr%C3%BCezi_z%C3%A4m%C3%A4", StandardCharsets.UTF_8));
+        assertEquals("?", urlCodec.decodeAsString("\u00e9", StandardCharsets.US_ASCII));
+        assertNull(urlCodec.decodeAsString(null, StandardCharsets.UTF_8));
+        assertThrows(DecoderException.class, () -> urlCodec.decodeAsString("%W1", StandardCharsets.UTF_8));
+        assertThrows(DecoderException.class, () -> urlCodec.decodeAsString("%", StandardCharsets.UTF_8));
+        // decode(String, String) with a null charset name is not ambiguous
+        assertThrows(NullPointerException.class, () -> urlCodec.decode("a", null));
+    }
+
+    @Test
+    void testDecodeByteBuffer() throws Exception {
+        final URLCodec urlCodec = new URLCodec();
+        final byte[] encoded = "Hello+there%21".getBytes(StandardCharsets.US_ASCII);
+        final ByteBuffer heap = ByteBuffer.wrap(encoded, 1, encoded.length - 1);
+        assertEquals("ello there!", new String(urlCodec.decode(heap), StandardCharsets.US_ASCII));
+        assertEquals(heap.limit(), heap.position());
+        final ByteBuffer direct = ByteBuffer.allocateDirect(encoded.length);
+        direct.put(encoded).flip();
+        assertEquals("Hello there!", new String(urlCodec.decode(direct), StandardCharsets.US_ASCII));
+        assertEquals(direct.limit(), direct.position());
+        assertNull(urlCodec.decode((ByteBuffer) null));
+        assertThrows(DecoderException.class, () -> urlCodec.decode(ByteBuffer.wrap(new byte[] { '%', '2' })));
+    }
+
     @Test
     void testDecodeInvalid() throws Exception {
         final URLCodec urlCodec = new URLCodec();
         assertThrows(DecoderException.class, () -> urlCodec.decode("%"));
+        // the cause of a truncated escape is the exception of reading past the end of the input
+        final DecoderException truncated = assertThrows(DecoderException.class, () -> urlCodec.decode("ab%4"));
+        assertInstanceOf(ArrayIndexOutOfBoundsException.class, truncated.getCause());
+        assertEquals("Index 4 out of bounds for length 4", truncated.getCause().getMessage());
+        assertThrows(DecoderException.class, () -> urlCodec.decode("ab%"));
+        assertThrows(DecoderException.class, () -> urlCodec.decode("ab%%%a"));
         assertThrows(DecoderException.class, () -> urlCodec.decode("%A"));
         // Bad 1st char after %
         assertThrows(DecoderException.class, () -> urlCodec.decode("%WW"));
@@ -127,6 +164,20 @@ class URLCodecTest {
         validateState(urlCodec);
     }
 
+    @Test
+    void testEncodeByteBuffer() throws Exception {
+        final URLCodec urlCodec = new URLCodec();
+        final byte[] plain = "Hello there!".getBytes(StandardCharsets.US_ASCII);
+        final ByteBuffer heap = ByteBuffer.wrap(plain, 1, plain.length - 1);
+        assertEquals("ello+there%21", new String(urlCodec.encode(heap), StandardCharsets.US_ASCII));
+        assertEquals(heap.limit(), heap.position());
+        final ByteBuffer direct = ByteBuffer.allocateDirect(plain.length);
+        direct.put(plain).flip();
+        assertEquals("Hello+there%21", new String(urlCodec.encode(direct), StandardCharsets.US_ASCII));
+        assertEquals(direct.limit(), direct.position());
+        assertNull(urlCodec.encode((ByteBuffer) null));
+    }
+
     @Test
     void testEncodeDecodeNull() throws Exception {
         final URLCodec urlCodec = new URLCodec();
@@ -171,6 +222,21 @@ class URLCodecTest {
         assertNull(result, "Result should be null");
     }
 
+    @Test
+    void testEncodeUrlWithCustomBitSet() throws Exception {
+        final BitSet safe = new BitSet(256);
+        safe.set('a', 'z' + 1);
+        safe.set(' ');
+        final byte[] encoded = URLCodec.encodeUrl(safe, "ab Z~\u00e9".getBytes(StandardCharsets.ISO_8859_1));
+        assertEquals("ab+%5A%7E%E9", new String(encoded, StandardCharsets.US_ASCII));
+        assertEquals("ab Z~\u00e9", new String(URLCodec.decodeUrl(encoded), StandardCharsets.ISO_8859_1));
+        // the set is read again after it changes
+        safe.set('Z');
+        assertEquals("ab+Z%7E%E9", new String(URLCodec.encodeUrl(safe, "ab Z~\u00e9".getBytes(StandardCharsets.ISO_8859_1)), StandardCharsets.US_ASCII));
+        safe.clear('Z');
+        assertEquals("ab+%5A%7E%E9", new String(URLCodec.encodeUrl(safe, "ab Z~\u00e9".getBytes(StandardCharsets.ISO_8859_1)), StandardCharsets.US_ASCII));
+    }
+
     @Test
     void testEncodeUrlWithNullBitSet() throws Exception {
         final URLCodec urlCodec = new URLCodec();